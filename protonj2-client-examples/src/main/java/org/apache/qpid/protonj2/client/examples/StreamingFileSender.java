@@ -17,15 +17,13 @@
 package org.apache.qpid.protonj2.client.examples;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.OutputStream;
 
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
 import org.apache.qpid.protonj2.client.StreamSender;
 import org.apache.qpid.protonj2.client.StreamSenderMessage;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
 
 /**
  * Sends the file given in argument zero to the remote address 'file-transfer'
@@ -56,25 +54,22 @@ public class StreamingFileSender {
         options.password(System.getProperty("PASSWORD"));
 
         try (Connection connection = client.connect(serverHost, serverPort, options);
-             StreamSender sender = connection.openStreamSender(address);
-             FileInputStream inputStream = new FileInputStream(inputFile)) {
+             StreamSender sender = connection.openStreamSender(address)) {
 
             StreamSenderMessage message = sender.beginMessage();
 
             // Inform the other side what the original file name was.
             message.property(fileNameKey, inputFile.getName());
 
-            // Creates an OutputStream that writes the file in smaller data sections which allows for
-            // larger file sizes than the single AMQP Data section bounded configuration might allow.
-            // When not specifying a body size the application will need to close the output to indicate
-            // the transfer is complete, here we use a try with resources approach to accomplish that.
-            try (OutputStream output = message.body()) {
-                // Let the streams handle the actual transfer which will block until the full transfer
-                // is complete, or if an error occurs either in the file reader or the stream sender
-                // the message send should be aborted.
-                inputStream.transferTo(output);
-            } catch (IOException ioe) {
+            // Writes the file contents into the message body as one or more data sections, the file is
+            // memory mapped and handed to the transport in regions rather than copied through an
+            // intermediate stream buffer. The call blocks until the file has been written after which
+            // the message is completed, if an error occurs the message send should be aborted.
+            try {
+                message.body(inputFile.toPath(), 0, inputFile.length()).complete();
+            } catch (ClientException ex) {
                 message.abort();
+                throw ex;
             }
 
             message.tracker().awaitSettlement();
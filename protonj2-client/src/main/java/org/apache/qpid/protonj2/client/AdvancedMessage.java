@@ -23,7 +23,9 @@ import java.util.function.Consumer;
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
 import org.apache.qpid.protonj2.client.impl.ClientMessage;
+import org.apache.qpid.protonj2.codec.EncodedSection;
 import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
 import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Footer;
@@ -31,6 +33,7 @@ import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
 
 /**
  * Advanced AMQP Message object that provides a thin abstraction to raw AMQP types
@@ -265,6 +268,49 @@ public interface AdvancedMessage<E> extends Message<E> {
      */
     AdvancedMessage<E> clearBodySections() throws ClientException;
 
+    /**
+     * Pre-encodes the current value of the given message section and reuses that encoding each
+     * time the message is encoded instead of encoding the section again. Messages that are sent
+     * repeatedly with only a few changing values can freeze the sections that remain the same and
+     * pay only the cost of copying their bytes on each send. Modifying or replacing a frozen section
+     * through this message discards the cached encoding, while changes made directly to a section
+     * object obtained from this message are not tracked and must be avoided while it is frozen.
+     * <p>
+     * Only the {@link Header}, {@link MessageAnnotations}, {@link Properties}, {@link ApplicationProperties}
+     * and {@link Footer} sections can be frozen, if the given section is not currently present in the
+     * message this method does nothing.
+     *
+     * @param sectionType
+     *      The type of the message section whose current value should be pre-encoded.
+     *
+     * @return this {@link AdvancedMessage} instance.
+     *
+     * @throws ClientException if an error occurs while encoding the message section.
+     */
+    default AdvancedMessage<E> freezeSection(SectionType sectionType) throws ClientException {
+        throw new ClientUnsupportedOperationException("Message implementation does not support frozen sections");
+    }
+
+    /**
+     * Assigns or replaces a message section using an {@link EncodedSection} whose cached encoding is
+     * written each time the message is encoded. A single {@link EncodedSection} can be shared by any
+     * number of messages which allows a template {@link Header}, {@link MessageAnnotations} or other
+     * message section to be encoded once and then reused for every message sent. The section value
+     * remains accessible from the message and modifying it through this message operates on a copy
+     * and discards the cached encoding for this message only.
+     *
+     * @param section
+     *      The pre-encoded {@link Header}, {@link MessageAnnotations}, {@link Properties},
+     *      {@link ApplicationProperties} or {@link Footer} section to assign to this message.
+     *
+     * @return this {@link AdvancedMessage} instance.
+     *
+     * @throws ClientException if an error occurs while assigning the encoded message section.
+     */
+    default AdvancedMessage<E> encodedSection(EncodedSection<?> section) throws ClientException {
+        throw new ClientUnsupportedOperationException("Message implementation does not support encoded sections");
+    }
+
     /**
      * Encodes the {@link AdvancedMessage} for transmission by the client.  The provided {@link DeliveryAnnotations}
      * can be included or augmented by the {@link AdvancedMessage} implementation based on the target message format.
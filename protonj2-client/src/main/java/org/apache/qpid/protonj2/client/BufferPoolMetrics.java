@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+/**
+ * Snapshot of the usage of the pooled buffer allocator that a {@link Client} encodes outgoing
+ * messages into when {@link ClientOptions#pooledSendBuffers(boolean)} is enabled.  The pool is
+ * shared with the I/O layer so the values cover all users of the pool in the JVM and not only the
+ * buffers allocated by this client.
+ */
+public final class BufferPoolMetrics {
+
+    private final boolean enabled;
+    private final long usedDirectMemory;
+    private final long usedHeapMemory;
+    private final int directArenas;
+    private final int heapArenas;
+    private final int threadLocalCaches;
+    private final int chunkSize;
+
+    /**
+     * Creates a new immutable snapshot of buffer pool usage.
+     *
+     * @param enabled
+     *      true if the client that produced the snapshot encodes into the pool.
+     * @param usedDirectMemory
+     *      The number of bytes of direct memory the pool has reserved.
+     * @param usedHeapMemory
+     *      The number of bytes of heap memory the pool has reserved.
+     * @param directArenas
+     *      The number of direct memory arenas in the pool.
+     * @param heapArenas
+     *      The number of heap memory arenas in the pool.
+     * @param threadLocalCaches
+     *      The number of thread local caches the pool has created.
+     * @param chunkSize
+     *      The size in bytes of the chunks the pool arenas allocate.
+     */
+    public BufferPoolMetrics(boolean enabled, long usedDirectMemory, long usedHeapMemory, int directArenas, int heapArenas, int threadLocalCaches, int chunkSize) {
+        this.enabled = enabled;
+        this.usedDirectMemory = usedDirectMemory;
+        this.usedHeapMemory = usedHeapMemory;
+        this.directArenas = directArenas;
+        this.heapArenas = heapArenas;
+        this.threadLocalCaches = threadLocalCaches;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return true if the client that produced this snapshot encodes outgoing messages into the pool.
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the number of bytes of direct memory the pool has reserved.
+     */
+    public long usedDirectMemory() {
+        return usedDirectMemory;
+    }
+
+    /**
+     * @return the number of bytes of heap memory the pool has reserved.
+     */
+    public long usedHeapMemory() {
+        return usedHeapMemory;
+    }
+
+    /**
+     * @return the number of direct memory arenas in the pool.
+     */
+    public int directArenas() {
+        return directArenas;
+    }
+
+    /**
+     * @return the number of heap memory arenas in the pool.
+     */
+    public int heapArenas() {
+        return heapArenas;
+    }
+
+    /**
+     * @return the number of thread local caches the pool has created.
+     */
+    public int threadLocalCaches() {
+        return threadLocalCaches;
+    }
+
+    /**
+     * @return the size in bytes of the chunks the pool arenas allocate.
+     */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPoolMetrics{enabled=" + enabled +
+               ", usedDirectMemory=" + usedDirectMemory +
+               ", usedHeapMemory=" + usedHeapMemory +
+               ", directArenas=" + directArenas +
+               ", heapArenas=" + heapArenas +
+               ", threadLocalCaches=" + threadLocalCaches +
+               ", chunkSize=" + chunkSize + "}";
+    }
+}
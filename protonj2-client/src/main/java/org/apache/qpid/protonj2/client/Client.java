@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.client;
 
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.impl.ClientInstance;
@@ -52,6 +53,14 @@ public interface Client extends AutoCloseable {
      */
     String containerId();
 
+    /**
+     * Returns a snapshot of the usage of the pooled buffer allocator that outgoing messages are
+     * encoded into when {@link ClientOptions#pooledSendBuffers(boolean)} is enabled.
+     *
+     * @return a {@link BufferPoolMetrics} snapshot of the current buffer pool usage.
+     */
+    BufferPoolMetrics bufferPoolMetrics();
+
     /**
      * Closes all currently open {@link Connection} instances created by this client.
      * <p>
@@ -147,4 +156,42 @@ public interface Client extends AutoCloseable {
      */
     Connection connect(String host, ConnectionOptions options) throws ClientException;
 
+    /**
+     * Creates a {@link ReceiverPool} using default pool options that attaches receivers to
+     * the given address on each of the provided connections and hands every delivery that
+     * arrives to the given handler from one of the pool worker threads.
+     *
+     * @param address
+     *            the source address that the pool receivers attach to.
+     * @param handler
+     *            the handler that is given each delivery that arrives at the pool.
+     * @param connections
+     *            the connections on which the pool sessions and receivers are created.
+     *
+     * @return the newly created {@link ReceiverPool}.
+     *
+     * @throws ClientException if the {@link Client} is closed or an error occurs while creating the pool.
+     */
+    ReceiverPool openReceiverPool(String address, Consumer<Delivery> handler, Connection... connections) throws ClientException;
+
+    /**
+     * Creates a {@link ReceiverPool} that attaches receivers to the given address on each of
+     * the provided connections and hands every delivery that arrives to the given handler from
+     * one of the pool worker threads.
+     *
+     * @param address
+     *            the source address that the pool receivers attach to.
+     * @param handler
+     *            the handler that is given each delivery that arrives at the pool.
+     * @param options
+     *            the options that control the receivers, credit and workers of the pool.
+     * @param connections
+     *            the connections on which the pool sessions and receivers are created.
+     *
+     * @return the newly created {@link ReceiverPool}.
+     *
+     * @throws ClientException if the {@link Client} is closed or an error occurs while creating the pool.
+     */
+    ReceiverPool openReceiverPool(String address, Consumer<Delivery> handler, ReceiverPoolOptions options, Connection... connections) throws ClientException;
+
 }
@@ -21,8 +21,16 @@ package org.apache.qpid.protonj2.client;
  */
 public class ClientOptions implements Cloneable {
 
+    /**
+     * The default number of shared I/O threads, a value of zero means each connection creates its own I/O thread.
+     */
+    public static final int DEFAULT_SHARED_IO_THREADS = 0;
+
     private String id;
     private String futureType;
+    private int sharedIOThreads = DEFAULT_SHARED_IO_THREADS;
+    private boolean virtualThreadFriendly;
+    private boolean pooledSendBuffers;
 
     /**
      * Create a new ClientOptions instance with defaults set for all options.
@@ -83,6 +91,84 @@ public class ClientOptions implements Cloneable {
         return this;
     }
 
+    /**
+     * @return the number of I/O threads the client shares amongst all of its connections.
+     */
+    public int sharedIOThreads() {
+        return sharedIOThreads;
+    }
+
+    /**
+     * Sets the number of I/O threads that the client will create and share amongst all the connections
+     * it creates.  By default each connection creates its own single I/O thread which means the number
+     * of threads grows with the number of connections.  When a value greater than zero is configured the
+     * client creates a fixed size pool of I/O threads and pins each new connection to the thread that
+     * currently serves the fewest connections, the work of each connection is still performed serially
+     * on its assigned thread.  The shared threads are shutdown once the client is closed.
+     *
+     * @param sharedIOThreads
+     *      The number of shared I/O threads to create or zero to use a thread per connection.
+     *
+     * @return this options object for chaining.
+     */
+    public ClientOptions sharedIOThreads(int sharedIOThreads) {
+        this.sharedIOThreads = sharedIOThreads;
+        return this;
+    }
+
+    /**
+     * @return true if the client blocks callers using only parking based waits.
+     */
+    public boolean virtualThreadFriendly() {
+        return virtualThreadFriendly;
+    }
+
+    /**
+     * Configures the client so that the blocking API calls such as receive, send and waiting
+     * on an open future park the calling thread using {@link java.util.concurrent.locks.LockSupport}
+     * instead of waiting on an object monitor.  A virtual thread that waits on a monitor remains
+     * pinned to its carrier thread whereas a parked virtual thread releases it, so this mode allows
+     * very large numbers of virtual threads to block on the client while sharing a few carriers.
+     * <p>
+     * When enabled the client uses the {@link org.apache.qpid.protonj2.client.futures.ClientFutureFactory#LIGHTWEIGHT}
+     * future type and receivers use the {@link org.apache.qpid.protonj2.client.util.DeliveryQueue#SPSC}
+     * delivery queue unless a different future type or delivery queue type has been explicitly configured.
+     *
+     * @param virtualThreadFriendly
+     *      Should the client only block callers using parking based waits.
+     *
+     * @return this options object for chaining.
+     */
+    public ClientOptions virtualThreadFriendly(boolean virtualThreadFriendly) {
+        this.virtualThreadFriendly = virtualThreadFriendly;
+        return this;
+    }
+
+    /**
+     * @return true if the client encodes outgoing messages into pooled direct memory buffers.
+     */
+    public boolean pooledSendBuffers() {
+        return pooledSendBuffers;
+    }
+
+    /**
+     * Configures the client to encode outgoing messages and stream sender data into pooled direct
+     * memory buffers instead of newly allocated heap buffers.  The connections of the client also
+     * hand the encoded payload to the transport as part of the outgoing transfer frames rather than
+     * copying it into each frame, so the encoded bytes are written to the socket without an additional
+     * copy from heap to direct memory.  Usage of the buffer pool can be observed using the metrics
+     * returned from {@link Client#bufferPoolMetrics()}.
+     *
+     * @param pooledSendBuffers
+     *      Should the client encode outgoing messages into pooled direct memory buffers.
+     *
+     * @return this options object for chaining.
+     */
+    public ClientOptions pooledSendBuffers(boolean pooledSendBuffers) {
+        this.pooledSendBuffers = pooledSendBuffers;
+        return this;
+    }
+
     @Override
     public ClientOptions clone() {
         return copyInto(new ClientOptions());
@@ -100,6 +186,9 @@ public class ClientOptions implements Cloneable {
     protected ClientOptions copyInto(ClientOptions other) {
         other.id(id);
         other.futureType(futureType);
+        other.sharedIOThreads(sharedIOThreads);
+        other.virtualThreadFriendly(virtualThreadFriendly);
+        other.pooledSendBuffers(pooledSendBuffers);
 
         return other;
     }
@@ -29,6 +29,7 @@ public final class DecodeOptions {
 
     private int maxDepthLimit = ProtonDecoderState.DEFAULT_MAX_DECODE_DEPTH;
     private int maxZeroWidthArrayElements = ProtonDecoderState.DEFAULT_MAX_ZERO_WIDTH_ARRAY_ELEMENTS;
+    private boolean lazyDecoding;
 
     /**
      * Creates and returns a default decode options instance.
@@ -97,4 +98,30 @@ public final class DecodeOptions {
         maxZeroWidthArrayElements = Math.max(0, maxElements);
         return this;
     }
+
+    /**
+     * @return true if the message sections should be decoded on first access instead of up front.
+     */
+    public boolean lazyDecoding() {
+        return lazyDecoding;
+    }
+
+    /**
+     * Controls if the {@link Message} returned from the {@link Delivery} decodes all sections of
+     * the incoming message bytes at once or only records where each section is located and then
+     * decodes a section the first time it is accessed. When lazy decoding is enabled a lookup of a
+     * single application property scans the encoded properties for the requested key instead of
+     * decoding the full map and any section that is never accessed is copied as raw bytes if the
+     * message is later sent on to another peer. Decode errors in a lazily decoded section are
+     * reported from the message API call that first accessed the section.
+     *
+     * @param lazyDecoding
+     * 		Should message sections be decoded on first access (default is false).
+     *
+     * @return this {@link DecodeOptions} instance for chaining.
+     */
+    public DecodeOptions lazyDecoding(boolean lazyDecoding) {
+        this.lazyDecoding = lazyDecoding;
+        return this;
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.util.concurrent.Executor;
+
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+
+/**
+ * Options that control the behavior of a {@link KeyedDispatcher} created from a {@link Receiver}.
+ */
+public class KeyedDispatchOptions implements Cloneable {
+
+    /**
+     * Extracts the ordering key from a {@link Delivery} before it is assigned to a lane.
+     */
+    @FunctionalInterface
+    public interface KeyExtractor {
+
+        /**
+         * @param delivery
+         *      The delivery whose ordering key should be returned.
+         *
+         * @return the ordering key of the delivery or null if it has none.
+         *
+         * @throws ClientException if an error occurs while reading the key from the delivery.
+         */
+        Object extractKey(Delivery delivery) throws ClientException;
+
+    }
+
+    /**
+     * Key extractor that orders deliveries by the group-id of the message {@link Message#groupId()}.
+     */
+    public static final KeyExtractor GROUP_ID = (delivery) -> delivery.message().groupId();
+
+    /**
+     * Key extractor that orders deliveries by the subject of the message {@link Message#subject()}.
+     */
+    public static final KeyExtractor SUBJECT = (delivery) -> delivery.message().subject();
+
+    /**
+     * Default number of deliveries the dispatcher will hold that have not yet been handled.
+     */
+    public static final int DEFAULT_MAX_PENDING_DELIVERIES = 100;
+
+    /**
+     * Default value for the auto accept option.
+     */
+    public static final boolean DEFAULT_AUTO_ACCEPT = true;
+
+    private int lanes = Runtime.getRuntime().availableProcessors();
+    private int maxPendingDeliveries = DEFAULT_MAX_PENDING_DELIVERIES;
+    private boolean autoAccept = DEFAULT_AUTO_ACCEPT;
+    private KeyExtractor keyExtractor = GROUP_ID;
+    private Executor executor;
+
+    /**
+     * Create a new KeyedDispatchOptions instance with defaults set for all options.
+     */
+    public KeyedDispatchOptions() {
+    }
+
+    /**
+     * Create a new KeyedDispatchOptions instance that copies the configuration from the specified source options.
+     *
+     * @param options
+     * 		The KeyedDispatchOptions instance whose settings are to be copied into this one.
+     */
+    public KeyedDispatchOptions(KeyedDispatchOptions options) {
+        if (options != null) {
+            options.copyInto(this);
+        }
+    }
+
+    @Override
+    public KeyedDispatchOptions clone() {
+        return copyInto(new KeyedDispatchOptions());
+    }
+
+    /**
+     * Copy all options from this {@link KeyedDispatchOptions} instance into the instance
+     * provided.
+     *
+     * @param other
+     *      the target of this copy operation.
+     *
+     * @return the {@link KeyedDispatchOptions} instance that was given.
+     */
+    protected KeyedDispatchOptions copyInto(KeyedDispatchOptions other) {
+        other.lanes(lanes);
+        other.maxPendingDeliveries(maxPendingDeliveries);
+        other.autoAccept(autoAccept);
+        other.keyExtractor(keyExtractor);
+        other.executor(executor);
+
+        return other;
+    }
+
+    /**
+     * @return the number of serial lanes that deliveries are hashed into by key.
+     */
+    public int lanes() {
+        return lanes;
+    }
+
+    /**
+     * Sets the number of serial lanes that deliveries are hashed into by their key, deliveries in
+     * the same lane are handled one at a time in the order they arrived while separate lanes are
+     * handled in parallel.  By default one lane is created for each available processor.
+     *
+     * @param lanes
+     *      The number of lanes the dispatcher should create.
+     *
+     * @return this {@link KeyedDispatchOptions} instance.
+     */
+    public KeyedDispatchOptions lanes(int lanes) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("Lane count must be greater than zero");
+        }
+
+        this.lanes = lanes;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of deliveries the dispatcher holds that have not yet been handled.
+     */
+    public int maxPendingDeliveries() {
+        return maxPendingDeliveries;
+    }
+
+    /**
+     * Sets the maximum number of deliveries the dispatcher will hold that have not yet been handled,
+     * this is the demand the dispatcher signals to the {@link Receiver} and so also controls the link
+     * credit when the receiver was created without a credit window.
+     *
+     * @param maxPendingDeliveries
+     *      The maximum number of unhandled deliveries the dispatcher may hold.
+     *
+     * @return this {@link KeyedDispatchOptions} instance.
+     */
+    public KeyedDispatchOptions maxPendingDeliveries(int maxPendingDeliveries) {
+        if (maxPendingDeliveries <= 0) {
+            throw new IllegalArgumentException("Max pending deliveries must be greater than zero");
+        }
+
+        this.maxPendingDeliveries = maxPendingDeliveries;
+        return this;
+    }
+
+    /**
+     * @return the whether the dispatcher accepts deliveries once the handler returns.
+     */
+    public boolean autoAccept() {
+        return autoAccept;
+    }
+
+    /**
+     * Controls if the dispatcher will accept and settle each delivery once the handler has returned.
+     * The accepts are applied in batches from the connection I/O thread, if the handler throws an
+     * exception the delivery is released instead.  Deliveries that are already settled, for instance
+     * because the {@link Receiver} itself was configured to auto accept, are left untouched.
+     *
+     * @param autoAccept
+     *      The value to assign for auto delivery acceptance.
+     *
+     * @return this {@link KeyedDispatchOptions} instance.
+     */
+    public KeyedDispatchOptions autoAccept(boolean autoAccept) {
+        this.autoAccept = autoAccept;
+        return this;
+    }
+
+    /**
+     * @return the {@link KeyExtractor} used to read the ordering key from each delivery.
+     */
+    public KeyedDispatchOptions.KeyExtractor keyExtractor() {
+        return keyExtractor;
+    }
+
+    /**
+     * Sets the {@link KeyExtractor} used to read the ordering key from each delivery, by default the
+     * message group-id is used.  Deliveries whose key is null or cannot be read all share a single lane.
+     *
+     * @param keyExtractor
+     *      The key extractor to apply to each delivery.
+     *
+     * @return this {@link KeyedDispatchOptions} instance.
+     */
+    public KeyedDispatchOptions keyExtractor(KeyedDispatchOptions.KeyExtractor keyExtractor) {
+        this.keyExtractor = keyExtractor != null ? keyExtractor : GROUP_ID;
+        return this;
+    }
+
+    /**
+     * @return the {@link Executor} that runs the dispatcher lanes or null if the dispatcher creates its own.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Sets the {@link Executor} that runs the dispatcher lanes, when none is configured (the default)
+     * the dispatcher creates a thread pool sized to the lesser of the lane count and the number of
+     * available processors which is shut down when the dispatcher is closed.
+     *
+     * @param executor
+     *      The executor used to run the dispatcher lanes or null to use a dispatcher owned pool.
+     *
+     * @return this {@link KeyedDispatchOptions} instance.
+     */
+    public KeyedDispatchOptions executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+}
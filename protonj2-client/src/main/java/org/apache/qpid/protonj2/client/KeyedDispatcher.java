@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.util.function.Consumer;
+
+/**
+ * Dispatches the deliveries of a {@link Receiver} to a handler in parallel while preserving the
+ * order of deliveries that share a key.  Each delivery is hashed by its key into one of a fixed
+ * number of serial lanes, a lane handles its deliveries one at a time in arrival order on a pool
+ * thread and separate lanes run in parallel.
+ *
+ * @see Receiver#dispatchByKey(Consumer, KeyedDispatchOptions)
+ */
+public interface KeyedDispatcher extends AutoCloseable {
+
+    /**
+     * @return the number of serial lanes that deliveries are hashed into.
+     */
+    int lanes();
+
+    /**
+     * @return the number of deliveries the dispatcher holds that have not yet been handled.
+     */
+    int pendingDeliveries();
+
+    /**
+     * Stops the dispatcher taking new deliveries from the {@link Receiver}, deliveries already held by
+     * a lane are still handled.  Closing the dispatcher does not close the {@link Receiver}.
+     */
+    @Override
+    void close();
+
+}
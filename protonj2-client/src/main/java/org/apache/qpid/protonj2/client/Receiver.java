@@ -16,10 +16,14 @@
  */
 package org.apache.qpid.protonj2.client;
 
+import java.util.List;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
 
 /**
  * AMQP Receiver that provides an interface to receive complete Deliveries from a remote
@@ -96,6 +100,41 @@ public interface Receiver extends Link<Receiver> {
      */
     Delivery tryReceive() throws ClientException;
 
+    /**
+     * Blocking receive method that waits the given time interval for the remote to provide at least
+     * one {@link Delivery} and then returns it along with any others that have already arrived, up to
+     * the given maximum. The amount of time this method blocks is based on the timeout value as
+     * described in {@link #receive(long, TimeUnit)}. All the deliveries are taken from the
+     * {@link Receiver} in one operation and any credit replenishment or automatic acceptance for
+     * the batch is handled together which reduces the per delivery overhead for applications that
+     * process deliveries in groups.
+     *
+     * @param maxDeliveries
+     *      The maximum number of deliveries to return, which must be greater than zero.
+     * @param timeout
+     *      The timeout value used to control how long the receive method waits for the first {@link Delivery}.
+     * @param unit
+     *      The unit of time that the given timeout represents.
+     *
+     * @return a {@link List} of deliveries received from the remote which is empty if none arrived in time.
+     *
+     * @throws ClientException if the {@link Receiver} or its parent is closed when the call to receive is made.
+     */
+    List<Delivery> receive(int maxDeliveries, long timeout, TimeUnit unit) throws ClientException;
+
+    /**
+     * Non-blocking receive method that returns up to the given number of deliveries that are
+     * immediately available or an empty {@link List} if none are currently at hand.
+     *
+     * @param maxDeliveries
+     *      The maximum number of deliveries to return, which must be greater than zero.
+     *
+     * @return a {@link List} of deliveries received from the remote which is empty if none were available.
+     *
+     * @throws ClientException if the {@link Receiver} or its parent is closed when the call to try to receive is made.
+     */
+    List<Delivery> tryReceive(int maxDeliveries) throws ClientException;
+
     /**
      * Requests the remote to drain previously granted credit for this {@link Receiver} link.
      *
@@ -116,4 +155,48 @@ public interface Receiver extends Link<Receiver> {
      */
     long queuedDeliveries() throws ClientException;
 
+    /**
+     * Returns a {@link Flow.Publisher} that pushes deliveries to a single {@link Flow.Subscriber} as they
+     * arrive instead of requiring the application to call one of the receive methods.  Only one subscriber
+     * may be active on a {@link Receiver} at a time, additional subscribers are signaled with an error.
+     * <p>
+     * When the {@link Receiver} was configured without a credit window the link credit granted to the
+     * remote follows the demand signaled by the subscriber through {@link Flow.Subscription#request(long)},
+     * otherwise the credit window is maintained as deliveries are dispatched.  Deliveries are accepted
+     * before being dispatched when auto accept is enabled.  The subscriber is completed when the
+     * {@link Receiver} is closed and signaled with the failure cause if the {@link Receiver} fails.
+     * Deliveries are signaled from the connection I/O thread unless a dispatch executor was configured in
+     * the {@link ReceiverOptions}, see {@link ReceiverOptions#dispatchExecutor(java.util.concurrent.Executor)}.
+     *
+     * @return a {@link Flow.Publisher} of the deliveries that arrive for this {@link Receiver}.
+     *
+     * @throws ClientException if the {@link Receiver} or its parent is closed when the call is made.
+     * @throws ClientUnsupportedOperationException if the {@link Receiver} implementation does not support publishing.
+     */
+    default Flow.Publisher<Delivery> publisher() throws ClientException {
+        throw new ClientUnsupportedOperationException("Receiver does not support publishing deliveries");
+    }
+
+    /**
+     * Creates a {@link KeyedDispatcher} that subscribes to the {@link #publisher()} of this {@link Receiver}
+     * and hands each delivery to the given handler on a pool thread.  Deliveries are hashed by the key that
+     * the configured {@link KeyedDispatchOptions.KeyExtractor} reads from them into a fixed number of serial
+     * lanes, so deliveries with the same key are handled one at a time in the order they arrived while those
+     * with different keys may be handled in parallel.  As the dispatcher is the subscriber of the publisher
+     * of this {@link Receiver} only one dispatcher or other subscriber may be active at a time.
+     *
+     * @param handler
+     *      The handler that is given each delivery that arrives.
+     * @param options
+     *      The options that control the lanes, demand and settlement of the dispatcher.
+     *
+     * @return a new {@link KeyedDispatcher} that consumes the deliveries of this {@link Receiver}.
+     *
+     * @throws ClientException if the {@link Receiver} or its parent is closed when the call is made.
+     * @throws ClientUnsupportedOperationException if the {@link Receiver} implementation does not support publishing.
+     */
+    default KeyedDispatcher dispatchByKey(Consumer<Delivery> handler, KeyedDispatchOptions options) throws ClientException {
+        throw new ClientUnsupportedOperationException("Receiver does not support keyed dispatch of deliveries");
+    }
+
 }
@@ -16,8 +16,12 @@
  */
 package org.apache.qpid.protonj2.client;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.qpid.protonj2.client.util.DeliveryQueue;
+
 /**
  * Options that control the behavior of the {@link Receiver} created from them.
  */
@@ -26,6 +30,11 @@ public class ReceiverOptions extends LinkOptions<ReceiverOptions> implements Clo
     private long drainTimeout = ConnectionOptions.DEFAULT_DRAIN_TIMEOUT;
     private boolean autoAccept = true;
     private int creditWindow = 10;
+    private Executor dispatchExecutor;
+    private String deliveryQueueType;
+    private boolean adaptiveCreditWindow;
+    private int maxCreditWindow = 1000;
+    private long maxPrefetchBytes = 16 * 1024 * 1024;
 
     /**
      * Create a new ReceiverOptions instance with defaults set for all options.
@@ -128,6 +137,123 @@ public class ReceiverOptions extends LinkOptions<ReceiverOptions> implements Clo
         return this;
     }
 
+    /**
+     * @return the {@link Executor} used to signal a subscriber of the {@link Receiver#publisher()} or null if none set.
+     */
+    public Executor dispatchExecutor() {
+        return dispatchExecutor;
+    }
+
+    /**
+     * Sets the {@link Executor} that is used to signal the {@link Flow.Subscriber} of a {@link Receiver}
+     * created with these options that consumes deliveries via {@link Receiver#publisher()}.  Signals are
+     * always delivered to the subscriber serially regardless of the number of threads the executor uses.
+     * When no executor is configured (the default) the subscriber is signaled directly from the connection
+     * I/O thread which avoids any thread handoff but requires that the subscriber never blocks.
+     *
+     * @param dispatchExecutor
+     *      the {@link Executor} to use when signaling a receiver's subscriber or null to use the I/O thread.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions dispatchExecutor(Executor dispatchExecutor) {
+        this.dispatchExecutor = dispatchExecutor;
+        return this;
+    }
+
+    /**
+     * @return the configured delivery queue type for the {@link Receiver} or null if the default should be used.
+     */
+    public String deliveryQueueType() {
+        return deliveryQueueType;
+    }
+
+    /**
+     * Sets the type of queue the {@link Receiver} uses to hold deliveries that have arrived but
+     * not yet been received by the application.  By default a queue that guards its contents with
+     * a lock is used, the {@link DeliveryQueue#SPSC} type instead uses a lock-free ring which spins
+     * and then parks a waiting receiver and performs best when one application thread receives from
+     * the {@link Receiver}.
+     *
+     * @param deliveryQueueType
+     *      The name of the delivery queue type to use, {@link DeliveryQueue#FIFO} or {@link DeliveryQueue#SPSC}.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions deliveryQueueType(String deliveryQueueType) {
+        this.deliveryQueueType = deliveryQueueType;
+        return this;
+    }
+
+    /**
+     * @return true if the {@link Receiver} should adapt its credit window to the observed consumer behavior.
+     */
+    public boolean adaptiveCreditWindow() {
+        return adaptiveCreditWindow;
+    }
+
+    /**
+     * Controls if the {@link Receiver} adapts the size of its credit window while running instead of
+     * always replenishing credit up to the fixed {@link #creditWindow()} value.  When enabled the
+     * configured credit window is used as the starting point and the window is grown when the
+     * application drains all prefetched deliveries before more arrive and shrunk when deliveries
+     * build up unread.  The window never grows beyond {@link #maxCreditWindow()} and is limited so
+     * that the prefetched deliveries, based on the observed average message size, do not exceed the
+     * configured {@link #maxPrefetchBytes()}.  This option has no effect when the credit window is
+     * set to zero.
+     *
+     * @param adaptiveCreditWindow
+     *      Should the credit window be adjusted based on consumer drain rate and message size.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions adaptiveCreditWindow(boolean adaptiveCreditWindow) {
+        this.adaptiveCreditWindow = adaptiveCreditWindow;
+        return this;
+    }
+
+    /**
+     * @return the upper bound on the credit window when adaptive credit windowing is enabled.
+     */
+    public int maxCreditWindow() {
+        return maxCreditWindow;
+    }
+
+    /**
+     * Sets the largest credit window that an adaptive credit window can grow to, the default is 1000.
+     *
+     * @param maxCreditWindow
+     *      The maximum credit window value an adaptive credit window can reach.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions maxCreditWindow(int maxCreditWindow) {
+        this.maxCreditWindow = maxCreditWindow;
+        return this;
+    }
+
+    /**
+     * @return the number of bytes of prefetched deliveries an adaptive credit window aims to stay below.
+     */
+    public long maxPrefetchBytes() {
+        return maxPrefetchBytes;
+    }
+
+    /**
+     * Sets the approximate limit on the number of bytes of deliveries that an adaptive credit window
+     * allows to be prefetched, the window is capped at this value divided by the average size of the
+     * deliveries received so far.  The default is 16 megabytes and a value of zero disables the limit.
+     *
+     * @param maxPrefetchBytes
+     *      The approximate number of bytes of prefetched deliveries to allow.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions maxPrefetchBytes(long maxPrefetchBytes) {
+        this.maxPrefetchBytes = maxPrefetchBytes;
+        return this;
+    }
+
     @Override
     public ReceiverOptions clone() {
         return copyInto(new ReceiverOptions());
@@ -148,6 +274,11 @@ public class ReceiverOptions extends LinkOptions<ReceiverOptions> implements Clo
         other.autoAccept(autoAccept);
         other.creditWindow(creditWindow);
         other.drainTimeout(drainTimeout);
+        other.dispatchExecutor(dispatchExecutor);
+        other.deliveryQueueType(deliveryQueueType);
+        other.adaptiveCreditWindow(adaptiveCreditWindow);
+        other.maxCreditWindow(maxCreditWindow);
+        other.maxPrefetchBytes(maxPrefetchBytes);
 
         return other;
     }
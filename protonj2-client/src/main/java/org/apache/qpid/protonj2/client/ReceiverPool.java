@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A pool of {@link Receiver} instances that share one source address and hand every
+ * {@link Delivery} that arrives on any of them to a fixed set of worker threads which
+ * run the handler the pool was created with.
+ * <p>
+ * The receivers in the pool are spread across one or more sessions on each of the
+ * connections the pool was created with.  Each worker has its own queue of pending
+ * deliveries and an idle worker will take work from the queues of busy workers so a
+ * slow delivery does not hold up the others.  Credit is managed for the pool as a whole,
+ * a receiver is only granted more credit once the deliveries it already carried have been
+ * handled.
+ *
+ * @see Client#openReceiverPool(String, Consumer, ReceiverPoolOptions, Connection...)
+ */
+public interface ReceiverPool extends AutoCloseable {
+
+    /**
+     * @return the source address that all receivers in this pool are attached to.
+     */
+    String address();
+
+    /**
+     * @return an unmodifiable view of the receivers that make up this pool.
+     */
+    List<Receiver> receivers();
+
+    /**
+     * @return the number of worker threads that handle deliveries for this pool.
+     */
+    int workerCount();
+
+    /**
+     * Returns an estimate of the number of deliveries that have arrived at the pool
+     * and are waiting for a worker to handle them.
+     *
+     * @return the number of deliveries that are queued but not yet handled.
+     */
+    int queuedDeliveries();
+
+    /**
+     * Stops the pool workers once any delivery currently being handled completes and then
+     * closes all the sessions the pool opened, which also closes the pool receivers.  Any
+     * delivery that was queued but not handled is left unsettled for the remote to redeliver.
+     * <p>
+     * This method blocks and waits for the sessions to close using the configured close timeout
+     * of the connection each session belongs to.
+     */
+    @Override
+    void close();
+
+}
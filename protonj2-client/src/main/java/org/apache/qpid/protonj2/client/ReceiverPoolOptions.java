@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+/**
+ * Options that control the behavior of a {@link ReceiverPool} created from a {@link Client}.
+ */
+public class ReceiverPoolOptions implements Cloneable {
+
+    /**
+     * Default number of receiver links the pool attaches to the source address.
+     */
+    public static final int DEFAULT_RECEIVER_COUNT = 4;
+
+    /**
+     * Default number of sessions the pool opens on each connection it is given.
+     */
+    public static final int DEFAULT_SESSIONS_PER_CONNECTION = 1;
+
+    /**
+     * Default total amount of credit shared by all receivers in the pool.
+     */
+    public static final int DEFAULT_CREDIT_WINDOW = 100;
+
+    /**
+     * Default value for the auto accept option.
+     */
+    public static final boolean DEFAULT_AUTO_ACCEPT = true;
+
+    private int receiverCount = DEFAULT_RECEIVER_COUNT;
+    private int sessionsPerConnection = DEFAULT_SESSIONS_PER_CONNECTION;
+    private int workerThreads = Runtime.getRuntime().availableProcessors();
+    private int creditWindow = DEFAULT_CREDIT_WINDOW;
+    private boolean autoAccept = DEFAULT_AUTO_ACCEPT;
+    private ReceiverOptions receiverOptions = new ReceiverOptions();
+
+    /**
+     * Create a new ReceiverPoolOptions instance with defaults set for all options.
+     */
+    public ReceiverPoolOptions() {
+    }
+
+    /**
+     * Create a new ReceiverPoolOptions instance that copies the configuration from the specified source options.
+     *
+     * @param options
+     * 		The ReceiverPoolOptions instance whose settings are to be copied into this one.
+     */
+    public ReceiverPoolOptions(ReceiverPoolOptions options) {
+        if (options != null) {
+            options.copyInto(this);
+        }
+    }
+
+    @Override
+    public ReceiverPoolOptions clone() {
+        return copyInto(new ReceiverPoolOptions());
+    }
+
+    /**
+     * Copy all options from this {@link ReceiverPoolOptions} instance into the instance
+     * provided.
+     *
+     * @param other
+     *      the target of this copy operation.
+     *
+     * @return the {@link ReceiverPoolOptions} instance that was given.
+     */
+    protected ReceiverPoolOptions copyInto(ReceiverPoolOptions other) {
+        other.receiverCount(receiverCount);
+        other.sessionsPerConnection(sessionsPerConnection);
+        other.workerThreads(workerThreads);
+        other.creditWindow(creditWindow);
+        other.autoAccept(autoAccept);
+        other.receiverOptions(receiverOptions);
+
+        return other;
+    }
+
+    /**
+     * @return the number of receiver links the pool attaches to the source address.
+     */
+    public int receiverCount() {
+        return receiverCount;
+    }
+
+    /**
+     * Sets the number of receiver links the pool attaches to the source address, the links are
+     * spread evenly across all the sessions that the pool opens.
+     *
+     * @param receiverCount
+     *      The number of receiver links to attach to the source address.
+     *
+     * @return this {@link ReceiverPoolOptions} instance.
+     */
+    public ReceiverPoolOptions receiverCount(int receiverCount) {
+        if (receiverCount <= 0) {
+            throw new IllegalArgumentException("Receiver count must be greater than zero");
+        }
+
+        this.receiverCount = receiverCount;
+        return this;
+    }
+
+    /**
+     * @return the number of sessions the pool opens on each connection it is given.
+     */
+    public int sessionsPerConnection() {
+        return sessionsPerConnection;
+    }
+
+    /**
+     * Sets the number of sessions the pool opens on each connection it is given.
+     *
+     * @param sessionsPerConnection
+     *      The number of sessions to open on each connection.
+     *
+     * @return this {@link ReceiverPoolOptions} instance.
+     */
+    public ReceiverPoolOptions sessionsPerConnection(int sessionsPerConnection) {
+        if (sessionsPerConnection <= 0) {
+            throw new IllegalArgumentException("Sessions per connection must be greater than zero");
+        }
+
+        this.sessionsPerConnection = sessionsPerConnection;
+        return this;
+    }
+
+    /**
+     * @return the number of worker threads that process the deliveries that arrive at the pool.
+     */
+    public int workerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * Sets the number of worker threads that process the deliveries that arrive at the pool, by
+     * default the pool uses one worker for each available processor.
+     *
+     * @param workerThreads
+     *      The number of worker threads the pool should create.
+     *
+     * @return this {@link ReceiverPoolOptions} instance.
+     */
+    public ReceiverPoolOptions workerThreads(int workerThreads) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("Worker thread count must be greater than zero");
+        }
+
+        this.workerThreads = workerThreads;
+        return this;
+    }
+
+    /**
+     * @return the total credit shared by all receivers in the pool.
+     */
+    public int creditWindow() {
+        return creditWindow;
+    }
+
+    /**
+     * Sets the total amount of credit that is shared by all receivers in the pool.  The window is split
+     * across the receivers and credit is only returned to a receiver once the deliveries it carried have
+     * been processed, which bounds the number of deliveries the pool holds that have not yet been handled.
+     * The window must be at least as large as the number of receivers in the pool.
+     *
+     * @param creditWindow
+     *      The total credit to grant across all receivers in the pool.
+     *
+     * @return this {@link ReceiverPoolOptions} instance.
+     */
+    public ReceiverPoolOptions creditWindow(int creditWindow) {
+        if (creditWindow <= 0) {
+            throw new IllegalArgumentException("Credit window must be greater than zero");
+        }
+
+        this.creditWindow = creditWindow;
+        return this;
+    }
+
+    /**
+     * @return the whether the pool accepts deliveries once the handler returns.
+     */
+    public boolean autoAccept() {
+        return autoAccept;
+    }
+
+    /**
+     * Controls if the pool will accept each delivery once the delivery handler has returned, if the
+     * handler throws an exception the delivery is instead released.  When disabled the handler is
+     * responsible for settling each delivery it is given.
+     *
+     * @param autoAccept
+     *      The value to assign for auto delivery acceptance.
+     *
+     * @return this {@link ReceiverPoolOptions} instance.
+     */
+    public ReceiverPoolOptions autoAccept(boolean autoAccept) {
+        this.autoAccept = autoAccept;
+        return this;
+    }
+
+    /**
+     * @return the {@link ReceiverOptions} used as the template for each receiver in the pool.
+     */
+    public ReceiverOptions receiverOptions() {
+        return receiverOptions;
+    }
+
+    /**
+     * Sets the {@link ReceiverOptions} used as the template for each receiver the pool creates.  The
+     * credit window and auto accept settings of the template are ignored as the pool manages both.
+     *
+     * @param receiverOptions
+     *      The receiver options to apply to each receiver in the pool.
+     *
+     * @return this {@link ReceiverPoolOptions} instance.
+     */
+    public ReceiverPoolOptions receiverOptions(ReceiverOptions receiverOptions) {
+        this.receiverOptions = receiverOptions != null ? receiverOptions.clone() : new ReceiverOptions();
+        return this;
+    }
+}
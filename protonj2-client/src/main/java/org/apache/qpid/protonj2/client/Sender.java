@@ -16,7 +16,10 @@
  */
 package org.apache.qpid.protonj2.client;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 
@@ -65,6 +68,26 @@ public interface Sender extends Link<Sender> {
      */
     Tracker send(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException;
 
+    /**
+     * Send all of the given messages in order, sending each immediately if there is credit available
+     * or blocking until the link has been granted credit for it.  The messages are encoded by the
+     * calling thread and then written together so that the connection is flushed once for the whole
+     * collection rather than once per message.
+     * <p>
+     * Upon successfully sending all the messages the method returns a {@link Tracker} for each
+     * message in the same order that the collection supplied them.  If sending any message fails
+     * the error is thrown once the outcome of the earlier messages in the collection is known, the
+     * messages that follow it may still have been sent.
+     *
+     * @param messages
+     *      the {@link Message} instances to send.
+     *
+     * @return a {@link List} holding the {@link Tracker} for each message delivery.
+     *
+     * @throws ClientException if an error occurs while initiating or performing the send operations.
+     */
+    List<Tracker> sendAll(Collection<? extends Message<?>> messages) throws ClientException;
+
     /**
      * Send the given message if credit is available or returns null if no credit has been
      * granted to the link at the time of the send attempt.
@@ -105,4 +128,92 @@ public interface Sender extends Link<Sender> {
      */
     Tracker trySend(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException;
 
+    /**
+     * Send the given message asynchronously, the send is performed immediately if there is credit
+     * available or held until the link is granted credit, the calling thread is never blocked.
+     * <p>
+     * Upon successfully sending the message the returned {@link CompletionStage} is completed with
+     * a {@link Tracker} that can be used to await settlement of the message from the remote.  If the
+     * send fails or times out waiting for credit the stage is completed exceptionally with the
+     * {@link ClientException} that describes the failure.  Dependent actions that are not registered
+     * using one of the asynchronous {@link CompletionStage} methods can run on the connection I/O
+     * thread and must not block.
+     *
+     * @param message
+     *      the {@link Message} to send.
+     *
+     * @return a {@link CompletionStage} that completes with the {@link Tracker} for the message delivery.
+     *
+     * @throws ClientException if an error occurs while initiating the send operation.
+     */
+    CompletionStage<Tracker> sendAsync(Message<?> message) throws ClientException;
+
+    /**
+     * Send the given message asynchronously, the send is performed immediately if there is credit
+     * available or held until the link is granted credit, the calling thread is never blocked. The
+     * provided delivery annotations are encoded along with the message, the annotations can be passed
+     * repeatedly to send calls if sending the same delivery annotations with each message.
+     * <p>
+     * Upon successfully sending the message the returned {@link CompletionStage} is completed with
+     * a {@link Tracker} that can be used to await settlement of the message from the remote.  If the
+     * send fails or times out waiting for credit the stage is completed exceptionally with the
+     * {@link ClientException} that describes the failure.  Dependent actions that are not registered
+     * using one of the asynchronous {@link CompletionStage} methods can run on the connection I/O
+     * thread and must not block.
+     *
+     * @param message
+     *      the {@link Message} to send.
+     * @param deliveryAnnotations
+     *      the delivery annotations that should be included in the sent {@link Message}.
+     *
+     * @return a {@link CompletionStage} that completes with the {@link Tracker} for the message delivery.
+     *
+     * @throws ClientException if an error occurs while initiating the send operation.
+     */
+    CompletionStage<Tracker> sendAsync(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException;
+
+    /**
+     * Send the given message asynchronously if credit is available, the returned {@link CompletionStage}
+     * is completed with null if no credit has been granted to the link at the time of the send attempt.
+     * The calling thread is never blocked.
+     * <p>
+     * Upon successfully sending the message the returned {@link CompletionStage} is completed with
+     * a {@link Tracker} that can be used to await settlement of the message from the remote.  If the
+     * send fails the stage is completed exceptionally with the {@link ClientException} that describes
+     * the failure.  Dependent actions that are not registered using one of the asynchronous
+     * {@link CompletionStage} methods can run on the connection I/O thread and must not block.
+     *
+     * @param message
+     *      the {@link Message} to send if credit is available.
+     *
+     * @return a {@link CompletionStage} that completes with the {@link Tracker} for the message delivery or null if no credit for sending.
+     *
+     * @throws ClientException if an error occurs while initiating the send operation.
+     */
+    CompletionStage<Tracker> trySendAsync(Message<?> message) throws ClientException;
+
+    /**
+     * Send the given message asynchronously if credit is available, the returned {@link CompletionStage}
+     * is completed with null if no credit has been granted to the link at the time of the send attempt.
+     * The calling thread is never blocked. The provided delivery annotations are encoded along with the
+     * message, the annotations can be passed repeatedly to send calls if sending the same delivery
+     * annotations with each message.
+     * <p>
+     * Upon successfully sending the message the returned {@link CompletionStage} is completed with
+     * a {@link Tracker} that can be used to await settlement of the message from the remote.  If the
+     * send fails the stage is completed exceptionally with the {@link ClientException} that describes
+     * the failure.  Dependent actions that are not registered using one of the asynchronous
+     * {@link CompletionStage} methods can run on the connection I/O thread and must not block.
+     *
+     * @param message
+     *      the {@link Message} to send if credit is available.
+     * @param deliveryAnnotations
+     *      the delivery annotations that should be included in the sent {@link Message}.
+     *
+     * @return a {@link CompletionStage} that completes with the {@link Tracker} for the message delivery or null if no credit for sending.
+     *
+     * @throws ClientException if an error occurs while initiating the send operation.
+     */
+    CompletionStage<Tracker> trySendAsync(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException;
+
 }
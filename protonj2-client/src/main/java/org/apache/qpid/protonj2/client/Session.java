@@ -22,7 +22,9 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.exceptions.ClientTransactionDeclarationException;
 import org.apache.qpid.protonj2.client.exceptions.ClientTransactionNotActiveException;
+import org.apache.qpid.protonj2.client.exceptions.ClientTransactionRolledBackException;
 import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
 
 /**
@@ -318,6 +320,41 @@ public interface Session extends AutoCloseable {
      */
     Session commitTransaction() throws ClientException;
 
+    /**
+     * Asynchronously commit the currently active transaction in this Session.
+     *
+     * Behaves in the same manner as the {@link #commitTransaction()} method but instead of blocking the
+     * caller the returned {@link Future} is completed once the current transaction has been committed
+     * or fails with the same errors that the blocking variant would throw.  A new transaction cannot be
+     * started until the returned {@link Future} has completed.
+     *
+     * @return a {@link Future} that completes when the current transaction has been committed.
+     *
+     * @throws ClientException if an error occurs while attempting to initiate the commit.
+     */
+    Future<Session> commitTransactionAsync() throws ClientException;
+
+    /**
+     * Commit the currently active transaction in this Session and begin a new transaction.
+     *
+     * The discharge of the current transaction and the declaration of the next transaction are written
+     * back to back on the coordinator link and this method waits for both outcomes, saving the round trip
+     * to the remote that a call to {@link #commitTransaction()} followed by {@link #beginTransaction()}
+     * would incur.  If the commit fails a {@link ClientTransactionRolledBackException} is thrown and the
+     * newly declared transaction is rolled back so that the session has no active transaction, leaving the
+     * session in the same state that a failed {@link #commitTransaction()} call would.  If the commit
+     * succeeds but the new transaction could not be declared a {@link ClientTransactionDeclarationException}
+     * is thrown and the user must begin a new transaction before performing further transacted work.
+     *
+     * This is a blocking method that will return successfully only after the current transaction has been
+     * committed and the new transaction has been started.
+     *
+     * @return this {@link Session} instance.
+     *
+     * @throws ClientException if an error occurs while attempting to commit the current transaction or begin the next.
+     */
+    Session commitAndBeginTransaction() throws ClientException;
+
     /**
      * Roll back the currently active transaction in this Session.
      *
@@ -39,6 +39,21 @@ public class SessionOptions implements Cloneable {
      */
     public static final int DEFAULT_SESSION_OUTGOING_CAPACITY = 100 * 1024 * 1024;
 
+    /**
+     * The default Session disposition batch limit, a value of zero disables batching of dispositions.
+     */
+    public static final int DEFAULT_DISPOSITION_BATCH_LIMIT = 0;
+
+    /**
+     * The default Session disposition batch delay, a value of zero writes pending dispositions on the next I/O turn.
+     */
+    public static final long DEFAULT_DISPOSITION_BATCH_DELAY = 0;
+
+    /**
+     * The default for deferring transacted dispositions until the transaction is discharged.
+     */
+    public static final boolean DEFAULT_DEFER_TRANSACTED_DISPOSITIONS = false;
+
     private long sendTimeout = ConnectionOptions.DEFAULT_SEND_TIMEOUT;
     private long drainTimeout = ConnectionOptions.DEFAULT_DRAIN_TIMEOUT;
     private long requestTimeout = ConnectionOptions.DEFAULT_REQUEST_TIMEOUT;
@@ -47,6 +62,9 @@ public class SessionOptions implements Cloneable {
 
     private int incomingCapacity = DEFAULT_SESSION_INCOMING_CAPACITY;
     private int outgoingCapacity = DEFAULT_SESSION_OUTGOING_CAPACITY;
+    private int dispositionBatchLimit = DEFAULT_DISPOSITION_BATCH_LIMIT;
+    private long dispositionBatchDelay = DEFAULT_DISPOSITION_BATCH_DELAY;
+    private boolean deferTransactedDispositions = DEFAULT_DEFER_TRANSACTED_DISPOSITIONS;
 
     private String[] offeredCapabilities;
     private String[] desiredCapabilities;
@@ -93,6 +111,9 @@ public class SessionOptions implements Cloneable {
         other.requestTimeout(requestTimeout);
         other.incomingCapacity(incomingCapacity);
         other.outgoingCapacity(outgoingCapacity);
+        other.dispositionBatchLimit(dispositionBatchLimit);
+        other.dispositionBatchDelay(dispositionBatchDelay);
+        other.deferTransactedDispositions(deferTransactedDispositions);
         other.defaultNextReceiverPolicy(nextReceiverPolicy);
 
         if (offeredCapabilities != null) {
@@ -401,6 +422,96 @@ public class SessionOptions implements Cloneable {
         return this;
     }
 
+    /**
+     * @return the maximum number of receiver dispositions that a {@link Session} will batch into a single range.
+     */
+    public int dispositionBatchLimit() {
+        return dispositionBatchLimit;
+    }
+
+    /**
+     * Sets the maximum number of dispositions applied by receivers of a {@link Session} created with
+     * these options that can be batched into a single ranged Disposition frame.  Contiguous deliveries
+     * that are given the same outcome and settlement state are coalesced into one frame covering the
+     * range which reduces the number of frames written when a receiver is acknowledging at a high rate.
+     * <p>
+     * A value of zero or one disables batching and each disposition is written as soon as it is applied.
+     *
+     * @param dispositionBatchLimit
+     *      the maximum number of dispositions that can be coalesced into one Disposition frame.
+     *
+     * @return this {@link SessionOptions} instance.
+     */
+    public SessionOptions dispositionBatchLimit(int dispositionBatchLimit) {
+        this.dispositionBatchLimit = dispositionBatchLimit;
+        return this;
+    }
+
+    /**
+     * @return the time in milliseconds that a batched disposition can wait before being written.
+     */
+    public long dispositionBatchDelay() {
+        return dispositionBatchDelay;
+    }
+
+    /**
+     * Sets the time in milliseconds that dispositions batched by a {@link Session} created with these
+     * options can remain pending before they are written to the remote.  A value of zero means that any
+     * pending dispositions are written once the work queued for the connection has been processed.  This
+     * option has no effect unless a {@link #dispositionBatchLimit(int)} greater than one is configured.
+     *
+     * @param dispositionBatchDelay
+     *      the time in milliseconds that a pending disposition batch can wait before being written.
+     *
+     * @return this {@link SessionOptions} instance.
+     */
+    public SessionOptions dispositionBatchDelay(long dispositionBatchDelay) {
+        this.dispositionBatchDelay = dispositionBatchDelay;
+        return this;
+    }
+
+    /**
+     * Sets the time that dispositions batched by a {@link Session} created with these options can remain
+     * pending before they are written to the remote.
+     *
+     * @param delay
+     *      the time that a pending disposition batch can wait before being written.
+     * @param units
+     *      the {@link TimeUnit} that the delay value is given in.
+     *
+     * @return this {@link SessionOptions} instance.
+     */
+    public SessionOptions dispositionBatchDelay(long delay, TimeUnit units) {
+        this.dispositionBatchDelay = units.toMillis(delay);
+        return this;
+    }
+
+    /**
+     * @return true if dispositions applied inside a transaction are held until the transaction is discharged.
+     */
+    public boolean deferTransactedDispositions() {
+        return deferTransactedDispositions;
+    }
+
+    /**
+     * Controls if the dispositions applied by receivers of a {@link Session} created with these options
+     * while a transaction is active are held by the session until the transaction is committed or rolled
+     * back.  When enabled the held dispositions are written immediately before the transaction discharge
+     * using as few ranged Disposition frames as possible, so acknowledging a large transacted batch of
+     * contiguous deliveries costs a handful of frames instead of one frame per delivery.
+     * <p>
+     * While deferred a delivery does not report itself as settled until the held dispositions are written.
+     *
+     * @param deferTransactedDispositions
+     *      should dispositions applied inside a transaction be held until the transaction is discharged.
+     *
+     * @return this {@link SessionOptions} instance.
+     */
+    public SessionOptions deferTransactedDispositions(boolean deferTransactedDispositions) {
+        this.deferTransactedDispositions = deferTransactedDispositions;
+        return this;
+    }
+
     /**
      * @return the configured default next receiver policy for a session created using these options.
      */
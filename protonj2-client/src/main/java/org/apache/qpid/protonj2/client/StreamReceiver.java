@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.client;
 
+import java.util.List;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -103,6 +104,41 @@ public interface StreamReceiver extends Link<StreamReceiver> {
      */
     StreamDelivery tryReceive() throws ClientException;
 
+    /**
+     * Blocking receive method that waits the given time interval for the remote to provide at least
+     * one {@link StreamDelivery} and then returns it along with any others that have already arrived, up to
+     * the given maximum. The amount of time this method blocks is based on the timeout value as
+     * described in {@link #receive(long, TimeUnit)}. All the deliveries are taken from the
+     * {@link StreamReceiver} in one operation and any credit replenishment or automatic acceptance for
+     * the batch is handled together which reduces the per delivery overhead for applications that
+     * process deliveries in groups.
+     *
+     * @param maxDeliveries
+     *      The maximum number of deliveries to return, which must be greater than zero.
+     * @param timeout
+     *      The timeout value used to control how long the receive method waits for the first {@link StreamDelivery}.
+     * @param unit
+     *      The unit of time that the given timeout represents.
+     *
+     * @return a {@link List} of deliveries received from the remote which is empty if none arrived in time.
+     *
+     * @throws ClientException if the {@link StreamReceiver} or its parent is closed when the call to receive is made.
+     */
+    List<StreamDelivery> receive(int maxDeliveries, long timeout, TimeUnit unit) throws ClientException;
+
+    /**
+     * Non-blocking receive method that returns up to the given number of deliveries that are
+     * immediately available or an empty {@link List} if none are currently at hand.
+     *
+     * @param maxDeliveries
+     *      The maximum number of deliveries to return, which must be greater than zero.
+     *
+     * @return a {@link List} of deliveries received from the remote which is empty if none were available.
+     *
+     * @throws ClientException if the {@link StreamReceiver} or its parent is closed when the call to try to receive is made.
+     */
+    List<StreamDelivery> tryReceive(int maxDeliveries) throws ClientException;
+
     /**
      * Returns the number of Deliveries that are currently held in the {@link Receiver} delivery
      * queue.  This number is likely to change immediately following the call as more deliveries
@@ -17,7 +17,12 @@
 package org.apache.qpid.protonj2.client;
 
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.types.messaging.Data;
 import org.apache.qpid.protonj2.types.transport.Transfer;
 
 /**
@@ -54,4 +59,46 @@ public interface StreamReceiverMessage extends AdvancedMessage<InputStream> {
      */
     boolean completed();
 
+    /**
+     * Writes the contents of the AMQP {@link Data} sections that comprise the message body
+     * into the given {@link WritableByteChannel}, blocking until the full body has been written.
+     * <p>
+     * Incoming transfer payloads are written to the channel as they arrive without being copied
+     * into intermediate byte arrays, and each payload buffer is released once it has been written.
+     * The amount of message data held in memory at any one time is therefore bounded by the session
+     * incoming window rather than by the size of the message.  Once the transfer completes the body
+     * is considered consumed and any message {@link org.apache.qpid.protonj2.types.messaging.Footer}
+     * will have been read.  The channel must be in blocking mode, a non-blocking
+     * {@link java.nio.channels.SelectableChannel} is rejected and a channel that accepts no bytes
+     * from a write fails the transfer.  The channel is not closed by this method.
+     *
+     * @param channel
+     *      The {@link WritableByteChannel} that the message body bytes are written to.
+     *
+     * @return the number of body bytes that were written to the channel.
+     *
+     * @throws ClientException if the body cannot be read or an error occurs writing to the channel.
+     * @throws IllegalArgumentException if the channel is a non-blocking {@link java.nio.channels.SelectableChannel}.
+     */
+    long transferBodyTo(WritableByteChannel channel) throws ClientException;
+
+    /**
+     * Asynchronously writes the contents of the AMQP {@link Data} sections that comprise the message
+     * body into the given {@link WritableByteChannel} using the provided {@link Executor} to perform
+     * the transfer.  The returned {@link Future} is completed with the number of bytes written once
+     * the full body has been written or fails if the body cannot be transferred, see the
+     * {@link #transferBodyTo(WritableByteChannel)} method for details of the transfer.
+     *
+     * @param channel
+     *      The {@link WritableByteChannel} that the message body bytes are written to.
+     * @param executor
+     *      The {@link Executor} that performs the transfer, which blocks while awaiting incoming data.
+     *
+     * @return a {@link Future} that is completed with the number of bytes written to the channel.
+     *
+     * @throws ClientException if the message is in a state that does not allow its body to be read.
+     * @throws IllegalArgumentException if the channel is a non-blocking {@link java.nio.channels.SelectableChannel}.
+     */
+    Future<Long> transferBodyToAsync(WritableByteChannel channel, Executor executor) throws ClientException;
+
 }
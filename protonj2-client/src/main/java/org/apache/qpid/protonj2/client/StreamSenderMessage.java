@@ -17,6 +17,8 @@
 package org.apache.qpid.protonj2.client;
 
 import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
@@ -135,4 +137,52 @@ public interface StreamSenderMessage extends AdvancedMessage<OutputStream> {
      */
     OutputStream rawOutputStream() throws ClientException;
 
+    /**
+     * Writes the given region of a {@link FileChannel} into the message as the payload of one or
+     * more AMQP {@link Data} sections.
+     * <p>
+     * The file contents are memory mapped and handed to the transport without first being copied
+     * into intermediate heap buffers, the write is paced by the available session outgoing capacity
+     * and this method blocks until the full region has been written.  Regions larger than a single
+     * AMQP {@link Data} section can carry are split across multiple sections.  The message is not
+     * completed by this method, the caller must call {@link #complete()} once all sections have been
+     * written.  The provided {@link FileChannel} is not closed by this method.
+     *
+     * @param channel
+     *      The {@link FileChannel} whose contents should be written into the message body.
+     * @param offset
+     *      The position in the file where the body contents begin.
+     * @param length
+     *      The number of bytes from the file that should be written into the message body.
+     *
+     * @return this {@link StreamSenderMessage} instance.
+     *
+     * @throws ClientException if an error occurs while reading the file or writing the message.
+     * @throws IllegalArgumentException if the offset and length do not describe a region of the file.
+     */
+    StreamSenderMessage body(FileChannel channel, long offset, long length) throws ClientException;
+
+    /**
+     * Writes the given region of the file located at the given {@link Path} into the message as the
+     * payload of one or more AMQP {@link Data} sections.
+     * <p>
+     * The file is opened for read and closed again once the region has been written, see the
+     * {@link #body(FileChannel, long, long)} method for details of how the file contents are sent.
+     *
+     * @param path
+     *      The {@link Path} of the file whose contents should be written into the message body.
+     * @param offset
+     *      The position in the file where the body contents begin.
+     * @param length
+     *      The number of bytes from the file that should be written into the message body.
+     *
+     * @return this {@link StreamSenderMessage} instance.
+     *
+     * @throws ClientException if an error occurs while reading the file or writing the message.
+     * @throws IllegalArgumentException if the offset and length do not describe a region of the file.
+     *
+     * @see #body(FileChannel, long, long)
+     */
+    StreamSenderMessage body(Path path, long offset, long length) throws ClientException;
+
 }
@@ -59,11 +59,7 @@ public abstract class ClientFuture<V> implements Future<V>, AsyncResult<V> {
         if (STATE_FIELD_UPDATER.compareAndSet(this, INCOMPLETE, COMPLETING)) {
             STATE_FIELD_UPDATER.lazySet(this, CANCELLED);
 
-            synchronized(this) {
-                if (waiting > 0) {
-                    notifyAll();
-                }
-            }
+            signalWaiters();
 
             return true;
         } else {
@@ -126,11 +122,7 @@ public abstract class ClientFuture<V> implements Future<V>, AsyncResult<V> {
 
             STATE_FIELD_UPDATER.lazySet(this, FAILURE);
 
-            synchronized(this) {
-                if (waiting > 0) {
-                    notifyAll();
-                }
-            }
+            signalWaiters();
         }
     }
 
@@ -147,20 +139,40 @@ public abstract class ClientFuture<V> implements Future<V>, AsyncResult<V> {
 
             STATE_FIELD_UPDATER.lazySet(this, SUCCESS);
 
-            synchronized(this) {
-                if (waiting > 0) {
-                    notifyAll();
-                }
-            }
+            signalWaiters();
         }
     }
 
+    /**
+     * Attempts to return this completed {@link ClientFuture} to its initial state so that
+     * it can be used again for a new operation, the caller must ensure no other code holds
+     * on to the future for the previous operation. Future types that cannot be safely reused
+     * always return false.
+     *
+     * @return true if the future was reset and can be reused for another operation.
+     */
+    public boolean reset() {
+        return false;
+    }
+
     @Override
     public abstract V get() throws InterruptedException, ExecutionException;
 
     @Override
     public abstract V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException;
 
+    /**
+     * Called after the future has reached a terminal state to wake any threads that are
+     * blocked waiting on its outcome.
+     */
+    protected void signalWaiters() {
+        synchronized(this) {
+            if (waiting > 0) {
+                notifyAll();
+            }
+        }
+    }
+
     /**
      * TODO - Provide hook to run on the event loop to do whatever it means to cancel this task and
      *        update the task state in a thread safe manner.
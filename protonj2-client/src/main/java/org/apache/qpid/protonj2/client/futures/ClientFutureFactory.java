@@ -45,6 +45,11 @@ public abstract class ClientFutureFactory {
      */
     public static final String PROGRESSIVE = "progressive";
 
+    /**
+     * Names a future type that parks waiters without monitor signaling and allocates only when a thread blocks.
+     */
+    public static final String LIGHTWEIGHT = "lightweight";
+
     /**
      * Create a new ClientFutureFactory instance based on the given type name.
      *
@@ -71,6 +76,8 @@ public abstract class ClientFutureFactory {
                 return new BalancedProviderFutureFactory();
             case PROGRESSIVE:
                 return new ProgressiveProviderFutureFactory();
+            case LIGHTWEIGHT:
+                return new LightweightProviderFutureFactory();
             default:
                 throw new IllegalArgumentException(
                     "No ClientFuture implementation with name " + futureType + " found");
@@ -231,4 +238,33 @@ public abstract class ClientFutureFactory {
             };
         }
     }
+
+    private static class LightweightProviderFutureFactory extends ClientFutureFactory {
+
+        @Override
+        public <V> ClientFuture<V> createFuture() {
+            return new LightweightClientFuture<>();
+        }
+
+        @Override
+        public <V> ClientFuture<V> createFuture(ClientSynchronization<V> synchronization) {
+            return new LightweightClientFuture<>(synchronization);
+        }
+
+        @Override
+        public <V> ClientFuture<V> createUnfailableFuture() {
+            return createUnfailableFuture(null);
+        }
+
+        @Override
+        public <V> ClientFuture<V> createUnfailableFuture(ClientSynchronization<V> synchronization) {
+            return new LightweightClientFuture<>(synchronization) {
+
+                @Override
+                public void failed(ClientException t) {
+                    this.complete(null);
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.futures;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A ClientFuture that avoids monitor based signaling by keeping a single word that
+ * references a stack of blocked waiters. A waiter node is only allocated once a thread
+ * actually has to park, a future that completes before anyone waits on it never creates
+ * any additional objects which also allows a completed instance to be reset and reused.
+ *
+ * @param <V> The type that result from completion of this Future
+ */
+public class LightweightClientFuture<V> extends ClientFuture<V> {
+
+    // Short spin before parking to catch completions that are already in progress
+    private static final int SPIN_COUNT = 10;
+
+    private static final VarHandle WAITERS;
+
+    static {
+        try {
+            WAITERS = MethodHandles.lookup().findVarHandle(LightweightClientFuture.class, "waiters", Waiter.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Installed once completion has woken all waiters, no further waiters will be pushed.
+    private static final Waiter SIGNALLED = new Waiter(null);
+
+    private volatile Waiter waiters;
+
+    /**
+     * Create a new {@link LightweightClientFuture} instance with no assigned {@link ClientSynchronization}.
+     */
+    public LightweightClientFuture() {
+        this(null);
+    }
+
+    /**
+     * Create a new {@link LightweightClientFuture} instance with the assigned {@link ClientSynchronization}.
+     *
+     * @param synchronization
+     * 		the {@link ClientSynchronization} that should be notified upon completion of this future.
+     */
+    public LightweightClientFuture(ClientSynchronization<V> synchronization) {
+        super(synchronization);
+    }
+
+    @Override
+    public boolean reset() {
+        // Only once the completing thread has finished signaling can the future be handed out again
+        if (synchronization == null && waiters == SIGNALLED) {
+            error = null;
+            result = null;
+            waiters = null;
+
+            STATE_FIELD_UPDATER.set(this, INCOMPLETE);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public V get(long amount, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (isNotComplete() && amount > 0) {
+            awaitCompletion(true, unit.toNanos(amount));
+        }
+
+        if (error != null) {
+            throw error;
+        } else {
+            return getResult();
+        }
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        if (isNotComplete()) {
+            try {
+                awaitCompletion(false, 0);
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("Untimed wait should not time out", e);
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        } else {
+            return getResult();
+        }
+    }
+
+    @Override
+    protected void signalWaiters() {
+        Waiter waiter = (Waiter) WAITERS.getAndSet(this, SIGNALLED);
+
+        while (waiter != null && waiter != SIGNALLED) {
+            final Thread thread = waiter.thread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+
+            waiter = waiter.next;
+        }
+    }
+
+    private void awaitCompletion(boolean timed, long timeout) throws InterruptedException, TimeoutException {
+        final long deadline = timed ? System.nanoTime() + timeout : 0;
+
+        Waiter node = null;
+        int idleCount = 0;
+
+        while (isNotComplete()) {
+            if (idleCount < SPIN_COUNT) {
+                Thread.onSpinWait();
+                idleCount++;
+            } else if (node == null) {
+                node = new Waiter(Thread.currentThread());
+
+                Waiter head;
+                do {
+                    head = waiters;
+                    if (head == SIGNALLED) {
+                        return;
+                    }
+
+                    node.next = head;
+                } while (!WAITERS.compareAndSet(this, head, node));
+            } else if (Thread.interrupted()) {
+                node.thread = null;
+                throw new InterruptedException();
+            } else if (timed) {
+                final long remaining = deadline - System.nanoTime();
+
+                if (remaining <= 0) {
+                    node.thread = null;
+                    throw new TimeoutException("Timed out waiting for completion");
+                }
+
+                LockSupport.parkNanos(this, remaining);
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private static final class Waiter {
+
+        private volatile Thread thread;
+        private Waiter next;
+
+        Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
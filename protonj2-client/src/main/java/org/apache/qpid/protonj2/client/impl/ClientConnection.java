@@ -33,6 +33,7 @@ import java.util.function.BiConsumer;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.ClientOptions;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionEvent;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
@@ -134,12 +135,12 @@ public final class ClientConnection implements Connection {
         this.client = client;
         this.options = options;
         this.connectionId = client.nextConnectionId();
-        this.futureFactory = ClientFutureFactory.create(client.options().futureType());
+        this.futureFactory = ClientFutureFactory.create(futureType(client.options()));
         this.openFuture = futureFactory.createFuture();
         this.closeFuture = futureFactory.createFuture();
         this.sessionBuilder = new ClientSessionBuilder(this);
-        this.ioContext = IOContext.create(options.transportOptions(), options.sslOptions(),
-                                          "ClientConnection :(" + connectionId + "): I/O Thread");
+        this.ioContext = client.createIOContext(options.transportOptions(), options.sslOptions(),
+                                                "ClientConnection :(" + connectionId + "): I/O Thread");
         this.executor = ioContext.ioScheduler();
 
         // This executor can be used for dispatching asynchronous tasks that might block or result
@@ -619,6 +620,14 @@ public final class ClientConnection implements Connection {
 
     //----- Private implementation events handlers and utility methods
 
+    private static String futureType(ClientOptions options) {
+        if (options.futureType() == null && options.virtualThreadFriendly()) {
+            return ClientFutureFactory.LIGHTWEIGHT;
+        } else {
+            return options.futureType();
+        }
+    }
+
     private void handleLocalOpen(org.apache.qpid.protonj2.engine.Connection connection) {
         if (options.openTimeout() > 0) {
             executor.schedule(() -> {
@@ -895,6 +904,16 @@ public final class ClientConnection implements Connection {
             }
         }
 
+        // The client never retains the incoming transfer, flow or disposition performatives
+        // beyond the engine event that carries them so the engine may decode into one instance.
+        engine.configuration().setReuseIncomingPerformatives(true);
+
+        // Pooled send buffers are already in transport ready memory so the frame encoder can hand
+        // the payload to the transport alongside the performative instead of copying it.
+        if (client.options().pooledSendBuffers()) {
+            engine.configuration().setZeroCopyOutgoingPayloads(true);
+        }
+
         engine.outputHandler(this::handleEngineOutput)
               .shutdownHandler(this::handleEngineShutdown)
               .errorHandler(this::handleEngineFailure);
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.qpid.protonj2.client.ReceiverOptions;
+
+/**
+ * Tracks consumption of prefetched deliveries for a {@link ClientReceiver} and decides when
+ * credit should be replenished and by how much.
+ * <p>
+ * Application threads report consumed deliveries through a lock free counter and are only told
+ * to schedule a credit check on the connection executor once enough deliveries have been consumed
+ * that a top up could actually be granted, the check itself and any window adjustments are only
+ * ever performed from the connection executor.  When adaptive mode is enabled the window doubles
+ * when a check finds the prefetch fully drained, shrinks by a quarter when more than half of the
+ * window sits unread and is capped by the configured prefetch byte budget divided by the observed
+ * average message size.
+ */
+final class ClientCreditController {
+
+    private static final double CREDIT_REPLENISH_THRESHOLD = 0.5;
+    private static final double PREFETCH_REPLENISH_THRESHOLD = 0.7;
+
+    private final boolean adaptive;
+    private final int maxCreditWindow;
+    private final long maxPrefetchBytes;
+
+    private final AtomicInteger consumed = new AtomicInteger();
+    private final AtomicBoolean replenishPending = new AtomicBoolean();
+
+    private volatile int creditWindow;
+    private volatile int consumedThreshold;
+
+    private long averageMessageSize;
+
+    ClientCreditController(ReceiverOptions options) {
+        this.adaptive = options.adaptiveCreditWindow();
+        this.maxCreditWindow = Math.max(options.creditWindow(), options.maxCreditWindow());
+        this.maxPrefetchBytes = options.maxPrefetchBytes();
+
+        updateCreditWindow(options.creditWindow());
+    }
+
+    /**
+     * @return the credit window currently in use which only differs from the configured value in adaptive mode.
+     */
+    int creditWindow() {
+        return creditWindow;
+    }
+
+    /**
+     * Records that the application consumed deliveries from the receiver, safe to call from any thread.
+     *
+     * @param count
+     *      The number of deliveries that were consumed.
+     *
+     * @return true if the caller should schedule a credit check on the connection executor.
+     */
+    boolean deliveriesConsumed(int count) {
+        return consumed.addAndGet(count) >= consumedThreshold && replenishPending.compareAndSet(false, true);
+    }
+
+    /**
+     * Records the size of a newly arrived delivery, must be called from the connection executor.
+     *
+     * @param messageSize
+     *      The encoded size of the delivery that arrived.
+     */
+    void deliveryArrived(int messageSize) {
+        if (adaptive && messageSize > 0) {
+            if (averageMessageSize == 0) {
+                averageMessageSize = messageSize;
+            } else {
+                averageMessageSize += (messageSize - averageMessageSize) >> 3;
+            }
+        }
+    }
+
+    /**
+     * Computes the credit that should be added to the link given its current state, must be called
+     * from the connection executor.
+     *
+     * @param currentCredit
+     *      The credit that remains outstanding on the link.
+     * @param prefetched
+     *      The number of deliveries that have arrived but not yet been consumed.
+     *
+     * @return the amount of credit to grant which is zero if no credit should be granted yet.
+     */
+    int creditToGrant(int currentCredit, int prefetched) {
+        consumed.set(0);
+        replenishPending.set(false);
+
+        if (adaptive) {
+            adaptCreditWindow(currentCredit, prefetched);
+        }
+
+        final int window = creditWindow;
+
+        if (currentCredit <= window * CREDIT_REPLENISH_THRESHOLD) {
+            final int potentialPrefetch = currentCredit + prefetched;
+
+            if (potentialPrefetch <= window * PREFETCH_REPLENISH_THRESHOLD) {
+                return window - potentialPrefetch;
+            }
+        }
+
+        return 0;
+    }
+
+    private void adaptCreditWindow(int currentCredit, int prefetched) {
+        long window = creditWindow;
+
+        if (prefetched == 0 && currentCredit <= window * CREDIT_REPLENISH_THRESHOLD) {
+            window = Math.min(maxCreditWindow, window * 2);
+        } else if (prefetched > window * CREDIT_REPLENISH_THRESHOLD) {
+            window = Math.max(1, window - window / 4);
+        }
+
+        if (maxPrefetchBytes > 0 && averageMessageSize > 0) {
+            window = Math.max(1, Math.min(window, maxPrefetchBytes / averageMessageSize));
+        }
+
+        if (window != creditWindow) {
+            updateCreditWindow((int) window);
+        }
+    }
+
+    private void updateCreditWindow(int window) {
+        // Smallest consumed count after which a full window of credit can fall below the prefetch threshold
+        consumedThreshold = Math.max(1, window - (int) Math.floor(window * PREFETCH_REPLENISH_THRESHOLD));
+        creditWindow = window;
+    }
+}
@@ -47,37 +47,53 @@ public abstract class ClientDeliverable<DeliveryType, ReceiverType extends Clien
 
     protected abstract DeliveryType self();
 
+    /**
+     * Called after the delivery has been settled locally, a delivery type can override this
+     * to release resources that are only needed while the delivery remains unsettled.
+     */
+    protected void handleLocalSettlement() {
+        // Nothing to release by default
+    }
+
     IncomingDelivery protonDelivery() {
         return delivery;
     }
 
     public DeliveryType accept() throws ClientException {
         receiver.disposition(delivery, Accepted.getInstance(), true);
+        handleLocalSettlement();
         return self();
     }
 
     public DeliveryType release() throws ClientException {
         receiver.disposition(delivery, Released.getInstance(), true);
+        handleLocalSettlement();
         return self();
     }
 
     public DeliveryType reject(String condition, String description) throws ClientException {
         receiver.disposition(delivery, new Rejected().setError(new ErrorCondition(condition, description)), true);
+        handleLocalSettlement();
         return self();
     }
 
     public DeliveryType modified(boolean deliveryFailed, boolean undeliverableHere) throws ClientException {
         receiver.disposition(delivery, new Modified().setDeliveryFailed(deliveryFailed).setUndeliverableHere(undeliverableHere), true);
+        handleLocalSettlement();
         return self();
     }
 
     public DeliveryType disposition(DeliveryState state, boolean settle) throws ClientException {
         receiver.disposition(delivery, ClientDeliveryState.asProtonType(state), settle);
+        if (settle) {
+            handleLocalSettlement();
+        }
         return self();
     }
 
     public DeliveryType settle() throws ClientException {
         receiver.disposition(delivery, null, true);
+        handleLocalSettlement();
         return self();
     }
 
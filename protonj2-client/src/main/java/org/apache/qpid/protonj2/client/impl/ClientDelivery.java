@@ -96,8 +96,13 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
 
         Message<E> message = (Message<E>) cachedMessage;
         if (message == null && payload.isReadable()) {
-            try (payload) {
-                message = (Message<E>)(cachedMessage = ClientMessageSupport.decodeMessage(payload, this::deliveryAnnotations, options));
+            if (options.lazyDecoding()) {
+                // The lazy message takes ownership of the payload and releases it once fully decoded
+                message = (Message<E>)(cachedMessage = ClientMessageSupport.decodeMessageLazily(payload, options));
+            } else {
+                try (payload) {
+                    message = (Message<E>)(cachedMessage = ClientMessageSupport.decodeMessage(payload, this::deliveryAnnotations, options));
+                }
             }
         }
 
@@ -122,6 +127,7 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
     @Override
     public Map<String, Object> annotations() throws ClientException {
         message();
+        decodeLazyDeliveryAnnotations();
 
         if (deliveryAnnotations != null && deliveryAnnotations.getValue() != null) {
             return StringUtils.toStringKeyedMap(deliveryAnnotations.getValue());
@@ -133,6 +139,7 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
     @Override
     public Map<String, Object> annotations(DecodeOptions options) throws ClientException {
         message(options);
+        decodeLazyDeliveryAnnotations();
 
         if (deliveryAnnotations != null && deliveryAnnotations.getValue() != null) {
             return StringUtils.toStringKeyedMap(deliveryAnnotations.getValue());
@@ -141,9 +148,34 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
         }
     }
 
+    @Override
+    protected void handleLocalSettlement() {
+        releasePayload(false);
+    }
+
     //----- Internal API not meant to be used from outside the client package.
 
+    /*
+     * Releases the payload of this delivery, a lazily decoded message that was already handed out
+     * keeps its undecoded sections in a heap copy. When discarding the delivery will never be read
+     * so an unread payload is closed as well. This may run on the connection thread while the
+     * application still reads the message, ClientLazyMessage guards its payload for that case.
+     */
+    void releasePayload(boolean discard) {
+        if (cachedMessage instanceof ClientLazyMessage<?> lazyMessage) {
+            lazyMessage.detachPayload();
+        } else if (discard && cachedMessage == null && rawInputStream == null) {
+            payload.close();
+        }
+    }
+
     void deliveryAnnotations(DeliveryAnnotations deliveryAnnotations) {
         this.deliveryAnnotations = deliveryAnnotations;
     }
+
+    private void decodeLazyDeliveryAnnotations() throws ClientException {
+        if (deliveryAnnotations == null && cachedMessage instanceof ClientLazyMessage<?> lazyMessage) {
+            deliveryAnnotations = lazyMessage.deliveryAnnotations();
+        }
+    }
 }
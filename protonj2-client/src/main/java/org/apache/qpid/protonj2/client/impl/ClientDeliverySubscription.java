@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Flow.Subscription} that links a {@link ClientReceiver} to the {@link Flow.Subscriber} that
+ * subscribed to its delivery publisher.
+ * <p>
+ * The demand tracked by this subscription is only read and updated from the connection executor,
+ * signals to the subscriber are either made directly from that executor or handed off to the
+ * configured dispatch executor in the order they were made and are never run concurrently.
+ */
+final class ClientDeliverySubscription implements Flow.Subscription {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final ClientReceiver receiver;
+    private final Flow.Subscriber<? super Delivery> subscriber;
+    private final Executor dispatcher;
+    private final Queue<Runnable> signals;
+    private final AtomicBoolean dispatching;
+
+    private volatile boolean cancelled;
+    private volatile boolean subscribed;
+    private volatile boolean dispatchRejected;
+    private boolean terminated;
+    private long demand;
+
+    ClientDeliverySubscription(ClientReceiver receiver, Flow.Subscriber<? super Delivery> subscriber, Executor dispatcher) {
+        this.receiver = receiver;
+        this.subscriber = subscriber;
+        this.dispatcher = dispatcher;
+
+        if (dispatcher != null) {
+            this.signals = new ConcurrentLinkedQueue<>();
+            this.dispatching = new AtomicBoolean();
+        } else {
+            this.signals = null;
+            this.dispatching = null;
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        if (!cancelled) {
+            receiver.handleSubscriptionRequest(this, n);
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            receiver.handleSubscriptionCancelled(this);
+        }
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    //----- Connection executor API
+
+    long demand() {
+        return demand;
+    }
+
+    boolean hasDemand() {
+        return demand > 0 && !cancelled && !terminated;
+    }
+
+    void addDemand(long n) {
+        demand += n;
+        if (demand < 0) {
+            demand = Long.MAX_VALUE;
+        }
+    }
+
+    void start() {
+        signal(() -> {
+            subscribed = true;
+            subscriber.onSubscribe(this);
+        });
+    }
+
+    void next(ClientDelivery delivery) {
+        demand--;
+        signal(() -> subscriber.onNext(delivery));
+    }
+
+    void complete() {
+        if (!terminated) {
+            terminated = true;
+            signal(() -> subscriber.onComplete());
+        }
+    }
+
+    void fail(Throwable cause) {
+        if (!terminated) {
+            terminated = true;
+            signal(() -> subscriber.onError(cause));
+        }
+    }
+
+    //----- Private signal dispatch
+
+    private void signal(Runnable signal) {
+        if (dispatcher == null) {
+            runSignal(signal);
+        } else if (!dispatchRejected) {
+            signals.offer(signal);
+            scheduleDispatch();
+        }
+    }
+
+    private void scheduleDispatch() {
+        if (dispatching.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::dispatchSignals);
+            } catch (Exception ex) {
+                LOG.debug("Dispatch executor rejected subscriber signal dispatch: ", ex);
+                handleDispatchRejected(ex);
+            }
+        }
+    }
+
+    private void handleDispatchRejected(Exception cause) {
+        // The dispatching flag is left set so no further dispatch is attempted and no other
+        // thread can be running a signal while the terminal error is delivered from here.
+        dispatchRejected = true;
+        signals.clear();
+
+        final boolean wasCancelled = cancelled;
+
+        cancel();
+
+        if (!wasCancelled) {
+            if (!subscribed) {
+                subscribed = true;
+                runSignal(() -> subscriber.onSubscribe(this));
+            }
+
+            runSignal(() -> subscriber.onError(
+                new ClientException("Dispatch executor rejected delivery to the subscriber", cause)));
+        }
+    }
+
+    private void dispatchSignals() {
+        Runnable signal;
+        while ((signal = signals.poll()) != null) {
+            runSignal(signal);
+        }
+
+        dispatching.set(false);
+
+        if (!signals.isEmpty()) {
+            scheduleDispatch();
+        }
+    }
+
+    private void runSignal(Runnable signal) {
+        try {
+            signal.run();
+        } catch (Throwable error) {
+            LOG.debug("Delivery subscriber threw from signal handler, cancelling subscription: ", error);
+            cancel();
+        }
+    }
+}
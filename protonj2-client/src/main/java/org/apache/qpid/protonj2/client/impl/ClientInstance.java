@@ -25,19 +25,33 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
 
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.BufferPoolMetrics;
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.ClientOptions;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.ReceiverPool;
+import org.apache.qpid.protonj2.client.ReceiverPoolOptions;
+import org.apache.qpid.protonj2.client.SslOptions;
+import org.apache.qpid.protonj2.client.TransportOptions;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.client.futures.ClientFutureFactory;
+import org.apache.qpid.protonj2.client.transport.IOContext;
+import org.apache.qpid.protonj2.client.transport.IOGroup;
 import org.apache.qpid.protonj2.client.util.IdGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+
 /**
  * Container of {@link Connection} instances that are all created with the same
  * container parent and therefore share the same container Id.
@@ -48,6 +62,7 @@ public final class ClientInstance implements Client {
 
     private static final IdGenerator CONTAINER_ID_GENERATOR = new IdGenerator();
     private static final ClientFutureFactory FUTURES = ClientFutureFactory.create(ClientFutureFactory.CONSERVATIVE);
+    private static final ClientFutureFactory PARKING_FUTURES = ClientFutureFactory.create(ClientFutureFactory.LIGHTWEIGHT);
     private static final AtomicIntegerFieldUpdater<ClientInstance> CLOSED_UPDATER =
             AtomicIntegerFieldUpdater.newUpdater(ClientInstance.class, "closed");
 
@@ -56,8 +71,10 @@ public final class ClientInstance implements Client {
     private final ConnectionOptions defaultConnectionOptions = new ConnectionOptions();
     private final Map<String, ClientConnection> connections = new HashMap<>();
     private final String clientUniqueId = CONTAINER_ID_GENERATOR.generateId();
-    private final ClientFuture<Client> closedFuture = FUTURES.createFuture();
+    private final ClientFuture<Client> closedFuture;
+    private final ProtonBufferAllocator sendBufferAllocator;
 
+    private IOGroup sharedIOGroup;
     private volatile int closed;
 
     /**
@@ -85,6 +102,9 @@ public final class ClientInstance implements Client {
      */
     ClientInstance(ClientOptions options) {
         this.options = options;
+        this.closedFuture = options.virtualThreadFriendly() ? PARKING_FUTURES.createFuture() : FUTURES.createFuture();
+        this.sendBufferAllocator = options.pooledSendBuffers() ?
+            Netty4ProtonBufferAllocator.POOLED : ProtonBufferAllocator.defaultAllocator();
     }
 
     @SuppressWarnings("resource")
@@ -115,11 +135,43 @@ public final class ClientInstance implements Client {
         return addConnection(new ClientConnection(this, host, -1, new ConnectionOptions(options)).connect());
     }
 
+    @Override
+    public ReceiverPool openReceiverPool(String address, Consumer<Delivery> handler, Connection... connections) throws ClientException {
+        return openReceiverPool(address, handler, null, connections);
+    }
+
+    @Override
+    public ReceiverPool openReceiverPool(String address, Consumer<Delivery> handler, ReceiverPoolOptions options, Connection... connections) throws ClientException {
+        checkClosed();
+        Objects.requireNonNull(address, "Receiver pool address must be non-null");
+        Objects.requireNonNull(handler, "Receiver pool delivery handler must be non-null");
+
+        if (connections == null || connections.length == 0) {
+            throw new IllegalArgumentException("At least one connection is required to create a receiver pool");
+        }
+
+        return new ClientReceiverPool(address, handler, new ReceiverPoolOptions(options), connections).open();
+    }
+
     @Override
     public String containerId() {
         return options.id();
     }
 
+    @Override
+    public BufferPoolMetrics bufferPoolMetrics() {
+        final PooledByteBufAllocatorMetric metric =
+            ((PooledByteBufAllocator) ((Netty4ProtonBufferAllocator) Netty4ProtonBufferAllocator.POOLED).allocator()).metric();
+
+        return new BufferPoolMetrics(options.pooledSendBuffers(),
+                                     metric.usedDirectMemory(),
+                                     metric.usedHeapMemory(),
+                                     metric.numDirectArenas(),
+                                     metric.numHeapArenas(),
+                                     metric.numThreadLocalCaches(),
+                                     metric.chunkSize());
+    }
+
     String getClientUniqueId() {
         return clientUniqueId;
     }
@@ -128,6 +180,10 @@ public final class ClientInstance implements Client {
         return options;
     }
 
+    ProtonBufferAllocator sendBufferAllocator() {
+        return sendBufferAllocator;
+    }
+
     @Override
     public void close() {
         try {
@@ -141,6 +197,7 @@ public final class ClientInstance implements Client {
     public synchronized Future<Client> closeAsync() {
         if (CLOSED_UPDATER.compareAndSet(this, 0, 1)) {
             if (connections.isEmpty()) {
+                shutdownSharedIOGroup();
                 closedFuture.complete(this);
             } else {
                 // Make a copy as the connection close will modify the connections
@@ -175,6 +232,24 @@ public final class ClientInstance implements Client {
         return getClientUniqueId() + ":" + CONNECTION_COUNTER.incrementAndGet();
     }
 
+    synchronized IOContext createIOContext(TransportOptions transportOptions, SslOptions sslOptions, String ioThreadName) {
+        if (options.sharedIOThreads() > 0) {
+            if (sharedIOGroup == null) {
+                sharedIOGroup = IOGroup.create(options.sharedIOThreads(), "protonj2 Client :(" + clientUniqueId + "): Shared I/O Thread");
+            }
+
+            return sharedIOGroup.newContext(transportOptions, sslOptions);
+        } else {
+            return IOContext.create(transportOptions, sslOptions, ioThreadName);
+        }
+    }
+
+    private void shutdownSharedIOGroup() {
+        if (sharedIOGroup != null) {
+            sharedIOGroup.shutdownAsync();
+        }
+    }
+
     private synchronized ClientConnection addConnection(ClientConnection connection) {
         connections.put(connection.getId(), connection);
         return connection;
@@ -183,6 +258,7 @@ public final class ClientInstance implements Client {
     synchronized void unregisterConnection(ClientConnection connection) {
         connections.remove(connection.getId());
         if (isClosed() && connections.isEmpty()) {
+            shutdownSharedIOGroup();
             closedFuture.complete(this);
         }
     }
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.KeyedDispatchOptions;
+import org.apache.qpid.protonj2.client.KeyedDispatcher;
+import org.apache.qpid.protonj2.client.util.TrackableThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client {@link KeyedDispatcher} implementation that subscribes to the delivery publisher of a
+ * {@link ClientReceiver} and hashes each delivery into one of a fixed set of serial lanes.
+ * <p>
+ * Each lane queues its deliveries and runs on the configured executor only while it has work, at
+ * most one pool thread runs a given lane at any time which keeps the deliveries of a lane in order.
+ * Handled deliveries are handed back to the receiver in batches that are accepted on the connection
+ * executor, and the demand signaled to the receiver is only returned once the batch is settled.
+ */
+final class ClientKeyedDispatcher implements KeyedDispatcher, Flow.Subscriber<Delivery> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientKeyedDispatcher.class);
+
+    /*
+     * Limit on deliveries a lane handles before handing its thread back to the executor so
+     * that busy lanes cannot starve the others when there are more lanes than threads.
+     */
+    private static final int LANE_BATCH_LIMIT = 32;
+
+    private final ClientReceiver receiver;
+    private final Consumer<Delivery> handler;
+    private final KeyedDispatchOptions options;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final Lane[] lanes;
+    private final Queue<ClientDelivery> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean settling = new AtomicBoolean();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private volatile Flow.Subscription subscription;
+    private volatile boolean closed;
+
+    ClientKeyedDispatcher(ClientReceiver receiver, Consumer<Delivery> handler, KeyedDispatchOptions options) {
+        this.receiver = receiver;
+        this.handler = handler;
+        this.options = options;
+        this.lanes = new Lane[options.lanes()];
+
+        for (int i = 0; i < lanes.length; ++i) {
+            lanes[i] = new Lane();
+        }
+
+        if (options.executor() != null) {
+            this.executor = options.executor();
+            this.ownedExecutor = null;
+        } else {
+            this.ownedExecutor = Executors.newFixedThreadPool(
+                Math.min(lanes.length, Runtime.getRuntime().availableProcessors()),
+                new TrackableThreadFactory("protonj2 Keyed Dispatcher :(" + receiver.getId() + ")", true));
+            this.executor = ownedExecutor;
+        }
+    }
+
+    @Override
+    public int lanes() {
+        return lanes.length;
+    }
+
+    @Override
+    public int pendingDeliveries() {
+        return pending.get();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+
+            final Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+
+            shutdownOwnedExecutor();
+        }
+    }
+
+    //----- Flow.Subscriber implementation called from the receiver
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (closed) {
+            subscription.cancel();
+        } else {
+            subscription.request(options.maxPendingDeliveries());
+        }
+    }
+
+    @Override
+    public void onNext(Delivery delivery) {
+        if (closed) {
+            releaseQuietly(delivery);
+        } else {
+            pending.incrementAndGet();
+            lanes[laneIndex(delivery)].offer((ClientDelivery) delivery);
+        }
+    }
+
+    @Override
+    public void onError(Throwable cause) {
+        LOG.debug("Keyed dispatcher receiver failed: ", cause);
+        closed = true;
+        shutdownOwnedExecutor();
+    }
+
+    @Override
+    public void onComplete() {
+        closed = true;
+        shutdownOwnedExecutor();
+    }
+
+    //----- Internal dispatch implementation
+
+    private int laneIndex(Delivery delivery) {
+        Object key;
+
+        try {
+            key = options.keyExtractor().extractKey(delivery);
+        } catch (Exception ex) {
+            LOG.trace("Keyed dispatcher failed to read delivery key, using the default lane: ", ex);
+            key = null;
+        }
+
+        if (key == null) {
+            return 0;
+        }
+
+        // Spread the key hash so keys that differ only in the high bits still use all lanes
+        final int hash = key.hashCode() * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    private void handle(ClientDelivery delivery) {
+        boolean failed = false;
+
+        try {
+            handler.accept(delivery);
+        } catch (Throwable error) {
+            LOG.debug("Keyed dispatcher delivery handler failed: ", error);
+            failed = true;
+        } finally {
+            pending.decrementAndGet();
+        }
+
+        if (failed && options.autoAccept()) {
+            releaseQuietly(delivery);
+            returnDemand(1);
+        } else if (options.autoAccept()) {
+            completed.offer(delivery);
+            scheduleSettlement();
+        } else {
+            returnDemand(1);
+        }
+    }
+
+    private void scheduleSettlement() {
+        if (settling.compareAndSet(false, true)) {
+            try {
+                receiver.acceptDispatched(completed, this::settlementComplete);
+            } catch (Exception ex) {
+                LOG.debug("Keyed dispatcher could not settle handled deliveries: ", ex);
+                completed.clear();
+                settling.set(false);
+            }
+        }
+    }
+
+    private void settlementComplete(int settled) {
+        settling.set(false);
+
+        if (!completed.isEmpty()) {
+            scheduleSettlement();
+        }
+
+        returnDemand(settled);
+    }
+
+    private void returnDemand(int count) {
+        final Flow.Subscription current = subscription;
+        if (count > 0 && current != null && !closed) {
+            try {
+                current.request(count);
+            } catch (Exception ex) {
+                LOG.trace("Error while returning demand to receiver, ignoring", ex);
+            }
+        }
+    }
+
+    private void releaseQuietly(Delivery delivery) {
+        try {
+            delivery.release();
+        } catch (Exception ignored) {
+            LOG.trace("Error while releasing delivery from keyed dispatcher, ignoring", ignored);
+        }
+    }
+
+    private void shutdownOwnedExecutor() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /*
+     * Serial lane that runs on the executor only while it has queued deliveries.
+     */
+    private final class Lane implements Runnable {
+
+        private final Queue<ClientDelivery> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void offer(ClientDelivery delivery) {
+            queue.offer(delivery);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (Exception ex) {
+                    LOG.debug("Keyed dispatcher executor rejected lane, releasing its deliveries: ", ex);
+                    ClientDelivery delivery;
+                    while ((delivery = queue.poll()) != null) {
+                        pending.decrementAndGet();
+                        releaseQuietly(delivery);
+                    }
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            ClientDelivery delivery;
+            int handled = 0;
+
+            while (handled++ < LANE_BATCH_LIMIT && (delivery = queue.poll()) != null) {
+                handle(delivery);
+            }
+
+            scheduled.set(false);
+
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
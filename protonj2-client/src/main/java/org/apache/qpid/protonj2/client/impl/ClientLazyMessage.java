@@ -0,0 +1,802 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBuffer;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.codec.Decoder;
+import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.messaging.ApplicationPropertiesTypeDecoder;
+import org.apache.qpid.protonj2.engine.util.StringUtils;
+import org.apache.qpid.protonj2.types.messaging.AmqpSequence;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Footer;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+
+/**
+ * Client {@link AdvancedMessage} implementation used for received messages when lazy decoding
+ * has been requested. The encoded message is scanned once to record where each section starts
+ * and ends and a section is only decoded the first time any API that touches it is called. A
+ * single application property lookup scans the encoded map for the requested key and caches
+ * the result so that the full map is only decoded when it is iterated or modified.
+ * <p>
+ * Sections that have not been decoded when the message is encoded again (for instance when it
+ * is forwarded through a {@link ClientSender}) are copied as raw bytes from the original payload.
+ *
+ * @param <E> the body type that the {@link Message} carries
+ */
+public final class ClientLazyMessage<E> implements AdvancedMessage<E> {
+
+    private static final int HEADER = 0;
+    private static final int DELIVERY_ANNOTATIONS = 1;
+    private static final int MESSAGE_ANNOTATIONS = 2;
+    private static final int PROPERTIES = 3;
+    private static final int APPLICATION_PROPERTIES = 4;
+    private static final int BODY = 5;
+    private static final int FOOTER = 6;
+
+    private static final int SECTION_COUNT = 7;
+
+    private static final Object NOT_PRESENT = new Object();
+
+    private final ClientMessage<E> message = new ClientMessage<>();
+    private final Decoder decoder;
+    private final DecoderState decoderState;
+    private ProtonBuffer payload;
+    private final int encodedSize;
+
+    private final int[] offsets = new int[SECTION_COUNT];
+    private final int[] lengths = new int[SECTION_COUNT];
+
+    // Bit mask of sections present in the payload that have not yet been decoded
+    private int undecoded;
+
+    private DeliveryAnnotations deliveryAnnotations;
+    private Map<String, Object> scannedProperties;
+
+    private ClientLazyMessage(Decoder decoder, DecoderState decoderState, ProtonBuffer payload) {
+        this.decoder = decoder;
+        this.decoderState = decoderState;
+        this.payload = payload;
+        this.encodedSize = payload.getReadableBytes();
+
+        Arrays.fill(offsets, -1);
+    }
+
+    /**
+     * Creates a new {@link ClientLazyMessage} from the given encoded message bytes, the payload
+     * is scanned once to locate each section but no section values are decoded. The returned
+     * message takes ownership of the given payload buffer and closes it once every section has
+     * been decoded or once the owning delivery releases it.
+     *
+     * @param <V> The type of the body value carried in this message.
+     *
+     * @param decoder
+     *      The {@link Decoder} used to scan and later decode the message sections.
+     * @param decoderState
+     *      The {@link DecoderState} that is used for all decode operations of this message.
+     * @param payload
+     *      The encoded bytes of the message that will be lazily decoded.
+     *
+     * @return a new {@link ClientLazyMessage} that wraps the given payload.
+     *
+     * @throws ClientException if an error occurs while scanning the encoded message sections.
+     */
+    public static <V> ClientLazyMessage<V> create(Decoder decoder, DecoderState decoderState, ProtonBuffer payload) throws ClientException {
+        final ClientLazyMessage<V> message = new ClientLazyMessage<>(decoder, decoderState, payload);
+
+        int previousSection = -1;
+
+        while (payload.isReadable()) {
+            final int sectionStart = payload.getReadOffset();
+            final TypeDecoder<?> typeDecoder;
+
+            try {
+                typeDecoder = decoder.readNextTypeDecoder(payload, decoderState);
+                typeDecoder.skipValue(payload, decoderState);
+            } catch (Exception e) {
+                throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+            } finally {
+                decoderState.reset();
+            }
+
+            final int section = sectionIndexOf(typeDecoder.getTypeClass());
+            final int sectionLength = payload.getReadOffset() - sectionStart;
+
+            if (section == BODY && previousSection == BODY) {
+                message.lengths[BODY] += sectionLength;
+            } else if (section == BODY && message.offsets[BODY] >= 0) {
+                throw new ClientException("Message body sections must be encoded contiguously.");
+            } else if (section != BODY && message.offsets[section] >= 0) {
+                throw new ClientException("Message section " + typeDecoder.getTypeClass().getSimpleName() + " was encoded more than once.");
+            } else if (section < BODY && message.offsets[BODY] >= 0) {
+                throw new ClientException("Message section " + typeDecoder.getTypeClass().getSimpleName() + " was encoded after the message body.");
+            } else {
+                message.offsets[section] = sectionStart;
+                message.lengths[section] = sectionLength;
+                message.undecoded |= 1 << section;
+            }
+
+            previousSection = section;
+        }
+
+        message.releasePayloadIfFullyDecoded();
+
+        return message;
+    }
+
+    @Override
+    public AdvancedMessage<E> toAdvancedMessage() {
+        return this;
+    }
+
+    //----- Message Header API
+
+    @Override
+    public boolean durable() throws ClientException {
+        return decoded(HEADER).durable();
+    }
+
+    @Override
+    public ClientLazyMessage<E> durable(boolean durable) throws ClientException {
+        decoded(HEADER).durable(durable);
+        return this;
+    }
+
+    @Override
+    public byte priority() throws ClientException {
+        return decoded(HEADER).priority();
+    }
+
+    @Override
+    public ClientLazyMessage<E> priority(byte priority) throws ClientException {
+        decoded(HEADER).priority(priority);
+        return this;
+    }
+
+    @Override
+    public long timeToLive() throws ClientException {
+        return decoded(HEADER).timeToLive();
+    }
+
+    @Override
+    public ClientLazyMessage<E> timeToLive(long timeToLive) throws ClientException {
+        decoded(HEADER).timeToLive(timeToLive);
+        return this;
+    }
+
+    @Override
+    public boolean firstAcquirer() throws ClientException {
+        return decoded(HEADER).firstAcquirer();
+    }
+
+    @Override
+    public ClientLazyMessage<E> firstAcquirer(boolean firstAcquirer) throws ClientException {
+        decoded(HEADER).firstAcquirer(firstAcquirer);
+        return this;
+    }
+
+    @Override
+    public long deliveryCount() throws ClientException {
+        return decoded(HEADER).deliveryCount();
+    }
+
+    @Override
+    public ClientLazyMessage<E> deliveryCount(long deliveryCount) throws ClientException {
+        decoded(HEADER).deliveryCount(deliveryCount);
+        return this;
+    }
+
+    //----- Message Properties access
+
+    @Override
+    public Object messageId() throws ClientException {
+        return decoded(PROPERTIES).messageId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> messageId(Object messageId) throws ClientException {
+        decoded(PROPERTIES).messageId(messageId);
+        return this;
+    }
+
+    @Override
+    public byte[] userId() throws ClientException {
+        return decoded(PROPERTIES).userId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> userId(byte[] userId) throws ClientException {
+        decoded(PROPERTIES).userId(userId);
+        return this;
+    }
+
+    @Override
+    public String to() throws ClientException {
+        return decoded(PROPERTIES).to();
+    }
+
+    @Override
+    public ClientLazyMessage<E> to(String to) throws ClientException {
+        decoded(PROPERTIES).to(to);
+        return this;
+    }
+
+    @Override
+    public String subject() throws ClientException {
+        return decoded(PROPERTIES).subject();
+    }
+
+    @Override
+    public ClientLazyMessage<E> subject(String subject) throws ClientException {
+        decoded(PROPERTIES).subject(subject);
+        return this;
+    }
+
+    @Override
+    public String replyTo() throws ClientException {
+        return decoded(PROPERTIES).replyTo();
+    }
+
+    @Override
+    public ClientLazyMessage<E> replyTo(String replyTo) throws ClientException {
+        decoded(PROPERTIES).replyTo(replyTo);
+        return this;
+    }
+
+    @Override
+    public Object correlationId() throws ClientException {
+        return decoded(PROPERTIES).correlationId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> correlationId(Object correlationId) throws ClientException {
+        decoded(PROPERTIES).correlationId(correlationId);
+        return this;
+    }
+
+    @Override
+    public String contentType() throws ClientException {
+        return decoded(PROPERTIES).contentType();
+    }
+
+    @Override
+    public ClientLazyMessage<E> contentType(String contentType) throws ClientException {
+        decoded(PROPERTIES).contentType(contentType);
+        return this;
+    }
+
+    @Override
+    public String contentEncoding() throws ClientException {
+        return decoded(PROPERTIES).contentEncoding();
+    }
+
+    @Override
+    public ClientLazyMessage<E> contentEncoding(String contentEncoding) throws ClientException {
+        decoded(PROPERTIES).contentEncoding(contentEncoding);
+        return this;
+    }
+
+    @Override
+    public long absoluteExpiryTime() throws ClientException {
+        return decoded(PROPERTIES).absoluteExpiryTime();
+    }
+
+    @Override
+    public ClientLazyMessage<E> absoluteExpiryTime(long expiryTime) throws ClientException {
+        decoded(PROPERTIES).absoluteExpiryTime(expiryTime);
+        return this;
+    }
+
+    @Override
+    public long creationTime() throws ClientException {
+        return decoded(PROPERTIES).creationTime();
+    }
+
+    @Override
+    public ClientLazyMessage<E> creationTime(long createTime) throws ClientException {
+        decoded(PROPERTIES).creationTime(createTime);
+        return this;
+    }
+
+    @Override
+    public String groupId() throws ClientException {
+        return decoded(PROPERTIES).groupId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> groupId(String groupId) throws ClientException {
+        decoded(PROPERTIES).groupId(groupId);
+        return this;
+    }
+
+    @Override
+    public int groupSequence() throws ClientException {
+        return decoded(PROPERTIES).groupSequence();
+    }
+
+    @Override
+    public ClientLazyMessage<E> groupSequence(int groupSequence) throws ClientException {
+        decoded(PROPERTIES).groupSequence(groupSequence);
+        return this;
+    }
+
+    @Override
+    public String replyToGroupId() throws ClientException {
+        return decoded(PROPERTIES).replyToGroupId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> replyToGroupId(String replyToGroupId) throws ClientException {
+        decoded(PROPERTIES).replyToGroupId(replyToGroupId);
+        return this;
+    }
+
+    //----- Message Annotations Access
+
+    @Override
+    public Object annotation(String key) throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).annotation(key);
+    }
+
+    @Override
+    public boolean hasAnnotation(String key) throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).hasAnnotation(key);
+    }
+
+    @Override
+    public boolean hasAnnotations() throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).hasAnnotations();
+    }
+
+    @Override
+    public Object removeAnnotation(String key) throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).removeAnnotation(key);
+    }
+
+    @Override
+    public ClientLazyMessage<E> forEachAnnotation(BiConsumer<String, Object> action) throws ClientException {
+        decoded(MESSAGE_ANNOTATIONS).forEachAnnotation(action);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> annotation(String key, Object value) throws ClientException {
+        decoded(MESSAGE_ANNOTATIONS).annotation(key, value);
+        return this;
+    }
+
+    //----- Application Properties Access
+
+    @Override
+    public Object property(String key) throws ClientException {
+        if (isUndecoded(APPLICATION_PROPERTIES)) {
+            final Object value = scanForProperty(key);
+            return value != NOT_PRESENT ? value : null;
+        } else {
+            return message.property(key);
+        }
+    }
+
+    @Override
+    public boolean hasProperty(String key) throws ClientException {
+        if (isUndecoded(APPLICATION_PROPERTIES)) {
+            return scanForProperty(key) != NOT_PRESENT;
+        } else {
+            return message.hasProperty(key);
+        }
+    }
+
+    @Override
+    public boolean hasProperties() throws ClientException {
+        return decoded(APPLICATION_PROPERTIES).hasProperties();
+    }
+
+    @Override
+    public Object removeProperty(String key) throws ClientException {
+        return decoded(APPLICATION_PROPERTIES).removeProperty(key);
+    }
+
+    @Override
+    public ClientLazyMessage<E> forEachProperty(BiConsumer<String, Object> action) throws ClientException {
+        decoded(APPLICATION_PROPERTIES).forEachProperty(action);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> property(String key, Object value) throws ClientException {
+        decoded(APPLICATION_PROPERTIES).property(key, value);
+        return this;
+    }
+
+    //----- Footer Access
+
+    @Override
+    public Object footer(String key) throws ClientException {
+        return decoded(FOOTER).footer(key);
+    }
+
+    @Override
+    public boolean hasFooter(String key) throws ClientException {
+        return decoded(FOOTER).hasFooter(key);
+    }
+
+    @Override
+    public boolean hasFooters() throws ClientException {
+        return decoded(FOOTER).hasFooters();
+    }
+
+    @Override
+    public Object removeFooter(String key) throws ClientException {
+        return decoded(FOOTER).removeFooter(key);
+    }
+
+    @Override
+    public ClientLazyMessage<E> forEachFooter(BiConsumer<String, Object> action) throws ClientException {
+        decoded(FOOTER).forEachFooter(action);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> footer(String key, Object value) throws ClientException {
+        decoded(FOOTER).footer(key, value);
+        return this;
+    }
+
+    //----- Message body access
+
+    @Override
+    public E body() throws ClientException {
+        return decoded(BODY).body();
+    }
+
+    @Override
+    public ClientLazyMessage<E> body(E value) throws ClientException {
+        replaced(BODY).body(value);
+        return this;
+    }
+
+    //----- AdvancedMessage API
+
+    @Override
+    public Header header() throws ClientException {
+        return decoded(HEADER).header();
+    }
+
+    @Override
+    public ClientLazyMessage<E> header(Header header) throws ClientException {
+        replaced(HEADER).header(header);
+        return this;
+    }
+
+    @Override
+    public MessageAnnotations annotations() throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).annotations();
+    }
+
+    @Override
+    public ClientLazyMessage<E> annotations(MessageAnnotations messageAnnotations) throws ClientException {
+        replaced(MESSAGE_ANNOTATIONS).annotations(messageAnnotations);
+        return this;
+    }
+
+    @Override
+    public Properties properties() throws ClientException {
+        return decoded(PROPERTIES).properties();
+    }
+
+    @Override
+    public ClientLazyMessage<E> properties(Properties properties) throws ClientException {
+        replaced(PROPERTIES).properties(properties);
+        return this;
+    }
+
+    @Override
+    public ApplicationProperties applicationProperties() throws ClientException {
+        return decoded(APPLICATION_PROPERTIES).applicationProperties();
+    }
+
+    @Override
+    public ClientLazyMessage<E> applicationProperties(ApplicationProperties applicationProperties) throws ClientException {
+        replaced(APPLICATION_PROPERTIES).applicationProperties(applicationProperties);
+        return this;
+    }
+
+    @Override
+    public Footer footer() throws ClientException {
+        return decoded(FOOTER).footer();
+    }
+
+    @Override
+    public ClientLazyMessage<E> footer(Footer footer) throws ClientException {
+        replaced(FOOTER).footer(footer);
+        return this;
+    }
+
+    @Override
+    public int messageFormat() {
+        return message.messageFormat();
+    }
+
+    @Override
+    public ClientLazyMessage<E> messageFormat(int messageFormat) {
+        message.messageFormat(messageFormat);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> addBodySection(Section<?> bodySection) throws ClientException {
+        decoded(BODY).addBodySection(bodySection);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> bodySections(Collection<Section<?>> sections) throws ClientException {
+        replaced(BODY).bodySections(sections);
+        return this;
+    }
+
+    @Override
+    public Collection<Section<?>> bodySections() throws ClientException {
+        return decoded(BODY).bodySections();
+    }
+
+    @Override
+    public ClientLazyMessage<E> forEachBodySection(Consumer<Section<?>> consumer) throws ClientException {
+        decoded(BODY).forEachBodySection(consumer);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> clearBodySections() throws ClientException {
+        replaced(BODY).clearBodySections();
+        return this;
+    }
+
+    @Override
+    public synchronized ProtonBuffer encode(Map<String, Object> deliveryAnnotations, ProtonBufferAllocator allocator) throws ClientException {
+        final ProtonBuffer buffer = allocator.outputBuffer(encodedSize);
+
+        writeSection(buffer, HEADER, message.header());
+        if (deliveryAnnotations != null) {
+            ClientMessageSupport.encodeSection(new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)), buffer);
+        }
+        writeSection(buffer, MESSAGE_ANNOTATIONS, message.annotations());
+        writeSection(buffer, PROPERTIES, message.properties());
+        writeSection(buffer, APPLICATION_PROPERTIES, message.applicationProperties());
+
+        if (isUndecoded(BODY)) {
+            writeRawSection(buffer, BODY);
+        } else {
+            message.forEachBodySection(section -> ClientMessageSupport.encodeSection(section, buffer));
+        }
+
+        writeSection(buffer, FOOTER, message.footer());
+
+        return buffer.convertToReadOnly();
+    }
+
+    //----- Internal API not meant to be used from outside the client package.
+
+    /**
+     * @return the {@link DeliveryAnnotations} that were encoded in the message or null if none were present.
+     *
+     * @throws ClientException if an error occurs while decoding the delivery annotations.
+     */
+    synchronized DeliveryAnnotations deliveryAnnotations() throws ClientException {
+        if (isUndecoded(DELIVERY_ANNOTATIONS)) {
+            deliveryAnnotations = (DeliveryAnnotations) decodeSection(DELIVERY_ANNOTATIONS);
+            markDecoded(DELIVERY_ANNOTATIONS);
+        }
+
+        return deliveryAnnotations;
+    }
+
+    /**
+     * Releases the payload buffer this message was created from.  Any sections that have not yet been
+     * decoded are first copied into a heap buffer so that the message remains fully usable after the
+     * delivery that owned the original (possibly pooled) payload has been settled or discarded.
+     * <p>
+     * This can be called from the connection thread (for instance when the receiver is closed) while
+     * an application thread is still lazily decoding sections, so it shares the monitor of this message
+     * with every operation that reads from the payload.
+     */
+    synchronized void detachPayload() {
+        if (payload.isClosed() || payload instanceof ProtonByteArrayBuffer) {
+            return;
+        }
+
+        final ProtonBuffer original = payload;
+        final int length = original.getWriteOffset();
+
+        try (original) {
+            payload = ProtonBufferAllocator.defaultAllocator().allocateHeapBuffer(length);
+            original.copyInto(0, payload, 0, length);
+            payload.setWriteOffset(length);
+        }
+    }
+
+    //----- Internal implementation
+
+    private boolean isUndecoded(int section) {
+        return (undecoded & (1 << section)) != 0;
+    }
+
+    private synchronized ClientMessage<E> decoded(int section) throws ClientException {
+        if (isUndecoded(section)) {
+            switch (section) {
+                case HEADER:
+                    message.header((Header) decodeSection(HEADER));
+                    break;
+                case MESSAGE_ANNOTATIONS:
+                    message.annotations((MessageAnnotations) decodeSection(MESSAGE_ANNOTATIONS));
+                    break;
+                case PROPERTIES:
+                    message.properties((Properties) decodeSection(PROPERTIES));
+                    break;
+                case APPLICATION_PROPERTIES:
+                    message.applicationProperties((ApplicationProperties) decodeSection(APPLICATION_PROPERTIES));
+                    scannedProperties = null;
+                    break;
+                case BODY:
+                    decodeBodySections();
+                    break;
+                case FOOTER:
+                    message.footer((Footer) decodeSection(FOOTER));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown message section index: " + section);
+            }
+
+            markDecoded(section);
+        }
+
+        return message;
+    }
+
+    private synchronized ClientMessage<E> replaced(int section) {
+        if (section == APPLICATION_PROPERTIES) {
+            scannedProperties = null;
+        }
+
+        markDecoded(section);
+
+        return message;
+    }
+
+    private void markDecoded(int section) {
+        if (isUndecoded(section)) {
+            undecoded &= ~(1 << section);
+            releasePayloadIfFullyDecoded();
+        }
+    }
+
+    private void releasePayloadIfFullyDecoded() {
+        if (undecoded == 0) {
+            payload.close();
+        }
+    }
+
+    private Object decodeSection(int section) throws ClientException {
+        payload.setReadOffset(offsets[section]);
+
+        try {
+            return decoder.readObject(payload, decoderState);
+        } catch (Exception e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        } finally {
+            decoderState.reset();
+        }
+    }
+
+    private void decodeBodySections() throws ClientException {
+        final int bodyEnd = offsets[BODY] + lengths[BODY];
+
+        payload.setReadOffset(offsets[BODY]);
+
+        try {
+            while (payload.getReadOffset() < bodyEnd) {
+                message.addBodySection((Section<?>) decoder.readObject(payload, decoderState));
+                decoderState.reset();
+            }
+        } catch (Exception e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        } finally {
+            decoderState.reset();
+        }
+    }
+
+    private synchronized Object scanForProperty(String key) throws ClientException {
+        if (scannedProperties == null) {
+            scannedProperties = new HashMap<>();
+        } else if (scannedProperties.containsKey(key)) {
+            return scannedProperties.get(key);
+        }
+
+        payload.setReadOffset(offsets[APPLICATION_PROPERTIES]);
+
+        try {
+            final ApplicationPropertiesTypeDecoder typeDecoder =
+                (ApplicationPropertiesTypeDecoder) decoder.readNextTypeDecoder(payload, decoderState);
+
+            scannedProperties.put(key, NOT_PRESENT);
+            typeDecoder.scanProperties(payload, decoderState,
+                ApplicationPropertiesTypeDecoder.createScanContext(key), (name, value) -> scannedProperties.put(name, value));
+        } catch (Exception e) {
+            scannedProperties.remove(key);
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        } finally {
+            decoderState.reset();
+        }
+
+        return scannedProperties.get(key);
+    }
+
+    private void writeSection(ProtonBuffer buffer, int section, Section<?> value) {
+        if (isUndecoded(section)) {
+            writeRawSection(buffer, section);
+        } else if (value != null) {
+            ClientMessageSupport.encodeSection(value, buffer);
+        }
+    }
+
+    private void writeRawSection(ProtonBuffer buffer, int section) {
+        final int length = lengths[section];
+
+        buffer.ensureWritable(length);
+        payload.copyInto(offsets[section], buffer, buffer.getWriteOffset(), length);
+        buffer.advanceWriteOffset(length);
+    }
+
+    private static int sectionIndexOf(Class<?> sectionType) throws ClientException {
+        if (sectionType == Header.class) {
+            return HEADER;
+        } else if (sectionType == DeliveryAnnotations.class) {
+            return DELIVERY_ANNOTATIONS;
+        } else if (sectionType == MessageAnnotations.class) {
+            return MESSAGE_ANNOTATIONS;
+        } else if (sectionType == Properties.class) {
+            return PROPERTIES;
+        } else if (sectionType == ApplicationProperties.class) {
+            return APPLICATION_PROPERTIES;
+        } else if (sectionType == Data.class || sectionType == AmqpSequence.class || sectionType == AmqpValue.class) {
+            return BODY;
+        } else if (sectionType == Footer.class) {
+            return FOOTER;
+        } else {
+            throw new ClientException("Unknown Message Section forced decode abort.");
+        }
+    }
+}
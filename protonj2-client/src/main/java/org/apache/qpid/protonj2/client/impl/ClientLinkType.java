@@ -157,6 +157,10 @@ public abstract class ClientLinkType<LinkType extends Link<LinkType>,
                 executor.execute(() -> {
                     if (protonLink().isLocallyOpen()) {
                         try {
+                            if (protonLink().isReceiver()) {
+                                session.getTransactionContext().flushDispositions();
+                            }
+
                             protonLink().setCondition(ClientErrorCondition.asProtonErrorCondition(error));
 
                             if (close) {
@@ -16,7 +16,10 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.qpid.protonj2.client.Session;
@@ -27,6 +30,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientTransactionDeclarationEx
 import org.apache.qpid.protonj2.client.exceptions.ClientTransactionNotActiveException;
 import org.apache.qpid.protonj2.client.exceptions.ClientTransactionRolledBackException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
+import org.apache.qpid.protonj2.client.futures.ClientSynchronization;
 import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
 import org.apache.qpid.protonj2.engine.Transaction;
@@ -34,6 +38,7 @@ import org.apache.qpid.protonj2.engine.Transaction.DischargeState;
 import org.apache.qpid.protonj2.engine.TransactionController;
 import org.apache.qpid.protonj2.engine.TransactionState;
 import org.apache.qpid.protonj2.engine.exceptions.EngineFailedException;
+import org.apache.qpid.protonj2.engine.exceptions.EngineStateException;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.messaging.Accepted;
 import org.apache.qpid.protonj2.types.messaging.Modified;
@@ -68,13 +73,18 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     private final ClientSession session;
 
     private Transaction<TransactionController> currentTxn;
+    private Transaction<TransactionController> pipelinedTxn;
     private TransactionController txnController;
 
     private TransactionalState cachedSenderOutcome;
     private TransactionalState cachedReceiverOutcome;
 
+    // Dispositions held until discharge when the session defers transacted dispositions
+    private final Queue<DeferredDisposition> deferredDispositions;
+
     ClientLocalTransactionContext(ClientSession session) {
         this.session = session;
+        this.deferredDispositions = session.options().deferTransactedDispositions() ? new ArrayDeque<>() : null;
     }
 
     @Override
@@ -87,10 +97,12 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     @Override
     public ClientLocalTransactionContext commit(ClientFuture<Session> commitFuture, boolean startNew) throws ClientIllegalStateException {
         checkCanCommitTransaction();
+        writeDeferredDispositions();
 
-        if (txnController.isLocallyOpen()) {
+        if (txnController.isLocallyOpen() && startNew) {
+            pipelineCommitAndBegin(commitFuture);
+        } else if (txnController.isLocallyOpen()) {
             currentTxn.getAttachments().set(DISCHARGE_FUTURE_NAME, commitFuture);
-            currentTxn.getAttachments().set(START_TRANSACTION_MARKER, startNew);
 
             if (session.options().requestTimeout() > 0) {
                 session.scheduleRequestTimeout(commitFuture, session.options().requestTimeout(), () -> {
@@ -123,6 +135,7 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
     @Override
     public ClientLocalTransactionContext rollback(ClientFuture<Session> rollbackFuture, boolean startNew) throws ClientIllegalStateException {
         checkCanRollbackTransaction();
+        writeDeferredDispositions();
 
         if (txnController.isLocallyOpen()) {
             currentTxn.getAttachments().set(DISCHARGE_FUTURE_NAME, rollbackFuture);
@@ -206,7 +219,11 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
                 txnOutcome = new TransactionalState().setTxnId(currentTxn.getTxnId()).setOutcome((Outcome) outcome);
             }
 
-            delivery.disposition(txnOutcome, true);
+            if (deferredDispositions != null) {
+                deferredDispositions.add(new DeferredDisposition(delivery, txnOutcome));
+            } else {
+                delivery.disposition(txnOutcome, true);
+            }
         } else {
             delivery.disposition(outcome, settled);
         }
@@ -214,6 +231,12 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
         return this;
     }
 
+    @Override
+    public ClientTransactionContext flushDispositions() {
+        writeDeferredDispositions();
+        return this;
+    }
+
     //------ Internals of Transaction State management
 
     private void beginNewTransaction(ClientFuture<Session> beginFuture) {
@@ -246,6 +269,69 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
         });
     }
 
+    private void writeDeferredDispositions() {
+        if (deferredDispositions == null || deferredDispositions.isEmpty()) {
+            return;
+        }
+
+        final org.apache.qpid.protonj2.engine.Session protonSession = session.getProtonSession();
+        final int batchLimit = protonSession.getDispositionBatchLimit();
+
+        // Lifting the session batch limit lets the engine coalesce each run of contiguous deliveries
+        // that share the cached outcome into a single ranged Disposition frame.
+        protonSession.setDispositionBatchLimit(Integer.MAX_VALUE);
+
+        try {
+            DeferredDisposition deferred;
+            while ((deferred = deferredDispositions.poll()) != null) {
+                try {
+                    deferred.delivery.disposition(deferred.state, true);
+                } catch (EngineStateException ese) {
+                    throw ese;
+                } catch (IllegalStateException ise) {
+                    LOG.trace("Deferred disposition dropped for delivery on closed link: {}", deferred.delivery);
+                }
+            }
+
+            protonSession.flushDispositions();
+        } finally {
+            deferredDispositions.clear();
+            protonSession.setDispositionBatchLimit(batchLimit);
+        }
+    }
+
+    private void pipelineCommitAndBegin(ClientFuture<Session> commitFuture) {
+        final Transaction<TransactionController> committing = currentTxn;
+        final PipelinedCommit pipeline = new PipelinedCommit(commitFuture);
+
+        committing.getAttachments().set(DISCHARGE_FUTURE_NAME, pipeline.dischargeFuture);
+
+        if (session.options().requestTimeout() > 0) {
+            session.scheduleRequestTimeout(commitFuture, session.options().requestTimeout(), () -> {
+                try {
+                    txnController.close();
+                } catch (Exception ignore) {
+                }
+
+                return new ClientTransactionRolledBackException("Timed out waiting for Transaction commit to complete");
+            });
+        }
+
+        pipelinedTxn = committing;
+
+        txnController.addCapacityAvailableHandler(controller -> {
+            try {
+                txnController.discharge(committing, false);
+            } catch (EngineFailedException efe) {
+                pipeline.dischargeFuture.failed(ClientExceptionSupport.createOrPassthroughFatal(efe));
+            }
+        });
+
+        // The declare is queued directly behind the discharge instead of waiting on the discharge
+        // outcome so both commands can be written to the coordinator in the same flush.
+        beginNewTransaction(pipeline.declareFuture);
+    }
+
     private TransactionController getOrCreateNewTxnController() {
         if (txnController == null || txnController.isLocallyClosed()) {
             Coordinator coordinator = new Coordinator();
@@ -427,28 +513,41 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
                   .parentEndpointClosedHandler(null)
                   .engineShutdownHandler(null);
 
-        if (currentTxn != null) {
-            ClientFuture<Session> future = null;
+        try {
+            writeDeferredDispositions();
+        } catch (Exception ignore) {
+            // Engine failure will be handled by the connection
+        }
 
-            switch (currentTxn.getState()) {
-                case IDLE:
-                case DECLARING:
-                    future = currentTxn.getAttachments().get(DECLARE_FUTURE_NAME);
-                    future.failed(createDeclarationErrorFromClosedCoordinator());
-                    currentTxn = null;
-                    break;
-                case DISCHARGING:
-                    future = currentTxn.getAttachments().get(DISCHARGE_FUTURE_NAME);
-                    if (currentTxn.getDischargeState() == DischargeState.COMMIT) {
-                        future.failed(createRolledBackErrorFromClosedCoordinator());
-                    } else {
-                        future.complete(session);
-                    }
-                    currentTxn = null;
-                    break;
-                default:
-                    break;
-            }
+        if (pipelinedTxn != null) {
+            failPendingTransactionOperation(pipelinedTxn);
+            pipelinedTxn = null;
+        }
+
+        if (currentTxn != null && failPendingTransactionOperation(currentTxn)) {
+            currentTxn = null;
+        }
+    }
+
+    private boolean failPendingTransactionOperation(Transaction<TransactionController> transaction) {
+        ClientFuture<Session> future = null;
+
+        switch (transaction.getState()) {
+            case IDLE:
+            case DECLARING:
+                future = transaction.getAttachments().get(DECLARE_FUTURE_NAME);
+                future.failed(createDeclarationErrorFromClosedCoordinator());
+                return true;
+            case DISCHARGING:
+                future = transaction.getAttachments().get(DISCHARGE_FUTURE_NAME);
+                if (transaction.getDischargeState() == DischargeState.COMMIT) {
+                    future.failed(createRolledBackErrorFromClosedCoordinator());
+                } else {
+                    future.complete(session);
+                }
+                return true;
+            default:
+                return false;
         }
     }
 
@@ -465,4 +564,107 @@ final class ClientLocalTransactionContext implements ClientTransactionContext {
             txnController.close();
         }
     }
+
+    //----- Deferred transacted disposition tracking
+
+    private static final class DeferredDisposition {
+
+        private final IncomingDelivery delivery;
+        private final DeliveryState state;
+
+        DeferredDisposition(IncomingDelivery delivery, DeliveryState state) {
+            this.delivery = delivery;
+            this.state = state;
+        }
+    }
+
+    //----- Pipelined commit and begin tracking
+
+    /*
+     * Tracks a commit whose discharge was written together with the declare of the next transaction,
+     * the request is only completed once the outcome of both commands has arrived from the remote.
+     */
+    private final class PipelinedCommit {
+
+        private final ClientFuture<Session> request;
+        private final ClientFuture<Session> dischargeFuture;
+        private final ClientFuture<Session> declareFuture;
+
+        private ClientException dischargeError;
+        private ClientException declareError;
+        private int pendingOutcomes = 2;
+
+        PipelinedCommit(ClientFuture<Session> request) {
+            this.request = request;
+            this.dischargeFuture = session.getFutureFactory().createFuture(new ClientSynchronization<Session>() {
+
+                @Override
+                public void onPendingSuccess(Session result) {
+                    handleOutcome();
+                }
+
+                @Override
+                public void onPendingFailure(Throwable cause) {
+                    dischargeError = unwrapFailure(cause);
+                    handleOutcome();
+                }
+            });
+            this.declareFuture = session.getFutureFactory().createFuture(new ClientSynchronization<Session>() {
+
+                @Override
+                public void onPendingSuccess(Session result) {
+                    handleOutcome();
+                }
+
+                @Override
+                public void onPendingFailure(Throwable cause) {
+                    declareError = unwrapFailure(cause);
+                    handleOutcome();
+                }
+            });
+        }
+
+        private void handleOutcome() {
+            if (--pendingOutcomes > 0) {
+                return;
+            }
+
+            pipelinedTxn = null;
+
+            if (dischargeError == null && declareError == null) {
+                request.complete(session);
+            } else if (dischargeError == null) {
+                request.failed(declareError);
+            } else if (!isInTransaction()) {
+                request.failed(dischargeError);
+            } else {
+                // The committed work was rolled back so the new transaction is rolled back as well, which
+                // leaves the session without an active transaction just as a failed commit would.
+                try {
+                    rollback(session.getFutureFactory().createFuture(new ClientSynchronization<Session>() {
+
+                        @Override
+                        public void onPendingSuccess(Session result) {
+                            request.failed(dischargeError);
+                        }
+
+                        @Override
+                        public void onPendingFailure(Throwable cause) {
+                            request.failed(dischargeError);
+                        }
+                    }), false);
+                } catch (Exception ex) {
+                    request.failed(dischargeError);
+                }
+            }
+        }
+
+        private ClientException unwrapFailure(Throwable cause) {
+            if (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+
+            return ClientExceptionSupport.createNonFatalOrPassthrough(cause);
+        }
+    }
 }
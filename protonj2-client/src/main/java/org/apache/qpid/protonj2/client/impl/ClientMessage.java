@@ -32,6 +32,7 @@ import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.codec.EncodedSection;
 import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
@@ -59,6 +60,12 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     private List<Section<?>> bodySections;
     private Footer footer;
 
+    private EncodedSection<?> frozenHeader;
+    private EncodedSection<?> frozenMessageAnnotations;
+    private EncodedSection<?> frozenProperties;
+    private EncodedSection<?> frozenApplicationProperties;
+    private EncodedSection<?> frozenFooter;
+
     private int messageFormat;
 
     /**
@@ -359,7 +366,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public Object removeAnnotation(String key) {
         if (hasAnnotations()) {
-            return messageAnnotations.getValue().remove(Symbol.valueOf(key));
+            return lazyCreateMessageAnnotations().getValue().remove(Symbol.valueOf(key));
         } else {
             return null;
         }
@@ -412,7 +419,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public Object removeProperty(String key) {
         if (hasProperties()) {
-            return applicationProperties.getValue().remove(key);
+            return lazyCreateApplicationProperties().getValue().remove(key);
         } else {
             return null;
         }
@@ -463,7 +470,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public Object removeFooter(String key) {
         if (hasFooters()) {
-            return footer.getValue().remove(Symbol.valueOf(key));
+            return lazyCreateFooter().getValue().remove(Symbol.valueOf(key));
         } else {
             return null;
         }
@@ -510,9 +517,14 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
 
     //----- Internal API
 
+    // Frozen sections can be shared with other messages so any change is made to a copy
+
     private Header lazyCreateHeader() {
         if (header == null) {
             header = new Header();
+        } else if (frozenHeader != null) {
+            header = header.copy();
+            frozenHeader = null;
         }
 
         return header;
@@ -521,6 +533,9 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     private Properties lazyCreateProperties() {
         if (properties == null) {
             properties = new Properties();
+        } else if (frozenProperties != null) {
+            properties = properties.copy();
+            frozenProperties = null;
         }
 
         return properties;
@@ -529,6 +544,9 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     private ApplicationProperties lazyCreateApplicationProperties() {
         if (applicationProperties == null) {
             applicationProperties = new ApplicationProperties(new LinkedHashMap<>());
+        } else if (frozenApplicationProperties != null) {
+            applicationProperties = applicationProperties.copy();
+            frozenApplicationProperties = null;
         }
 
         return applicationProperties;
@@ -537,6 +555,9 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     private MessageAnnotations lazyCreateMessageAnnotations() {
         if (messageAnnotations == null) {
             messageAnnotations = new MessageAnnotations(new LinkedHashMap<>());
+        } else if (frozenMessageAnnotations != null) {
+            messageAnnotations = messageAnnotations.copy();
+            frozenMessageAnnotations = null;
         }
 
         return messageAnnotations;
@@ -545,6 +566,9 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     private Footer lazyCreateFooter() {
         if (footer == null) {
             footer = new Footer(new LinkedHashMap<>());
+        } else if (frozenFooter != null) {
+            footer = footer.copy();
+            frozenFooter = null;
         }
 
         return footer;
@@ -560,6 +584,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public ClientMessage<E> header(Header header) {
         this.header = header;
+        this.frozenHeader = null;
         return this;
     }
 
@@ -571,6 +596,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public ClientMessage<E> annotations(MessageAnnotations messageAnnotations) {
         this.messageAnnotations = messageAnnotations;
+        this.frozenMessageAnnotations = null;
         return this;
     }
 
@@ -582,6 +608,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public ClientMessage<E> properties(Properties properties) {
         this.properties = properties;
+        this.frozenProperties = null;
         return this;
     }
 
@@ -593,6 +620,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public ClientMessage<E> applicationProperties(ApplicationProperties applicationProperties) {
         this.applicationProperties = applicationProperties;
+        this.frozenApplicationProperties = null;
         return this;
     }
 
@@ -604,6 +632,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public ClientMessage<E> footer(Footer footer) {
         this.footer = footer;
+        this.frozenFooter = null;
         return this;
     }
 
@@ -618,11 +647,101 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
         return this;
     }
 
+    @Override
+    public ClientMessage<E> freezeSection(SectionType sectionType) throws ClientException {
+        switch (sectionType) {
+            case Header:
+                if (header != null && frozenHeader == null) {
+                    frozenHeader = ClientMessageSupport.freezeSection(header);
+                }
+                break;
+            case MessageAnnotations:
+                if (messageAnnotations != null && frozenMessageAnnotations == null) {
+                    frozenMessageAnnotations = ClientMessageSupport.freezeSection(messageAnnotations);
+                }
+                break;
+            case Properties:
+                if (properties != null && frozenProperties == null) {
+                    frozenProperties = ClientMessageSupport.freezeSection(properties);
+                }
+                break;
+            case ApplicationProperties:
+                if (applicationProperties != null && frozenApplicationProperties == null) {
+                    frozenApplicationProperties = ClientMessageSupport.freezeSection(applicationProperties);
+                }
+                break;
+            case Footer:
+                if (footer != null && frozenFooter == null) {
+                    frozenFooter = ClientMessageSupport.freezeSection(footer);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot freeze a message section of type: " + sectionType);
+        }
+
+        return this;
+    }
+
+    @Override
+    public ClientMessage<E> encodedSection(EncodedSection<?> section) throws ClientException {
+        Objects.requireNonNull(section, "Encoded Section cannot be null");
+
+        switch (section.getType()) {
+            case Header:
+                header = (Header) section.getSection();
+                frozenHeader = section;
+                break;
+            case MessageAnnotations:
+                messageAnnotations = (MessageAnnotations) section.getSection();
+                frozenMessageAnnotations = section;
+                break;
+            case Properties:
+                properties = (Properties) section.getSection();
+                frozenProperties = section;
+                break;
+            case ApplicationProperties:
+                applicationProperties = (ApplicationProperties) section.getSection();
+                frozenApplicationProperties = section;
+                break;
+            case Footer:
+                footer = (Footer) section.getSection();
+                frozenFooter = section;
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot assign an encoded message section of type: " + section.getType());
+        }
+
+        return this;
+    }
+
     @Override
     public ProtonBuffer encode(Map<String, Object> deliveryAnnotations, ProtonBufferAllocator allocator) throws ClientException {
         return ClientMessageSupport.encodeMessage(this, deliveryAnnotations, allocator);
     }
 
+    /**
+     * @param sectionType
+     *      The type of section whose frozen encoding should be returned.
+     *
+     * @return the frozen encoding of the given section type or null if that section is not frozen.
+     */
+    EncodedSection<?> frozenSection(SectionType sectionType) {
+        switch (sectionType) {
+            case Header:
+                return frozenHeader;
+            case MessageAnnotations:
+                return frozenMessageAnnotations;
+            case Properties:
+                return frozenProperties;
+            case ApplicationProperties:
+                return frozenApplicationProperties;
+            case Footer:
+                return frozenFooter;
+            default:
+                return null;
+        }
+    }
+
     @SuppressWarnings({ "unchecked" })
     @Override
     public ClientMessage<E> addBodySection(Section<?> bodySection) {
@@ -30,6 +30,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.EncodedSection;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.SectionEncoder;
@@ -46,6 +47,7 @@ import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
 
 /**
  * Support methods dealing with Message types and encode or decode operations.
@@ -114,37 +116,71 @@ public abstract class ClientMessageSupport {
     }
 
     public static ProtonBuffer encodeMessage(Encoder encoder, EncoderState encoderState, ProtonBufferAllocator allocator, AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
-        ProtonBuffer buffer = allocator.outputBuffer(DEFAULT_BUFFER_ALLOCATION);
+        final ProtonBuffer buffer = allocator.outputBuffer(DEFAULT_BUFFER_ALLOCATION);
 
-        Header header = message.header();
-        MessageAnnotations messageAnnotations = message.annotations();
-        Properties properties = message.properties();
-        ApplicationProperties applicationProperties = message.applicationProperties();
-        Footer footer = message.footer();
+        try {
+            Header header = message.header();
+            MessageAnnotations messageAnnotations = message.annotations();
+            Properties properties = message.properties();
+            ApplicationProperties applicationProperties = message.applicationProperties();
+            Footer footer = message.footer();
 
-        if (header != null) {
-            SECTION_ENCODER.write(buffer, header);
-        }
-        if (deliveryAnnotations != null) {
-            SECTION_ENCODER.write(buffer, new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)));
-        }
-        if (messageAnnotations != null) {
-            SECTION_ENCODER.write(buffer, messageAnnotations);
-        }
-        if (properties != null) {
-            SECTION_ENCODER.write(buffer, properties);
-        }
-        if (applicationProperties != null) {
-            SECTION_ENCODER.write(buffer, applicationProperties);
-        }
+            final ClientMessage<?> clientMessage = message instanceof ClientMessage ? (ClientMessage<?>) message : null;
+
+            if (header != null) {
+                SECTION_ENCODER.write(buffer, frozenOrCurrent(clientMessage, SectionType.Header, header));
+            }
+            if (deliveryAnnotations != null) {
+                SECTION_ENCODER.write(buffer, new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)));
+            }
+            if (messageAnnotations != null) {
+                SECTION_ENCODER.write(buffer, frozenOrCurrent(clientMessage, SectionType.MessageAnnotations, messageAnnotations));
+            }
+            if (properties != null) {
+                SECTION_ENCODER.write(buffer, frozenOrCurrent(clientMessage, SectionType.Properties, properties));
+            }
+            if (applicationProperties != null) {
+                SECTION_ENCODER.write(buffer, frozenOrCurrent(clientMessage, SectionType.ApplicationProperties, applicationProperties));
+            }
 
-        message.forEachBodySection(section -> SECTION_ENCODER.write(buffer, section));
+            message.forEachBodySection(section -> SECTION_ENCODER.write(buffer, section));
 
-        if (footer != null) {
-            SECTION_ENCODER.write(buffer, footer);
+            if (footer != null) {
+                SECTION_ENCODER.write(buffer, frozenOrCurrent(clientMessage, SectionType.Footer, footer));
+            }
+
+            return buffer.convertToReadOnly();
+        } catch (Throwable error) {
+            // Pooled buffers must be returned when the encode cannot complete
+            buffer.close();
+            throw error;
         }
+    }
 
-        return buffer.convertToReadOnly();
+    /**
+     * Pre-encodes the given section such that its encoding can be reused each time the
+     * message that carries it is encoded.
+     *
+     * @param <V> the type of the value carried in the section
+     *
+     * @param section
+     *      The section to encode.
+     *
+     * @return an {@link EncodedSection} carrying the encoding of the given section.
+     *
+     * @throws ClientException if an error occurs while encoding the section.
+     */
+    public static <V> EncodedSection<V> freezeSection(Section<V> section) throws ClientException {
+        try {
+            return EncodedSection.encode(DEFAULT_ENCODER, section);
+        } catch (Exception e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        }
+    }
+
+    private static Section<?> frozenOrCurrent(ClientMessage<?> message, SectionType sectionType, Section<?> section) {
+        final EncodedSection<?> frozen = message != null ? message.frozenSection(sectionType) : null;
+        return frozen != null ? frozen : section;
     }
 
     //----- Message Decoding
@@ -233,6 +269,15 @@ public abstract class ClientMessageSupport {
         return message;
     }
 
+    public static Message<?> decodeMessageLazily(ProtonBuffer buffer, DecodeOptions options) throws ClientException {
+        final DecoderState decoderState = DEFAULT_DECODER.newDecoderState();
+
+        decoderState.setDepthLimit(options.depthLimit());
+        decoderState.setMaxZeroWidthArrayElements(options.maxZeroWidthArrayElements());
+
+        return ClientLazyMessage.create(DEFAULT_DECODER, decoderState, buffer);
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static <E> Section<E> createSectionFromValue(E body) {
         if (body == null) {
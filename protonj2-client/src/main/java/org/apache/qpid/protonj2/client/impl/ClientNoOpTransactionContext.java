@@ -64,4 +64,9 @@ final class ClientNoOpTransactionContext implements ClientTransactionContext {
         delivery.disposition(outcome, settled);
         return this;
     }
+
+    @Override
+    public ClientTransactionContext flushDispositions() {
+        return this;
+    }
 }
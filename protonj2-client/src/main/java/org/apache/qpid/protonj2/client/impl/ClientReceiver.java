@@ -17,17 +17,26 @@
 package org.apache.qpid.protonj2.client.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.KeyedDispatchOptions;
+import org.apache.qpid.protonj2.client.KeyedDispatcher;
 import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
-import org.apache.qpid.protonj2.client.util.FifoDeliveryQueue;
+import org.apache.qpid.protonj2.client.util.DeliveryQueue;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
 import org.apache.qpid.protonj2.types.messaging.Accepted;
 import org.apache.qpid.protonj2.types.messaging.Released;
@@ -42,18 +51,26 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
     private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     private final ReceiverOptions options;
-    private final FifoDeliveryQueue deliveryQueue;
+    private final DeliveryQueue deliveryQueue;
+    private final ClientCreditController creditController;
+
+    private ClientDeliverySubscription subscription;
 
     ClientReceiver(ClientSession session, ReceiverOptions options, String receiverId, org.apache.qpid.protonj2.engine.Receiver receiver) {
         super(session, receiverId, options, receiver);
 
         this.options = options;
+        this.creditController = new ClientCreditController(options);
 
         if (options.creditWindow() > 0) {
             protonReceiver.addCredit(options.creditWindow());
         }
 
-        deliveryQueue = new FifoDeliveryQueue(options.creditWindow());
+        if (options.deliveryQueueType() == null && session.client().options().virtualThreadFriendly()) {
+            deliveryQueue = DeliveryQueue.create(DeliveryQueue.SPSC, options.creditWindow());
+        } else {
+            deliveryQueue = DeliveryQueue.create(options.deliveryQueueType(), options.creditWindow());
+        }
         deliveryQueue.start();
     }
 
@@ -72,7 +89,7 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
                 if (options.autoAccept()) {
                     disposition(delivery.protonDelivery(), Accepted.getInstance(), options.autoSettle());
                 } else if (options.creditWindow() > 0) {
-                    executor.execute(() -> replenishCreditIfNeeded());
+                    deliveriesConsumed(1);
                 }
 
                 return delivery;
@@ -96,7 +113,7 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
             if (options.autoAccept()) {
                 delivery.disposition(org.apache.qpid.protonj2.client.DeliveryState.accepted(), options.autoSettle());
             } else if (options.creditWindow() > 0) {
-                executor.execute(() -> replenishCreditIfNeeded());
+                deliveriesConsumed(1);
             }
         } else {
             checkClosedOrFailed();
@@ -105,6 +122,35 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
         return delivery;
     }
 
+    @Override
+    public List<Delivery> receive(int maxDeliveries, long timeout, TimeUnit units) throws ClientException {
+        checkClosedOrFailed();
+
+        if (maxDeliveries <= 0) {
+            throw new IllegalArgumentException("The maximum number of deliveries to receive must be greater than zero");
+        }
+
+        try {
+            final List<Delivery> deliveries = new ArrayList<>(Math.min(maxDeliveries, deliveryQueue.size() + 1));
+
+            if (deliveryQueue.dequeue(deliveries, maxDeliveries, Math.max(-1, units.toMillis(timeout))) > 0) {
+                handleDeliveriesReceived(deliveries);
+            } else {
+                checkClosedOrFailed();
+            }
+
+            return deliveries;
+        } catch (InterruptedException e) {
+            Thread.interrupted();
+            throw new ClientException("Receive wait interrupted", e);
+        }
+    }
+
+    @Override
+    public List<Delivery> tryReceive(int maxDeliveries) throws ClientException {
+        return receive(maxDeliveries, 0, TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public long queuedDeliveries() {
         return deliveryQueue.size();
@@ -164,8 +210,81 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
         return drainComplete;
     }
 
+    @Override
+    public Flow.Publisher<Delivery> publisher() throws ClientException {
+        checkClosedOrFailed();
+        return this::subscribe;
+    }
+
+    @Override
+    public KeyedDispatcher dispatchByKey(Consumer<Delivery> handler, KeyedDispatchOptions options) throws ClientException {
+        Objects.requireNonNull(handler, "Cannot dispatch deliveries to a null handler");
+        checkClosedOrFailed();
+
+        final ClientKeyedDispatcher dispatcher = new ClientKeyedDispatcher(this, handler, new KeyedDispatchOptions(options));
+
+        subscribe(dispatcher);
+
+        return dispatcher;
+    }
+
     //----- Internal API for the ClientReceiver and other Client objects
 
+    void acceptDispatched(Queue<ClientDelivery> completed, IntConsumer onSettled) {
+        executor.execute(() -> {
+            int count = 0;
+
+            // Accept everything handed back so far in one pass so that a single disposition
+            // flush and credit replenishment covers the whole batch.
+            ClientDelivery delivery;
+            while ((delivery = completed.poll()) != null) {
+                count++;
+                try {
+                    if (!delivery.protonDelivery().isSettled()) {
+                        session.getTransactionContext().disposition(delivery.protonDelivery(), Accepted.getInstance(), true);
+                    }
+                } catch (Exception ex) {
+                    LOG.debug("Error caught while accepting dispatched delivery", ex);
+                } finally {
+                    // Same payload handling as a delivery settled through Delivery#accept()
+                    delivery.releasePayload(false);
+                }
+            }
+
+            if (count > 0) {
+                session.scheduleDispositionFlush();
+                replenishCreditIfNeeded();
+            }
+
+            onSettled.accept(count);
+        });
+    }
+
+    void handleSubscriptionRequest(ClientDeliverySubscription requester, long n) {
+        executor.execute(() -> {
+            if (requester != subscription) {
+                return;
+            }
+
+            if (n <= 0) {
+                subscription = null;
+                requester.fail(new IllegalArgumentException("Subscriber requested a non-positive number of deliveries: " + n));
+            } else {
+                requester.addDemand(n);
+                grantCreditForSubscriberDemand();
+                dispatchToSubscriber();
+            }
+        });
+    }
+
+    void handleSubscriptionCancelled(ClientDeliverySubscription cancelled) {
+        executor.execute(() -> {
+            if (cancelled == subscription) {
+                subscription = null;
+            }
+        });
+    }
+
     @Override
     protected Receiver self() {
         return this;
@@ -183,7 +302,11 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
 
         if (!delivery.isPartial()) {
             LOG.trace("{} has incoming Message(s).", this);
+            creditController.deliveryArrived(delivery.available());
             deliveryQueue.enqueue(new ClientDelivery(this, delivery));
+            if (subscription != null) {
+                dispatchToSubscriber();
+            }
         } else {
             delivery.claimAvailableBytes();
         }
@@ -191,23 +314,118 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
 
     //----- Private implementation details
 
+    private void discardQueuedDeliveries() {
+        ClientDelivery delivery;
+        while ((delivery = deliveryQueue.dequeueNoWait()) != null) {
+            delivery.releasePayload(true);
+        }
+
+        deliveryQueue.clear();
+    }
+
+    private void subscribe(Flow.Subscriber<? super Delivery> subscriber) {
+        Objects.requireNonNull(subscriber, "Cannot subscribe a null subscriber to the Receiver");
+
+        final ClientDeliverySubscription candidate = new ClientDeliverySubscription(this, subscriber, options.dispatchExecutor());
+
+        executor.execute(() -> {
+            candidate.start();
+
+            if (isClosed()) {
+                candidate.fail(new ClientIllegalStateException("The Receiver was explicitly closed", failureCause));
+            } else if (failureCause != null) {
+                candidate.fail(failureCause);
+            } else if (subscription != null) {
+                candidate.fail(new ClientIllegalStateException("The Receiver already has an active subscriber"));
+            } else {
+                subscription = candidate;
+                dispatchToSubscriber();
+            }
+        });
+    }
+
+    private void grantCreditForSubscriberDemand() {
+        if (options.creditWindow() == 0 && subscription != null && !protonReceiver.isDraining()) {
+            final int currentCredit = protonReceiver.getCredit();
+            final long wanted = Math.min(Integer.MAX_VALUE, subscription.demand() - deliveryQueue.size());
+
+            if (wanted > currentCredit) {
+                try {
+                    protonReceiver.addCredit((int) (wanted - currentCredit));
+                } catch (Exception ex) {
+                    LOG.debug("Error caught while granting credit for subscriber demand", ex);
+                }
+            }
+        }
+    }
+
+    private void dispatchToSubscriber() {
+        while (subscription != null && subscription.hasDemand()) {
+            final ClientDelivery delivery = deliveryQueue.dequeueNoWait();
+            if (delivery == null) {
+                break;
+            }
+
+            if (options.autoAccept()) {
+                session.getTransactionContext().disposition(delivery.protonDelivery(), Accepted.getInstance(), options.autoSettle());
+                session.scheduleDispositionFlush();
+            }
+
+            subscription.next(delivery);
+        }
+
+        replenishCreditIfNeeded();
+    }
+
+    private void handleDeliveriesReceived(List<Delivery> deliveries) throws ClientException {
+        // Accept the whole batch and top up credit from a single I/O thread event so that
+        // the dispositions and the resulting flow are written together.
+        if (options.autoAccept()) {
+            checkClosedOrFailed();
+            executor.execute(() -> {
+                for (Delivery delivery : deliveries) {
+                    session.getTransactionContext().disposition(
+                        ((ClientDelivery) delivery).protonDelivery(), Accepted.getInstance(), options.autoSettle());
+                }
+
+                session.scheduleDispositionFlush();
+                replenishCreditIfNeeded();
+            });
+        } else if (options.creditWindow() > 0) {
+            deliveriesConsumed(deliveries.size());
+        }
+    }
+
+    private void deliveriesConsumed(int count) {
+        // Only wake the I/O thread once enough deliveries were read that a credit top up is possible.
+        if (creditController.deliveriesConsumed(count)) {
+            executor.execute(() -> replenishCreditIfNeeded());
+        }
+    }
+
+    private void terminateSubscription(ClientException failureCause) {
+        if (subscription != null) {
+            if (failureCause != null) {
+                subscription.fail(failureCause);
+            } else {
+                subscription.complete();
+            }
+
+            subscription = null;
+        }
+    }
+
     @Override
     protected void replenishCreditIfNeeded() {
-        int creditWindow = options.creditWindow();
-        if (creditWindow > 0) {
-            int currentCredit = protonReceiver.getCredit();
-            if (currentCredit <= creditWindow * 0.5) {
-                int potentialPrefetch = currentCredit + deliveryQueue.size();
-
-                if (potentialPrefetch <= creditWindow * 0.7) {
-                    int additionalCredit = creditWindow - potentialPrefetch;
+        if (options.creditWindow() > 0) {
+            final int additionalCredit = creditController.creditToGrant(protonReceiver.getCredit(), deliveryQueue.size());
 
-                    LOG.trace("Receiver {} granting additional credit: {}", linkId, additionalCredit);
-                    try {
-                        protonReceiver.addCredit(additionalCredit);
-                    } catch (Exception ex) {
-                        LOG.debug("Error caught during credit top-up", ex);
-                    }
+            if (additionalCredit > 0) {
+                LOG.trace("Receiver {} granting additional credit: {}", linkId, additionalCredit);
+                try {
+                    protonReceiver.addCredit(additionalCredit);
+                } catch (Exception ex) {
+                    LOG.debug("Error caught during credit top-up", ex);
                 }
             }
         }
@@ -215,15 +433,29 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
 
     @Override
     protected void linkSpecificLocalCloseHandler() {
+        discardQueuedDeliveries();
         deliveryQueue.stop();  // Ensure blocked receivers are all unblocked.
         deliveryQueue.clear();
+
+        // Deliveries handed out but never settled would otherwise hold their payloads
+        for (IncomingDelivery delivery : protonReceiver.unsettled()) {
+            if (delivery.getLinkedResource() instanceof ClientDelivery clientDelivery) {
+                clientDelivery.releasePayload(false);
+            }
+        }
+    }
+
+    @Override
+    protected void linkSpecificCleanupHandler(ClientException failureCause) {
+        super.linkSpecificCleanupHandler(failureCause);
+        terminateSubscription(failureCause);
     }
 
     @Override
     protected void recreateLinkForReconnect() {
         int previousCredit = protonReceiver.getCredit() + deliveryQueue.size();
 
-        deliveryQueue.clear();  // Prefetched messages should be discarded.
+        discardQueuedDeliveries();  // Prefetched messages should be discarded.
 
         if (drainingFuture != null) {
             drainingFuture.complete(this);
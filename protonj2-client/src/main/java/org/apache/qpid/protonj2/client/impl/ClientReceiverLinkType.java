@@ -74,6 +74,7 @@ public abstract class ClientReceiverLinkType<ReceiverType extends Link<ReceiverT
         checkClosedOrFailed();
         executor.execute(() -> {
             session.getTransactionContext().disposition(delivery, state, settle);
+            session.scheduleDispositionFlush();
             replenishCreditIfNeeded();
         });
     }
@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.client.Connection;
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.Receiver;
+import org.apache.qpid.protonj2.client.ReceiverOptions;
+import org.apache.qpid.protonj2.client.ReceiverPool;
+import org.apache.qpid.protonj2.client.ReceiverPoolOptions;
+import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.util.TrackableThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client {@link ReceiverPool} implementation which subscribes to the delivery publisher of each
+ * of its receivers and hands the deliveries to a fixed set of work stealing worker threads.
+ * <p>
+ * Each receiver is created with a credit window of zero so that its link credit follows the demand
+ * of the pool subscriber.  The pool credit window is split across the receivers up front and credit
+ * is only requested again once the deliveries a receiver carried have been handled by a worker, so
+ * the pool never holds more than the configured window of unhandled deliveries.
+ */
+public final class ClientReceiverPool implements ReceiverPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientReceiverPool.class);
+
+    private final String address;
+    private final Consumer<Delivery> handler;
+    private final ReceiverPoolOptions options;
+    private final Connection[] connections;
+    private final List<Session> sessions = new ArrayList<>();
+    private final List<Receiver> receivers = new ArrayList<>();
+    private final List<Receiver> receiversView = Collections.unmodifiableList(receivers);
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private final PoolWorker[] workers;
+
+    private volatile boolean closed;
+
+    ClientReceiverPool(String address, Consumer<Delivery> handler, ReceiverPoolOptions options, Connection[] connections) {
+        if (options.creditWindow() < options.receiverCount()) {
+            throw new IllegalArgumentException("Receiver pool credit window must be at least as large as the receiver count");
+        }
+
+        this.address = address;
+        this.handler = handler;
+        this.options = options;
+        this.connections = connections;
+        this.workers = new PoolWorker[options.workerThreads()];
+    }
+
+    ClientReceiverPool open() throws ClientException {
+        final ReceiverOptions receiverOptions = new ReceiverOptions(options.receiverOptions());
+
+        // The pool grants credit based on delivery handling and settles deliveries itself
+        receiverOptions.creditWindow(0);
+        receiverOptions.autoAccept(false);
+
+        try {
+            for (Connection connection : connections) {
+                for (int i = 0; i < options.sessionsPerConnection(); ++i) {
+                    sessions.add(connection.openSession());
+                }
+            }
+
+            for (int i = 0; i < options.receiverCount(); ++i) {
+                receivers.add(sessions.get(i % sessions.size()).openReceiver(address, receiverOptions));
+            }
+        } catch (ClientException | RuntimeException ex) {
+            closeSessions();
+            throw ex;
+        }
+
+        for (int i = 0; i < workers.length; ++i) {
+            workers[i] = new PoolWorker(i);
+        }
+
+        for (PoolWorker worker : workers) {
+            worker.start();
+        }
+
+        final int share = options.creditWindow() / receivers.size();
+        final int remainder = options.creditWindow() % receivers.size();
+
+        for (int i = 0; i < receivers.size(); ++i) {
+            receivers.get(i).publisher().subscribe(new PooledLink(i < remainder ? share + 1 : share));
+        }
+
+        return this;
+    }
+
+    @Override
+    public String address() {
+        return address;
+    }
+
+    @Override
+    public List<Receiver> receivers() {
+        return receiversView;
+    }
+
+    @Override
+    public int workerCount() {
+        return workers.length;
+    }
+
+    @Override
+    public int queuedDeliveries() {
+        int queued = 0;
+        for (PoolWorker worker : workers) {
+            queued += worker.queue.size();
+        }
+
+        return queued;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+
+            for (PoolWorker worker : workers) {
+                worker.stop();
+            }
+
+            closeSessions();
+        }
+    }
+
+    //----- Internal pool implementation
+
+    private void closeSessions() {
+        final List<Future<Session>> closing = new ArrayList<>(sessions.size());
+
+        for (Session session : sessions) {
+            try {
+                closing.add(session.closeAsync());
+            } catch (Throwable ignored) {
+                LOG.trace("Error while closing receiver pool session, ignoring", ignored);
+            }
+        }
+
+        for (Future<Session> future : closing) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Throwable ignored) {
+                LOG.trace("Error while awaiting close of receiver pool session, ignoring", ignored);
+            }
+        }
+    }
+
+    private void dispatch(PooledDelivery pooled) {
+        final PoolWorker target = workers[Math.floorMod(nextWorker.getAndIncrement(), workers.length)];
+
+        target.queue.offer(pooled);
+
+        // Wake the chosen worker if it is idle otherwise let any idle worker steal the delivery
+        if (target.idle) {
+            target.wakeup();
+        } else {
+            for (PoolWorker worker : workers) {
+                if (worker.idle) {
+                    worker.wakeup();
+                    break;
+                }
+            }
+        }
+    }
+
+    private PooledDelivery steal(PoolWorker thief) {
+        for (int i = 1; i < workers.length; ++i) {
+            final PooledDelivery stolen = workers[(thief.index + i) % workers.length].queue.poll();
+            if (stolen != null) {
+                return stolen;
+            }
+        }
+
+        return null;
+    }
+
+    private void handle(PooledDelivery pooled) {
+        final Delivery delivery = pooled.delivery;
+
+        try {
+            handler.accept(delivery);
+            if (options.autoAccept()) {
+                delivery.accept();
+            }
+        } catch (Throwable error) {
+            LOG.debug("Receiver pool delivery handler failed: ", error);
+            if (options.autoAccept()) {
+                try {
+                    delivery.release();
+                } catch (Throwable ignored) {
+                    LOG.trace("Error while releasing delivery after handler failure, ignoring", ignored);
+                }
+            }
+        } finally {
+            pooled.link.handled();
+        }
+    }
+
+    private static final class PooledDelivery {
+
+        private final PooledLink link;
+        private final Delivery delivery;
+
+        PooledDelivery(PooledLink link, Delivery delivery) {
+            this.link = link;
+            this.delivery = delivery;
+        }
+    }
+
+    /*
+     * Subscriber attached to each receiver that forwards deliveries to the workers and requests
+     * more deliveries in batches as the ones it forwarded are handled.
+     */
+    private final class PooledLink implements Flow.Subscriber<Delivery> {
+
+        private final int share;
+        private final int batch;
+        private final AtomicInteger handled = new AtomicInteger();
+
+        private volatile Flow.Subscription subscription;
+
+        PooledLink(int share) {
+            this.share = share;
+            this.batch = Math.max(1, share / 2);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (closed) {
+                subscription.cancel();
+            } else {
+                subscription.request(share);
+            }
+        }
+
+        @Override
+        public void onNext(Delivery delivery) {
+            dispatch(new PooledDelivery(this, delivery));
+        }
+
+        @Override
+        public void onError(Throwable cause) {
+            LOG.debug("Receiver pool link on address {} failed: ", address, cause);
+        }
+
+        @Override
+        public void onComplete() {
+            LOG.trace("Receiver pool link on address {} completed", address);
+        }
+
+        void handled() {
+            if (handled.incrementAndGet() >= batch && !closed) {
+                final int returned = handled.getAndSet(0);
+                if (returned > 0) {
+                    try {
+                        subscription.request(returned);
+                    } catch (Throwable ignored) {
+                        LOG.trace("Error while returning credit to receiver pool link, ignoring", ignored);
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Worker that handles deliveries from its own queue first and steals from the queues of the
+     * other workers when its own is empty before parking until new work is dispatched.
+     */
+    private final class PoolWorker implements Runnable {
+
+        private final int index;
+        private final ConcurrentLinkedQueue<PooledDelivery> queue = new ConcurrentLinkedQueue<>();
+
+        private Thread thread;
+        private volatile boolean idle;
+
+        PoolWorker(int index) {
+            this.index = index;
+        }
+
+        void start() {
+            thread = new TrackableThreadFactory("protonj2 Receiver Pool :(" + address + "): Worker " + index, true).newThread(this);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (!closed) {
+                PooledDelivery next = nextDelivery();
+                if (next == null) {
+                    // Advertise idle before checking again so a concurrent dispatch either
+                    // sees this worker as idle and wakes it or its delivery is found here.
+                    idle = true;
+                    next = nextDelivery();
+                    if (next == null && !closed) {
+                        LockSupport.park(this);
+                    }
+                    idle = false;
+                }
+
+                if (next != null) {
+                    handle(next);
+                }
+            }
+        }
+
+        private PooledDelivery nextDelivery() {
+            final PooledDelivery next = queue.poll();
+            return next != null ? next : steal(this);
+        }
+
+        void wakeup() {
+            LockSupport.unpark(thread);
+        }
+
+        void stop() {
+            if (thread != null && thread != Thread.currentThread()) {
+                LockSupport.unpark(thread);
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
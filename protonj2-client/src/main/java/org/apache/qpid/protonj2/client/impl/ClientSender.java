@@ -17,14 +17,21 @@
 package org.apache.qpid.protonj2.client.impl;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
-import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.DeliveryMode;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.Sender;
 import org.apache.qpid.protonj2.client.SenderOptions;
@@ -34,6 +41,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientResourceRemotelyClosedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientSendTimedOutException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
+import org.apache.qpid.protonj2.client.futures.ClientSynchronization;
 import org.apache.qpid.protonj2.engine.OutgoingDelivery;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
@@ -50,6 +58,9 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
     private final Deque<ClientOutgoingEnvelope> blocked = new ArrayDeque<>();
     private final SenderOptions options;
 
+    // Completed send futures for presettled sends are parked here for reuse by the next send
+    private final AtomicReference<ClientFuture<Tracker>> presettledSendOperation = new AtomicReference<>();
+
     ClientSender(ClientSession session, SenderOptions options, String senderId, org.apache.qpid.protonj2.engine.Sender protonSender) {
         super(session, senderId, options, protonSender);
 
@@ -68,6 +79,52 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
         return sendMessage(ClientMessageSupport.convertMessage(message), deliveryAnnotations, true);
     }
 
+    @Override
+    public List<Tracker> sendAll(Collection<? extends Message<?>> messages) throws ClientException {
+        checkClosedOrFailed();
+        Objects.requireNonNull(messages, "The collection of messages to send cannot be null");
+
+        final List<ClientFuture<Tracker>> operations = new ArrayList<>(messages.size());
+        final List<ProtonBuffer> payloads = new ArrayList<>(messages.size());
+        final int[] formats = new int[messages.size()];
+
+        // Encode everything before handing off to the connection so the I/O thread only writes.
+        try {
+            for (Message<?> message : messages) {
+                final AdvancedMessage<?> advanced = ClientMessageSupport.convertMessage(message);
+
+                formats[payloads.size()] = advanced.messageFormat();
+                payloads.add(advanced.encode(null, client().sendBufferAllocator()));
+                operations.add(session.getFutureFactory().createFuture());
+            }
+        } catch (ClientException | RuntimeException error) {
+            // Pooled buffers encoded so far were never handed to the connection and must be released here.
+            payloads.forEach(ProtonBuffer::close);
+            throw error;
+        }
+
+        executor.execute(() -> {
+            final boolean wasAutoFlushOn = connection().autoFlushOff();
+            try {
+                for (int i = 0; i < operations.size(); ++i) {
+                    sendOrBlock(formats[i], payloads.get(i), true, operations.get(i));
+                }
+            } finally {
+                if (wasAutoFlushOn) {
+                    connection().flush();
+                    connection().autoFlushOn();
+                }
+            }
+        });
+
+        final List<Tracker> trackers = new ArrayList<>(operations.size());
+        for (ClientFuture<Tracker> operation : operations) {
+            trackers.add(session.request(this, operation));
+        }
+
+        return trackers;
+    }
+
     @Override
     public Tracker trySend(Message<?> message) throws ClientException {
         checkClosedOrFailed();
@@ -80,6 +137,30 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
         return sendMessage(ClientMessageSupport.convertMessage(message), deliveryAnnotations, false);
     }
 
+    @Override
+    public CompletionStage<Tracker> sendAsync(Message<?> message) throws ClientException {
+        checkClosedOrFailed();
+        return sendMessageAsync(ClientMessageSupport.convertMessage(message), null, true);
+    }
+
+    @Override
+    public CompletionStage<Tracker> sendAsync(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
+        checkClosedOrFailed();
+        return sendMessageAsync(ClientMessageSupport.convertMessage(message), deliveryAnnotations, true);
+    }
+
+    @Override
+    public CompletionStage<Tracker> trySendAsync(Message<?> message) throws ClientException {
+        checkClosedOrFailed();
+        return sendMessageAsync(ClientMessageSupport.convertMessage(message), null, false);
+    }
+
+    @Override
+    public CompletionStage<Tracker> trySendAsync(Message<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
+        checkClosedOrFailed();
+        return sendMessageAsync(ClientMessageSupport.convertMessage(message), deliveryAnnotations, false);
+    }
+
     //----- Internal API
 
     SenderOptions options() {
@@ -151,28 +232,72 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
     }
 
     private Tracker sendMessage(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, boolean waitForCredit) throws ClientException {
-        final ClientFuture<Tracker> operation = session.getFutureFactory().createFuture();
-        final ProtonBuffer buffer = message.encode(deliveryAnnotations, ProtonBufferAllocator.defaultAllocator());
+        final boolean presettled = options.deliveryMode() == DeliveryMode.AT_MOST_ONCE;
 
-        executor.execute(() -> {
-            if (notClosedOrFailed(operation)) {
-                try {
-                    final ClientOutgoingEnvelope envelope = new ClientOutgoingEnvelope(this, message.messageFormat(), buffer, operation);
-
-                    if (protonSender.isSendable() && protonSender.current() == null) {
-                        session.getTransactionContext().send(envelope, null, protonSender.getSenderSettleMode() == SenderSettleMode.SETTLED);
-                    } else if (waitForCredit) {
-                        addToTailOfBlockedQueue(envelope);
-                    } else {
-                        operation.complete(null);
-                    }
-                } catch (Exception error) {
-                    operation.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
-                }
+        ClientFuture<Tracker> operation = presettled ? presettledSendOperation.getAndSet(null) : null;
+        if (operation == null) {
+            operation = session.getFutureFactory().createFuture();
+        }
+
+        dispatchSend(message, deliveryAnnotations, waitForCredit, operation);
+
+        final Tracker tracker = session.request(this, operation);
+
+        // Only a future that completed normally is known to be released by the I/O thread
+        if (presettled && operation.reset()) {
+            presettledSendOperation.lazySet(operation);
+        }
+
+        return tracker;
+    }
+
+    private CompletionStage<Tracker> sendMessageAsync(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, boolean waitForCredit) throws ClientException {
+        final CompletableFuture<Tracker> result = new CompletableFuture<>();
+        final ClientFuture<Tracker> operation = session.getFutureFactory().createFuture(new ClientSynchronization<Tracker>() {
+
+            @Override
+            public void onPendingSuccess(Tracker tracker) {
+                result.complete(tracker);
+            }
+
+            @Override
+            public void onPendingFailure(Throwable cause) {
+                result.completeExceptionally(cause.getCause() != null ? cause.getCause() : cause);
             }
         });
 
-        return session.request(this, operation);
+        dispatchSend(message, deliveryAnnotations, waitForCredit, operation);
+
+        return result;
+    }
+
+    private void dispatchSend(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, boolean waitForCredit, ClientFuture<Tracker> operation) throws ClientException {
+        final ProtonBuffer buffer = message.encode(deliveryAnnotations, client().sendBufferAllocator());
+        final int messageFormat = message.messageFormat();
+
+        executor.execute(() -> sendOrBlock(messageFormat, buffer, waitForCredit, operation));
+    }
+
+    private void sendOrBlock(int messageFormat, ProtonBuffer buffer, boolean waitForCredit, ClientFuture<Tracker> operation) {
+        if (notClosedOrFailed(operation)) {
+            try {
+                final ClientOutgoingEnvelope envelope = new ClientOutgoingEnvelope(this, messageFormat, buffer, operation);
+
+                if (protonSender.isSendable() && protonSender.current() == null) {
+                    session.getTransactionContext().send(envelope, null, protonSender.getSenderSettleMode() == SenderSettleMode.SETTLED);
+                } else if (waitForCredit) {
+                    addToTailOfBlockedQueue(envelope);
+                } else {
+                    buffer.close();
+                    operation.complete(null);
+                }
+            } catch (Exception error) {
+                buffer.close();
+                operation.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+            }
+        } else {
+            buffer.close();
+        }
     }
 
     private Tracker createTracker(OutgoingDelivery delivery) {
@@ -75,6 +75,7 @@ public class ClientSession implements Session {
     private volatile int closed;
     private volatile ClientException failureCause;
     private ClientTransactionContext txnContext = NO_OP_TXN_CONTEXT;
+    private boolean dispositionFlushPending;
 
     private org.apache.qpid.protonj2.engine.Session protonSession;
 
@@ -321,19 +322,17 @@ public class ClientSession implements Session {
 
     @Override
     public Session commitTransaction() throws ClientException {
-        checkClosedOrFailed();
-        final ClientFuture<Session> commitFuture = getFutureFactory().createFuture();
+        return connection.request(this, commitTransaction(false));
+    }
 
-        serializer.execute(() -> {
-            try {
-                checkClosedOrFailed();
-                txnContext.commit(commitFuture, false);
-            } catch (Throwable error) {
-                commitFuture.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
-            }
-        });
+    @Override
+    public Future<Session> commitTransactionAsync() throws ClientException {
+        return commitTransaction(false);
+    }
 
-        return connection.request(this, commitFuture);
+    @Override
+    public Session commitAndBeginTransaction() throws ClientException {
+        return connection.request(this, commitTransaction(true));
     }
 
     @Override
@@ -480,6 +479,22 @@ public class ClientSession implements Session {
         return protonSession;
     }
 
+    private ClientFuture<Session> commitTransaction(boolean startNew) throws ClientException {
+        checkClosedOrFailed();
+        final ClientFuture<Session> commitFuture = getFutureFactory().createFuture();
+
+        serializer.execute(() -> {
+            try {
+                checkClosedOrFailed();
+                txnContext.commit(commitFuture, startNew);
+            } catch (Throwable error) {
+                commitFuture.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+            }
+        });
+
+        return commitFuture;
+    }
+
     ClientTransactionContext getTransactionContext() {
         return txnContext;
     }
@@ -488,8 +503,37 @@ public class ClientSession implements Session {
         return connection;
     }
 
+    /*
+     * Called from the connection executor after a receiver applies a disposition, when the
+     * session batches dispositions this ensures the pending batch is written once the current
+     * work has been processed or the configured batch delay has elapsed.
+     */
+    void scheduleDispositionFlush() {
+        if (!dispositionFlushPending && protonSession.getDispositionBatchLimit() > 1) {
+            dispositionFlushPending = true;
+
+            if (options.dispositionBatchDelay() > 0) {
+                serializer.schedule(this::flushPendingDispositions, options.dispositionBatchDelay(), TimeUnit.MILLISECONDS);
+            } else {
+                serializer.execute(this::flushPendingDispositions);
+            }
+        }
+    }
+
     //----- Private implementation methods
 
+    private void flushPendingDispositions() {
+        dispositionFlushPending = false;
+
+        try {
+            if (protonSession.isLocallyOpen() && !protonSession.getEngine().isShutdown()) {
+                protonSession.flushDispositions();
+            }
+        } catch (Exception ignore) {
+            // Engine failure will be handled by the connection
+        }
+    }
+
     private org.apache.qpid.protonj2.engine.Session configureSession(org.apache.qpid.protonj2.engine.Session protonSession) {
         protonSession.setLinkedResource(this);
         protonSession.setOfferedCapabilities(ClientConversionSupport.toSymbolArray(options.offeredCapabilities()));
@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.client.impl;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -136,6 +137,10 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
         return rawInputStream;
     }
 
+    long transferTo(WritableByteChannel target, long length) throws IOException {
+        return rawInputStream.transferTo(target, length);
+    }
+
     //----- Event Handlers for Delivery updates
 
     void handleDeliveryRead(IncomingDelivery delivery) {
@@ -389,6 +394,31 @@ public final class ClientStreamDelivery extends ClientDeliverable<ClientStreamDe
             return super.transferTo(target);
         }
 
+        long transferTo(WritableByteChannel target, long length) throws IOException {
+            checkStreamStateIsValid();
+
+            long remaining = length;
+
+            // Write the incoming payload components to the channel as they arrive and release them
+            // once written so that only the current session window of data is ever held.
+            while (remaining > 0) {
+                if (buffer.isReadable()) {
+                    final int written = buffer.transferTo(target, (int) Math.min(remaining, buffer.getReadableBytes()));
+                    if (written == 0) {
+                        // A channel that accepts nothing would otherwise be retried forever
+                        throw new IOException("Channel accepted no bytes, only blocking channels are supported");
+                    }
+
+                    remaining -= written;
+                    tryReleaseReadBuffers();
+                } else if (requestMoreData() < 0) {
+                    break;
+                }
+            }
+
+            return length - remaining;
+        }
+
         private void tryReleaseReadBuffers() {
             if (buffer.getReadOffset() - markIndex > markLimit) {
                 markIndex = INVALID_MARK;
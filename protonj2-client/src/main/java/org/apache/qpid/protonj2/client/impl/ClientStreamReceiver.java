@@ -17,8 +17,10 @@
 package org.apache.qpid.protonj2.client.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Future;
@@ -32,6 +34,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.exceptions.ClientResourceRemotelyClosedException;
 import org.apache.qpid.protonj2.client.futures.ClientFuture;
+import org.apache.qpid.protonj2.client.futures.ClientSynchronization;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
 import org.apache.qpid.protonj2.types.messaging.Released;
 import org.slf4j.Logger;
@@ -86,18 +89,7 @@ public final class ClientStreamReceiver extends ClientReceiverLinkType<StreamRec
                     if (timeout == 0) {
                         receive.complete(null);
                     } else {
-                        final Future<?> timeoutFuture;
-
-                        if (timeout > 0) {
-                            timeoutFuture = session.getScheduler().schedule(() -> {
-                                receiveRequests.remove(receive);
-                                receive.complete(null); // Timed receive returns null on failed wait.
-                            }, timeout, unit);
-                        } else {
-                            timeoutFuture = null;
-                        }
-
-                        receiveRequests.put(receive, timeoutFuture);
+                        awaitNextDelivery(receive, timeout, unit);
                     }
                 } else {
                     receive.complete(new ClientStreamDelivery(this, delivery));
@@ -117,6 +109,61 @@ public final class ClientStreamReceiver extends ClientReceiverLinkType<StreamRec
         return receive(0, TimeUnit.MILLISECONDS);
     }
 
+    @Override
+    public List<StreamDelivery> receive(int maxDeliveries, long timeout, TimeUnit unit) throws ClientException {
+        checkClosedOrFailed();
+
+        if (maxDeliveries <= 0) {
+            throw new IllegalArgumentException("The maximum number of deliveries to receive must be greater than zero");
+        }
+
+        final ClientFuture<List<StreamDelivery>> receive = session.getFutureFactory().createFuture();
+
+        executor.execute(() -> {
+            if (notClosedOrFailed(receive)) {
+                final List<StreamDelivery> deliveries = new ArrayList<>();
+
+                collectAvailableDeliveries(deliveries, maxDeliveries);
+
+                if (!deliveries.isEmpty() || timeout == 0) {
+                    receive.complete(deliveries);
+                    if (!deliveries.isEmpty() && options.creditWindow() > 0) {
+                        executor.execute(() -> replenishCreditIfNeeded());
+                    }
+                } else {
+                    // Wait for the next delivery and then take any others that arrived along with it.
+                    awaitNextDelivery(session.getFutureFactory().createFuture(new ClientSynchronization<StreamDelivery>() {
+
+                        @Override
+                        public void onPendingSuccess(StreamDelivery delivery) {
+                            if (delivery != null) {
+                                deliveries.add(delivery);
+                                collectAvailableDeliveries(deliveries, maxDeliveries);
+                            }
+
+                            receive.complete(deliveries);
+                            if (!deliveries.isEmpty() && options.creditWindow() > 0) {
+                                executor.execute(() -> replenishCreditIfNeeded());
+                            }
+                        }
+
+                        @Override
+                        public void onPendingFailure(Throwable cause) {
+                            receive.failed(ClientExceptionSupport.createNonFatalOrPassthrough(cause));
+                        }
+                    }), timeout, unit);
+                }
+            }
+        });
+
+        return session.request(this, receive);
+    }
+
+    @Override
+    public List<StreamDelivery> tryReceive(int maxDeliveries) throws ClientException {
+        return receive(maxDeliveries, 0, TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public StreamReceiver addCredit(int credits) throws ClientException {
         checkClosedOrFailed();
@@ -233,6 +280,35 @@ public final class ClientStreamReceiver extends ClientReceiverLinkType<StreamRec
 
     //----- Private implementation details
 
+    private void awaitNextDelivery(ClientFuture<StreamDelivery> receive, long timeout, TimeUnit unit) {
+        final Future<?> timeoutFuture;
+
+        if (timeout > 0) {
+            timeoutFuture = session.getScheduler().schedule(() -> {
+                receiveRequests.remove(receive);
+                receive.complete(null); // Timed receive returns null on failed wait.
+            }, timeout, unit);
+        } else {
+            timeoutFuture = null;
+        }
+
+        receiveRequests.put(receive, timeoutFuture);
+    }
+
+    private void collectAvailableDeliveries(List<StreamDelivery> deliveries, int maxDeliveries) {
+        // Scan for unsettled deliveries that aren't yet assigned to a client delivery
+        // either they are complete deliveries or the initial stage of the next incoming
+        for (IncomingDelivery unsettled : protonReceiver.unsettled()) {
+            if (deliveries.size() >= maxDeliveries) {
+                break;
+            }
+
+            if (unsettled.getLinkedResource() == null) {
+                deliveries.add(new ClientStreamDelivery(this, unsettled));
+            }
+        }
+    }
+
     @Override
     protected void replenishCreditIfNeeded() {
         int creditWindow = options.creditWindow();
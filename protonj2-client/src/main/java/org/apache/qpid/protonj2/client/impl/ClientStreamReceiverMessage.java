@@ -19,9 +19,14 @@ package org.apache.qpid.protonj2.client.impl;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -34,6 +39,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientMessageFormatViolationException;
 import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
+import org.apache.qpid.protonj2.client.futures.ClientFuture;
 import org.apache.qpid.protonj2.codec.DecodeEOFException;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.StreamDecoder;
@@ -656,6 +662,49 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
         return bodyStream;
     }
 
+    @Override
+    public long transferBodyTo(WritableByteChannel channel) throws ClientException {
+        Objects.requireNonNull(channel, "Cannot transfer the message body to a null channel");
+        checkChannelIsBlocking(channel);
+
+        body();
+
+        if (bodyStream == null) {
+            return 0; // Message carried no body sections
+        }
+
+        try (MessageBodyInputStream stream = bodyStream) {
+            return stream.transferTo(channel);
+        } catch (IOException e) {
+            if (e.getCause() instanceof ClientException clientError) {
+                throw clientError;
+            } else {
+                throw new ClientException("Failed to transfer the message body to the given channel", e);
+            }
+        }
+    }
+
+    @Override
+    public Future<Long> transferBodyToAsync(WritableByteChannel channel, Executor executor) throws ClientException {
+        Objects.requireNonNull(channel, "Cannot transfer the message body to a null channel");
+        Objects.requireNonNull(executor, "Cannot transfer the message body using a null executor");
+        checkChannelIsBlocking(channel);
+
+        checkClosedOrAborted();
+
+        final ClientFuture<Long> transfer = receiver.session().getFutureFactory().createFuture();
+
+        executor.execute(() -> {
+            try {
+                transfer.complete(transferBodyTo(channel));
+            } catch (Throwable error) {
+                transfer.failed(ClientExceptionSupport.createNonFatalOrPassthrough(error));
+            }
+        });
+
+        return transfer;
+    }
+
     @Override
     public StreamReceiverMessage body(InputStream value) throws ClientUnsupportedOperationException {
         throw new ClientUnsupportedOperationException("Cannot encode from an StreamReceiverMessage instance.");
@@ -670,6 +719,12 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
 
     //----- Internal Streamed Delivery API and support methods
 
+    private static void checkChannelIsBlocking(WritableByteChannel channel) {
+        if (channel instanceof SelectableChannel selectable && !selectable.isBlocking()) {
+            throw new IllegalArgumentException("Cannot transfer the message body to a non-blocking channel");
+        }
+    }
+
     private void checkClosedOrAborted() throws ClientIllegalStateException {
         if (receiver.isClosed()) {
             throw new ClientIllegalStateException("The parent Receiver instance has already been closed.");
@@ -846,6 +901,25 @@ public final class ClientStreamReceiverMessage implements StreamReceiverMessage
             return bytesSkipped;
         }
 
+        public long transferTo(WritableByteChannel target) throws IOException {
+            checkClosed();
+
+            long bytesWritten = 0;
+
+            while (remainingSectionBytes > 0 || tryMoveToNextBodySection()) {
+                final long actualWrite = delivery.transferTo(target, remainingSectionBytes);
+
+                bytesWritten += actualWrite;
+                remainingSectionBytes -= actualWrite;
+
+                if (remainingSectionBytes > 0) {
+                    throw new IOException("Delivery ended before the message body section was fully read");
+                }
+            }
+
+            return bytesWritten;
+        }
+
         public abstract Class<?> getBodyTypeClass();
 
         protected abstract void validateAndScanNextSection() throws ClientException;
@@ -18,6 +18,11 @@ package org.apache.qpid.protonj2.client.impl;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,6 +36,7 @@ import java.util.function.Consumer;
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.OutputStreamOptions;
 import org.apache.qpid.protonj2.client.StreamSenderMessage;
@@ -52,6 +58,8 @@ import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.messaging.Section;
 
+import io.netty.buffer.Unpooled;
+
 /**
  * Streaming Sender context used to multiple send operations that comprise the payload
  * of a single larger message transfer.
@@ -59,6 +67,13 @@ import org.apache.qpid.protonj2.types.messaging.Section;
 final class ClientStreamSenderMessage implements StreamSenderMessage {
 
     private static final int DATA_SECTION_HEADER_ENCODING_SIZE = 8;
+    private static final int DEFAULT_SECTION_ALLOCATION = 64;
+    private static final int MAX_DATA_SECTION_SIZE = Integer.MAX_VALUE;
+    private static final int FILE_REGION_MAP_SIZE = 8 * 1024 * 1024;
+
+    // Mapped file regions are wrapped and not copied so there is nothing to pool for them.
+    private static final Netty4ProtonBufferAllocator FILE_REGION_ALLOCATOR =
+        (Netty4ProtonBufferAllocator) Netty4ProtonBufferAllocator.UNPOOLED;
 
     // Standard encoding data for a Data Section (Requires four byte size written before writing the actual data)
     private static final byte[] DATA_SECTION_PREAMBLE = { EncodingCodes.DESCRIBED_TYPE_INDICATOR,
@@ -75,6 +90,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
     }
 
     private final ClientStreamSender sender;
+    private final ProtonBufferAllocator allocator;
     private final DeliveryAnnotations deliveryAnnotations;
     private final int writeBufferSize;
     private final ClientStreamTracker tracker;
@@ -91,6 +107,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
     ClientStreamSenderMessage(ClientStreamSender sender, ClientStreamTracker tracker, DeliveryAnnotations deliveryAnnotations) {
         this.sender = sender;
+        this.allocator = sender.client().sendBufferAllocator();
         this.deliveryAnnotations = deliveryAnnotations;
         this.tracker = tracker;
 
@@ -230,7 +247,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         transitionToWritableState();
 
-        appendDataToBuffer(ClientMessageSupport.encodeSection(bodySection, ProtonBufferAllocator.defaultAllocator().allocate()));
+        appendDataToBuffer(ClientMessageSupport.encodeSection(bodySection, allocator.outputBuffer(DEFAULT_SECTION_ALLOCATION)));
 
         return this;
     }
@@ -286,9 +303,8 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         transitionToWritableState();
 
-        final ProtonBuffer streamBuffer = ProtonBufferAllocator.defaultAllocator()
-                                                               .allocate(writeBufferSize)
-                                                               .implicitGrowthLimit(writeBufferSize);
+        final ProtonBuffer streamBuffer = allocator.outputBuffer(writeBufferSize)
+                                                   .implicitGrowthLimit(writeBufferSize);
 
         if (options.bodyLength() > 0) {
             return new SingularDataSectionOutputStream(options, streamBuffer);
@@ -314,7 +330,83 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         transitionToWritableState();
 
         return new SendContextRawBytesOutputStream(
-            ProtonBufferAllocator.defaultAllocator().allocate(writeBufferSize).implicitGrowthLimit(writeBufferSize));
+            allocator.outputBuffer(writeBufferSize).implicitGrowthLimit(writeBufferSize));
+    }
+
+    @Override
+    public StreamSenderMessage body(Path path, long offset, long length) throws ClientException {
+        Objects.requireNonNull(path, "Cannot write a message body from a null file Path");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return body(channel, offset, length);
+        } catch (IOException e) {
+            throw new ClientException("Failed to open file for message body: " + path, e);
+        }
+    }
+
+    @Override
+    public StreamSenderMessage body(FileChannel channel, long offset, long length) throws ClientException {
+        Objects.requireNonNull(channel, "Cannot write a message body from a null FileChannel");
+
+        if (completed()) {
+            throw new ClientIllegalStateException("Cannot add more body sections to a completed message");
+        }
+
+        if (aborted()) {
+            throw new ClientIllegalStateException("Cannot add more body sections to an aborted message");
+        }
+
+        if (currentState == StreamState.BODY_WRITTING) {
+            throw new ClientIllegalStateException("Cannot add more body sections while an OutputStream is active");
+        }
+
+        final long fileSize;
+
+        try {
+            fileSize = channel.size();
+        } catch (IOException e) {
+            throw new ClientException("Failed to read the size of the message body file", e);
+        }
+
+        if (offset < 0 || length < 0 || offset > fileSize - length) {
+            throw new IllegalArgumentException(String.format(
+                "File region offset %d and length %d exceed the file size of %d", offset, length, fileSize));
+        }
+
+        transitionToWritableState();
+
+        long position = offset;
+        long remaining = length;
+
+        try {
+            do {
+                final int sectionSize = (int) Math.min(remaining, MAX_DATA_SECTION_SIZE);
+
+                try (ProtonBuffer preamble = encodeDataSectionPreamble(sectionSize)) {
+                    appendDataToBuffer(preamble);
+                }
+
+                // Map the section in bounded regions which are handed to the transport as is, the
+                // sends block while the session outgoing capacity is exhausted which paces the reads.
+                for (int sectionWritten = 0; sectionWritten < sectionSize; ) {
+                    final int regionSize = Math.min(sectionSize - sectionWritten, FILE_REGION_MAP_SIZE);
+                    final MappedByteBuffer region = channel.map(MapMode.READ_ONLY, position, regionSize);
+
+                    try (ProtonBuffer regionBuffer = FILE_REGION_ALLOCATOR.wrap(Unpooled.wrappedBuffer(region))) {
+                        appendDataToBuffer(regionBuffer);
+                    }
+
+                    position += regionSize;
+                    sectionWritten += regionSize;
+                }
+
+                remaining -= sectionSize;
+            } while (remaining > 0);
+        } catch (IOException e) {
+            throw new ClientException("Failed to read the message body from the given file", e);
+        }
+
+        return this;
     }
 
     //----- OutputStream implementation for the Send Context
@@ -468,13 +560,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         public SingularDataSectionOutputStream(OutputStreamOptions options, ProtonBuffer buffer) throws ClientException {
             super(options, buffer);
 
-            ProtonBuffer preamble = ProtonBufferAllocator.defaultAllocator().allocate(DATA_SECTION_HEADER_ENCODING_SIZE)
-                                                                            .implicitGrowthLimit(DATA_SECTION_HEADER_ENCODING_SIZE);
-
-            preamble.writeBytes(DATA_SECTION_PREAMBLE);
-            preamble.writeInt(options.bodyLength());
-
-            try (preamble) {
+            try (ProtonBuffer preamble = encodeDataSectionPreamble(options.bodyLength())) {
                 appendDataToBuffer(preamble);
             }
         }
@@ -489,13 +575,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         @Override
         protected void doFlushPending(boolean complete) throws IOException {
             if (streamBuffer.isReadable()) {
-                ProtonBuffer preamble = ProtonBufferAllocator.defaultAllocator().allocate(DATA_SECTION_HEADER_ENCODING_SIZE)
-                                                                                .implicitGrowthLimit(DATA_SECTION_HEADER_ENCODING_SIZE);
-
-                preamble.writeBytes(DATA_SECTION_PREAMBLE);
-                preamble.writeInt(streamBuffer.getReadableBytes());
-
-                try (preamble) {
+                try (ProtonBuffer preamble = encodeDataSectionPreamble(streamBuffer.getReadableBytes())) {
                     appendDataToBuffer(preamble);
                 } catch (ClientException e) {
                     throw new IOException(e);
@@ -953,7 +1033,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
             if (buffer instanceof ProtonCompositeBuffer composite) {
                 composite.append(incoming);
             } else {
-                buffer = ProtonBufferAllocator.defaultAllocator().composite(new ProtonBuffer[] { buffer, incoming });
+                buffer = allocator.composite(new ProtonBuffer[] { buffer, incoming });
             }
         }
 
@@ -972,23 +1052,33 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         }
     }
 
+    private ProtonBuffer encodeDataSectionPreamble(int sectionSize) {
+        final ProtonBuffer preamble = allocator.outputBuffer(DATA_SECTION_HEADER_ENCODING_SIZE)
+                                               .implicitGrowthLimit(DATA_SECTION_HEADER_ENCODING_SIZE);
+
+        preamble.writeBytes(DATA_SECTION_PREAMBLE);
+        preamble.writeInt(sectionSize);
+
+        return preamble;
+    }
+
     private void transitionToWritableState() throws ClientException {
         if (currentState == StreamState.PREAMBLE) {
 
             if (header != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(header, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(header, allocator.outputBuffer(DEFAULT_SECTION_ALLOCATION)));
             }
             if (deliveryAnnotations != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(deliveryAnnotations, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(deliveryAnnotations, allocator.outputBuffer(DEFAULT_SECTION_ALLOCATION)));
             }
             if (annotations != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(annotations, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(annotations, allocator.outputBuffer(DEFAULT_SECTION_ALLOCATION)));
             }
             if (properties != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(properties, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(properties, allocator.outputBuffer(DEFAULT_SECTION_ALLOCATION)));
             }
             if (applicationProperties != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(applicationProperties, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(applicationProperties, allocator.outputBuffer(DEFAULT_SECTION_ALLOCATION)));
             }
 
             currentState = StreamState.BODY_WRITABLE;
@@ -1004,7 +1094,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
             throw new ClientIllegalStateException("Cannot write a Section to an already completed send context");
         }
 
-        appendDataToBuffer(ClientMessageSupport.encodeSection(section, ProtonBufferAllocator.defaultAllocator().allocate()));
+        appendDataToBuffer(ClientMessageSupport.encodeSection(section, allocator.outputBuffer(DEFAULT_SECTION_ALLOCATION)));
 
         return this;
     }
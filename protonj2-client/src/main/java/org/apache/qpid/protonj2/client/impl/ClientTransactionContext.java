@@ -139,4 +139,12 @@ interface ClientTransactionContext {
      */
     ClientTransactionContext disposition(IncomingDelivery delivery, DeliveryState state, boolean settled);
 
+    /**
+     * Writes any dispositions that the context is holding back for the active transaction, this is
+     * called before a receiver link is closed so that its held dispositions are not lost.
+     *
+     * @return this {@link ClientTransactionContext} instance.
+     */
+    ClientTransactionContext flushDispositions();
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.transport;
+
+import org.apache.qpid.protonj2.client.SslOptions;
+import org.apache.qpid.protonj2.client.TransportOptions;
+import org.apache.qpid.protonj2.client.transport.netty4.Netty4IOGroup;
+import org.apache.qpid.protonj2.client.transport.netty4.Netty4Support;
+
+/**
+ * A fixed size group of I/O threads that can be shared by many {@link IOContext} instances.
+ * <p>
+ * Each {@link IOContext} created from the group is pinned to a single I/O thread for its
+ * lifetime so that work for the context is still executed serially, the group assigns new
+ * contexts to the thread with the fewest active contexts.
+ */
+public interface IOGroup {
+
+    /**
+     * Shutdown the group of I/O threads synchronously with a grace period for work that might be
+     * in-bound at the time of termination.  This is not safe to call from inside one of the group
+     * I/O threads as it blocks until the shutdown has completed.
+     */
+    void shutdown();
+
+    /**
+     * Shutdown the group of I/O threads asynchronously with a grace period for work that might be
+     * in-bound at the time of termination.  This is safe to call from inside one of the group I/O
+     * threads where the standard blocking shutdown API is not.
+     */
+    void shutdownAsync();
+
+    /**
+     * Creates a new {@link IOContext} that is pinned to one of the I/O threads of this group, when the
+     * returned context is shutdown its I/O thread is released back to the group and not terminated.
+     *
+     * @param options
+     * 		The {@link TransportOptions} that configure the IO Transport the context creates.
+     * @param sslOptions
+     * 		The {@link SslOptions} that configure the SSL layer of the IO Transport the context creates.
+     *
+     * @return a new {@link IOContext} that uses an I/O thread from this group.
+     */
+    IOContext newContext(TransportOptions options, SslOptions sslOptions);
+
+    /**
+     * Create an IOGroup from the available options.
+     *
+     * @param ioThreads
+     * 		The number of I/O threads that the group will create for each IO layer in use.
+     * @param ioThreadName
+     * 		The name to given the I/O threads created by the group.
+     *
+     * @return a new {@link IOGroup} from available options.
+     */
+    static IOGroup create(int ioThreads, String ioThreadName) {
+        if (Netty4Support.isAvailable()) {
+            return new Netty4IOGroup(ioThreads, ioThreadName);
+        }
+
+        throw new UnsupportedOperationException("Netty not available on the class path");
+    }
+}
@@ -32,6 +32,7 @@ import org.slf4j.LoggerFactory;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.channel.nio.NioIoHandler;
@@ -49,48 +50,72 @@ public final class Netty4IOContext implements IOContext {
     private static final int ASYNC_SHUTDOWN_TIMEOUT = 100;
     private static final int ASYNC_SHUTDOWN_QUIET_PERIOD = 10;
 
+    static final String NIO = "NIO";
+
     private final EventLoopGroup group;
     private final NettyIOScheduler scheduler = new NettyIOScheduler();
     private final Class<? extends Channel> channelClass;
     private final TransportOptions options;
     private final SslOptions sslOptions;
-    private final ThreadFactory threadFactory;
+    private final Runnable sharedLoopRelease;
+
+    private volatile boolean released;
 
     public Netty4IOContext(TransportOptions options, SslOptions ssl, String ioThreadName) {
         Objects.requireNonNull(options, "Transport Options cannot be null");
         Objects.requireNonNull(ssl, "Transport SSL Options cannot be null");
 
+        final String ioType = selectIOType(options);
+
         this.options = options;
         this.sslOptions = ssl;
-        this.threadFactory = new TrackableThreadFactory(ioThreadName, true);
+        this.group = createGroup(ioType, 1, new TrackableThreadFactory(ioThreadName, true));
+        this.channelClass = getChannelClass(ioType);
+        this.sharedLoopRelease = null;
+    }
 
-        final String[] nativeIOPreference = options.nativeIOPreference();
+    /*
+     * Creates an IO context that is pinned to a single event loop from a shared group, the
+     * event loop is not owned by this context and is only released back to the group when
+     * this context is shutdown.
+     */
+    Netty4IOContext(TransportOptions options, SslOptions ssl, EventLoop eventLoop, Class<? extends Channel> channelClass, Runnable sharedLoopRelease) {
+        Objects.requireNonNull(options, "Transport Options cannot be null");
+        Objects.requireNonNull(ssl, "Transport SSL Options cannot be null");
 
-        EventLoopGroup selectedGroup = null;
-        Class<? extends Channel> selectedChannelClass = null;
+        this.options = options;
+        this.sslOptions = ssl;
+        this.group = eventLoop;
+        this.channelClass = channelClass;
+        this.sharedLoopRelease = sharedLoopRelease;
+    }
 
+    /**
+     * Selects the name of the IO layer to use based on the native IO preferences in the given
+     * {@link TransportOptions} and what is available in the current environment.
+     *
+     * @param options
+     * 		The {@link TransportOptions} that control the native IO selection.
+     *
+     * @return the name of the selected native IO layer or {@link #NIO} if no native IO is selected.
+     */
+    static String selectIOType(TransportOptions options) {
         if (options.allowNativeIO()) {
-            for (String nativeID : nativeIOPreference) {
+            for (String nativeID : options.nativeIOPreference()) {
                 if (EpollSupport.NAME.equalsIgnoreCase(nativeID)) {
                     if (EpollSupport.isAvailable(options)) {
                         LOG.trace("Netty Transports will be using Epoll mode");
-                        selectedGroup = EpollSupport.createGroup(1, threadFactory);
-                        selectedChannelClass = EpollSupport.getChannelClass();
-                        break;
+                        return EpollSupport.NAME;
                     }
                 } else if (IOUringSupport.NAME.equalsIgnoreCase(nativeID)) {
                     if (IOUringSupport.isAvailable(options)) {
                         LOG.trace("Netty Transports will be using IO-Uring mode");
-                        selectedGroup = IOUringSupport.createGroup(1, threadFactory);
-                        selectedChannelClass = IOUringSupport.getChannelClass();
-                        break;
+                        return IOUringSupport.NAME;
                     }
                 } else if (KQueueSupport.NAME.equalsIgnoreCase(nativeID)) {
                     if (KQueueSupport.isAvailable(options)) {
                         LOG.trace("Netty Transports will be using KQueue mode");
-                        selectedGroup = KQueueSupport.createGroup(1, threadFactory);
-                        selectedChannelClass = KQueueSupport.getChannelClass();
-                        break;
+                        return KQueueSupport.NAME;
                     }
                 } else {
                     throw new IllegalArgumentException(
@@ -99,19 +124,41 @@ public final class Netty4IOContext implements IOContext {
             }
         }
 
-        if (selectedGroup == null) {
-            LOG.trace("Netty Transports will be using NIO mode");
-            selectedGroup = new MultiThreadIoEventLoopGroup(1, threadFactory, NioIoHandler.newFactory());
-            selectedChannelClass = NioSocketChannel.class;
+        LOG.trace("Netty Transports will be using NIO mode");
+        return NIO;
+    }
+
+    static EventLoopGroup createGroup(String ioType, int nThreads, ThreadFactory threadFactory) {
+        switch (ioType) {
+            case EpollSupport.NAME:
+                return EpollSupport.createGroup(nThreads, threadFactory);
+            case IOUringSupport.NAME:
+                return IOUringSupport.createGroup(nThreads, threadFactory);
+            case KQueueSupport.NAME:
+                return KQueueSupport.createGroup(nThreads, threadFactory);
+            default:
+                return new MultiThreadIoEventLoopGroup(nThreads, threadFactory, NioIoHandler.newFactory());
         }
+    }
 
-        this.group = selectedGroup;
-        this.channelClass = selectedChannelClass;
+    static Class<? extends Channel> getChannelClass(String ioType) {
+        switch (ioType) {
+            case EpollSupport.NAME:
+                return EpollSupport.getChannelClass();
+            case IOUringSupport.NAME:
+                return IOUringSupport.getChannelClass();
+            case KQueueSupport.NAME:
+                return KQueueSupport.getChannelClass();
+            default:
+                return NioSocketChannel.class;
+        }
     }
 
     @Override
     public void shutdown() {
-        if (!group.isShutdown()) {
+        if (sharedLoopRelease != null) {
+            releaseSharedLoop();
+        } else if (!group.isShutdown()) {
             group.shutdownGracefully(0, SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
             try {
                 if (!group.awaitTermination(2 * SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
@@ -125,7 +172,9 @@ public final class Netty4IOContext implements IOContext {
 
     @Override
     public void shutdownAsync() {
-        if (!group.isShutdown()) {
+        if (sharedLoopRelease != null) {
+            releaseSharedLoop();
+        } else if (!group.isShutdown()) {
             group.shutdownGracefully(ASYNC_SHUTDOWN_QUIET_PERIOD, ASYNC_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
         }
     }
@@ -137,7 +186,7 @@ public final class Netty4IOContext implements IOContext {
 
     @Override
     public TcpTransport newTransport() {
-        if (group.isShutdown() || group.isShuttingDown() || group.isTerminated()) {
+        if (released || group.isShutdown() || group.isShuttingDown() || group.isTerminated()) {
             throw new IllegalStateException("Cannot create a Transport from a shutdown IO context");
         }
 
@@ -154,6 +203,13 @@ public final class Netty4IOContext implements IOContext {
         return transport;
     }
 
+    private synchronized void releaseSharedLoop() {
+        if (!released) {
+            released = true;
+            sharedLoopRelease.run();
+        }
+    }
+
     public class NettyIOScheduler implements Scheduler, Executor {
 
         @Override
@@ -183,7 +239,7 @@ public final class Netty4IOContext implements IOContext {
 
         @Override
         public boolean isShutdown() {
-            return group.isShutdown();
+            return released || group.isShutdown();
         }
     }
 }
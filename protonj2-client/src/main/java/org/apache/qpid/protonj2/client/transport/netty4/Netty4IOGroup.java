@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.transport.netty4;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.client.SslOptions;
+import org.apache.qpid.protonj2.client.TransportOptions;
+import org.apache.qpid.protonj2.client.transport.IOGroup;
+import org.apache.qpid.protonj2.client.util.TrackableThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+
+/**
+ * Shared group of Netty event loops from which {@link Netty4IOContext} instances are created.
+ * <p>
+ * An event loop group is created lazily for each IO layer (NIO or one of the native variants)
+ * that the created contexts require and each context is pinned to the event loop from that group
+ * that currently serves the fewest contexts, ties are broken in round robin order.
+ */
+public final class Netty4IOGroup implements IOGroup {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Netty4IOGroup.class);
+
+    private static final int SHUTDOWN_TIMEOUT = 50;
+    private static final int ASYNC_SHUTDOWN_TIMEOUT = 100;
+    private static final int ASYNC_SHUTDOWN_QUIET_PERIOD = 10;
+
+    private final Map<String, SharedEventLoops> groups = new HashMap<>();
+    private final ThreadFactory threadFactory;
+    private final int ioThreads;
+
+    private boolean shutdown;
+
+    public Netty4IOGroup(int ioThreads, String ioThreadName) {
+        if (ioThreads <= 0) {
+            throw new IllegalArgumentException("Number of shared I/O threads must be greater than zero");
+        }
+
+        this.ioThreads = ioThreads;
+        this.threadFactory = new TrackableThreadFactory(ioThreadName, true);
+    }
+
+    @Override
+    public synchronized Netty4IOContext newContext(TransportOptions options, SslOptions sslOptions) {
+        Objects.requireNonNull(options, "Transport Options cannot be null");
+        Objects.requireNonNull(sslOptions, "Transport SSL Options cannot be null");
+
+        if (shutdown) {
+            throw new IllegalStateException("Cannot create an IO context from a shutdown IO group");
+        }
+
+        final SharedEventLoops eventLoops = groups.computeIfAbsent(Netty4IOContext.selectIOType(options), SharedEventLoops::new);
+        final int index = eventLoops.acquire();
+
+        return new Netty4IOContext(options, sslOptions, eventLoops.loops[index], eventLoops.channelClass, () -> release(eventLoops, index));
+    }
+
+    @Override
+    public void shutdown() {
+        for (EventLoopGroup group : beginShutdown()) {
+            group.shutdownGracefully(0, SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
+            try {
+                if (!group.awaitTermination(2 * SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    LOG.trace("Shared IO Event Loop shutdown failed to complete in allotted time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void shutdownAsync() {
+        for (EventLoopGroup group : beginShutdown()) {
+            group.shutdownGracefully(ASYNC_SHUTDOWN_QUIET_PERIOD, ASYNC_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return the number of active contexts assigned to each event loop of the given IO layer, or null if none created.
+     */
+    synchronized int[] contextsPerEventLoop(String ioType) {
+        final SharedEventLoops eventLoops = groups.get(ioType);
+        return eventLoops != null ? eventLoops.load.clone() : null;
+    }
+
+    private synchronized EventLoopGroup[] beginShutdown() {
+        if (shutdown) {
+            return new EventLoopGroup[0];
+        }
+
+        shutdown = true;
+
+        return groups.values().stream().map(eventLoops -> eventLoops.group).toArray(EventLoopGroup[]::new);
+    }
+
+    private synchronized void release(SharedEventLoops eventLoops, int index) {
+        eventLoops.load[index]--;
+    }
+
+    private final class SharedEventLoops {
+
+        private final EventLoopGroup group;
+        private final Class<? extends Channel> channelClass;
+        private final EventLoop[] loops;
+        private final int[] load;
+
+        private int next;
+
+        public SharedEventLoops(String ioType) {
+            this.group = Netty4IOContext.createGroup(ioType, ioThreads, threadFactory);
+            this.channelClass = Netty4IOContext.getChannelClass(ioType);
+            this.loops = new EventLoop[ioThreads];
+            this.load = new int[ioThreads];
+
+            for (int i = 0; i < ioThreads; ++i) {
+                loops[i] = group.next();
+            }
+        }
+
+        int acquire() {
+            int selected = next;
+
+            for (int i = 1; i < loops.length; ++i) {
+                final int candidate = (next + i) % loops.length;
+                if (load[candidate] < load[selected]) {
+                    selected = candidate;
+                }
+            }
+
+            next = (selected + 1) % loops.length;
+            load[selected]++;
+
+            return selected;
+        }
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.client.util;
 
+import java.util.Collection;
+
 import org.apache.qpid.protonj2.client.Delivery;
 import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.impl.ClientDelivery;
@@ -25,6 +27,42 @@ import org.apache.qpid.protonj2.client.impl.ClientDelivery;
  */
 public interface DeliveryQueue {
 
+    /**
+     * Names a delivery queue that guards its contents with a lock and waits on it for new deliveries.
+     */
+    String FIFO = "fifo";
+
+    /**
+     * Names a delivery queue built on a lock-free single producer ring that spins and then parks waiters.
+     */
+    String SPSC = "spsc";
+
+    /**
+     * Create a new {@link DeliveryQueue} instance based on the given type name.
+     *
+     * @param queueType
+     * 		the name of the queue type to create or null to create the default type.
+     * @param queueDepth
+     * 		the expected number of deliveries the queue will need to hold.
+     *
+     * @return a new {@link DeliveryQueue} of the requested type.
+     */
+    static DeliveryQueue create(String queueType, int queueDepth) {
+        if (queueType == null || queueType.isEmpty()) {
+            return new FifoDeliveryQueue(queueDepth);
+        }
+
+        switch (queueType.toLowerCase()) {
+            case FIFO:
+                return new FifoDeliveryQueue(queueDepth);
+            case SPSC:
+                return new SpscDeliveryQueue(queueDepth);
+            default:
+                throw new IllegalArgumentException(
+                    "No DeliveryQueue implementation with name " + queueType + " found");
+        }
+    }
+
     /**
      * Adds the given {@link Delivery} to the end of the Delivery queue.
      *
@@ -62,6 +100,25 @@ public interface DeliveryQueue {
      */
     ClientDelivery dequeue(long timeout) throws InterruptedException;
 
+    /**
+     * Used to get up to the given number of {@link Delivery} instances from the queue in a single
+     * operation.  The amount of time this method blocks waiting for the first Delivery to arrive is
+     * based on the timeout value as described in {@link #dequeue(long)}, once at least one Delivery
+     * is available any others that are already queued are also taken up to the given maximum.
+     *
+     * @param target
+     *      The {@link Collection} that the dequeued deliveries are added to.
+     * @param maxDeliveries
+     *      The maximum number of deliveries to take from the queue.
+     * @param timeout
+     *      The amount of time to wait for an entry to be added before returning nothing.
+     *
+     * @return the number of deliveries that were added to the target collection.
+     *
+     * @throws InterruptedException if the wait is interrupted.
+     */
+    int dequeue(Collection<? super ClientDelivery> target, int maxDeliveries, long timeout) throws InterruptedException;
+
     /**
      * Used to get an enqueued {@link Delivery} if on exists, otherwise returns null.
      *
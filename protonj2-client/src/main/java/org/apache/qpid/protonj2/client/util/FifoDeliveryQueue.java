@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.client.util;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Deque;
 
 import org.apache.qpid.protonj2.client.Delivery;
@@ -52,26 +53,7 @@ public final class FifoDeliveryQueue implements DeliveryQueue {
 
     @Override
     public synchronized ClientDelivery dequeue(long timeout) throws InterruptedException {
-        // Wait until the receiver is ready to deliver messages.
-        while (queue.isEmpty() && timeout != 0 && started) {
-            if (timeout == -1) {
-                waiters++;
-                try {
-                    wait();
-                } finally {
-                    waiters--;
-                }
-            } else {
-                long start = System.currentTimeMillis();
-                waiters++;
-                try {
-                    wait(timeout);
-                } finally {
-                    waiters--;
-                }
-                timeout = Math.max(timeout + start - System.currentTimeMillis(), 0);
-            }
-        }
+        awaitDelivery(timeout);
 
         if (started) {
             return queue.pollFirst();
@@ -80,6 +62,22 @@ public final class FifoDeliveryQueue implements DeliveryQueue {
         }
     }
 
+    @Override
+    public synchronized int dequeue(Collection<? super ClientDelivery> target, int maxDeliveries, long timeout) throws InterruptedException {
+        awaitDelivery(timeout);
+
+        int count = 0;
+
+        if (started) {
+            while (count < maxDeliveries && !queue.isEmpty()) {
+                target.add(queue.pollFirst());
+                count++;
+            }
+        }
+
+        return count;
+    }
+
     @Override
     public synchronized ClientDelivery dequeueNoWait() {
         if (started) {
@@ -135,4 +133,28 @@ public final class FifoDeliveryQueue implements DeliveryQueue {
     public synchronized String toString() {
         return queue.toString();
     }
+
+    // Must be called while holding the queue lock
+    private void awaitDelivery(long timeout) throws InterruptedException {
+        // Wait until the receiver is ready to deliver messages.
+        while (queue.isEmpty() && timeout != 0 && started) {
+            if (timeout == -1) {
+                waiters++;
+                try {
+                    wait();
+                } finally {
+                    waiters--;
+                }
+            } else {
+                long start = System.currentTimeMillis();
+                waiters++;
+                try {
+                    wait(timeout);
+                } finally {
+                    waiters--;
+                }
+                timeout = Math.max(timeout + start - System.currentTimeMillis(), 0);
+            }
+        }
+    }
 }
@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.impl.ClientDelivery;
+
+/**
+ * {@link Delivery} Queue built on a lock-free single producer ring buffer.
+ * <p>
+ * The connection I/O thread is the only producer and never blocks or takes a lock when adding
+ * deliveries, if the ring is full it links in a ring of twice the size so that deliveries are
+ * never refused.  Consumers first spin briefly waiting for a delivery to arrive and then park
+ * using {@link LockSupport} until the producer signals them.  Consumers are serialized by a
+ * light weight guard that is only held while removing an element, this keeps the queue safe
+ * when the receiver clears it from the I/O thread or when more than one application thread
+ * receives from it, however the queue performs best with a single consuming thread.
+ */
+public final class SpscDeliveryQueue implements DeliveryQueue {
+
+    private static final VarHandle ELEMENTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle PRODUCER_INDEX;
+    private static final VarHandle CONSUMER_INDEX;
+    private static final VarHandle CONSUMER_GUARD;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            PRODUCER_INDEX = lookup.findVarHandle(SpscDeliveryQueue.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(SpscDeliveryQueue.class, "consumerIndex", long.class);
+            CONSUMER_GUARD = lookup.findVarHandle(SpscDeliveryQueue.class, "consumerGuard", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Number of times a consumer checks for a new delivery before parking, spinning only
+     * delays the producer when there is a single processor.
+     */
+    private static final int SPIN_LIMIT = Runtime.getRuntime().availableProcessors() > 1 ? 128 : 0;
+
+    private static final Object JUMP = new Object();
+
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+    // Producer side state only updated from the producer thread
+    private Object[] producerBuffer;
+    private int producerMask;
+    private volatile long producerIndex;
+
+    // Consumer side state only updated while holding the consumer guard
+    private Object[] consumerBuffer;
+    private int consumerMask;
+    private volatile long consumerIndex;
+    private volatile int consumerGuard;
+
+    private volatile boolean started;
+
+    /**
+     * Creates a new single producer delivery queue sized for the given queue depth.
+     *
+     * @param queueDepth
+     * 		The expected queue depth which sets the initial capacity of the queue.
+     */
+    public SpscDeliveryQueue(int queueDepth) {
+        final int capacity = roundToPowerOfTwo(Math.max(16, queueDepth + 1));
+
+        // The extra slot at the end of each buffer holds the link to a larger buffer
+        this.producerBuffer = new Object[capacity + 1];
+        this.producerMask = capacity - 1;
+        this.consumerBuffer = producerBuffer;
+        this.consumerMask = producerMask;
+    }
+
+    @Override
+    public void enqueue(ClientDelivery delivery) {
+        final Object[] buffer = producerBuffer;
+        final long index = producerIndex;
+        final int offset = (int) index & producerMask;
+
+        // A free slot is always kept between the producer and consumer so that the
+        // slot at the producer index is known to be free here.
+        if (ELEMENTS.getAcquire(buffer, ((int) index + 1) & producerMask) == null) {
+            ELEMENTS.setRelease(buffer, offset, delivery);
+        } else {
+            final int capacity = (producerMask + 1) * 2;
+            final Object[] next = new Object[capacity + 1];
+
+            producerBuffer = next;
+            producerMask = capacity - 1;
+
+            next[(int) index & producerMask] = delivery;
+            buffer[buffer.length - 1] = next;
+            ELEMENTS.setRelease(buffer, offset, JUMP);
+        }
+
+        // Volatile store orders the element publication before the waiter check.
+        PRODUCER_INDEX.setVolatile(this, index + 1);
+
+        if (!waiters.isEmpty()) {
+            waiters.forEach(LockSupport::unpark);
+        }
+    }
+
+    @Override
+    public ClientDelivery dequeue(long timeout) throws InterruptedException {
+        final long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0;
+
+        int spins = SPIN_LIMIT;
+
+        while (true) {
+            if (!started) {
+                return null;
+            }
+
+            ClientDelivery delivery = poll();
+            if (delivery != null || timeout == 0) {
+                return delivery;
+            }
+
+            if (spins > 0) {
+                spins--;
+                Thread.onSpinWait();
+                continue;
+            }
+
+            final Thread current = Thread.currentThread();
+
+            waiters.add(current);
+            try {
+                // Check again now that the producer can see this thread waiting
+                delivery = poll();
+                if (delivery != null || !started) {
+                    return started ? delivery : null;
+                }
+
+                if (timeout < 0) {
+                    LockSupport.park(this);
+                } else {
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return null;
+                    }
+
+                    LockSupport.parkNanos(this, remaining);
+                }
+            } finally {
+                waiters.remove(current);
+            }
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public int dequeue(Collection<? super ClientDelivery> target, int maxDeliveries, long timeout) throws InterruptedException {
+        if (maxDeliveries <= 0) {
+            return 0;
+        }
+
+        final ClientDelivery first = dequeue(timeout);
+        if (first == null) {
+            return 0;
+        }
+
+        target.add(first);
+
+        int count = 1;
+
+        acquireConsumerGuard();
+        try {
+            ClientDelivery next;
+            while (count < maxDeliveries && started && (next = pollUnguarded()) != null) {
+                target.add(next);
+                count++;
+            }
+        } finally {
+            releaseConsumerGuard();
+        }
+
+        return count;
+    }
+
+    @Override
+    public ClientDelivery dequeueNoWait() {
+        if (started) {
+            return poll();
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!started) {
+            started = true;
+            waiters.forEach(LockSupport::unpark);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (started) {
+            started = false;
+            waiters.forEach(LockSupport::unpark);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return started;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        // Read the consumer index first so that the size is never negative.
+        final long consumed = consumerIndex;
+        final long produced = producerIndex;
+
+        return (int) Math.max(0, produced - consumed);
+    }
+
+    @Override
+    public void clear() {
+        acquireConsumerGuard();
+        try {
+            while (pollUnguarded() != null) {
+            }
+        } finally {
+            releaseConsumerGuard();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpscDeliveryQueue { size = " + size() + " }";
+    }
+
+    //----- Internal consumer side implementation
+
+    private ClientDelivery poll() {
+        acquireConsumerGuard();
+        try {
+            return pollUnguarded();
+        } finally {
+            releaseConsumerGuard();
+        }
+    }
+
+    private ClientDelivery pollUnguarded() {
+        Object[] buffer = consumerBuffer;
+        final long index = consumerIndex;
+        int offset = (int) index & consumerMask;
+
+        Object element = ELEMENTS.getAcquire(buffer, offset);
+        if (element == null) {
+            return null;
+        }
+
+        if (element == JUMP) {
+            final Object[] next = (Object[]) buffer[buffer.length - 1];
+
+            buffer[buffer.length - 1] = null;
+            ELEMENTS.setRelease(buffer, offset, null);
+
+            consumerBuffer = buffer = next;
+            consumerMask = next.length - 2;
+            offset = (int) index & consumerMask;
+            element = ELEMENTS.getAcquire(buffer, offset);
+        }
+
+        ELEMENTS.setRelease(buffer, offset, null);
+        CONSUMER_INDEX.setRelease(this, index + 1);
+
+        return (ClientDelivery) element;
+    }
+
+    private void acquireConsumerGuard() {
+        while (!CONSUMER_GUARD.compareAndSet(this, 0, 1)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void releaseConsumerGuard() {
+        CONSUMER_GUARD.setRelease(this, 0);
+    }
+
+    private static int roundToPowerOfTwo(int value) {
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+}
@@ -17,8 +17,10 @@
 package org.apache.qpid.protonj2.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -30,6 +32,8 @@ public class ClientOptionsTest {
 
         assertNull(options.id());
         assertNull(options.futureType());
+        assertEquals(ClientOptions.DEFAULT_SHARED_IO_THREADS, options.sharedIOThreads());
+        assertFalse(options.virtualThreadFriendly());
     }
 
     @Test
@@ -38,11 +42,15 @@ public class ClientOptionsTest {
 
         options.id("test");
         options.futureType("past-present");
+        options.sharedIOThreads(4);
+        options.virtualThreadFriendly(true);
 
         ClientOptions copy = options.clone();
 
         assertNotSame(copy, options);
         assertEquals(options.id(), copy.id());
         assertEquals(options.futureType(), copy.futureType());
+        assertEquals(options.sharedIOThreads(), copy.sharedIOThreads());
+        assertTrue(copy.virtualThreadFriendly());
     }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+public class KeyedDispatchOptionsTest {
+
+    @Test
+    void testCreate() {
+        KeyedDispatchOptions options = new KeyedDispatchOptions();
+
+        assertEquals(Runtime.getRuntime().availableProcessors(), options.lanes());
+        assertEquals(KeyedDispatchOptions.DEFAULT_MAX_PENDING_DELIVERIES, options.maxPendingDeliveries());
+        assertTrue(options.autoAccept());
+        assertSame(KeyedDispatchOptions.GROUP_ID, options.keyExtractor());
+        assertNull(options.executor());
+    }
+
+    @Test
+    void testCopy() {
+        final Executor executor = Runnable::run;
+        final KeyedDispatchOptions options = new KeyedDispatchOptions();
+
+        options.lanes(16);
+        options.maxPendingDeliveries(500);
+        options.autoAccept(false);
+        options.keyExtractor(KeyedDispatchOptions.SUBJECT);
+        options.executor(executor);
+
+        KeyedDispatchOptions copy = options.clone();
+
+        assertNotSame(copy, options);
+        assertEquals(16, copy.lanes());
+        assertEquals(500, copy.maxPendingDeliveries());
+        assertFalse(copy.autoAccept());
+        assertSame(KeyedDispatchOptions.SUBJECT, copy.keyExtractor());
+        assertSame(executor, copy.executor());
+    }
+
+    @Test
+    void testNullKeyExtractorRestoresDefault() {
+        KeyedDispatchOptions options = new KeyedDispatchOptions();
+
+        options.keyExtractor(KeyedDispatchOptions.SUBJECT);
+        options.keyExtractor(null);
+
+        assertSame(KeyedDispatchOptions.GROUP_ID, options.keyExtractor());
+    }
+
+    @Test
+    void testRejectsNonPositiveValues() {
+        KeyedDispatchOptions options = new KeyedDispatchOptions();
+
+        assertThrows(IllegalArgumentException.class, () -> options.lanes(0));
+        assertThrows(IllegalArgumentException.class, () -> options.maxPendingDeliveries(0));
+    }
+}
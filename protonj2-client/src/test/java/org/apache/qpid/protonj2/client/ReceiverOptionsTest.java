@@ -20,8 +20,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.apache.qpid.protonj2.client.util.DeliveryQueue;
 import org.junit.jupiter.api.Test;
 
 public class ReceiverOptionsTest {
@@ -48,4 +50,36 @@ public class ReceiverOptionsTest {
         assertEquals(options.reconnectLocations(), copy.reconnectLocations());
         assertEquals(options.reconnectEnabled(), copy.reconnectEnabled());
     }
+
+    @Test
+    void testCopyDeliveryQueueType() {
+        ReceiverOptions options = new ReceiverOptions();
+
+        assertNull(options.deliveryQueueType());
+
+        options.deliveryQueueType(DeliveryQueue.SPSC);
+
+        ReceiverOptions copy = options.clone();
+
+        assertNotSame(copy, options);
+        assertEquals(DeliveryQueue.SPSC, copy.deliveryQueueType());
+    }
+
+    @Test
+    void testCopyAdaptiveCreditWindowOptions() {
+        ReceiverOptions options = new ReceiverOptions();
+
+        assertFalse(options.adaptiveCreditWindow());
+
+        options.adaptiveCreditWindow(true);
+        options.maxCreditWindow(500);
+        options.maxPrefetchBytes(1024);
+
+        ReceiverOptions copy = options.clone();
+
+        assertNotSame(copy, options);
+        assertTrue(copy.adaptiveCreditWindow());
+        assertEquals(500, copy.maxCreditWindow());
+        assertEquals(1024, copy.maxPrefetchBytes());
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ReceiverPoolOptionsTest {
+
+    @Test
+    void testCreate() {
+        ReceiverPoolOptions options = new ReceiverPoolOptions();
+
+        assertEquals(ReceiverPoolOptions.DEFAULT_RECEIVER_COUNT, options.receiverCount());
+        assertEquals(ReceiverPoolOptions.DEFAULT_SESSIONS_PER_CONNECTION, options.sessionsPerConnection());
+        assertEquals(ReceiverPoolOptions.DEFAULT_CREDIT_WINDOW, options.creditWindow());
+        assertEquals(Runtime.getRuntime().availableProcessors(), options.workerThreads());
+        assertTrue(options.autoAccept());
+        assertNotNull(options.receiverOptions());
+    }
+
+    @Test
+    void testCopy() {
+        ReceiverPoolOptions options = new ReceiverPoolOptions();
+
+        options.receiverCount(8);
+        options.sessionsPerConnection(2);
+        options.workerThreads(3);
+        options.creditWindow(64);
+        options.autoAccept(false);
+        options.receiverOptions(new ReceiverOptions().drainTimeout(5));
+
+        ReceiverPoolOptions copy = options.clone();
+
+        assertNotSame(copy, options);
+        assertEquals(8, copy.receiverCount());
+        assertEquals(2, copy.sessionsPerConnection());
+        assertEquals(3, copy.workerThreads());
+        assertEquals(64, copy.creditWindow());
+        assertFalse(copy.autoAccept());
+        assertNotSame(options.receiverOptions(), copy.receiverOptions());
+        assertEquals(5, copy.receiverOptions().drainTimeout());
+    }
+
+    @Test
+    void testRejectsNonPositiveValues() {
+        ReceiverPoolOptions options = new ReceiverPoolOptions();
+
+        assertThrows(IllegalArgumentException.class, () -> options.receiverCount(0));
+        assertThrows(IllegalArgumentException.class, () -> options.sessionsPerConnection(0));
+        assertThrows(IllegalArgumentException.class, () -> options.workerThreads(0));
+        assertThrows(IllegalArgumentException.class, () -> options.creditWindow(0));
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.client;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -30,6 +31,9 @@ public class SessionOptionsTest {
 
         assertNull(options.offeredCapabilities());
         assertNull(options.desiredCapabilities());
+        assertEquals(SessionOptions.DEFAULT_DISPOSITION_BATCH_LIMIT, options.dispositionBatchLimit());
+        assertEquals(SessionOptions.DEFAULT_DISPOSITION_BATCH_DELAY, options.dispositionBatchDelay());
+        assertEquals(SessionOptions.DEFAULT_DEFER_TRANSACTED_DISPOSITIONS, options.deferTransactedDispositions());
     }
 
     @Test
@@ -38,11 +42,17 @@ public class SessionOptionsTest {
 
         options.offeredCapabilities("test1");
         options.desiredCapabilities("test2");
+        options.dispositionBatchLimit(16);
+        options.dispositionBatchDelay(10);
+        options.deferTransactedDispositions(true);
 
         SessionOptions copy = options.clone();
 
         assertNotSame(copy, options);
         assertArrayEquals(options.offeredCapabilities(), copy.offeredCapabilities());
         assertArrayEquals(options.desiredCapabilities(), copy.desiredCapabilities());
+        assertEquals(options.dispositionBatchLimit(), copy.dispositionBatchLimit());
+        assertEquals(options.dispositionBatchDelay(), copy.dispositionBatchDelay());
+        assertEquals(options.deferTransactedDispositions(), copy.deferTransactedDispositions());
     }
 }
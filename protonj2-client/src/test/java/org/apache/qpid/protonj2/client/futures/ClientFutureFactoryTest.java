@@ -83,4 +83,15 @@ public class ClientFutureFactoryTest {
 
         assertTrue(future instanceof ProgressiveClientFuture);
     }
+
+    @Test
+    public void testCreateLightweightFactoryFromConfiguration() {
+        ClientFutureFactory factory = ClientFutureFactory.create("lightweight");
+
+        ClientFuture<Void> future = factory.createFuture();
+        assertNotNull(future);
+        assertFalse(future.isComplete());
+
+        assertTrue(future instanceof LightweightClientFuture);
+    }
 }
@@ -31,6 +31,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -39,7 +40,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 public class ClientFutureTest {
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testIsComplete(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -56,7 +57,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testOnSuccess(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Boolean> future = futuresFactory.createFuture();
@@ -77,7 +78,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testOnSuccessFromAnotherThread(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Boolean> future = futuresFactory.createFuture();
@@ -98,7 +99,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testTimedGet(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -112,7 +113,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testTimedGetWhenComplete(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -127,7 +128,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testTimedGetWhenCompleteWithZeroTimeout(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -142,7 +143,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testTimedGetWhenNotCompleteWithZeroTimeout(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -155,7 +156,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testTimedGetWhenCancelled(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -174,7 +175,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testTimedGetWhenCancelledFromAnotherThread(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -193,7 +194,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testOnFailure(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -216,7 +217,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testOnFailureFromAnotherThread(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -240,7 +241,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testOnSuccessCallsSynchronization(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -269,7 +270,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testOnFailureCallsSynchronization(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -305,7 +306,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testOnSuccessCallsSynchronizationIngoresThrownError(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -338,7 +339,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testOnFailureCallsSynchronizationAndIngoresThrownErrors(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -378,7 +379,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testSuccessfulStateIsFixed(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -394,7 +395,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testFailedStateIsFixed(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -415,7 +416,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testSyncHandlesInterruption(String futureType) throws InterruptedException {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -453,7 +454,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testTimedSyncHandlesInterruption(String futureType) throws InterruptedException {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createFuture();
@@ -491,7 +492,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testUnfailableOnSuccessCallsSuccessSynchronization(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -520,7 +521,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testUnfailableOnFailureCannotFail(String futureType) {
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
         final ClientFuture<Void> future = futuresFactory.createUnfailableFuture();
@@ -540,7 +541,7 @@ public class ClientFutureTest {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    @ValueSource(strings = { "conservative", "balanced", "progressive", "lightweight" })
     public void testUnfailableOnFailureCallsSuccessSynchronizationWhenFailed(String futureType) {
         final AtomicBoolean syncCalled = new AtomicBoolean(false);
         final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
@@ -568,4 +569,94 @@ public class ClientFutureTest {
 
         assertTrue(syncCalled.get(), "Synchronization not called");
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "conservative", "balanced", "progressive" })
+    public void testResetNotSupported(String futureType) {
+        final ClientFutureFactory futuresFactory = ClientFutureFactory.create(futureType);
+        final ClientFuture<Void> future = futuresFactory.createFuture();
+
+        future.complete(null);
+
+        assertFalse(future.reset());
+        assertTrue(future.isComplete());
+    }
+
+    @Test
+    public void testLightweightResetAfterCompletion() throws Exception {
+        final ClientFuture<String> future = ClientFutureFactory.create("lightweight").createFuture();
+
+        assertFalse(future.reset());
+
+        future.complete("first");
+        assertSame("first", future.get());
+        assertTrue(future.reset());
+
+        assertFalse(future.isDone());
+        assertNull(future.getResult());
+
+        future.failed(new ClientException("Failed"));
+        assertTrue(future.isFailed());
+        assertTrue(future.reset());
+        assertFalse(future.isFailed());
+
+        future.complete("second");
+        assertSame("second", future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLightweightResetRefusedWithSynchronization() {
+        final ClientFuture<Void> future = ClientFutureFactory.create("lightweight").createFuture(new ClientSynchronization<Void>() {
+
+            @Override
+            public void onPendingSuccess(Void result) {
+            }
+
+            @Override
+            public void onPendingFailure(Throwable cause) {
+            }
+        });
+
+        future.complete(null);
+
+        assertFalse(future.reset());
+    }
+
+    @Test
+    public void testLightweightWakesMultipleWaitersAfterReuse() throws Exception {
+        final ClientFuture<String> future = ClientFutureFactory.create("lightweight").createFuture();
+
+        for (int round = 0; round < 10; ++round) {
+            final String expected = "round-" + round;
+            final CountDownLatch started = new CountDownLatch(3);
+            final CountDownLatch done = new CountDownLatch(3);
+            final AtomicBoolean mismatch = new AtomicBoolean();
+
+            for (int i = 0; i < 3; ++i) {
+                new Thread(() -> {
+                    started.countDown();
+                    try {
+                        if (!expected.equals(future.get(5, TimeUnit.SECONDS))) {
+                            mismatch.set(true);
+                        }
+                    } catch (Exception e) {
+                        mismatch.set(true);
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(5);
+            future.complete(expected);
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertFalse(mismatch.get());
+
+            while (!future.reset()) {
+                Thread.yield();
+            }
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.qpid.protonj2.client.ReceiverOptions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link ClientCreditController}
+ */
+class ClientCreditControllerTest {
+
+    @Test
+    public void testCreditCheckRequestedOnlyAfterThresholdConsumed() {
+        ClientCreditController controller = new ClientCreditController(new ReceiverOptions().creditWindow(10));
+
+        assertFalse(controller.deliveriesConsumed(1));
+        assertFalse(controller.deliveriesConsumed(1));
+        assertTrue(controller.deliveriesConsumed(1));
+        // Only one check is requested until the connection executor has performed it
+        assertFalse(controller.deliveriesConsumed(1));
+
+        assertEquals(3, controller.creditToGrant(0, 7));
+
+        assertFalse(controller.deliveriesConsumed(2));
+        assertTrue(controller.deliveriesConsumed(1));
+    }
+
+    @Test
+    public void testCreditWindowOfOneRequestsCheckForEachDelivery() {
+        ClientCreditController controller = new ClientCreditController(new ReceiverOptions().creditWindow(1));
+
+        assertTrue(controller.deliveriesConsumed(1));
+        assertEquals(1, controller.creditToGrant(0, 0));
+        assertTrue(controller.deliveriesConsumed(1));
+    }
+
+    @Test
+    public void testNoCreditGrantedAboveThresholds() {
+        ClientCreditController controller = new ClientCreditController(new ReceiverOptions().creditWindow(10));
+
+        assertEquals(0, controller.creditToGrant(6, 0));
+        assertEquals(0, controller.creditToGrant(5, 3));
+        assertEquals(5, controller.creditToGrant(5, 0));
+        assertEquals(10, controller.creditWindow());
+    }
+
+    @Test
+    public void testAdaptiveWindowGrowsWhenConsumerDrainsPrefetch() {
+        ClientCreditController controller = new ClientCreditController(
+            new ReceiverOptions().creditWindow(10).adaptiveCreditWindow(true).maxCreditWindow(30));
+
+        assertEquals(20, controller.creditToGrant(0, 0));
+        assertEquals(20, controller.creditWindow());
+        assertEquals(30, controller.creditToGrant(0, 0));
+        assertEquals(30, controller.creditWindow());
+        assertEquals(30, controller.creditToGrant(0, 0));
+        assertEquals(30, controller.creditWindow());
+    }
+
+    @Test
+    public void testAdaptiveWindowShrinksWhenDeliveriesBuildUp() {
+        ClientCreditController controller = new ClientCreditController(
+            new ReceiverOptions().creditWindow(100).adaptiveCreditWindow(true));
+
+        assertEquals(0, controller.creditToGrant(0, 80));
+        assertEquals(75, controller.creditWindow());
+    }
+
+    @Test
+    public void testAdaptiveWindowLimitedByPrefetchBytes() {
+        ClientCreditController controller = new ClientCreditController(
+            new ReceiverOptions().creditWindow(100).adaptiveCreditWindow(true).maxPrefetchBytes(10 * 1024));
+
+        controller.deliveryArrived(1024);
+
+        assertEquals(10, controller.creditToGrant(0, 0));
+        assertEquals(10, controller.creditWindow());
+    }
+
+    @Test
+    public void testFixedWindowIgnoresMessageSize() {
+        ClientCreditController controller = new ClientCreditController(
+            new ReceiverOptions().creditWindow(100).maxPrefetchBytes(10));
+
+        controller.deliveryArrived(1024);
+
+        assertEquals(100, controller.creditToGrant(0, 0));
+        assertEquals(100, controller.creditWindow());
+    }
+}
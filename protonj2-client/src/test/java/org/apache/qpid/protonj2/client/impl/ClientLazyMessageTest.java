@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.DecodeOptions;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.Decoder;
+import org.apache.qpid.protonj2.codec.Encoder;
+import org.apache.qpid.protonj2.codec.EncoderState;
+import org.apache.qpid.protonj2.engine.IncomingDelivery;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.transport.Attach;
+import org.apache.qpid.protonj2.types.transport.Role;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Test the API of {@link ClientLazyMessage}
+ */
+class ClientLazyMessageTest {
+
+    private final Decoder decoder = CodecFactory.getDefaultDecoder();
+
+    @Test
+    public void testEmptyMessageSectionsReturnDefaults() throws ClientException {
+        ClientLazyMessage<String> message = createLazyMessage(ClientMessage.create());
+
+        assertNull(message.body());
+        assertTrue(message.bodySections().isEmpty());
+        assertNull(message.header());
+        assertNull(message.properties());
+        assertNull(message.property("key"));
+        assertFalse(message.hasProperty("key"));
+        assertFalse(message.hasProperties());
+        assertFalse(message.hasAnnotations());
+        assertFalse(message.hasFooters());
+        assertNull(message.deliveryAnnotations());
+    }
+
+    @Test
+    public void testAccessAllSectionsOfLazyMessage() throws ClientException {
+        ClientMessage<String> source = createFullMessage();
+
+        Map<String, Object> deliveryAnnotations = new HashMap<>();
+        deliveryAnnotations.put("da", "value");
+
+        ClientLazyMessage<String> message = createLazyMessage(source, deliveryAnnotations);
+
+        assertTrue(message.durable());
+        assertEquals(4, message.priority());
+        assertEquals("id", message.messageId());
+        assertEquals("subject", message.subject());
+        assertEquals("ma-value", message.annotation("ma"));
+        assertEquals("value1", message.property("key1"));
+        assertEquals(2, message.property("key2"));
+        assertEquals("Hello", message.body());
+        assertEquals("footer-value", message.footer("footer"));
+
+        assertNotNull(message.deliveryAnnotations());
+        assertEquals("value", message.deliveryAnnotations().getValue().get(Symbol.valueOf("da")));
+    }
+
+    @Test
+    public void testPropertyLookupWithoutDecodingFullMap() throws ClientException {
+        ClientLazyMessage<String> message = createLazyMessage(createFullMessage());
+
+        assertEquals("value1", message.property("key1"));
+        assertTrue(message.hasProperty("key1"));
+        assertTrue(message.hasProperty("key2"));
+        assertFalse(message.hasProperty("missing"));
+        assertNull(message.property("missing"));
+
+        ApplicationProperties properties = message.applicationProperties();
+        assertNotNull(properties);
+        assertEquals(2, properties.getValue().size());
+        assertEquals("value1", message.property("key1"));
+        assertFalse(message.hasProperty("missing"));
+    }
+
+    @Test
+    public void testPropertyWithNullValueIsReportedAsPresent() throws ClientException {
+        ClientMessage<String> source = ClientMessage.create();
+        source.property("null-key", null);
+
+        ClientLazyMessage<String> message = createLazyMessage(source);
+
+        assertTrue(message.hasProperty("null-key"));
+        assertNull(message.property("null-key"));
+    }
+
+    @Test
+    public void testModifyPropertyAfterScannedLookup() throws ClientException {
+        ClientLazyMessage<String> message = createLazyMessage(createFullMessage());
+
+        assertEquals("value1", message.property("key1"));
+        message.property("key1", "updated");
+        assertEquals("updated", message.property("key1"));
+        assertEquals(2, message.property("key2"));
+
+        message.applicationProperties(null);
+        assertFalse(message.hasProperty("key1"));
+        assertFalse(message.hasProperties());
+    }
+
+    @Test
+    public void testEncodeUntouchedMessageCopiesRawBytes() throws ClientException {
+        ClientMessage<String> source = createFullMessage();
+        ProtonBuffer expected = source.encode(null, ProtonBufferAllocator.defaultAllocator());
+
+        ClientLazyMessage<String> message = createLazyMessage(source);
+
+        assertEquals(expected, message.encode(null, ProtonBufferAllocator.defaultAllocator()));
+
+        // A scanned property lookup does not count as a decode of the section.
+        assertEquals("value1", message.property("key1"));
+        assertEquals(expected, message.encode(null, ProtonBufferAllocator.defaultAllocator()));
+    }
+
+    @Test
+    public void testEncodeAfterModificationsReflectsChanges() throws ClientException {
+        Map<String, Object> deliveryAnnotations = new HashMap<>();
+        deliveryAnnotations.put("da", "value");
+
+        ClientLazyMessage<String> message = createLazyMessage(createFullMessage(), deliveryAnnotations);
+
+        message.durable(false);
+        message.property("key3", "value3");
+        message.body("Goodbye");
+
+        Map<String, Object> forwardedAnnotations = new HashMap<>();
+        forwardedAnnotations.put("forwarded", true);
+
+        ProtonBuffer encoded = message.encode(forwardedAnnotations, ProtonBufferAllocator.defaultAllocator());
+
+        final Map<String, Object> decodedAnnotations = new HashMap<>();
+        Message<?> decoded = ClientMessageSupport.decodeMessage(decoder, encoded, (annotations) -> {
+            annotations.getValue().forEach((key, value) -> decodedAnnotations.put(key.toString(), value));
+        });
+
+        assertFalse(decoded.durable());
+        assertEquals(4, decoded.priority());
+        assertEquals("id", decoded.messageId());
+        assertEquals("ma-value", decoded.annotation("ma"));
+        assertEquals("value1", decoded.property("key1"));
+        assertEquals("value3", decoded.property("key3"));
+        assertEquals("Goodbye", decoded.body());
+        assertEquals("footer-value", decoded.footer("footer"));
+        assertEquals(forwardedAnnotations, decodedAnnotations);
+    }
+
+    @Test
+    public void testMultipleDataBodySections() throws ClientException {
+        ClientMessage<byte[]> source = ClientMessage.create();
+        source.addBodySection(new Data(new byte[] { 0, 1 }));
+        source.addBodySection(new Data(new byte[] { 2, 3 }));
+        source.property("key", "value");
+        source.footer("footer", "value");
+
+        ClientLazyMessage<byte[]> message = createLazyMessage(source);
+
+        assertEquals("value", message.property("key"));
+        assertArrayEquals(new byte[] { 0, 1 }, message.body());
+
+        List<Section<?>> sections = new ArrayList<>(message.bodySections());
+        assertEquals(2, sections.size());
+        assertArrayEquals(new byte[] { 2, 3 }, ((Data) sections.get(1)).getValue());
+        assertEquals("value", message.footer("footer"));
+    }
+
+    @Test
+    public void testUnknownSectionFailsScan() {
+        final Encoder encoder = CodecFactory.getDefaultEncoder();
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeObject(buffer, encoder.newEncoderState(), new Attach().setName("test").setHandle(0).setRole(Role.SENDER));
+
+        assertThrows(ClientException.class, () -> ClientLazyMessage.create(decoder, decoder.newDecoderState(), buffer));
+    }
+
+    @Test
+    public void testRepeatedSectionFailsScan() {
+        final Encoder encoder = CodecFactory.getDefaultEncoder();
+        final EncoderState encoderState = encoder.newEncoderState();
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeObject(buffer, encoderState, new Properties().setMessageId("first"));
+        encoder.writeObject(buffer, encoderState, new Properties().setMessageId("second"));
+        encoder.writeObject(buffer, encoderState, new AmqpValue<>("Hello"));
+
+        assertThrows(ClientException.class, () -> ClientLazyMessage.create(decoder, decoder.newDecoderState(), buffer));
+    }
+
+    @Test
+    public void testSectionAfterBodyFailsScan() {
+        final Encoder encoder = CodecFactory.getDefaultEncoder();
+        final EncoderState encoderState = encoder.newEncoderState();
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeObject(buffer, encoderState, new AmqpValue<>("Hello"));
+        encoder.writeObject(buffer, encoderState, new Header().setDurable(true));
+
+        assertThrows(ClientException.class, () -> ClientLazyMessage.create(decoder, decoder.newDecoderState(), buffer));
+    }
+
+    @Test
+    public void testSettlePartiallyDecodedMessageReleasesPooledPayload() throws ClientException {
+        final ProtonBuffer encoded = createFullMessage().encode(null, ProtonBufferAllocator.defaultAllocator());
+        final byte[] bytes = new byte[encoded.getReadableBytes()];
+        encoded.copyInto(encoded.getReadOffset(), bytes, 0, bytes.length);
+
+        final ByteBuf pooled = PooledByteBufAllocator.DEFAULT.directBuffer(bytes.length);
+        pooled.writeBytes(bytes);
+
+        final ClientReceiver receiver = Mockito.mock(ClientReceiver.class);
+        final IncomingDelivery protonDelivery = Mockito.mock(IncomingDelivery.class);
+        Mockito.when(protonDelivery.readAll()).thenReturn(((Netty4ProtonBufferAllocator) Netty4ProtonBufferAllocator.POOLED).wrap(pooled));
+
+        final ClientDelivery delivery = new ClientDelivery(receiver, protonDelivery);
+        final Message<String> message = delivery.message(DecodeOptions.defaultOptions().lazyDecoding(true));
+
+        assertEquals("Hello", message.body());
+        assertEquals(1, pooled.refCnt());
+
+        delivery.accept();
+
+        assertEquals(0, pooled.refCnt());
+
+        // Sections that were still undecoded at settlement remain readable
+        assertEquals("subject", message.subject());
+        assertEquals("value1", message.property("key1"));
+        assertEquals("footer-value", message.footer("footer"));
+    }
+
+    @Test
+    public void testDecodeMessageLazilyFromSupport() throws ClientException {
+        ProtonBuffer encoded = createFullMessage().encode(null, ProtonBufferAllocator.defaultAllocator());
+
+        Message<?> message = ClientMessageSupport.decodeMessageLazily(encoded, DecodeOptions.defaultOptions().lazyDecoding(true));
+
+        assertTrue(message instanceof ClientLazyMessage);
+        assertEquals("Hello", message.body());
+    }
+
+    private static ClientMessage<String> createFullMessage() {
+        ClientMessage<String> message = ClientMessage.create();
+
+        message.durable(true);
+        message.priority((byte) 4);
+        message.messageId("id");
+        message.subject("subject");
+        message.annotation("ma", "ma-value");
+        message.property("key1", "value1");
+        message.property("key2", 2);
+        message.body("Hello");
+        message.footer("footer", "footer-value");
+
+        return message;
+    }
+
+    private <E> ClientLazyMessage<E> createLazyMessage(ClientMessage<?> source) throws ClientException {
+        return createLazyMessage(source, null);
+    }
+
+    private <E> ClientLazyMessage<E> createLazyMessage(ClientMessage<?> source, Map<String, Object> deliveryAnnotations) throws ClientException {
+        ProtonBuffer encoded = source.encode(deliveryAnnotations, ProtonBufferAllocator.defaultAllocator());
+        return ClientLazyMessage.create(decoder, decoder.newDecoderState(), encoded);
+    }
+}
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -39,7 +40,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.codec.EncodedSection;
+import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.messaging.AmqpSequence;
 import org.apache.qpid.protonj2.types.messaging.AmqpValue;
 import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
@@ -49,6 +53,7 @@ import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -810,4 +815,132 @@ class ClientMessageTest {
         assertFalse(message.hasAnnotation("test"));
         assertFalse(message.hasAnnotations());
     }
+
+    @Test
+    public void testFrozenSectionsEncodeSameAsUnfrozen() throws ClientException {
+        ClientMessage<String> message = ClientMessage.create();
+
+        message.durable(true);
+        message.priority((byte) 7);
+        message.annotation("x-opt-test", "annotation");
+        message.to("queue");
+        message.subject("subject");
+        message.property("test", 42);
+        message.footer("x-opt-footer", "footer");
+        message.body("body");
+
+        final ProtonBuffer expected = message.encode(null);
+
+        message.freezeSection(SectionType.Header);
+        message.freezeSection(SectionType.MessageAnnotations);
+        message.freezeSection(SectionType.Properties);
+        message.freezeSection(SectionType.ApplicationProperties);
+        message.freezeSection(SectionType.Footer);
+
+        assertNotNull(message.frozenSection(SectionType.Header));
+        assertNotNull(message.frozenSection(SectionType.MessageAnnotations));
+        assertNotNull(message.frozenSection(SectionType.Properties));
+        assertNotNull(message.frozenSection(SectionType.ApplicationProperties));
+        assertNotNull(message.frozenSection(SectionType.Footer));
+
+        assertEquals(expected, message.encode(null));
+        assertEquals(expected, message.encode(null));
+    }
+
+    @Test
+    public void testModifyFrozenSectionDiscardsEncoding() throws ClientException {
+        ClientMessage<String> message = ClientMessage.create();
+
+        message.messageId("ID:1");
+        message.property("test", 1);
+        message.freezeSection(SectionType.Properties);
+        message.freezeSection(SectionType.ApplicationProperties);
+
+        final Properties frozenProperties = message.properties();
+
+        message.messageId("ID:2");
+        message.removeProperty("test");
+
+        assertNull(message.frozenSection(SectionType.Properties));
+        assertNull(message.frozenSection(SectionType.ApplicationProperties));
+        assertNotSame(frozenProperties, message.properties());
+        assertEquals("ID:1", frozenProperties.getMessageId());
+
+        Message<?> decoded = ClientMessageSupport.decodeMessage(message.encode(null), null);
+
+        assertEquals("ID:2", decoded.messageId());
+        assertFalse(decoded.hasProperty("test"));
+    }
+
+    @Test
+    public void testReplaceFrozenSectionDiscardsEncoding() throws ClientException {
+        ClientMessage<String> message = ClientMessage.create();
+
+        message.durable(true);
+        message.freezeSection(SectionType.Header);
+        message.header(new Header().setPriority((byte) 9));
+
+        assertNull(message.frozenSection(SectionType.Header));
+
+        Message<?> decoded = ClientMessageSupport.decodeMessage(message.encode(null), null);
+
+        assertFalse(decoded.durable());
+        assertEquals(9, decoded.priority());
+    }
+
+    @Test
+    public void testEncodedSectionSharedBetweenMessages() throws ClientException {
+        final EncodedSection<Map<Symbol, Object>> annotations =
+            EncodedSection.encode(new MessageAnnotations(Collections.singletonMap(Symbol.valueOf("x-opt-test"), "value")));
+        final EncodedSection<Header> header = EncodedSection.encode(new Header().setDurable(true));
+
+        ClientMessage<String> message1 = ClientMessage.create();
+        ClientMessage<String> message2 = ClientMessage.create();
+
+        message1.encodedSection(header).encodedSection(annotations).body("1");
+        message2.encodedSection(header).encodedSection(annotations).body("2");
+
+        assertSame(header.getSection(), message1.header());
+        assertSame(annotations.getSection(), message2.annotations());
+
+        message2.priority((byte) 1);
+
+        assertNull(message2.frozenSection(SectionType.Header));
+        assertNotNull(message1.frozenSection(SectionType.Header));
+        assertEquals(Header.DEFAULT_PRIORITY, header.getSection().getValue().getPriority());
+
+        Message<?> decoded1 = ClientMessageSupport.decodeMessage(message1.encode(null), null);
+        Message<?> decoded2 = ClientMessageSupport.decodeMessage(message2.encode(null), null);
+
+        assertTrue(decoded1.durable());
+        assertEquals(Header.DEFAULT_PRIORITY, decoded1.priority());
+        assertEquals("value", decoded1.annotation("x-opt-test"));
+        assertEquals("1", decoded1.body());
+
+        assertTrue(decoded2.durable());
+        assertEquals(1, decoded2.priority());
+        assertEquals("value", decoded2.annotation("x-opt-test"));
+        assertEquals("2", decoded2.body());
+    }
+
+    @Test
+    public void testFreezeSectionNotPresentDoesNothing() throws ClientException {
+        ClientMessage<String> message = ClientMessage.create();
+
+        message.freezeSection(SectionType.Header);
+
+        assertNull(message.header());
+        assertNull(message.frozenSection(SectionType.Header));
+    }
+
+    @Test
+    public void testFreezeOrAssignBodySectionsNotAllowed() throws ClientException {
+        ClientMessage<String> message = ClientMessage.create();
+
+        message.body("test");
+
+        assertThrows(IllegalArgumentException.class, () -> message.freezeSection(SectionType.AmqpValue));
+        assertThrows(IllegalArgumentException.class, () -> message.freezeSection(SectionType.DeliveryAnnotations));
+        assertThrows(IllegalArgumentException.class, () -> message.encodedSection(EncodedSection.encode(new AmqpValue<>("test"))));
+    }
 }
@@ -17,12 +17,16 @@
 package org.apache.qpid.protonj2.client.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -31,10 +35,16 @@ import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.ClientOptions;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.futures.ClientFutureFactory;
+import org.apache.qpid.protonj2.client.futures.ConservativeClientFuture;
+import org.apache.qpid.protonj2.client.futures.LightweightClientFuture;
 import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
 import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.slf4j.Logger;
@@ -183,4 +193,125 @@ public class ClientTest extends ImperativeClientTestCase {
             secondPeer.waitForScriptToComplete();
         }
     }
+
+    @Test
+    public void testConnectionsShareClientIOThreadsWhenConfigured() throws Exception {
+        try (ProtonTestServer firstPeer = new ProtonTestServer();
+             ProtonTestServer secondPeer = new ProtonTestServer()) {
+
+            firstPeer.expectSASLAnonymousConnect();
+            firstPeer.expectOpen().respond();
+            firstPeer.start();
+
+            secondPeer.expectSASLAnonymousConnect();
+            secondPeer.expectOpen().respond();
+            secondPeer.start();
+
+            final URI firstURI = firstPeer.getServerURI();
+            final URI secondURI = secondPeer.getServerURI();
+
+            Client container = Client.create(new ClientOptions().sharedIOThreads(1));
+            ClientConnection connection1 = (ClientConnection) container.connect(firstURI.getHost(), firstURI.getPort());
+            ClientConnection connection2 = (ClientConnection) container.connect(secondURI.getHost(), secondURI.getPort());
+
+            connection1.openFuture().get();
+            connection2.openFuture().get();
+
+            final Thread firstIOThread = connection1.getScheduler().schedule(() -> Thread.currentThread(), 0, TimeUnit.MILLISECONDS).get();
+            final Thread secondIOThread = connection2.getScheduler().schedule(() -> Thread.currentThread(), 0, TimeUnit.MILLISECONDS).get();
+
+            assertNotNull(firstIOThread);
+            assertSame(firstIOThread, secondIOThread);
+
+            firstPeer.waitForScriptToComplete();
+            secondPeer.waitForScriptToComplete();
+
+            firstPeer.expectClose().respond();
+            secondPeer.expectClose().respond();
+
+            connection1.closeAsync().get(5, TimeUnit.SECONDS);
+
+            assertFalse(connection2.getScheduler().isShutdown());
+
+            container.closeAsync().get(5, TimeUnit.SECONDS);
+
+            firstPeer.waitForScriptToComplete();
+            secondPeer.waitForScriptToComplete();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadFriendlyModeBlocksUsingParkingWaits() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofReceiver().respond();
+            peer.expectFlow();
+            peer.start();
+
+            final URI remoteURI = peer.getServerURI();
+
+            Client container = Client.create(new ClientOptions().virtualThreadFriendly(true));
+            ClientConnection connection = (ClientConnection) container.connect(remoteURI.getHost(), remoteURI.getPort());
+
+            assertTrue(connection.openFuture() instanceof LightweightClientFuture);
+            assertTrue(connection.getFutureFactory().createFuture() instanceof LightweightClientFuture);
+
+            Receiver receiver = connection.openReceiver("test-queue").openFuture().get();
+
+            peer.waitForScriptToComplete();
+            peer.expectDisposition().withSettled(true).withState().accepted();
+
+            final CountDownLatch receiving = new CountDownLatch(1);
+            final Future<Delivery> received = ForkJoinPool.commonPool().submit(() -> {
+                receiving.countDown();
+                return receiver.receive();
+            });
+
+            assertTrue(receiving.await(5, TimeUnit.SECONDS));
+
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("Hello World"))).later(10);
+
+            final Delivery delivery = received.get(5, TimeUnit.SECONDS);
+
+            assertNotNull(delivery);
+            assertEquals("Hello World", delivery.message().body());
+
+            peer.waitForScriptToComplete();
+            peer.expectClose().respond();
+
+            container.closeAsync().get(5, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadFriendlyModeHonorsConfiguredFutureType() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            final URI remoteURI = peer.getServerURI();
+
+            Client container = Client.create(new ClientOptions().virtualThreadFriendly(true)
+                                                                .futureType(ClientFutureFactory.CONSERVATIVE));
+            ClientConnection connection = (ClientConnection) container.connect(remoteURI.getHost(), remoteURI.getPort());
+
+            connection.openFuture().get();
+
+            assertTrue(connection.getFutureFactory().createFuture() instanceof ConservativeClientFuture);
+
+            connection.closeAsync().get(5, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete();
+        }
+    }
 }
@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.Connection;
+import org.apache.qpid.protonj2.client.DecodeOptions;
+import org.apache.qpid.protonj2.client.KeyedDispatchOptions;
+import org.apache.qpid.protonj2.client.KeyedDispatcher;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.Receiver;
+import org.apache.qpid.protonj2.client.ReceiverOptions;
+import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
+import org.apache.qpid.protonj2.client.test.Wait;
+import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.transport.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Timeout(20)
+public class KeyedDispatcherTest extends ImperativeClientTestCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeyedDispatcherTest.class);
+
+    @Test
+    public void testDeliveriesWithSameKeyAreHandledInOrder() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+            final CountDownLatch done = new CountDownLatch(4);
+            final KeyedDispatchOptions options = new KeyedDispatchOptions().lanes(4).autoAccept(false);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().autoAccept(false));
+            KeyedDispatcher dispatcher = receiver.dispatchByKey((delivery) -> {
+                try {
+                    final String key = delivery.message().groupId();
+                    final int sequence = (Integer) delivery.message().body();
+                    if (sequence == 0) {
+                        Thread.sleep(50); // Give later deliveries of the key a chance to overtake
+                    }
+                    handled.computeIfAbsent(key, (k) -> new CopyOnWriteArrayList<>()).add(sequence);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    done.countDown();
+                }
+            }, options);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertEquals(4, dispatcher.lanes());
+
+            for (int i = 0; i < 4; ++i) {
+                final Properties properties = new Properties();
+                properties.setGroupId(i % 2 == 0 ? "A" : "B");
+
+                peer.remoteTransfer().withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withMessageFormat(0)
+                                     .withPayload(createEncodedMessage(properties, new AmqpValue<>(i))).now();
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList(0, 2), handled.get("A"));
+            assertEquals(Arrays.asList(1, 3), handled.get("B"));
+            Wait.assertTrue(() -> dispatcher.pendingDeliveries() == 0);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            dispatcher.close();
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testHandledDeliveriesAreAcceptedBeforeDemandIsReturned() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(2);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final CountDownLatch done = new CountDownLatch(1);
+            final KeyedDispatchOptions options = new KeyedDispatchOptions().lanes(2).maxPendingDeliveries(2);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().creditWindow(0).autoAccept(false));
+            KeyedDispatcher dispatcher = receiver.dispatchByKey((delivery) -> done.countDown(), options);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withFirst(0).withSettled(true).withState().accepted();
+            peer.expectFlow().withLinkCredit(2);
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 0 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("Hello World"))).now();
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            dispatcher.close();
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testLazilyDecodedMessageReadableAfterDispatcherAccepts() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(2);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final CountDownLatch done = new CountDownLatch(1);
+            final AtomicReference<Message<?>> received = new AtomicReference<>();
+            final DecodeOptions lazy = DecodeOptions.defaultOptions().lazyDecoding(true);
+            final KeyedDispatchOptions options = new KeyedDispatchOptions().lanes(2).maxPendingDeliveries(2)
+                                                                          .keyExtractor((delivery) -> delivery.message(lazy).groupId());
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().creditWindow(0).autoAccept(false));
+            KeyedDispatcher dispatcher = receiver.dispatchByKey((delivery) -> {
+                try {
+                    received.set(delivery.message(lazy));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    done.countDown();
+                }
+            }, options);
+
+            final Properties properties = new Properties();
+            properties.setGroupId("A");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withFirst(0).withSettled(true).withState().accepted();
+            peer.expectFlow().withLinkCredit(2);
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 0 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(properties, new AmqpValue<>("Hello World"))).now();
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            // The batched accept detaches the payload, sections not yet decoded remain readable
+            assertTrue(received.get() instanceof ClientLazyMessage);
+            assertEquals("Hello World", received.get().body());
+
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            dispatcher.close();
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testDeliveryIsReleasedWhenHandlerFails() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final KeyedDispatchOptions options = new KeyedDispatchOptions().keyExtractor(KeyedDispatchOptions.SUBJECT);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().autoAccept(false));
+            KeyedDispatcher dispatcher = receiver.dispatchByKey((delivery) -> {
+                throw new RuntimeException("Handler failed");
+            }, options);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withFirst(0).withSettled(true).withState().released();
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 0 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("Hello World"))).now();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            dispatcher.close();
+            receiver.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+}
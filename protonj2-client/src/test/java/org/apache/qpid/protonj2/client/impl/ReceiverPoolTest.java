@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.Connection;
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.ReceiverPool;
+import org.apache.qpid.protonj2.client.ReceiverPoolOptions;
+import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
+import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.transport.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Timeout(20)
+public class ReceiverPoolTest extends ImperativeClientTestCase {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReceiverPoolTest.class);
+
+    @Test
+    public void testPoolSpreadsReceiversAcrossSessionsAndSplitsCredit() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).withSource().withAddress("test-queue").and().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).withSource().withAddress("test-queue").and().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).withSource().withAddress("test-queue").and().respond();
+            peer.expectFlow().withLinkCredit(5);
+            peer.expectFlow().withLinkCredit(4);
+            peer.expectFlow().withLinkCredit(4);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final ReceiverPoolOptions options = new ReceiverPoolOptions().receiverCount(3)
+                                                                         .sessionsPerConnection(2)
+                                                                         .creditWindow(13)
+                                                                         .workerThreads(1);
+            final BlockingQueue<Delivery> handled = new LinkedBlockingQueue<>();
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort()).openFuture().get();
+            ReceiverPool pool = container.openReceiverPool("test-queue", handled::add, options, connection);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertEquals("test-queue", pool.address());
+            assertEquals(3, pool.receivers().size());
+            assertEquals(1, pool.workerCount());
+            assertTrue(pool.receivers().get(0).session() == pool.receivers().get(2).session());
+            assertTrue(pool.receivers().get(0).session() != pool.receivers().get(1).session());
+
+            final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+            peer.expectDisposition().withFirst(0).withSettled(true).withState().accepted();
+            peer.expectDisposition().withFirst(0).withSettled(true).withState().accepted();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 0 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).onChannel(0).now();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 0 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).onChannel(1).now();
+
+            for (int i = 0; i < 2; ++i) {
+                Delivery delivery = handled.poll(10, TimeUnit.SECONDS);
+                assertNotNull(delivery);
+                assertEquals("Hello World", delivery.message().body());
+            }
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectEnd().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            pool.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testPoolReturnsCreditOnceDeliveriesAreHandled() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(2);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final ReceiverPoolOptions options = new ReceiverPoolOptions().receiverCount(1).creditWindow(2).workerThreads(1);
+            final BlockingQueue<Delivery> handled = new LinkedBlockingQueue<>();
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            ReceiverPool pool = container.openReceiverPool("test-queue", handled::add, options, connection);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withFirst(0).withSettled(true).withState().accepted();
+            peer.expectFlow().withLinkCredit(2);
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 0 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("Hello World"))).now();
+
+            assertNotNull(handled.poll(10, TimeUnit.SECONDS));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            pool.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testPoolReleasesDeliveryWhenHandlerFails() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(4);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final ReceiverPoolOptions options = new ReceiverPoolOptions().receiverCount(1).creditWindow(4).workerThreads(1);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            ReceiverPool pool = container.openReceiverPool("test-queue", (delivery) -> {
+                throw new RuntimeException("Handler failed");
+            }, options, connection);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withFirst(0).withSettled(true).withState().released();
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 0 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(createEncodedMessage(new AmqpValue<>("Hello World"))).now();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            pool.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testIdleWorkerStealsFromBlockedWorker() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final ReceiverPoolOptions options = new ReceiverPoolOptions().receiverCount(1)
+                                                                         .creditWindow(10)
+                                                                         .workerThreads(2)
+                                                                         .autoAccept(false);
+            final CountDownLatch blocked = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final CountDownLatch others = new CountDownLatch(4);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            ReceiverPool pool = container.openReceiverPool("test-queue", (delivery) -> {
+                try {
+                    if ("blocker".equals(delivery.message().body())) {
+                        blocked.countDown();
+                        release.await();
+                    } else {
+                        others.countDown();
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }, options, connection);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            for (int i = 0; i < 5; ++i) {
+                peer.remoteTransfer().withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withMessageFormat(0)
+                                     .withPayload(createEncodedMessage(new AmqpValue<>(i == 0 ? "blocker" : "Hello World"))).now();
+            }
+
+            assertTrue(blocked.await(10, TimeUnit.SECONDS));
+            // Deliveries queued to the blocked worker must be stolen and handled by the other one
+            assertTrue(others.await(10, TimeUnit.SECONDS));
+            assertEquals(0, pool.queuedDeliveries());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectFlow().withLinkCredit(10);
+
+            release.countDown();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            pool.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testPoolRejectsCreditWindowSmallerThanReceiverCount() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final ReceiverPoolOptions options = new ReceiverPoolOptions().receiverCount(4).creditWindow(2);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+
+            assertThrows(IllegalArgumentException.class, () -> container.openReceiverPool("test-queue", (delivery) -> {}, options, connection));
+            assertThrows(IllegalArgumentException.class, () -> container.openReceiverPool("test-queue", (delivery) -> {}));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectClose().respond();
+
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+}
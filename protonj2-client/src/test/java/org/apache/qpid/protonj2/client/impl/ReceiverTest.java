@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -37,10 +38,18 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Client;
@@ -67,6 +76,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientLinkRemotelyClosedExcept
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
 import org.apache.qpid.protonj2.client.test.Wait;
+import org.apache.qpid.protonj2.client.util.DeliveryQueue;
 import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.Modified;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.Released;
@@ -74,9 +84,12 @@ import org.apache.qpid.protonj2.test.driver.codec.messaging.TerminusDurability;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.TerminusExpiryPolicy;
 import org.apache.qpid.protonj2.test.driver.codec.primitives.UnknownDescribedType;
 import org.apache.qpid.protonj2.types.DescribedType;
+import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.UnsignedLong;
 import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
 import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Section;
 import org.apache.qpid.protonj2.types.transport.AmqpError;
 import org.apache.qpid.protonj2.types.transport.ReceiverSettleMode;
@@ -2383,6 +2396,70 @@ public class ReceiverTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testReceiveDeliveryWithLazyDecoding() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("routing-key", "orders");
+        properties.put("priority", 7);
+
+        final Map<Symbol, Object> annotations = new HashMap<>();
+        annotations.put(Symbol.valueOf("da"), "value");
+
+        final byte[] payload = createEncodedMessage(new DeliveryAnnotations(annotations),
+                                                    new ApplicationProperties(properties),
+                                                    new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withSettled(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            Delivery delivery = receiver.receive(5, TimeUnit.SECONDS);
+            assertNotNull(delivery);
+
+            final DecodeOptions options = DecodeOptions.defaultOptions().lazyDecoding(true);
+
+            Message<String> message = delivery.message(options);
+            assertNotNull(message);
+            assertEquals("orders", message.property("routing-key"));
+            assertFalse(message.hasProperty("missing"));
+            assertEquals("Hello World", message.body());
+            assertEquals(7, message.property("priority"));
+
+            Map<String, Object> deliveryAnnotations = delivery.annotations(options);
+            assertNotNull(deliveryAnnotations);
+            assertEquals("value", deliveryAnnotations.get("da"));
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testSessionWindowExpandedAsIncomingFramesArrive() throws Exception {
         final byte[] payload1 = new byte[255];
@@ -3497,6 +3574,538 @@ public class ReceiverTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testPublisherGrantsCreditFromSubscriberDemand() throws Exception {
+        doTestPublisherGrantsCreditFromSubscriberDemand(null);
+    }
+
+    @Test
+    public void testPublisherGrantsCreditFromSubscriberDemandWithDispatchExecutor() throws Exception {
+        final ExecutorService dispatcher = Executors.newFixedThreadPool(2);
+        try {
+            doTestPublisherGrantsCreditFromSubscriberDemand(dispatcher);
+        } finally {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private void doTestPublisherGrantsCreditFromSubscriberDemand(ExecutorService dispatcher) throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            ReceiverOptions options = new ReceiverOptions().creditWindow(0).dispatchExecutor(dispatcher);
+            Receiver receiver = session.openReceiver("test-queue", options);
+            receiver.openFuture().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectFlow().withLinkCredit(2);
+
+            final TestDeliverySubscriber subscriber = new TestDeliverySubscriber(2);
+
+            receiver.publisher().subscribe(subscriber);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+            peer.expectDisposition().withFirst(0).withSettled(true).withState().accepted();
+            peer.expectDisposition().withFirst(1).withSettled(true).withState().accepted();
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 0 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).now();
+            peer.remoteTransfer().withDeliveryId(1)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).now();
+
+            for (int i = 0; i < 2; ++i) {
+                Delivery delivery = subscriber.deliveries.poll(10, TimeUnit.SECONDS);
+                assertNotNull(delivery);
+                assertEquals("Hello World", delivery.message().body());
+            }
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectFlow().withLinkCredit(1);
+
+            subscriber.subscription.request(1);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+
+            assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+            assertNull(subscriber.error);
+
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testPublisherSignalsErrorToSecondSubscriber() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().creditWindow(0));
+            receiver.openFuture().get();
+
+            final TestDeliverySubscriber subscriber1 = new TestDeliverySubscriber(0);
+            final TestDeliverySubscriber subscriber2 = new TestDeliverySubscriber(0);
+
+            receiver.publisher().subscribe(subscriber1);
+            receiver.publisher().subscribe(subscriber2);
+
+            assertTrue(subscriber2.completed.await(10, TimeUnit.SECONDS));
+            assertTrue(subscriber2.error instanceof ClientIllegalStateException);
+            assertNotNull(subscriber1.subscription);
+            assertNull(subscriber1.error);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond().withErrorCondition(AmqpError.RESOURCE_DELETED.toString(), "Deleted");
+            peer.expectClose().respond();
+
+            peer.remoteDetach().withErrorCondition(AmqpError.RESOURCE_DELETED.toString(), "Deleted").now();
+
+            assertTrue(subscriber1.completed.await(10, TimeUnit.SECONDS));
+            assertTrue(subscriber1.error instanceof ClientLinkRemotelyClosedException);
+
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testPublisherDispatchRejectionFailsSubscriberAndFreesReceiver() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final AtomicBoolean reject = new AtomicBoolean(true);
+            final Executor dispatcher = command -> {
+                if (reject.get()) {
+                    throw new RejectedExecutionException("Dispatcher is shut down");
+                }
+
+                command.run();
+            };
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            ReceiverOptions options = new ReceiverOptions().creditWindow(0).dispatchExecutor(dispatcher);
+            Receiver receiver = session.openReceiver("test-queue", options);
+            receiver.openFuture().get();
+
+            final TestDeliverySubscriber subscriber1 = new TestDeliverySubscriber(0);
+
+            receiver.publisher().subscribe(subscriber1);
+
+            assertTrue(subscriber1.completed.await(10, TimeUnit.SECONDS));
+            assertNotNull(subscriber1.subscription);
+            assertTrue(subscriber1.error instanceof ClientException);
+            assertTrue(subscriber1.error.getCause() instanceof RejectedExecutionException);
+
+            reject.set(false);
+
+            final TestDeliverySubscriber subscriber2 = new TestDeliverySubscriber(0);
+
+            receiver.publisher().subscribe(subscriber2);
+
+            Wait.assertTrue(() -> subscriber2.subscription != null);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+
+            assertTrue(subscriber2.completed.await(10, TimeUnit.SECONDS));
+            assertNull(subscriber2.error);
+
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static class TestDeliverySubscriber implements Flow.Subscriber<Delivery> {
+
+        private final BlockingQueue<Delivery> deliveries = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final long initialDemand;
+
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        TestDeliverySubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(Delivery item) {
+            deliveries.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+
+    @Test
+    public void testSessionBatchesReceiverDispositionsWhenLimitReached() throws Exception {
+        doTestSessionBatchesReceiverDispositions(3, TimeUnit.MINUTES.toMillis(5));
+    }
+
+    @Test
+    public void testSessionBatchesReceiverDispositionsUntilBatchDelayElapses() throws Exception {
+        doTestSessionBatchesReceiverDispositions(10, 20);
+    }
+
+    @Test
+    public void testSessionBatchedDispositionsWrittenBeforeReceiverDetach() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession(new SessionOptions().dispositionBatchLimit(10)
+                                                                         .dispositionBatchDelay(5, TimeUnit.MINUTES));
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().autoAccept(false));
+            receiver.openFuture().get();
+
+            final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+            for (int i = 0; i < 3; ++i) {
+                peer.remoteTransfer().withHandle(0)
+                                     .withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withMessageFormat(0)
+                                     .withPayload(payload).now();
+            }
+
+            Wait.assertTrue("Should have queued all three deliveries", () -> receiver.queuedDeliveries() == 3);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            for (int i = 0; i < 3; ++i) {
+                Delivery delivery = receiver.receive(5, TimeUnit.SECONDS);
+                assertNotNull(delivery);
+                delivery.accept();
+            }
+
+            // The batch delay has not elapsed so the detach must push out the pending range first
+            peer.expectDisposition().withFirst(0).withLast(2).withSettled(true).withState().accepted();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void doTestSessionBatchesReceiverDispositions(int batchLimit, long batchDelay) throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession(new SessionOptions().dispositionBatchLimit(batchLimit)
+                                                                         .dispositionBatchDelay(batchDelay));
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().autoAccept(false));
+            receiver.openFuture().get();
+
+            final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+            for (int i = 0; i < 3; ++i) {
+                peer.remoteTransfer().withHandle(0)
+                                     .withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withMessageFormat(0)
+                                     .withPayload(payload).now();
+            }
+
+            Wait.assertTrue("Should have queued all three deliveries", () -> receiver.queuedDeliveries() == 3);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withFirst(0).withLast(2).withSettled(true).withState().accepted();
+
+            for (int i = 0; i < 3; ++i) {
+                Delivery delivery = receiver.receive(5, TimeUnit.SECONDS);
+                assertNotNull(delivery);
+                delivery.accept();
+            }
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testReceiveFromSpscDeliveryQueue() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().deliveryQueueType(DeliveryQueue.SPSC)
+                                                                                        .autoAccept(false));
+            receiver.openFuture().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            for (int i = 0; i < 3; ++i) {
+                peer.remoteTransfer().withHandle(0)
+                                     .withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withMessageFormat(0)
+                                     .withPayload(createEncodedMessage(new AmqpValue<>("Message-" + i)))
+                                     .later(20 + i * 10);
+            }
+
+            for (int i = 0; i < 3; ++i) {
+                Delivery delivery = receiver.receive(5, TimeUnit.SECONDS);
+                assertNotNull(delivery);
+                assertEquals("Message-" + i, delivery.message().body());
+            }
+
+            assertNull(receiver.tryReceive());
+
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCreditReplenishedOnceEnoughDeliveriesConsumed() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().autoAccept(false));
+            receiver.openFuture().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            for (int i = 0; i < 10; ++i) {
+                peer.remoteTransfer().withHandle(0)
+                                     .withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withSettled(true)
+                                     .withMessageFormat(0)
+                                     .withPayload(createEncodedMessage(new AmqpValue<>("Message-" + i))).now();
+            }
+
+            Wait.assertTrue("Should have queued all deliveries", () -> receiver.queuedDeliveries() == 10);
+
+            assertNotNull(receiver.receive(5, TimeUnit.SECONDS));
+            assertNotNull(receiver.receive(5, TimeUnit.SECONDS));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectFlow().withLinkCredit(3);
+
+            assertNotNull(receiver.receive(5, TimeUnit.SECONDS));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testBatchReceiveAcceptsAllDeliveriesFromOneEvent() throws Exception {
+        doTestBatchReceiveAcceptsAllDeliveries(null);
+    }
+
+    @Test
+    public void testBatchReceiveAcceptsAllDeliveriesFromOneEventWithSpscQueue() throws Exception {
+        doTestBatchReceiveAcceptsAllDeliveries(DeliveryQueue.SPSC);
+    }
+
+    private void doTestBatchReceiveAcceptsAllDeliveries(String queueType) throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().deliveryQueueType(queueType));
+            receiver.openFuture().get();
+
+            assertTrue(receiver.tryReceive(10).isEmpty());
+            assertTrue(receiver.receive(10, 10, TimeUnit.MILLISECONDS).isEmpty());
+
+            for (int i = 0; i < 8; ++i) {
+                peer.remoteTransfer().withHandle(0)
+                                     .withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withMessageFormat(0)
+                                     .withPayload(createEncodedMessage(new AmqpValue<>("Message-" + i))).now();
+            }
+
+            Wait.assertTrue("Should have queued all deliveries", () -> receiver.queuedDeliveries() == 8);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            // The batch is accepted and credit is topped up once from a single event
+            for (int i = 0; i < 5; ++i) {
+                peer.expectDisposition().withFirst(i).withSettled(true).withState().accepted();
+            }
+            peer.expectFlow().withLinkCredit(7);
+
+            List<Delivery> deliveries = receiver.receive(5, 5, TimeUnit.SECONDS);
+
+            assertEquals(5, deliveries.size());
+            for (int i = 0; i < deliveries.size(); ++i) {
+                assertEquals("Message-" + i, deliveries.get(i).message().body());
+            }
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            for (int i = 5; i < 8; ++i) {
+                peer.expectDisposition().withFirst(i).withSettled(true).withState().accepted();
+            }
+
+            deliveries = receiver.tryReceive(10);
+
+            assertEquals(3, deliveries.size());
+            for (int i = 0; i < deliveries.size(); ++i) {
+                assertEquals("Message-" + (i + 5), deliveries.get(i).message().body());
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> receiver.tryReceive(0));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testCannotReceiveMessageThatExceedsDepthLimit() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
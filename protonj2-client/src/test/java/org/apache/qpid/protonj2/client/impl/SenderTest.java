@@ -23,23 +23,32 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.ClientOptions;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
 import org.apache.qpid.protonj2.client.DeliveryMode;
@@ -60,12 +69,14 @@ import org.apache.qpid.protonj2.client.Tracker;
 import org.apache.qpid.protonj2.client.exceptions.ClientConnectionRemotelyClosedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientDeliveryStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
 import org.apache.qpid.protonj2.client.exceptions.ClientLinkRedirectedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientLinkRemotelyClosedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.exceptions.ClientResourceRemotelyClosedException;
 import org.apache.qpid.protonj2.client.exceptions.ClientSendTimedOutException;
 import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
+import org.apache.qpid.protonj2.client.futures.ClientFutureFactory;
 import org.apache.qpid.protonj2.client.impl.ClientDeliveryState.ClientRejected;
 import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
 import org.apache.qpid.protonj2.engine.DeliveryTagGenerator;
@@ -87,6 +98,7 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -688,7 +700,31 @@ public class SenderTest extends ImperativeClientTestCase {
         doTestSendWhenCreditIsAvailable(true, true);
     }
 
+    @Test
+    public void testSendAsyncWhenCreditIsAvailable() throws Exception {
+        doTestSendWhenCreditIsAvailable(false, false, true);
+    }
+
+    @Test
+    public void testTrySendAsyncWhenCreditIsAvailable() throws Exception {
+        doTestSendWhenCreditIsAvailable(true, false, true);
+    }
+
+    @Test
+    public void testSendAsyncWhenCreditIsAvailableWithDeliveryAnnotations() throws Exception {
+        doTestSendWhenCreditIsAvailable(false, true, true);
+    }
+
+    @Test
+    public void testTrySendAsyncWhenCreditIsAvailableWithDeliveryAnnotations() throws Exception {
+        doTestSendWhenCreditIsAvailable(true, true, true);
+    }
+
     private void doTestSendWhenCreditIsAvailable(boolean trySend, boolean addDeliveryAnnotations) throws Exception {
+        doTestSendWhenCreditIsAvailable(trySend, addDeliveryAnnotations, false);
+    }
+
+    private void doTestSendWhenCreditIsAvailable(boolean trySend, boolean addDeliveryAnnotations, boolean async) throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
             peer.expectSASLAnonymousConnect();
             peer.expectOpen().respond();
@@ -740,7 +776,24 @@ public class SenderTest extends ImperativeClientTestCase {
             Message<String> message = Message.create("Hello World");
 
             final Tracker tracker;
-            if (trySend) {
+            if (async) {
+                final CompletionStage<Tracker> result;
+                if (trySend) {
+                    if (addDeliveryAnnotations) {
+                        result = sender.trySendAsync(message, deliveryAnnotations);
+                    } else {
+                        result = sender.trySendAsync(message);
+                    }
+                } else {
+                    if (addDeliveryAnnotations) {
+                        result = sender.sendAsync(message, deliveryAnnotations);
+                    } else {
+                        result = sender.sendAsync(message);
+                    }
+                }
+
+                tracker = result.toCompletableFuture().get(10, TimeUnit.SECONDS);
+            } else if (trySend) {
                 if (addDeliveryAnnotations) {
                     tracker = sender.trySend(message, deliveryAnnotations);
                 } else {
@@ -797,6 +850,253 @@ public class SenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testTrySendAsyncWhenNoCreditAvailable() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Sender sender = session.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            Message<String> message = Message.create("Hello World");
+            assertNull(sender.trySendAsync(message).toCompletableFuture().get(10, TimeUnit.SECONDS));
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSendAsyncFailsWhenNoCreditIssuedBeforeSendTimeout() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions();
+            options.sendTimeout(10);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            Session session = connection.openSession();
+            Sender sender = session.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            CompletableFuture<Tracker> result = sender.sendAsync(Message.create("Hello World")).toCompletableFuture();
+
+            try {
+                result.get(10, TimeUnit.SECONDS);
+                fail("Should fail with a send timed out exception");
+            } catch (ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof ClientSendTimedOutException);
+            }
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSendAsyncDoesNotBlockAndCompletesWhenCreditOffered() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Sender sender = session.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            final List<CompletableFuture<Tracker>> results = new ArrayList<>();
+            for (int i = 0; i < 3; ++i) {
+                results.add(sender.sendAsync(Message.create("Hello World " + i)).toCompletableFuture());
+            }
+
+            results.forEach(result -> assertFalse(result.isDone()));
+
+            peer.expectTransfer().withDeliveryId(0).withMessage().withValue("Hello World 0");
+            peer.expectTransfer().withDeliveryId(1).withMessage().withValue("Hello World 1");
+            peer.expectTransfer().withDeliveryId(2).withMessage().withValue("Hello World 2");
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+            peer.remoteFlow().withDeliveryCount(0)
+                             .withLinkCredit(10)
+                             .withIncomingWindow(1024)
+                             .withOutgoingWindow(10)
+                             .withNextIncomingId(0)
+                             .withNextOutgoingId(1).now();
+
+            for (CompletableFuture<Tracker> result : results) {
+                assertNotNull(result.get(10, TimeUnit.SECONDS));
+            }
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSendAllWritesEachMessageAndWaitsForCredit() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withDeliveryCount(0)
+                             .withLinkCredit(2)
+                             .withIncomingWindow(1024)
+                             .withOutgoingWindow(10)
+                             .withNextIncomingId(0)
+                             .withNextOutgoingId(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Sender sender = session.openSender("test-queue");
+            sender.openFuture().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withDeliveryId(0).withMessage().withValue("Hello World 0");
+            peer.expectTransfer().withDeliveryId(1).withMessage().withValue("Hello World 1");
+            peer.remoteFlow().withDeliveryCount(2)
+                             .withLinkCredit(10)
+                             .withIncomingWindow(1024)
+                             .withOutgoingWindow(10)
+                             .withNextIncomingId(2)
+                             .withNextOutgoingId(1).queue();
+            peer.expectTransfer().withDeliveryId(2).withMessage().withValue("Hello World 2");
+            peer.expectTransfer().withDeliveryId(3).withMessage().withValue("Hello World 3");
+
+            final List<Message<String>> messages = new ArrayList<>();
+            for (int i = 0; i < 4; ++i) {
+                messages.add(Message.create("Hello World " + i));
+            }
+
+            final List<Tracker> trackers = sender.sendAll(messages);
+
+            assertEquals(4, trackers.size());
+            trackers.forEach(tracker -> assertNotNull(tracker));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            assertTrue(sender.sendAll(Collections.emptyList()).isEmpty());
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSendAllFailsWhenSenderClosed() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Sender sender = connection.openSender("test-queue").openFuture().get();
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+
+            assertThrows(ClientIllegalStateException.class, () -> sender.sendAll(Arrays.asList(Message.create("Hello World"))));
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSendAllReleasesEncodedPayloadsWhenEncodeFails() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create(new ClientOptions().pooledSendBuffers(true));
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Sender sender = connection.openSender("test-queue").openFuture().get();
+
+            final ProtonBuffer payload = Message.create("Hello World").toAdvancedMessage().encode(null, Netty4ProtonBufferAllocator.POOLED);
+            final AdvancedMessage<?> encodable = Mockito.mock(AdvancedMessage.class);
+            Mockito.when(encodable.encode(Mockito.any(), Mockito.any())).thenReturn(payload);
+            final AdvancedMessage<?> failing = Mockito.mock(AdvancedMessage.class);
+            Mockito.when(failing.encode(Mockito.any(), Mockito.any())).thenThrow(new ClientException("Encode failed"));
+
+            assertThrows(ClientException.class, () -> sender.sendAll(Arrays.asList(encodable, failing)));
+            assertTrue(payload.isClosed());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testCreateSenderWithQoSOfAtMostOnce() throws Exception {
         doTestCreateSenderWithConfiguredQoS(DeliveryMode.AT_MOST_ONCE);
@@ -1051,6 +1351,136 @@ public class SenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testPresettledSendsWithReusableFutures() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().withSenderSettleModeSettled().respond().withSenderSettleModeSettled();
+            peer.remoteFlow().withLinkCredit(10).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create(new ClientOptions().futureType(ClientFutureFactory.LIGHTWEIGHT));
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort()).openFuture().get();
+
+            Session session = connection.openSession().openFuture().get();
+            SenderOptions options = new SenderOptions().deliveryMode(DeliveryMode.AT_MOST_ONCE);
+            Sender sender = session.openSender("test-qos", options).openFuture().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withNonNullPayload().withSettled(true);
+            peer.expectTransfer().withNonNullPayload().withSettled(true);
+            peer.expectTransfer().withNonNullPayload().withSettled(true);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            final Tracker tracker1 = sender.send(Message.create("Hello World 1"));
+            final Tracker tracker2 = sender.send(Message.create("Hello World 2"));
+            final Tracker tracker3 = sender.send(Message.create("Hello World 3"));
+
+            assertNotSame(tracker1, tracker2);
+            assertNotSame(tracker2, tracker3);
+
+            for (Tracker tracker : new Tracker[] { tracker1, tracker2, tracker3 }) {
+                assertTrue(tracker.settlementFuture().isDone());
+                assertTrue(tracker.settlementFuture().get().settled());
+            }
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSendWithPooledSendBuffers() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(10).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create(new ClientOptions().pooledSendBuffers(true));
+            ConnectionOptions connectionOptions = new ConnectionOptions().maxFrameSize(1024);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), connectionOptions).openFuture().get();
+            Sender sender = connection.openSender("test-queue").openFuture().get();
+
+            assertTrue(container.bufferPoolMetrics().enabled());
+
+            final byte[] payload = new byte[3000];
+            Arrays.fill(payload, (byte) 1);
+
+            EncodedAmqpValueMatcher bodyMatcher = new EncodedAmqpValueMatcher("Hello World");
+            TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+            payloadMatcher.setMessageContentMatcher(bodyMatcher);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withPayload(payloadMatcher).accept();
+            peer.expectTransfer().withNonNullPayload().withMore(true).withFrameSize(1024);
+            peer.expectTransfer().withNonNullPayload().withMore(true).withFrameSize(1024);
+            peer.expectTransfer().withNonNullPayload().withMore(true).withFrameSize(1024);
+            peer.expectTransfer().withNonNullPayload().withMore(false).accept();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            assertNotNull(sender.send(Message.create("Hello World")).awaitSettlement(10, TimeUnit.SECONDS));
+            assertNotNull(sender.send(Message.create(payload)).awaitSettlement(10, TimeUnit.SECONDS));
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testTrySendWithoutCreditReleasesPooledPayload() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create(new ClientOptions().pooledSendBuffers(true));
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort()).openFuture().get();
+            Sender sender = connection.openSender("test-queue").openFuture().get();
+
+            final ProtonBuffer payload = Message.create("Hello World").toAdvancedMessage().encode(null, Netty4ProtonBufferAllocator.POOLED);
+            final AdvancedMessage<?> message = Mockito.mock(AdvancedMessage.class);
+            Mockito.when(message.encode(Mockito.any(), Mockito.any())).thenReturn(payload);
+
+            assertNull(sender.trySend(message));
+            assertTrue(payload.isClosed());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testSenderIncrementsTransferTagOnEachSend() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
@@ -28,9 +28,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -41,6 +46,8 @@ import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -556,6 +563,166 @@ class StreamReceiverTest extends ImperativeClientTestCase {
         doTestStreamDeliveryReceiveWithTransferAlreadyComplete(true);
     }
 
+    @Test
+    public void testStreamReceiverBatchReceiveWithTransfersAlreadyComplete() throws Exception {
+        doTestStreamReceiverBatchReceiveWithTransfersAlreadyComplete(false);
+    }
+
+    @Test
+    public void testStreamReceiverBatchTryReceiveWithTransfersAlreadyComplete() throws Exception {
+        doTestStreamReceiverBatchReceiveWithTransfersAlreadyComplete(true);
+    }
+
+    private void doTestStreamReceiverBatchReceiveWithTransfersAlreadyComplete(boolean tryReceive) throws Exception {
+        final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofReceiver().respond();
+            peer.expectFlow();
+            for (int i = 0; i < 3; ++i) {
+                peer.remoteTransfer().withHandle(0)
+                                     .withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withMessageFormat(0)
+                                     .withPayload(payload).queue();
+            }
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.expectDisposition().withFirst(0).withState().accepted().withSettled(true);
+            peer.expectDisposition().withFirst(1).withState().accepted().withSettled(true);
+
+            // Ensures that stream receiver has the deliveries in its queue.
+            connection.openSender("test-sender").openFuture().get();
+
+            final List<StreamDelivery> deliveries;
+
+            if (tryReceive) {
+                deliveries = receiver.tryReceive(2);
+            } else {
+                deliveries = receiver.receive(2, 5, TimeUnit.SECONDS);
+            }
+
+            assertEquals(2, deliveries.size());
+            for (StreamDelivery delivery : deliveries) {
+                assertTrue(delivery.completed());
+                assertFalse(delivery.aborted());
+            }
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withFirst(2).withState().accepted().withSettled(true);
+
+            assertEquals(1, receiver.tryReceive(2).size());
+            assertTrue(receiver.tryReceive(2).isEmpty());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testStreamReceiverBatchReceiveWaitsForFirstDelivery() throws Exception {
+        final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofReceiver().respond();
+            peer.expectFlow();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            assertTrue(receiver.receive(10, 10, TimeUnit.MILLISECONDS).isEmpty());
+
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).later(20);
+            peer.expectDisposition().withState().accepted().withSettled(true);
+
+            final List<StreamDelivery> deliveries = receiver.receive(10, 5, TimeUnit.SECONDS);
+
+            assertEquals(1, deliveries.size());
+            assertTrue(deliveries.get(0).completed());
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testStreamReceiverBatchReceiveFailsWhenLinkRemotelyClosed() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+            peer.remoteDetach().later(50);
+
+            assertThrows(ClientLinkRemotelyClosedException.class, () -> receiver.receive(10, 1, TimeUnit.MINUTES));
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     private void doTestStreamDeliveryReceiveWithTransferAlreadyComplete(boolean tryReceive) throws Exception {
         final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
 
@@ -1834,6 +2001,156 @@ class StreamReceiverTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testTransferBodyToChannelWithSplitTransfers() throws Exception {
+        doTestTransferBodyToChannelWithSplitTransfers(false);
+    }
+
+    @Test
+    public void testTransferBodyToChannelAsyncWithSplitTransfers() throws Exception {
+        doTestTransferBodyToChannelWithSplitTransfers(true);
+    }
+
+    private void doTestTransferBodyToChannelWithSplitTransfers(boolean async) throws Exception {
+        final byte[] body1 = new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+        final byte[] body2 = new byte[] { 10, 11, 12, 13, 14, 15, 16, 17, 18, 19 };
+        final byte[] payload = createEncodedMessage(new Data(body1), new Data(body2));
+        final int chunkSize = 7;
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            for (int offset = 0; offset < payload.length; offset += chunkSize) {
+                peer.remoteTransfer().withHandle(0)
+                                     .withDeliveryId(0)
+                                     .withDeliveryTag(new byte[] { 1 })
+                                     .withMore(true)
+                                     .withMessageFormat(0)
+                                     .withPayload(Arrays.copyOfRange(payload, offset, Math.min(payload.length, offset + chunkSize)))
+                                     .afterDelay(3).queue();
+            }
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0).afterDelay(5).queue();
+            peer.expectDisposition().withFirst(0).withState().accepted().withSettled(true);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+            final StreamDelivery delivery = receiver.receive();
+            final StreamReceiverMessage message = delivery.message();
+            final ByteArrayOutputStream received = new ByteArrayOutputStream();
+            final WritableByteChannel channel = Channels.newChannel(received);
+
+            if (async) {
+                final ExecutorService executor = Executors.newSingleThreadExecutor();
+                try {
+                    assertEquals(body1.length + body2.length, message.transferBodyToAsync(channel, executor).get(10, TimeUnit.SECONDS));
+                } finally {
+                    executor.shutdown();
+                }
+            } else {
+                assertEquals(body1.length + body2.length, message.transferBodyTo(channel));
+            }
+
+            final byte[] expected = new byte[body1.length + body2.length];
+            System.arraycopy(body1, 0, expected, 0, body1.length);
+            System.arraycopy(body2, 0, expected, body1.length, body2.length);
+
+            assertArrayEquals(expected, received.toByteArray());
+            assertNull(message.footer());
+            assertThrows(ClientIllegalStateException.class, () -> message.transferBodyTo(channel));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testTransferBodyToChannelFailsWhenChannelAcceptsNoBytes() throws Exception {
+        final byte[] payload = createEncodedMessage(new Data(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 }));
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.expectDisposition().withFirst(0).withState().accepted().withSettled(true);
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            final Client container = Client.create();
+            final Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            final StreamReceiver receiver = connection.openStreamReceiver("test-queue");
+            final StreamDelivery delivery = receiver.receive();
+            final StreamReceiverMessage message = delivery.message();
+            final WritableByteChannel stalled = new WritableByteChannel() {
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                }
+
+                @Override
+                public int write(ByteBuffer source) {
+                    return 0;
+                }
+            };
+
+            final Pipe pipe = Pipe.open();
+            try {
+                pipe.sink().configureBlocking(false);
+                assertThrows(IllegalArgumentException.class, () -> message.transferBodyTo(pipe.sink()));
+            } finally {
+                pipe.sink().close();
+                pipe.source().close();
+            }
+
+            assertThrows(ClientException.class, () -> message.transferBodyTo(stalled));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            receiver.close();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testStreamReceiverSessionCannotCreateNewResources() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
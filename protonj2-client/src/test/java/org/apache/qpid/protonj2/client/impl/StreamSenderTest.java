@@ -30,7 +30,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -86,6 +90,7 @@ import org.apache.qpid.protonj2.types.transport.Role;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -1018,6 +1023,117 @@ public class StreamSenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    void testWriteFileRegionAsMessageBody(@TempDir Path parentDir) throws Exception {
+        final byte[] contents = new byte[1024];
+        Arrays.fill(contents, 0, 256, (byte) 1);
+        Arrays.fill(contents, 256, 768, (byte) 2);
+        Arrays.fill(contents, 768, 1024, (byte) 3);
+
+        final Path file = Files.write(parentDir.resolve("body"), contents);
+
+        final byte[] expected = new byte[512];
+        Arrays.fill(expected, (byte) 2);
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            StreamSender sender = connection.openStreamSender("test-queue", new StreamSenderOptions().writeBufferSize(256));
+            StreamSenderMessage message = sender.beginMessage();
+
+            message.durable(true);
+
+            HeaderMatcher headerMatcher = new HeaderMatcher(true);
+            headerMatcher.withDurable(true);
+            EncodedDataMatcher dataMatcher = new EncodedDataMatcher(expected);
+            TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+            payloadMatcher.setHeadersMatcher(headerMatcher);
+            payloadMatcher.setMessageContentMatcher(dataMatcher);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withPayload(payloadMatcher).withMore(true);
+
+            assertThrows(IllegalArgumentException.class, () -> message.body(file, 512, 1024));
+            assertThrows(IllegalArgumentException.class, () -> message.body(file, -1, 16));
+
+            message.body(file, 256, 512);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withNullPayload().withMore(false).accept();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            message.complete();
+
+            assertThrows(ClientIllegalStateException.class, () -> message.body(file, 0, 16));
+
+            message.tracker().awaitSettlement(10, TimeUnit.SECONDS);
+
+            sender.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testWriteLargeFileRegionSpansMultipleFrames(@TempDir Path parentDir) throws Exception {
+        final byte[] contents = new byte[4096];
+        new Random(System.nanoTime()).nextBytes(contents);
+
+        final Path file = Files.write(parentDir.resolve("body"), contents);
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), new ConnectionOptions().maxFrameSize(1024));
+            StreamSender sender = connection.openStreamSender("test-queue");
+            StreamSenderMessage message = sender.beginMessage();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 5; ++i) {
+                peer.expectTransfer().withNonNullPayload().withMore(true).withFrameSize(i < 4 ? 1024 : 110);
+            }
+            peer.expectTransfer().withNullPayload().withMore(false).accept();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                message.body(channel, 0, contents.length).complete();
+            }
+
+            message.tracker().awaitSettlement(10, TimeUnit.SECONDS);
+
+            sender.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     void testAutoFlushDuringWriteThatExceedConfiguredBufferLimitSessionCreditLimitOnTransfer() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.OutputStream;
 import java.net.URI;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.qpid.protonj2.client.Client;
@@ -39,6 +40,7 @@ import org.apache.qpid.protonj2.client.Receiver;
 import org.apache.qpid.protonj2.client.ReceiverOptions;
 import org.apache.qpid.protonj2.client.Sender;
 import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.SessionOptions;
 import org.apache.qpid.protonj2.client.StreamSender;
 import org.apache.qpid.protonj2.client.StreamSenderMessage;
 import org.apache.qpid.protonj2.client.Tracker;
@@ -52,6 +54,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientTransactionRolledBackExc
 import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
 import org.apache.qpid.protonj2.client.test.Wait;
 import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
+import org.apache.qpid.protonj2.test.driver.codec.transactions.Declared;
 import org.apache.qpid.protonj2.test.driver.matchers.messaging.HeaderMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.transport.TransferPayloadCompositeMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.types.EncodedDataMatcher;
@@ -63,6 +66,7 @@ import org.apache.qpid.protonj2.types.messaging.Rejected;
 import org.apache.qpid.protonj2.types.messaging.Released;
 import org.apache.qpid.protonj2.types.transactions.TransactionErrors;
 import org.apache.qpid.protonj2.types.transport.AmqpError;
+import org.apache.qpid.protonj2.types.transport.Role;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.slf4j.Logger;
@@ -724,6 +728,142 @@ public class TransactionsTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testBeginAndCommitTransactionAsync() throws Exception {
+        final byte[] txnId = new byte[] { 0, 1, 2, 3 };
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectCoordinatorAttach().respond();
+            peer.remoteFlow().withLinkCredit(2).queue();
+            peer.expectDeclare().accept(txnId);
+            peer.expectDischarge().withFail(false).withTxnId(txnId).accept();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession().openFuture().get();
+
+            session.beginTransaction();
+
+            Future<Session> commitFuture = session.commitTransactionAsync();
+
+            assertSame(session, commitFuture.get(10, TimeUnit.SECONDS));
+
+            session.closeAsync();
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCommitAndBeginTransactionWritesDeclareBeforeDischargeOutcome() throws Exception {
+        final byte[] txnId1 = new byte[] { 0, 1, 2, 3 };
+        final byte[] txnId2 = new byte[] { 1, 1, 2, 3 };
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectCoordinatorAttach().respond();
+            peer.remoteFlow().withLinkCredit(4).queue();
+            peer.expectDeclare().accept(txnId1);
+            peer.expectDischarge().withFail(false).withTxnId(txnId1);
+            peer.expectDeclare();
+            // Outcomes are only sent once both the discharge and the new declare have arrived
+            peer.remoteDisposition().withRole(Role.RECEIVER.getValue())
+                                    .withFirst(1)
+                                    .withSettled(true)
+                                    .withState().accepted().queue();
+            peer.remoteDisposition().withRole(Role.RECEIVER.getValue())
+                                    .withFirst(2)
+                                    .withSettled(true)
+                                    .withState(new Declared().setTxnId(txnId2)).queue();
+            peer.expectDischarge().withFail(false).withTxnId(txnId2).accept();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession().openFuture().get();
+
+            session.beginTransaction();
+            session.commitAndBeginTransaction();
+            session.commitTransaction();
+
+            session.closeAsync();
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testCommitAndBeginTransactionFailsAndRollsBackNewTransactionWhenDischargeRejected() throws Exception {
+        final String errorMessage = "Transaction aborted due to timeout";
+        final byte[] txnId1 = new byte[] { 0, 1, 2, 3 };
+        final byte[] txnId2 = new byte[] { 1, 1, 2, 3 };
+        final byte[] txnId3 = new byte[] { 2, 1, 2, 3 };
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectCoordinatorAttach().respond();
+            peer.remoteFlow().withLinkCredit(6).queue();
+            peer.expectDeclare().accept(txnId1);
+            peer.expectDischarge().withFail(false)
+                                  .withTxnId(txnId1)
+                                  .reject(TransactionErrors.TRANSACTION_TIMEOUT.toString(), errorMessage);
+            peer.expectDeclare().accept(txnId2);
+            peer.expectDischarge().withFail(true).withTxnId(txnId2).accept();
+            peer.expectDeclare().accept(txnId3);
+            peer.expectDischarge().withFail(false).withTxnId(txnId3).accept();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession().openFuture().get();
+
+            session.beginTransaction();
+
+            try {
+                session.commitAndBeginTransaction();
+                fail("Commit should have failed after discharge was rejected.");
+            } catch (ClientTransactionRolledBackException expected) {
+                assertTrue(expected.getMessage().contains(errorMessage));
+            }
+
+            session.beginTransaction();
+            session.commitTransaction();
+
+            session.closeAsync();
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testBeginAndRollbackTransaction() throws Exception {
         final byte[] txnId = new byte[] { 0, 1, 2, 3 };
@@ -1108,6 +1248,74 @@ public class TransactionsTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testReceiveMessagesInsideOfTransactionWithDeferredDispositions() throws Exception {
+        final byte[] txnId = new byte[] { 0, 1, 2, 3 };
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofReceiver().respond();
+            peer.expectFlow();
+            peer.start();
+
+            final URI remoteURI = peer.getServerURI();
+            final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession(new SessionOptions().deferTransactedDispositions(true));
+            Receiver receiver = session.openReceiver("test-queue").openFuture().get();
+
+            peer.expectCoordinatorAttach().respond();
+            peer.remoteFlow().withLinkCredit(2).queue();
+            peer.expectDeclare().accept(txnId);
+            for (int i = 0; i < 3; ++i) {
+                peer.remoteTransfer().withHandle(0)
+                                     .withDeliveryId(i)
+                                     .withDeliveryTag(new byte[] { (byte) i })
+                                     .withMore(false)
+                                     .withMessageFormat(0)
+                                     .withPayload(payload).queue();
+            }
+
+            session.beginTransaction();
+
+            final Delivery[] deliveries = new Delivery[3];
+            for (int i = 0; i < 3; ++i) {
+                deliveries[i] = receiver.receive(5, TimeUnit.SECONDS);
+                assertNotNull(deliveries[i]);
+                assertEquals("Hello World", deliveries[i].message().body());
+            }
+
+            // No dispositions should be written until the transaction is discharged
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDisposition().withFirst(0)
+                                    .withLast(2)
+                                    .withSettled(true)
+                                    .withState().transactional().withTxnId(txnId).withAccepted();
+            peer.expectDischarge().withFail(false).withTxnId(txnId).accept();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            assertFalse(deliveries[0].settled());
+
+            session.commitTransaction();
+
+            for (Delivery delivery : deliveries) {
+                assertTrue(delivery.settled());
+            }
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testReceiveMessageInsideOfTransactionNoAutoSettleSenderSettles() throws Exception {
         doTestReceiveMessageInsideOfTransactionNoAutoSettle(true);
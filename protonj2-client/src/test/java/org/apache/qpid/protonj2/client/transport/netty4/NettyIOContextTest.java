@@ -16,6 +16,7 @@
  */
 package org.apache.qpid.protonj2.client.transport.netty4;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -48,4 +49,60 @@ class NettyIOContextTest {
 
         assertTrue(context.ioScheduler().isShutdown());
     }
+
+    @Test
+    void testSharedContextShutdownDoesNotShutdownGroup() {
+        Netty4IOGroup group = new Netty4IOGroup(1, "test");
+
+        IOContext context1 = group.newContext(new TransportOptions(), new SslOptions());
+        IOContext context2 = group.newContext(new TransportOptions(), new SslOptions());
+
+        context1.shutdown();
+
+        assertTrue(context1.ioScheduler().isShutdown());
+        assertThrows(IllegalStateException.class, () -> context1.newTransport());
+        assertFalse(context2.ioScheduler().isShutdown());
+        assertNotNull(context2.newTransport());
+
+        group.shutdown();
+
+        assertTrue(context2.ioScheduler().isShutdown());
+        assertThrows(IllegalStateException.class, () -> group.newContext(new TransportOptions(), new SslOptions()));
+    }
+
+    @Test
+    void testSharedGroupAssignsContextsToLeastLoadedEventLoop() {
+        final TransportOptions options = new TransportOptions().allowNativeIO(false);
+        final Netty4IOGroup group = new Netty4IOGroup(3, "test");
+
+        try {
+            IOContext context1 = group.newContext(options, new SslOptions());
+            IOContext context2 = group.newContext(options, new SslOptions());
+            IOContext context3 = group.newContext(options, new SslOptions());
+
+            assertArrayEquals(new int[] { 1, 1, 1 }, group.contextsPerEventLoop(Netty4IOContext.NIO));
+
+            context2.shutdown();
+            context2.shutdownAsync();
+
+            assertArrayEquals(new int[] { 1, 0, 1 }, group.contextsPerEventLoop(Netty4IOContext.NIO));
+
+            IOContext context4 = group.newContext(options, new SslOptions());
+
+            assertArrayEquals(new int[] { 1, 1, 1 }, group.contextsPerEventLoop(Netty4IOContext.NIO));
+
+            IOContext context5 = group.newContext(options, new SslOptions());
+
+            assertArrayEquals(new int[] { 1, 1, 2 }, group.contextsPerEventLoop(Netty4IOContext.NIO));
+
+            context1.shutdown();
+            context3.shutdown();
+            context4.shutdown();
+            context5.shutdown();
+
+            assertArrayEquals(new int[] { 0, 0, 0 }, group.contextsPerEventLoop(Netty4IOContext.NIO));
+        } finally {
+            group.shutdown();
+        }
+    }
 }
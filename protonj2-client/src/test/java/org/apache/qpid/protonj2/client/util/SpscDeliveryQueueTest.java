@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.client.impl.ClientDelivery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(20)
+class SpscDeliveryQueueTest {
+
+    @Test
+    void testCreate() {
+        SpscDeliveryQueue queue = new SpscDeliveryQueue(10);
+
+        assertFalse(queue.isRunning());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertNull(queue.dequeueNoWait());
+    }
+
+    @Test
+    void testCreateFromFactory() {
+        assertTrue(DeliveryQueue.create(null, 10) instanceof FifoDeliveryQueue);
+        assertTrue(DeliveryQueue.create(DeliveryQueue.FIFO, 10) instanceof FifoDeliveryQueue);
+        assertTrue(DeliveryQueue.create("SPSC", 10) instanceof SpscDeliveryQueue);
+        assertThrows(IllegalArgumentException.class, () -> DeliveryQueue.create("unknown", 10));
+    }
+
+    @Test
+    void testNotStartedQueueReturnsNull() throws Exception {
+        SpscDeliveryQueue queue = new SpscDeliveryQueue(10);
+
+        queue.enqueue(mock(ClientDelivery.class));
+
+        assertEquals(1, queue.size());
+        assertNull(queue.dequeueNoWait());
+        assertNull(queue.dequeue(-1));
+        assertNull(queue.dequeue(10));
+    }
+
+    @Test
+    void testDequeueInOrderAcrossCapacityGrowth() throws Exception {
+        SpscDeliveryQueue queue = new SpscDeliveryQueue(1);
+        List<ClientDelivery> deliveries = new ArrayList<>();
+
+        queue.start();
+
+        for (int i = 0; i < 100; ++i) {
+            ClientDelivery delivery = mock(ClientDelivery.class);
+            deliveries.add(delivery);
+            queue.enqueue(delivery);
+
+            // Consume some along the way so the ring wraps before it grows
+            if (i % 3 == 0) {
+                assertSame(deliveries.remove(0), queue.dequeueNoWait());
+            }
+        }
+
+        assertEquals(deliveries.size(), queue.size());
+
+        for (ClientDelivery delivery : deliveries) {
+            assertSame(delivery, queue.dequeue(0));
+        }
+
+        assertTrue(queue.isEmpty());
+        assertNull(queue.dequeueNoWait());
+    }
+
+    @Test
+    void testDequeueBatch() throws Exception {
+        SpscDeliveryQueue queue = new SpscDeliveryQueue(4);
+        List<ClientDelivery> deliveries = new ArrayList<>();
+        List<ClientDelivery> received = new ArrayList<>();
+
+        queue.start();
+
+        assertEquals(0, queue.dequeue(received, 10, 5));
+
+        for (int i = 0; i < 20; ++i) {
+            ClientDelivery delivery = mock(ClientDelivery.class);
+            deliveries.add(delivery);
+            queue.enqueue(delivery);
+        }
+
+        assertEquals(8, queue.dequeue(received, 8, -1));
+        assertEquals(12, queue.dequeue(received, 100, 0));
+        assertEquals(deliveries, received);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testClear() {
+        SpscDeliveryQueue queue = new SpscDeliveryQueue(4);
+
+        queue.start();
+
+        for (int i = 0; i < 20; ++i) {
+            queue.enqueue(mock(ClientDelivery.class));
+        }
+
+        assertEquals(20, queue.size());
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+
+        ClientDelivery delivery = mock(ClientDelivery.class);
+        queue.enqueue(delivery);
+        assertSame(delivery, queue.dequeueNoWait());
+    }
+
+    @Test
+    void testDequeueWithTimeoutReturnsNullWhenEmpty() throws Exception {
+        SpscDeliveryQueue queue = new SpscDeliveryQueue(10);
+
+        queue.start();
+
+        assertNull(queue.dequeue(5));
+    }
+
+    @Test
+    void testBlockedDequeueWokenByEnqueue() throws Exception {
+        final SpscDeliveryQueue queue = new SpscDeliveryQueue(10);
+        final ClientDelivery delivery = mock(ClientDelivery.class);
+        final AtomicReference<ClientDelivery> received = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        queue.start();
+
+        Thread consumer = new Thread(() -> {
+            try {
+                received.set(queue.dequeue(-1));
+            } catch (InterruptedException e) {
+            }
+            done.countDown();
+        });
+        consumer.start();
+
+        Thread.sleep(20);
+        queue.enqueue(delivery);
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertSame(delivery, received.get());
+    }
+
+    @Test
+    void testBlockedDequeueWokenByStop() throws Exception {
+        final SpscDeliveryQueue queue = new SpscDeliveryQueue(10);
+        final AtomicReference<ClientDelivery> received = new AtomicReference<>(mock(ClientDelivery.class));
+        final CountDownLatch done = new CountDownLatch(1);
+
+        queue.start();
+
+        Thread consumer = new Thread(() -> {
+            try {
+                received.set(queue.dequeue(-1));
+            } catch (InterruptedException e) {
+            }
+            done.countDown();
+        });
+        consumer.start();
+
+        Thread.sleep(20);
+        queue.stop();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertNull(received.get());
+        assertFalse(queue.isRunning());
+    }
+
+    @Test
+    void testBlockedDequeueThrowsWhenInterrupted() throws Exception {
+        final SpscDeliveryQueue queue = new SpscDeliveryQueue(10);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        queue.start();
+
+        Thread consumer = new Thread(() -> {
+            try {
+                queue.dequeue(-1);
+            } catch (InterruptedException e) {
+                failure.set(e);
+            }
+            done.countDown();
+        });
+        consumer.start();
+
+        Thread.sleep(20);
+        consumer.interrupt();
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(failure.get() instanceof InterruptedException);
+    }
+
+    @Test
+    void testProducerAndConsumerThreadsExchangeAllDeliveries() throws Exception {
+        final int count = 100_000;
+        final SpscDeliveryQueue queue = new SpscDeliveryQueue(8);
+        final ClientDelivery[] deliveries = new ClientDelivery[16];
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int i = 0; i < deliveries.length; ++i) {
+            deliveries[i] = mock(ClientDelivery.class);
+        }
+
+        queue.start();
+
+        Thread consumer = new Thread(() -> {
+            try {
+                for (int i = 0; i < count; ++i) {
+                    ClientDelivery delivery = queue.dequeue(-1);
+                    if (delivery != deliveries[i % deliveries.length]) {
+                        throw new IllegalStateException("Delivery " + i + " received out of order");
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        consumer.start();
+
+        for (int i = 0; i < count; ++i) {
+            queue.enqueue(deliveries[i % deliveries.length]);
+        }
+
+        consumer.join(TimeUnit.SECONDS.toMillis(15));
+
+        assertFalse(consumer.isAlive());
+        assertNull(failure.get());
+        assertTrue(queue.isEmpty());
+    }
+}
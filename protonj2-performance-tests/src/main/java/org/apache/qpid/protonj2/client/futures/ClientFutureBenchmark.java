@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.futures;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.engine.util.RingQueueBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the {@link ClientFuture} types the {@link ClientFutureFactory} can create both
+ * when the outcome is known before anyone asks for it, as with most presettled sends, and
+ * when the caller is already waiting as the connection I/O thread completes the operation.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ClientFutureBenchmark {
+
+    private static final Object RESULT = new Object();
+
+    @Param({ ClientFutureFactory.CONSERVATIVE,
+             ClientFutureFactory.BALANCED,
+             ClientFutureFactory.PROGRESSIVE,
+             ClientFutureFactory.LIGHTWEIGHT })
+    public String futureType;
+
+    private ClientFutureFactory factory;
+    private ClientFuture<Object> reusable;
+
+    private final AtomicReference<ClientFuture<Object>> pending = new AtomicReference<>();
+
+    @Setup(Level.Trial)
+    public void init() {
+        this.factory = ClientFutureFactory.create(futureType);
+        this.reusable = factory.createFuture();
+    }
+
+    @Benchmark
+    @Group("completeBeforeWait")
+    public Object completeBeforeWait() throws Exception {
+        final ClientFuture<Object> future = factory.createFuture();
+
+        future.complete(RESULT);
+
+        return future.get();
+    }
+
+    @Benchmark
+    @Group("completeBeforeWaitReused")
+    public Object completeBeforeWaitReused() throws Exception {
+        ClientFuture<Object> future = reusable;
+
+        future.complete(RESULT);
+
+        final Object result = future.get();
+
+        if (!future.reset()) {
+            reusable = factory.createFuture();
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    @Group("waitThenComplete")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object waiter() throws Exception {
+        final ClientFuture<Object> future = factory.createFuture();
+
+        pending.set(future);
+
+        try {
+            return future.get(100, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Completer stopped at the end of the measurement
+            return null;
+        }
+    }
+
+    @Benchmark
+    @Group("waitThenComplete")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void completer(Control control) {
+        ClientFuture<Object> future;
+
+        while ((future = pending.getAndSet(null)) == null && !control.stopMeasurement) {
+            Thread.yield();
+        }
+
+        if (future != null) {
+            future.complete(RESULT);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        RingQueueBenchmark.runBenchmark(ClientFutureBenchmark.class);
+    }
+}
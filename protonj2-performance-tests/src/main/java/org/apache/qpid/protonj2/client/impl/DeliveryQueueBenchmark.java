@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.client.util.DeliveryQueue;
+import org.apache.qpid.protonj2.engine.IncomingDelivery;
+import org.apache.qpid.protonj2.engine.util.RingQueueBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.Control;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares the {@link DeliveryQueue} implementations a receiver can be configured to use
+ * both from a single thread and with the producer and consumer on separate threads as they
+ * are when the connection I/O thread hands deliveries to an application thread.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+public class DeliveryQueueBenchmark {
+
+    public static final int DEFAULT_DELIVERY_COUNT = 8192;
+    public static final int DEFAULT_QUEUE_DEPTH = 32;
+
+    @Param({ DeliveryQueue.FIFO, DeliveryQueue.SPSC })
+    public String queueType;
+
+    private ClientDelivery delivery;
+    private DeliveryQueue queue;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final IncomingDelivery incoming = (IncomingDelivery) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[] { IncomingDelivery.class }, (proxy, method, args) -> {
+                return method.getName().equals("setLinkedResource") ? proxy : null;
+            });
+
+        this.delivery = new ClientDelivery(null, incoming);
+    }
+
+    @Setup(Level.Iteration)
+    public void createQueue() {
+        this.queue = DeliveryQueue.create(queueType, DEFAULT_QUEUE_DEPTH);
+        this.queue.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void destroyQueue() {
+        this.queue.stop();
+        this.queue.clear();
+    }
+
+    @Benchmark
+    @Group("single")
+    public void produceAndConsume(Blackhole blackHole) {
+        for (int i = 0; i < DEFAULT_QUEUE_DEPTH; ++i) {
+            queue.enqueue(delivery);
+        }
+
+        for (int p = 0; p < DEFAULT_DELIVERY_COUNT; ++p) {
+            blackHole.consume(queue.dequeueNoWait());
+            queue.enqueue(delivery);
+        }
+
+        queue.clear();
+    }
+
+    @Benchmark
+    @Group("handoff")
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void produce(Control control) {
+        // Bound the backlog as a receiver's credit window would
+        while (queue.size() >= DEFAULT_QUEUE_DEPTH && !control.stopMeasurement) {
+            Thread.onSpinWait();
+        }
+
+        queue.enqueue(delivery);
+    }
+
+    @Benchmark
+    @Group("handoff")
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ClientDelivery consume() throws InterruptedException {
+        return queue.dequeue(1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        RingQueueBenchmark.runBenchmark(DeliveryQueueBenchmark.class);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.Client;
+import org.apache.qpid.protonj2.client.ClientOptions;
+import org.apache.qpid.protonj2.client.Connection;
+import org.apache.qpid.protonj2.client.Delivery;
+import org.apache.qpid.protonj2.client.Receiver;
+import org.apache.qpid.protonj2.client.ReceiverOptions;
+import org.apache.qpid.protonj2.client.Session;
+import org.apache.qpid.protonj2.client.SessionOptions;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.Encoder;
+import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+
+/**
+ * Soak run that blocks a very large number of receivers in {@link Receiver#receive(long, TimeUnit)}
+ * against the test peer with the client configured to be virtual thread friendly.  Each receiver
+ * runs on its own virtual thread when the JVM provides them, otherwise a platform thread is used
+ * which limits how many receivers can sensibly be run.  This is not a JMH benchmark, it reports the
+ * elapsed time, delivery rate and peak platform thread count once every receiver has consumed its
+ * share of the deliveries.
+ * <p>
+ * Usage: ReceiverSoakBenchmark [receivers] [deliveries per receiver]
+ */
+public class ReceiverSoakBenchmark {
+
+    public static final int DEFAULT_RECEIVERS = 10_000;
+    public static final int DEFAULT_DELIVERIES_PER_RECEIVER = 10;
+
+    private static final long RECEIVE_TIMEOUT_SECONDS = 60;
+
+    public static void main(String[] args) throws Exception {
+        final int receiverCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RECEIVERS;
+        final int perReceiver = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DELIVERIES_PER_RECEIVER;
+
+        new ReceiverSoakBenchmark().run(receiverCount, perReceiver);
+    }
+
+    public void run(int receiverCount, int perReceiver) throws Exception {
+        final byte[] payload = createEncodedMessage("Soak test message");
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            for (int i = 0; i < receiverCount; ++i) {
+                peer.expectAttach().ofReceiver().respond();
+                peer.expectFlow();
+            }
+            peer.start();
+
+            final URI remoteURI = peer.getServerURI();
+
+            final Client client = Client.create(new ClientOptions().virtualThreadFriendly(true));
+            final Connection connection = client.connect(remoteURI.getHost(), remoteURI.getPort());
+            // No session capacity limit and a credit window large enough that consuming never
+            // triggers a flow which keeps the peer script independent of receiver progress.
+            final Session session = connection.openSession(new SessionOptions().incomingCapacity(0));
+            final ReceiverOptions options = new ReceiverOptions().autoAccept(false).creditWindow(perReceiver * 4);
+            final Receiver[] receivers = new Receiver[receiverCount];
+
+            for (int i = 0; i < receiverCount; ++i) {
+                receivers[i] = session.openReceiver("soak-" + i, options);
+            }
+
+            receivers[receiverCount - 1].openFuture().get(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            peer.waitForScriptToComplete(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            final LongAdder received = new LongAdder();
+            final LongAdder failures = new LongAdder();
+            final CountDownLatch started = new CountDownLatch(receiverCount);
+            final CountDownLatch done = new CountDownLatch(receiverCount);
+            final ExecutorService virtualExecutor = createVirtualThreadExecutor();
+            final boolean virtual = virtualExecutor != null;
+            final ExecutorService executor = virtual ? virtualExecutor : Executors.newCachedThreadPool();
+
+            try {
+                for (Receiver receiver : receivers) {
+                    executor.execute(() -> {
+                        started.countDown();
+                        try {
+                            for (int i = 0; i < perReceiver; ++i) {
+                                final Delivery delivery = receiver.receive(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                                if (delivery == null) {
+                                    failures.increment();
+                                    break;
+                                }
+
+                                delivery.message();
+                                received.increment();
+                            }
+                        } catch (Exception e) {
+                            failures.increment();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+
+                started.await();
+
+                final long startTime = System.nanoTime();
+
+                int deliveryId = 0;
+                for (int round = 0; round < perReceiver; ++round) {
+                    for (int handle = 0; handle < receiverCount; ++handle, ++deliveryId) {
+                        peer.remoteTransfer().withHandle(handle)
+                                             .withDeliveryId(deliveryId)
+                                             .withDeliveryTag(new byte[] { (byte) (deliveryId >>> 8), (byte) deliveryId })
+                                             .withSettled(true)
+                                             .withMessageFormat(0)
+                                             .withPayload(payload).now();
+                    }
+                }
+
+                done.await(RECEIVE_TIMEOUT_SECONDS * perReceiver, TimeUnit.SECONDS);
+
+                final long elapsed = System.nanoTime() - startTime;
+
+                System.out.printf("Receivers: %d on %s threads%n", receiverCount, virtual ? "virtual" : "platform");
+                System.out.printf("Deliveries received: %d of %d (failures: %d)%n",
+                    received.sum(), (long) receiverCount * perReceiver, failures.sum());
+                System.out.printf("Elapsed: %d ms, rate: %.0f deliveries/s%n",
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), received.sum() / (elapsed / 1_000_000_000.0));
+                System.out.printf("Peak platform threads: %d%n", ManagementFactory.getThreadMXBean().getPeakThreadCount());
+            } finally {
+                executor.shutdownNow();
+            }
+
+            peer.expectClose().respond();
+            connection.closeAsync().get(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            client.closeAsync().get(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            peer.waitForScriptToComplete(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    // Virtual threads are looked up reflectively so that the module still builds for older JDKs
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static byte[] createEncodedMessage(String body) {
+        final Encoder encoder = CodecFactory.getEncoder();
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeObject(buffer, encoder.newEncoderState(), new AmqpValue<>(body));
+
+        final byte[] result = new byte[buffer.getReadableBytes()];
+        buffer.copyInto(buffer.getReadOffset(), result, 0, result.length);
+
+        return result;
+    }
+}
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.HashMap;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
 import org.apache.qpid.protonj2.types.UnsignedByte;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
@@ -34,13 +35,17 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
 
     private Blackhole blackhole;
     private ApplicationProperties properties;
+    private ApplicationProperties commonTypesProperties;
+    private ProtonBuffer commonTypesBuffer;
 
     @Setup
     public void init(Blackhole blackhole) {
         super.init();
         this.blackhole = blackhole;
         initApplicationProperties();
+        initCommonTypesApplicationProperties();
         encode();
+        encodeCommonTypes();
     }
 
     private void initApplicationProperties() {
@@ -50,6 +55,15 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
         properties.getValue().put("test3", UnsignedInteger.valueOf((byte) 128));
     }
 
+    private void initCommonTypesApplicationProperties() {
+        commonTypesBuffer = ProtonBufferAllocator.defaultAllocator().allocate(bufferSize());
+        commonTypesProperties = new ApplicationProperties(new HashMap<String, Object>());
+        commonTypesProperties.getValue().put("test1", "string-value");
+        commonTypesProperties.getValue().put("test2", Long.valueOf(Long.MAX_VALUE));
+        commonTypesProperties.getValue().put("test3", Integer.valueOf(128));
+        commonTypesProperties.getValue().put("test4", Boolean.TRUE);
+    }
+
     @Benchmark
     public ProtonBuffer encode() {
         buffer.clear();
@@ -64,6 +78,20 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
         return buffer;
     }
 
+    @Benchmark
+    public ProtonBuffer encodeCommonTypes() {
+        commonTypesBuffer.clear();
+        encoder.writeObject(commonTypesBuffer, encoderState, commonTypesProperties);
+        return commonTypesBuffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer decodeCommonTypes() throws IOException {
+        commonTypesBuffer.setReadOffset(0);
+        blackhole.consume(decoder.readObject(commonTypesBuffer, decoderState));
+        return commonTypesBuffer;
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(ApplicationPropertiesBenchmark.class);
     }
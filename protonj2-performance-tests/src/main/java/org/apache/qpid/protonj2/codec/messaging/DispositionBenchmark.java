@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.codec.messaging;
 import java.io.IOException;
 
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.decoders.transport.DispositionTypeDecoder;
 import org.apache.qpid.protonj2.types.messaging.Accepted;
 import org.apache.qpid.protonj2.types.transport.Disposition;
 import org.apache.qpid.protonj2.types.transport.Role;
@@ -29,12 +30,14 @@ import org.openjdk.jmh.runner.RunnerException;
 
 public class DispositionBenchmark extends CodecBenchmarkBase {
     private Disposition disposition;
+    private Disposition reusedDisposition;
     private Blackhole blackhole;
 
     @Setup
     public void init(Blackhole blackhole) {
         this.blackhole = blackhole;
         super.init();
+        reusedDisposition = new Disposition();
         initDisposition();
         encode();
     }
@@ -60,6 +63,13 @@ public class DispositionBenchmark extends CodecBenchmarkBase {
         blackhole.consume(decoder.readObject(buffer, decoderState));
     }
 
+    @Benchmark
+    public void decodeIntoReused() throws IOException {
+        buffer.setReadOffset(0);
+        final DispositionTypeDecoder typeDecoder = (DispositionTypeDecoder) decoder.readNextTypeDecoder(buffer, decoderState);
+        blackhole.consume(typeDecoder.readValue(buffer, decoderState, reusedDisposition));
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(DispositionBenchmark.class);
     }
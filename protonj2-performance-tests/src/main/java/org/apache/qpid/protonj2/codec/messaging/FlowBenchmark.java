@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.codec.messaging;
 import java.io.IOException;
 
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.decoders.transport.FlowTypeDecoder;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Flow;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -29,12 +30,14 @@ import org.openjdk.jmh.runner.RunnerException;
 public class FlowBenchmark extends CodecBenchmarkBase {
 
     private Flow flow;
+    private Flow reusedFlow;
     private Blackhole blackhole;
 
     @Setup
     public void init(Blackhole blackhole) {
         this.blackhole = blackhole;
         super.init();
+        reusedFlow = new Flow();
         initFlow();
         encode();
     }
@@ -62,6 +65,13 @@ public class FlowBenchmark extends CodecBenchmarkBase {
         blackhole.consume(decoder.readObject(buffer, decoderState));
     }
 
+    @Benchmark
+    public void decodeIntoReused() throws IOException {
+        buffer.setReadOffset(0);
+        final FlowTypeDecoder typeDecoder = (FlowTypeDecoder) decoder.readNextTypeDecoder(buffer, decoderState);
+        blackhole.consume(typeDecoder.readValue(buffer, decoderState, reusedFlow));
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(FlowBenchmark.class);
     }
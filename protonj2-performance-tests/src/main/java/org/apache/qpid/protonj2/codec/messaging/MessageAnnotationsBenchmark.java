@@ -19,6 +19,8 @@ package org.apache.qpid.protonj2.codec.messaging;
 import java.io.IOException;
 import java.util.HashMap;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.UnsignedByte;
@@ -33,6 +35,8 @@ import org.openjdk.jmh.runner.RunnerException;
 public class MessageAnnotationsBenchmark extends CodecBenchmarkBase {
 
     private MessageAnnotations annotations;
+    private MessageAnnotations commonTypesAnnotations;
+    private ProtonBuffer commonTypesBuffer;
     private Blackhole blackhole;
 
     @Setup
@@ -40,7 +44,9 @@ public class MessageAnnotationsBenchmark extends CodecBenchmarkBase {
         this.blackhole = blackhole;
         super.init();
         initMessageAnnotations();
+        initCommonTypesMessageAnnotations();
         encode();
+        encodeCommonTypes();
     }
 
     private void initMessageAnnotations() {
@@ -50,6 +56,14 @@ public class MessageAnnotationsBenchmark extends CodecBenchmarkBase {
         annotations.getValue().put(Symbol.valueOf("test3"), UnsignedInteger.valueOf((byte) 128));
     }
 
+    private void initCommonTypesMessageAnnotations() {
+        commonTypesBuffer = ProtonBufferAllocator.defaultAllocator().allocate(bufferSize());
+        commonTypesAnnotations = new MessageAnnotations(new HashMap<Symbol, Object>());
+        commonTypesAnnotations.getValue().put(Symbol.valueOf("test1"), Symbol.valueOf("symbol-value"));
+        commonTypesAnnotations.getValue().put(Symbol.valueOf("test2"), "string-value");
+        commonTypesAnnotations.getValue().put(Symbol.valueOf("test3"), Long.valueOf(128));
+    }
+
     @Benchmark
     public void encode() {
         buffer.clear();
@@ -62,6 +76,18 @@ public class MessageAnnotationsBenchmark extends CodecBenchmarkBase {
         blackhole.consume(decoder.readObject(buffer, decoderState));
     }
 
+    @Benchmark
+    public void encodeCommonTypes() {
+        commonTypesBuffer.clear();
+        encoder.writeObject(commonTypesBuffer, encoderState, commonTypesAnnotations);
+    }
+
+    @Benchmark
+    public void decodeCommonTypes() throws IOException {
+        commonTypesBuffer.setReadOffset(0);
+        blackhole.consume(decoder.readObject(commonTypesBuffer, decoderState));
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(MessageAnnotationsBenchmark.class);
     }
@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.codec.messaging;
 import java.io.IOException;
 
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.decoders.transport.TransferTypeDecoder;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Transfer;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -29,12 +30,14 @@ import org.openjdk.jmh.runner.RunnerException;
 public class TransferBenchmark extends CodecBenchmarkBase {
 
     private Transfer transfer;
+    private Transfer reusedTransfer;
     private Blackhole blackhole;
 
     @Setup
     public void init(Blackhole blackhole) {
         this.blackhole = blackhole;
         super.init();
+        reusedTransfer = new Transfer();
         initTransfer();
         encode();
     }
@@ -58,6 +61,13 @@ public class TransferBenchmark extends CodecBenchmarkBase {
         blackhole.consume(decoder.readObject(buffer, decoderState));
     }
 
+    @Benchmark
+    public void decodeIntoReused() throws IOException {
+        buffer.setReadOffset(0);
+        final TransferTypeDecoder typeDecoder = (TransferTypeDecoder) decoder.readNextTypeDecoder(buffer, decoderState);
+        blackhole.consume(typeDecoder.readValue(buffer, decoderState, reusedTransfer));
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(TransferBenchmark.class);
     }
@@ -19,7 +19,10 @@ package org.apache.qpid.protonj2.codec.primitives;
 import java.io.IOException;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonUTF8Decoder;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.infra.Blackhole;
@@ -39,12 +42,41 @@ public class StringBenchmark extends CodecBenchmarkBase {
     private String string2;
     private String string3;
 
+    private ProtonBuffer compositeBuffer;
+    private ProtonDecoderState utf8DecoderState;
+    private ProtonDecoderState internDecoderState;
+
     @Setup
     public void init(Blackhole blackhole) {
         this.blackhole = blackhole;
         super.init();
         initStrings();
         encode();
+        initCompositeBuffer();
+        initDecoderStates();
+    }
+
+    private void initCompositeBuffer() {
+        final ProtonBuffer[] components = new ProtonBuffer[(buffer.getReadableBytes() + 4) / 5];
+
+        // Small components so that each encoded string spans more than one of them
+        for (int i = 0; i < components.length; ++i) {
+            final int offset = i * 5;
+            final int length = Math.min(5, buffer.getReadableBytes() - offset);
+
+            components[i] = ProtonBufferAllocator.defaultAllocator().allocate(length);
+            buffer.copyInto(offset, components[i], 0, length);
+            components[i].advanceWriteOffset(length);
+        }
+
+        compositeBuffer = ProtonBufferAllocator.defaultAllocator().composite(components);
+    }
+
+    private void initDecoderStates() {
+        utf8DecoderState = (ProtonDecoderState) decoder.newDecoderState();
+        utf8DecoderState.setStringDecoder(new ProtonUTF8Decoder());
+        internDecoderState = (ProtonDecoderState) decoder.newDecoderState();
+        internDecoderState.setStringDecoder(new ProtonUTF8Decoder(256));
     }
 
     private void initStrings() {
@@ -78,6 +110,51 @@ public class StringBenchmark extends CodecBenchmarkBase {
         return buffer;
     }
 
+    @Benchmark
+    public ProtonBuffer decodeWithUTF8Decoder() throws IOException {
+        buffer.setReadOffset(0);
+        blackhole.consume(decoder.readString(buffer, utf8DecoderState));
+        blackhole.consume(decoder.readString(buffer, utf8DecoderState));
+        blackhole.consume(decoder.readString(buffer, utf8DecoderState));
+        return buffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer decodeWithInternCache() throws IOException {
+        buffer.setReadOffset(0);
+        blackhole.consume(decoder.readString(buffer, internDecoderState));
+        blackhole.consume(decoder.readString(buffer, internDecoderState));
+        blackhole.consume(decoder.readString(buffer, internDecoderState));
+        return buffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer decodeComposite() throws IOException {
+        compositeBuffer.setReadOffset(0);
+        blackhole.consume(decoder.readString(compositeBuffer, decoderState));
+        blackhole.consume(decoder.readString(compositeBuffer, decoderState));
+        blackhole.consume(decoder.readString(compositeBuffer, decoderState));
+        return compositeBuffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer decodeCompositeWithUTF8Decoder() throws IOException {
+        compositeBuffer.setReadOffset(0);
+        blackhole.consume(decoder.readString(compositeBuffer, utf8DecoderState));
+        blackhole.consume(decoder.readString(compositeBuffer, utf8DecoderState));
+        blackhole.consume(decoder.readString(compositeBuffer, utf8DecoderState));
+        return compositeBuffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer decodeCompositeWithInternCache() throws IOException {
+        compositeBuffer.setReadOffset(0);
+        blackhole.consume(decoder.readString(compositeBuffer, internDecoderState));
+        blackhole.consume(decoder.readString(compositeBuffer, internDecoderState));
+        blackhole.consume(decoder.readString(compositeBuffer, internDecoderState));
+        return compositeBuffer;
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(StringBenchmark.class);
     }
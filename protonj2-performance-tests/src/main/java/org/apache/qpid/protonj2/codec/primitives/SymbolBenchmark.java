@@ -17,7 +17,11 @@
 package org.apache.qpid.protonj2.codec.primitives;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -27,6 +31,21 @@ import org.openjdk.jmh.runner.RunnerException;
 
 public class SymbolBenchmark extends CodecBenchmarkBase {
 
+    /*
+     * The skewed workload decodes symbols drawn from a Zipf like distribution over a key space
+     * twice the size of the Symbol cache, a small set of hot names dominate while a long tail
+     * of rarely seen names keeps forcing the cache to evict, roughly what a broker sees with a
+     * handful of common annotation keys mixed with per application property names. The cache
+     * is first filled with transient one-off names as a long running process would have seen.
+     */
+    private static final int TRANSIENT_SYMBOLS = 16384;
+    private static final int SKEWED_KEY_SPACE = 16384;
+    private static final int SKEWED_SAMPLES = 1024;
+    private static final double SKEWED_EXPONENT = 1.1;
+
+    private ProtonBuffer skewedBuffer;
+    private String[] skewedStrings;
+
     private Symbol symbol1;
     private Symbol symbol2;
     private Symbol symbol3;
@@ -37,9 +56,38 @@ public class SymbolBenchmark extends CodecBenchmarkBase {
         this.blackhole = blackhole;
         super.init();
         initSymbols();
+        initSkewedWorkload();
         encode();
     }
 
+    private void initSkewedWorkload() {
+        for (int i = 0; i < TRANSIENT_SYMBOLS; ++i) {
+            Symbol.getSymbol("x-opt-transient-key-" + i);
+        }
+
+        final Random random = new Random(42);
+        final double[] cumulative = new double[SKEWED_KEY_SPACE];
+
+        double total = 0;
+        for (int i = 0; i < SKEWED_KEY_SPACE; ++i) {
+            total += 1.0 / Math.pow(i + 1, SKEWED_EXPONENT);
+            cumulative[i] = total;
+        }
+
+        skewedStrings = new String[SKEWED_SAMPLES];
+        skewedBuffer = ProtonBufferAllocator.defaultAllocator().allocate(SKEWED_SAMPLES * 32);
+
+        for (int i = 0; i < SKEWED_SAMPLES; ++i) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            if (rank < 0) {
+                rank = -rank - 1;
+            }
+
+            skewedStrings[i] = "x-opt-skewed-key-" + rank;
+            encoder.writeSymbol(skewedBuffer, encoderState, skewedStrings[i]);
+        }
+    }
+
     private void initSymbols() {
         symbol1 = Symbol.valueOf("Symbol-1");
         symbol2 = Symbol.valueOf("Symbol-2");
@@ -62,6 +110,21 @@ public class SymbolBenchmark extends CodecBenchmarkBase {
         blackhole.consume(decoder.readSymbol(buffer, decoderState));
     }
 
+    @Benchmark
+    public void decodeSkewedWorkload() throws IOException {
+        skewedBuffer.setReadOffset(0);
+        for (int i = 0; i < SKEWED_SAMPLES; ++i) {
+            blackhole.consume(decoder.readSymbol(skewedBuffer, decoderState));
+        }
+    }
+
+    @Benchmark
+    public void lookupSkewedWorkload() {
+        for (int i = 0; i < SKEWED_SAMPLES; ++i) {
+            blackhole.consume(Symbol.getSymbol(skewedStrings[i]));
+        }
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(SymbolBenchmark.class);
     }
@@ -979,16 +979,17 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
 
         while (bytesWritten < length && currentChunkIndex < buffers.length) {
             final ProtonBuffer buffer = buffers[currentChunkIndex];
-            final int chunkedWrite = Math.min(buffer.getReadableBytes(), length);
+            final int chunkedWrite = Math.min(buffer.getReadableBytes(), length - bytesWritten);
 
             final int written = buffer.transferTo(channel, chunkedWrite);
 
-            if (written == 0) {
+            readOffset = Math.addExact(readOffset, written);
+            bytesWritten += written;
+
+            if (written < chunkedWrite) {
                 break;
             }
 
-            readOffset = Math.addExact(readOffset, written);
-            bytesWritten += written;
             currentChunkIndex++;
         }
 
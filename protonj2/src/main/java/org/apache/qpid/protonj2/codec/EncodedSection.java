@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec;
+
+import java.util.Objects;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.types.messaging.Section;
+
+/**
+ * An immutable pre-encoded form of an AMQP {@link Section} which can be written into
+ * an outbound buffer with a single copy instead of being encoded again from the section
+ * object on every write. The {@link SectionEncoder} recognizes instances of this type
+ * and writes the cached bytes in place of encoding the wrapped section.
+ * <p>
+ * The section given when the encoded form is created must not be modified afterwards
+ * as any changes would not be reflected in the cached encoding. Instances can be safely
+ * shared between threads and written concurrently to different buffers.
+ *
+ * @param <E> The type of the value carried in the encoded section
+ */
+public final class EncodedSection<E> implements Section<E> {
+
+    private final Section<E> section;
+    private final byte[] encoding;
+
+    private EncodedSection(Section<E> section, byte[] encoding) {
+        this.section = section;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Encodes the given section using the default {@link Encoder} and returns an
+     * {@link EncodedSection} that holds the resulting bytes.
+     *
+     * @param <V> The type of the value carried in the encoded section
+     *
+     * @param section
+     * 		The section to encode which must not be modified afterwards.
+     *
+     * @return a new {@link EncodedSection} that carries the encoding of the given section.
+     *
+     * @throws EncodeException if an error occurs while encoding the section.
+     */
+    public static <V> EncodedSection<V> encode(Section<V> section) throws EncodeException {
+        return encode(CodecFactory.getDefaultEncoder(), section);
+    }
+
+    /**
+     * Encodes the given section using the provided {@link Encoder} and returns an
+     * {@link EncodedSection} that holds the resulting bytes.
+     *
+     * @param <V> The type of the value carried in the encoded section
+     *
+     * @param encoder
+     * 		The encoder to use when writing the section.
+     * @param section
+     * 		The section to encode which must not be modified afterwards.
+     *
+     * @return a new {@link EncodedSection} that carries the encoding of the given section.
+     *
+     * @throws EncodeException if an error occurs while encoding the section.
+     */
+    public static <V> EncodedSection<V> encode(Encoder encoder, Section<V> section) throws EncodeException {
+        Objects.requireNonNull(section, "Section to encode cannot be null");
+
+        if (section instanceof EncodedSection) {
+            return (EncodedSection<V>) section;
+        }
+
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocateHeapBuffer();
+
+        encoder.writeObject(buffer, encoder.newEncoderState(), section);
+
+        final byte[] encoding = new byte[buffer.getReadableBytes()];
+
+        buffer.readBytes(encoding, 0, encoding.length);
+
+        return new EncodedSection<>(section, encoding);
+    }
+
+    /**
+     * @return the original section whose encoding is cached in this instance.
+     */
+    public Section<E> getSection() {
+        return section;
+    }
+
+    /**
+     * @return the number of bytes in the cached encoding of the section.
+     */
+    public int getEncodedSize() {
+        return encoding.length;
+    }
+
+    /**
+     * Writes the cached encoding of the section into the given buffer.
+     *
+     * @param buffer
+     * 		The buffer where the encoded section bytes are written.
+     *
+     * @return the provided buffer.
+     */
+    public ProtonBuffer writeTo(ProtonBuffer buffer) {
+        buffer.ensureWritable(encoding.length);
+        buffer.writeBytes(encoding);
+
+        return buffer;
+    }
+
+    @Override
+    public SectionType getType() {
+        return section.getType();
+    }
+
+    @Override
+    public E getValue() {
+        return section.getValue();
+    }
+
+    @Override
+    public String toString() {
+        return "EncodedSection{ " + section + ", encodedSize=" + encoding.length + " }";
+    }
+}
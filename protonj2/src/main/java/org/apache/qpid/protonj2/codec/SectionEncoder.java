@@ -74,6 +74,11 @@ public final class SectionEncoder {
      *      The section to write using one of the cached encoders
      */
     public void write(ProtonBuffer buffer, Section<?> section) {
+        if (section instanceof EncodedSection) {
+            ((EncodedSection<?>) section).writeTo(buffer);
+            return;
+        }
+
         try {
             switch (section.getType()) {
             case AmqpSequence:
@@ -111,6 +116,18 @@ public final class SectionEncoder {
         }
     }
 
+    /**
+     * Writes the cached encoding of the given pre-encoded section
+     *
+     * @param buffer
+     * 		The buffer to write the encoding to
+     * @param section
+     *      The pre-encoded section whose bytes are copied into the buffer.
+     */
+    public void write(ProtonBuffer buffer, EncodedSection<?> section) {
+        section.writeTo(buffer);
+    }
+
     /**
      * Writes the given section using the cached encoder for that section types
      *
@@ -65,6 +65,39 @@ public abstract class AbstractDescribedListTypeDecoder<V> extends AbstractDescri
         }
     }
 
+    /**
+     * Reads the next encoded value into the given instance of the described type instead of creating
+     * a new instance. Decoders whose type does not support being decoded into an existing instance
+     * return a newly created value so callers must always use the returned value and not assume that
+     * the provided instance was updated.
+     *
+     * @param buffer
+     * 		The source of the encoded bytes to read the value from.
+     * @param state
+     * 		The decoder state that was passed at the start of decoding.
+     * @param target
+     * 		The instance that should be reset and populated with the decoded value or null to create one.
+     *
+     * @return the decoded value which is the target instance if the decoder supports reuse.
+     *
+     * @throws DecodeException if an error occurs while performing the decode.
+     */
+    public V readValue(ProtonBuffer buffer, DecoderState state, V target) throws DecodeException {
+        if (target == null) {
+            return readValue(buffer, state);
+        }
+
+        state.increaseDepth();
+
+        final TypeDecoder<?> decoder = state.getDecoder().readNextTypeDecoder(buffer, state);
+
+        try {
+            return readSingle(buffer, state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), target);
+        } finally {
+            state.decreaseDepth();
+        }
+    }
+
     @Override
     public final void skipValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         checkIsExpectedType(ListTypeDecoder.class, state.getDecoder().readNextTypeDecoder(buffer, state)).skipValue(buffer, state);
@@ -135,6 +168,27 @@ public abstract class AbstractDescribedListTypeDecoder<V> extends AbstractDescri
      * @throws DecodeException if an error occurs while performing the decode.
      */
     protected V readSingle(ProtonBuffer buffer, DecoderState state, ListTypeDecoder listDecoder) throws DecodeException {
+        return readSingle(buffer, state, listDecoder, null);
+    }
+
+    /**
+     * Reads a single instance of the described list type using the provided decoder, populating the given
+     * instance if the decoder supports decoding into an existing value.
+     *
+     * @param buffer
+     * 		The source of the encoded bytes to read the value from.
+     * @param state
+     * 		The decoder state that was passed at the start of decoding.
+     * @param listDecoder
+     * 		The list decoder that indicates the structure of the encoded lists of elements.
+     * @param target
+     * 		The instance to populate with the decoded value or null if a new instance should be created.
+     *
+     * @return a single value that is the described type this decoder reads using the given list decoder.
+     *
+     * @throws DecodeException if an error occurs while performing the decode.
+     */
+    protected final V readSingle(ProtonBuffer buffer, DecoderState state, ListTypeDecoder listDecoder, V target) throws DecodeException {
         final int size = listDecoder.readSize(buffer, state);
         final int expectedEndPos = buffer.getReadOffset() + size;
 
@@ -164,7 +218,8 @@ public abstract class AbstractDescribedListTypeDecoder<V> extends AbstractDescri
                 getMaxListElements(), Integer.toUnsignedLong(count)));
         }
 
-        final V type = readType(count, buffer, state.getDecoder(), state);
+        final V type = target == null ? readType(count, buffer, state.getDecoder(), state) :
+                                        readType(count, buffer, state.getDecoder(), state, target);
 
         if (buffer.getReadOffset() != expectedEndPos) {
             throw new DecodeException("List decoding did not read the expected amount of bytes: " + size);
@@ -240,6 +295,30 @@ public abstract class AbstractDescribedListTypeDecoder<V> extends AbstractDescri
      */
     protected abstract V readType(int count, ProtonBuffer buffer, Decoder decoder, DecoderState state) throws DecodeException;
 
+    /**
+     * Reads the actual type from the byte stream into the given instance with the given number of encoded
+     * list elements populated. The default implementation ignores the given instance and creates a new
+     * value, decoders of types that can be reset and reused override this to populate the given instance.
+     *
+     * @param count
+     * 		The number of entries encoded into the list body.
+     * @param buffer
+     * 		The source of the encoded bytes to read the value from.
+     * @param decoder
+     * 		The list decoder that indicates the structure of the encoded lists of elements.
+     * @param state
+     * 		The decoder state that was passed at the start of decoding.
+     * @param target
+     * 		The instance that should be populated with the decoded value.
+     *
+     * @return a single value that is the described type this decoder reads using the given list decoder.
+     *
+     * @throws DecodeException if an error occurs while performing the decode.
+     */
+    protected V readType(int count, ProtonBuffer buffer, Decoder decoder, DecoderState state, V target) throws DecodeException {
+        return readType(count, buffer, decoder, state);
+    }
+
     /**
      * Reads the actual type from the byte stream with the given number of encoded list elements populated
      *
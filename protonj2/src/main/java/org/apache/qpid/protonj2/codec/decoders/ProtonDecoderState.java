@@ -172,14 +172,17 @@ public final class ProtonDecoderState implements DecoderState {
 
             return new String(target, 0, length, StandardCharsets.UTF_8);
         } else {
-            final int originalPosition = buffer.getReadOffset();
+            final int expectedPosition = buffer.getReadOffset() + length;
 
             try {
                 return stringDecoder.decodeUTF8(buffer, length);
             } catch (Exception ex) {
                 throw new DecodeException("Cannot parse encoded UTF8 String", ex);
             } finally {
-                buffer.setReadOffset(originalPosition + length);
+                // Avoid a reposition when not needed as it can be costly for composite buffers
+                if (buffer.getReadOffset() != expectedPosition) {
+                    buffer.setReadOffset(expectedPosition);
+                }
             }
         }
     }
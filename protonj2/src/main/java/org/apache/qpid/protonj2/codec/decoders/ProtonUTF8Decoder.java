@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+
+/**
+ * A {@link UTF8Decoder} that decodes in place from array backed buffers and gathers values held
+ * in composite or non-array backed buffers into a reused scratch array instead of allocating a
+ * new array on each decode. Values are scanned a word at a time to detect pure ASCII content
+ * which is then decoded without UTF-8 processing.
+ * <p>
+ * The decoder can optionally be configured with a bounded intern cache which returns the same
+ * {@link String} instance for repeated short values such as addresses, subjects and property keys.
+ * The cache is direct mapped so a newly decoded value replaces any value that previously occupied
+ * its slot which bounds the memory used regardless of the number of distinct values seen.
+ * <p>
+ * Instances of this decoder are not thread safe and should be assigned to a single decoder state.
+ */
+public final class ProtonUTF8Decoder implements UTF8Decoder {
+
+    /**
+     * The default maximum encoded length of a value that will be stored in the intern cache.
+     */
+    public static final int DEFAULT_MAX_INTERNED_LENGTH = 64;
+
+    /**
+     * The maximum number of slots that the intern cache can be configured with.
+     */
+    public static final int MAX_INTERN_CACHE_SIZE = 1 << 16;
+
+    private static final int INITIAL_SCRATCH_SIZE = 128;
+    private static final int MAX_RETAINED_SCRATCH_SIZE = 64 * 1024;
+
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
+
+    private static final VarHandle LONG_VIEW =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final InternEntry[] internCache;
+    private final int internMask;
+    private final int maxInternedLength;
+
+    private byte[] scratch = new byte[INITIAL_SCRATCH_SIZE];
+
+    /**
+     * Creates a new decoder with no intern cache.
+     */
+    public ProtonUTF8Decoder() {
+        this(0, DEFAULT_MAX_INTERNED_LENGTH);
+    }
+
+    /**
+     * Creates a new decoder with an intern cache of the given size that stores values whose
+     * encoded length is no greater than {@link #DEFAULT_MAX_INTERNED_LENGTH}.
+     *
+     * @param internCacheSize
+     * 		The number of intern cache slots, rounded up to a power of two, zero disables interning.
+     */
+    public ProtonUTF8Decoder(int internCacheSize) {
+        this(internCacheSize, DEFAULT_MAX_INTERNED_LENGTH);
+    }
+
+    /**
+     * Creates a new decoder with an intern cache of the given size that stores values whose
+     * encoded length is no greater than the given maximum.
+     *
+     * @param internCacheSize
+     * 		The number of intern cache slots, rounded up to a power of two, zero disables interning.
+     * @param maxInternedLength
+     * 		The maximum encoded length of a value that will be stored in the intern cache.
+     */
+    public ProtonUTF8Decoder(int internCacheSize, int maxInternedLength) {
+        if (internCacheSize < 0 || internCacheSize > MAX_INTERN_CACHE_SIZE) {
+            throw new IllegalArgumentException(
+                "Intern cache size must be in the range [0.." + MAX_INTERN_CACHE_SIZE + "]: " + internCacheSize);
+        }
+
+        if (maxInternedLength < 0) {
+            throw new IllegalArgumentException("Max interned length cannot be negative: " + maxInternedLength);
+        }
+
+        if (internCacheSize > 0) {
+            final int capacity = internCacheSize == 1 ? 1 : Integer.highestOneBit(internCacheSize - 1) << 1;
+
+            this.internCache = new InternEntry[capacity];
+            this.internMask = capacity - 1;
+        } else {
+            this.internCache = null;
+            this.internMask = 0;
+        }
+
+        this.maxInternedLength = maxInternedLength;
+    }
+
+    /**
+     * @return the number of slots in the intern cache or zero if interning is disabled.
+     */
+    public int getInternCacheSize() {
+        return internCache == null ? 0 : internCache.length;
+    }
+
+    /**
+     * @return the maximum encoded length of a value that will be stored in the intern cache.
+     */
+    public int getMaxInternedLength() {
+        return maxInternedLength;
+    }
+
+    @Override
+    public String decodeUTF8(ProtonBuffer buffer, int utf8length) {
+        if (utf8length == 0) {
+            return "";
+        }
+
+        // Decode in place from array backed buffers, composite buffers are not examined as walking
+        // their components to find the one at the read offset costs more than gathering the bytes.
+        if (buffer.readableComponentCount() == 1) {
+            try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+                final ProtonBufferComponent component = accessor.firstReadable();
+
+                if (component.hasReadbleArray()) {
+                    final String result = decode(component.getReadableArray(), component.getReadableArrayOffset(), utf8length);
+
+                    buffer.advanceReadOffset(utf8length);
+
+                    return result;
+                }
+            }
+        }
+
+        final byte[] target = utf8length > MAX_RETAINED_SCRATCH_SIZE ? new byte[utf8length] : scratch(utf8length);
+
+        buffer.readBytes(target, 0, utf8length);
+
+        return decode(target, 0, utf8length);
+    }
+
+    private byte[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.min(MAX_RETAINED_SCRATCH_SIZE, Math.max(length, scratch.length << 1))];
+        }
+
+        return scratch;
+    }
+
+    private String decode(byte[] array, int offset, int length) {
+        if (internCache == null || length > maxInternedLength) {
+            return decodeString(array, offset, length);
+        }
+
+        final int hash = hash(array, offset, length);
+        final int slot = hash & internMask;
+        final InternEntry entry = internCache[slot];
+
+        if (entry != null && entry.matches(hash, array, offset, length)) {
+            return entry.value;
+        }
+
+        final String value = decodeString(array, offset, length);
+
+        internCache[slot] = new InternEntry(hash, Arrays.copyOfRange(array, offset, offset + length), value);
+
+        return value;
+    }
+
+    private static String decodeString(byte[] array, int offset, int length) {
+        if (isAscii(array, offset, length)) {
+            return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+        } else {
+            return new String(array, offset, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static boolean isAscii(byte[] array, int offset, int length) {
+        final int limit = offset + length;
+
+        int index = offset;
+        long accumulated = 0;
+
+        for (; index + Long.BYTES <= limit; index += Long.BYTES) {
+            accumulated |= (long) LONG_VIEW.get(array, index);
+        }
+
+        for (; index < limit; ++index) {
+            accumulated |= array[index];
+        }
+
+        return (accumulated & NON_ASCII_MASK) == 0;
+    }
+
+    private static int hash(byte[] array, int offset, int length) {
+        final int limit = offset + length;
+
+        int index = offset;
+        int hash = length;
+
+        for (; index + Long.BYTES <= limit; index += Long.BYTES) {
+            hash = 31 * hash + Long.hashCode((long) LONG_VIEW.get(array, index));
+        }
+
+        for (; index < limit; ++index) {
+            hash = 31 * hash + array[index];
+        }
+
+        // Mix all bits into the low bits used to select the cache slot (murmur3 finalizer)
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class InternEntry {
+
+        private final int hash;
+        private final byte[] encoded;
+        private final String value;
+
+        InternEntry(int hash, byte[] encoded, String value) {
+            this.hash = hash;
+            this.encoded = encoded;
+            this.value = value;
+        }
+
+        boolean matches(int hash, byte[] array, int offset, int length) {
+            return this.hash == hash && Arrays.equals(encoded, 0, encoded.length, array, offset, offset + length);
+        }
+    }
+}
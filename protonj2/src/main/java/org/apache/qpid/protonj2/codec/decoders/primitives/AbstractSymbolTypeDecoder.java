@@ -47,10 +47,9 @@ public abstract class AbstractSymbolTypeDecoder extends AbstractPrimitiveTypeDec
                     "of data available (%d)", Integer.toUnsignedLong(length), buffer.getReadableBytes()));
         }
 
-        try (ProtonBuffer symbolBuffer = buffer.copy(buffer.getReadOffset(), length, true)) {
-            buffer.advanceReadOffset(length);
-            return getSymbol(symbolBuffer, true);
-        }
+        final Symbol symbol = getSymbol(buffer, buffer.getReadOffset(), length);
+        buffer.advanceReadOffset(length);
+        return symbol;
     }
 
     /**
@@ -159,4 +158,23 @@ public abstract class AbstractSymbolTypeDecoder extends AbstractPrimitiveTypeDec
     protected Symbol getSymbol(ProtonBuffer buffer, boolean copyOnCreate) {
         return Symbol.getSymbol(buffer, copyOnCreate);
     }
+
+    /**
+     * Gets a singleton {@link Symbol} instance that matches the bytes in the given region of
+     * the provided {@link ProtonBuffer}, the buffer offsets are not modified by this method.
+     * A subclass can override this to produce the Symbol singleton from a source other than
+     * the default which is the general symbol cache.
+     *
+     * @param buffer
+     * 		The {@link ProtonBuffer} that contains the encoded {@link Symbol} bytes.
+     * @param offset
+     * 		The absolute offset in the buffer where the {@link Symbol} bytes begin.
+     * @param length
+     * 		The number of bytes that comprise the {@link Symbol} value.
+     *
+     * @return a {@link Symbol} that matches the given bytes.
+     */
+    protected Symbol getSymbol(ProtonBuffer buffer, int offset, int length) {
+        return Symbol.getSymbol(buffer, offset, length);
+    }
 }
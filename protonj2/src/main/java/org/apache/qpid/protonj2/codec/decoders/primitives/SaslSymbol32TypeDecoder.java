@@ -55,4 +55,9 @@ public final class SaslSymbol32TypeDecoder extends AbstractSymbolTypeDecoder {
     protected Symbol getSymbol(ProtonBuffer buffer, boolean copyOnCreate) {
         return Symbol.getSASLSymbol(buffer, copyOnCreate);
     }
+
+    @Override
+    protected Symbol getSymbol(ProtonBuffer buffer, int offset, int length) {
+        return Symbol.getSASLSymbol(buffer, offset, length);
+    }
 }
@@ -70,7 +70,12 @@ public final class DispositionTypeDecoder extends AbstractDescribedListTypeDecod
 
     @Override
     protected Disposition readType(int count, ProtonBuffer buffer, Decoder decoder, DecoderState state) throws DecodeException {
-        final Disposition disposition = new Disposition();
+        return readType(count, buffer, decoder, state, new Disposition());
+    }
+
+    @Override
+    protected Disposition readType(int count, ProtonBuffer buffer, Decoder decoder, DecoderState state, Disposition disposition) throws DecodeException {
+        disposition.reset();
 
         for (int index = 0; index < count; ++index) {
             // Peek ahead and see if there is a null in the next slot, if so we don't call
@@ -68,7 +68,12 @@ public final class FlowTypeDecoder extends AbstractDescribedListTypeDecoder<Flow
 
     @Override
     protected Flow readType(int count, ProtonBuffer buffer, Decoder decoder, DecoderState state) throws DecodeException {
-        final Flow flow = new Flow();
+        return readType(count, buffer, decoder, state, new Flow());
+    }
+
+    @Override
+    protected Flow readType(int count, ProtonBuffer buffer, Decoder decoder, DecoderState state, Flow flow) throws DecodeException {
+        flow.reset();
 
         for (int index = 0; index < count; ++index) {
             // Peek ahead and see if there is a null in the next slot, if so we don't call
@@ -71,7 +71,12 @@ public final class TransferTypeDecoder extends AbstractDescribedListTypeDecoder<
 
     @Override
     protected Transfer readType(int count, ProtonBuffer buffer, Decoder decoder, DecoderState state) throws DecodeException {
-        final Transfer transfer = new Transfer();
+        return readType(count, buffer, decoder, state, new Transfer());
+    }
+
+    @Override
+    protected Transfer readType(int count, ProtonBuffer buffer, Decoder decoder, DecoderState state, Transfer transfer) throws DecodeException {
+        transfer.reset();
 
         for (int index = 0; index < count; ++index) {
             // Peek ahead and see if there is a null in the next slot, if so we don't call
@@ -26,6 +26,7 @@ import java.util.function.Function;
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.DescribedTypeEncoder;
 import org.apache.qpid.protonj2.codec.EncodeException;
+import org.apache.qpid.protonj2.codec.EncodedSection;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
@@ -674,7 +675,27 @@ public final class ProtonEncoder implements Encoder {
     @Override
     public void writeObject(ProtonBuffer buffer, EncoderState state, Object value) throws EncodeException {
         if (value != null) {
-            TypeEncoder encoder = typeEncoders.get(value.getClass());
+            final Class<?> valueClass = value.getClass();
+
+            // Common map and list value types are dispatched directly without the type lookup
+            if (valueClass == String.class) {
+                stringEncoder.writeType(buffer, state, (String) value);
+                return;
+            } else if (valueClass == Long.class) {
+                longEncoder.writeType(buffer, state, (Long) value);
+                return;
+            } else if (valueClass == Integer.class) {
+                integerEncoder.writeType(buffer, state, (Integer) value);
+                return;
+            } else if (valueClass == Boolean.class) {
+                booleanEncoder.writeType(buffer, state, (Boolean) value);
+                return;
+            } else if (valueClass == Symbol.class) {
+                symbolEncoder.writeType(buffer, state, (Symbol) value);
+                return;
+            }
+
+            TypeEncoder encoder = typeEncoders.get(valueClass);
 
             if (encoder == null) {
                 writeUnregisteredType(buffer, state, value);
@@ -720,6 +741,8 @@ public final class ProtonEncoder implements Encoder {
             writeMap(buffer, state, map);
         } else if (value instanceof DescribedType described) {
             writeDescribedType(buffer, state, described);
+        } else if (value instanceof EncodedSection<?> encoded) {
+            encoded.writeTo(buffer);
         } else {
             throw new IllegalArgumentException(
                 "Do not know how to write Objects of class " + value.getClass().getName());
@@ -17,6 +17,8 @@
 package org.apache.qpid.protonj2.codec.encoders;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.EncoderState;
@@ -31,6 +33,12 @@ import org.apache.qpid.protonj2.types.Symbol;
  */
 public final class ProtonEncodings {
 
+    /**
+     * The largest number of bytes that the elements of a MAP8 or LIST8 encoding can occupy which
+     * is the maximum one byte size value less the one byte element count that follows it.
+     */
+    private static final int MAX_SMALL_COMPOUND_ELEMENTS_SIZE = 255 - Byte.BYTES;
+
     private ProtonEncodings() {}
 
     /**
@@ -270,4 +278,117 @@ public final class ProtonEncodings {
 
         value.writeTo(buffer);
     }
+
+    /**
+     * Selects the smallest AMQP map encoding that can hold the given map. The entries are sized
+     * with {@link #getEncodedSizeBound(Object)} and if every key and value is of a type that can
+     * be sized and the total fits in a one byte size the {@link EncodingCodes#MAP8} encoding is
+     * returned, otherwise the encoding is {@link EncodingCodes#MAP32} which is always safe.
+     *
+     * @param map
+     * 		The map whose encoding is being selected.
+     *
+     * @return the {@link EncodingCodes} value of the map encoding to use.
+     */
+    public static byte getMapEncoding(Map<?, ?> map) {
+        // Count includes both keys and values which must fit in a single byte
+        if (map.size() > 127) {
+            return EncodingCodes.MAP32;
+        }
+
+        int remaining = MAX_SMALL_COMPOUND_ELEMENTS_SIZE;
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            final int keySize = getEncodedSizeBound(entry.getKey());
+            if (keySize < 0 || (remaining -= keySize) < 0) {
+                return EncodingCodes.MAP32;
+            }
+
+            final int valueSize = getEncodedSizeBound(entry.getValue());
+            if (valueSize < 0 || (remaining -= valueSize) < 0) {
+                return EncodingCodes.MAP32;
+            }
+        }
+
+        return EncodingCodes.MAP8;
+    }
+
+    /**
+     * Selects the smallest AMQP list encoding that can hold the given non-empty list using the same
+     * rules as {@link #getMapEncoding(Map)}, returning either {@link EncodingCodes#LIST8} or
+     * {@link EncodingCodes#LIST32}.
+     *
+     * @param list
+     * 		The list whose encoding is being selected.
+     *
+     * @return the {@link EncodingCodes} value of the list encoding to use.
+     */
+    public static byte getListEncoding(List<?> list) {
+        final int size = list.size();
+
+        if (size > 255) {
+            return EncodingCodes.LIST32;
+        }
+
+        int remaining = MAX_SMALL_COMPOUND_ELEMENTS_SIZE;
+
+        for (int i = 0; i < size; ++i) {
+            final int elementSize = getEncodedSizeBound(list.get(i));
+            if (elementSize < 0 || (remaining -= elementSize) < 0) {
+                return EncodingCodes.LIST32;
+            }
+        }
+
+        return EncodingCodes.LIST8;
+    }
+
+    /**
+     * Computes an upper bound on the number of bytes needed to encode the given value for the types
+     * that most commonly appear in application properties and annotations maps (null, String, Symbol,
+     * Long, Integer and Boolean). The returned value for a String assumes the largest UTF-8 encoding
+     * of each character and so may exceed the actual encoded size but is never less than it.
+     *
+     * @param value
+     * 		The value whose encoded size is being computed.
+     *
+     * @return an upper bound on the encoded size of the value or -1 if the type cannot be sized.
+     */
+    public static int getEncodedSizeBound(Object value) {
+        if (value == null) {
+            return Byte.BYTES;
+        }
+
+        final Class<?> valueClass = value.getClass();
+
+        if (valueClass == String.class) {
+            final String string = (String) value;
+            final int length = string.length();
+
+            // Matches the pessimistic STR32 selection made in writeString
+            if (length > 64) {
+                return Byte.BYTES + Integer.BYTES + length * 3;
+            }
+
+            int utf8Length = 0;
+            for (int i = 0; i < length; ++i) {
+                final char c = string.charAt(i);
+                utf8Length += c < 0x80 ? 1 : c < 0x800 ? 2 : 3;
+            }
+
+            return Byte.BYTES + Byte.BYTES + utf8Length;
+        } else if (valueClass == Symbol.class) {
+            final int length = ((Symbol) value).getLength();
+            return length <= 255 ? Byte.BYTES + Byte.BYTES + length : Byte.BYTES + Integer.BYTES + length;
+        } else if (valueClass == Long.class) {
+            final long longValue = (Long) value;
+            return longValue >= -128 && longValue <= 127 ? Byte.BYTES + Byte.BYTES : Byte.BYTES + Long.BYTES;
+        } else if (valueClass == Integer.class) {
+            final int intValue = (Integer) value;
+            return intValue >= -128 && intValue <= 127 ? Byte.BYTES + Byte.BYTES : Byte.BYTES + Integer.BYTES;
+        } else if (valueClass == Boolean.class) {
+            return Byte.BYTES;
+        } else {
+            return -1;
+        }
+    }
 }
@@ -48,6 +48,11 @@ public final class ApplicationPropertiesTypeEncoder extends AbstractDescribedMap
         return ApplicationProperties.DESCRIPTOR_SYMBOL;
     }
 
+    @Override
+    public byte getMapEncoding(ApplicationProperties value) {
+        return ProtonEncodings.getMapEncoding(value.getValue());
+    }
+
     @Override
     public int getMapSize(ApplicationProperties value) {
         if (value.getValue() != null) {
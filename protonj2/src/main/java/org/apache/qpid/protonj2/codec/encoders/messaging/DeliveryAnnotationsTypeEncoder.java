@@ -48,6 +48,11 @@ public final class DeliveryAnnotationsTypeEncoder extends AbstractDescribedMapTy
         return DeliveryAnnotations.DESCRIPTOR_SYMBOL;
     }
 
+    @Override
+    public byte getMapEncoding(DeliveryAnnotations value) {
+        return ProtonEncodings.getMapEncoding(value.getValue());
+    }
+
     @Override
     public int getMapSize(DeliveryAnnotations value) {
         if (value.getValue() != null) {
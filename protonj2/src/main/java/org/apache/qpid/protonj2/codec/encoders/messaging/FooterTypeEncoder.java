@@ -48,6 +48,11 @@ public final class FooterTypeEncoder extends AbstractDescribedMapTypeEncoder<Obj
         return Footer.DESCRIPTOR_SYMBOL;
     }
 
+    @Override
+    public byte getMapEncoding(Footer value) {
+        return ProtonEncodings.getMapEncoding(value.getValue());
+    }
+
     @Override
     public int getMapSize(Footer value) {
         if (value.getValue() != null) {
@@ -48,6 +48,11 @@ public final class MessageAnnotationsTypeEncoder extends AbstractDescribedMapTyp
         return MessageAnnotations.DESCRIPTOR_SYMBOL;
     }
 
+    @Override
+    public byte getMapEncoding(MessageAnnotations value) {
+        return ProtonEncodings.getMapEncoding(value.getValue());
+    }
+
     @Override
     public int getMapSize(MessageAnnotations value) {
         if (value.getValue() != null) {
@@ -24,6 +24,7 @@ import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.TypeEncoder;
 import org.apache.qpid.protonj2.codec.encoders.AbstractPrimitiveTypeEncoder;
+import org.apache.qpid.protonj2.codec.encoders.ProtonEncodings;
 
 /**
  * Encoder of AMQP List type values to a byte stream.
@@ -42,6 +43,9 @@ public final class ListTypeEncoder extends AbstractPrimitiveTypeEncoder<List> {
     public void writeType(ProtonBuffer buffer, EncoderState state, List value) {
         if (value.isEmpty()) {
             buffer.writeByte(EncodingCodes.LIST0);
+        } else if (ProtonEncodings.getListEncoding(value) == EncodingCodes.LIST8) {
+            buffer.writeByte(EncodingCodes.LIST8);
+            writeSmallValue(buffer, state, value);
         } else {
             buffer.writeByte(EncodingCodes.LIST32);
             writeValue(buffer, state, value);
@@ -56,12 +60,32 @@ public final class ListTypeEncoder extends AbstractPrimitiveTypeEncoder<List> {
         }
     }
 
+    private void writeSmallValue(ProtonBuffer buffer, EncoderState state, List value) {
+        final int startIndex = buffer.getWriteOffset();
+
+        // Reserve the size byte and write the count of list elements.
+        buffer.writeShort((short) (value.size() & 0xFF));
+
+        writeElements(buffer, state, value);
+
+        // Move back and write the size, the encoding was selected such that it fits in a byte
+        buffer.setByte(startIndex, (byte) (buffer.getWriteOffset() - startIndex - Byte.BYTES));
+    }
+
     private void writeValue(ProtonBuffer buffer, EncoderState state, List value) {
         final int startIndex = buffer.getWriteOffset();
-        final int size = value.size();
 
         // Write the count of list elements.
-        buffer.writeLong(size);
+        buffer.writeLong(value.size());
+
+        writeElements(buffer, state, value);
+
+        // Move back and write the size
+        buffer.setInt(startIndex, buffer.getWriteOffset() - startIndex - Integer.BYTES);
+    }
+
+    private void writeElements(ProtonBuffer buffer, EncoderState state, List value) {
+        final int size = value.size();
 
         TypeEncoder typeEncoder = this;
 
@@ -80,8 +104,5 @@ public final class ListTypeEncoder extends AbstractPrimitiveTypeEncoder<List> {
 
             typeEncoder.writeType(buffer, state, entry);
         }
-
-        // Move back and write the size
-        buffer.setInt(startIndex, buffer.getWriteOffset() - startIndex - Integer.BYTES);
     }
 }
@@ -25,6 +25,7 @@ import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.TypeEncoder;
 import org.apache.qpid.protonj2.codec.encoders.AbstractPrimitiveTypeEncoder;
+import org.apache.qpid.protonj2.codec.encoders.ProtonEncodings;
 
 /**
  * Encoder of AMQP Map type values to a byte stream.
@@ -41,8 +42,13 @@ public final class MapTypeEncoder extends AbstractPrimitiveTypeEncoder<Map> {
 
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, Map value) {
-        buffer.writeByte(EncodingCodes.MAP32);
-        writeValue(buffer, state, value);
+        if (ProtonEncodings.getMapEncoding(value) == EncodingCodes.MAP8) {
+            buffer.writeByte(EncodingCodes.MAP8);
+            writeSmallValue(buffer, state, value);
+        } else {
+            buffer.writeByte(EncodingCodes.MAP32);
+            writeValue(buffer, state, value);
+        }
     }
 
     @Override
@@ -53,14 +59,34 @@ public final class MapTypeEncoder extends AbstractPrimitiveTypeEncoder<Map> {
         }
     }
 
+    private void writeSmallValue(ProtonBuffer buffer, EncoderState state, Map map) {
+        final int startIndex = buffer.getWriteOffset();
+
+        // Reserve the size byte and record the count of elements which include both key and value.
+        buffer.writeShort((short) ((map.size() * 2) & 0xFF));
+
+        writeEntries(buffer, state, map);
+
+        // Move back and write the size, the encoding was selected such that it fits in a byte
+        buffer.setByte(startIndex, (byte) (buffer.getWriteOffset() - startIndex - Byte.BYTES));
+    }
+
     private void writeValue(ProtonBuffer buffer, EncoderState state, Map map) {
         final int startIndex = buffer.getWriteOffset();
-        final Encoder encoder = state.getEncoder();
 
         // Record the count of elements which include both key and value in the count.
         buffer.writeLong(map.size() * 2);
 
-        // Write the list elements and then compute total size written.
+        writeEntries(buffer, state, map);
+
+        // Move back and write the size
+        buffer.setInt(startIndex, buffer.getWriteOffset() - startIndex - Integer.BYTES);
+    }
+
+    private void writeEntries(ProtonBuffer buffer, EncoderState state, Map map) {
+        final Encoder encoder = state.getEncoder();
+
+        // Write the map elements, the caller computes total size written.
         map.forEach((key, value) -> {
             TypeEncoder keyEncoder = encoder.getTypeEncoder(key);
             if (keyEncoder == null) {
@@ -76,8 +102,5 @@ public final class MapTypeEncoder extends AbstractPrimitiveTypeEncoder<Map> {
 
             valueEncoder.writeType(buffer, state, value);
         });
-
-        // Move back and write the size
-        buffer.setInt(startIndex, buffer.getWriteOffset() - startIndex - Integer.BYTES);
     }
 }
@@ -83,4 +83,94 @@ public interface EngineConfiguration {
     default int getMaxTransfersPerDelivery() {
         return 0;
     }
+
+    /**
+     * Configures if the engine should take ownership of the payload bytes of incoming Transfer
+     * frames instead of copying them out of the buffers handed to the engine for ingestion.
+     * <p>
+     * When enabled the payload of each incoming Transfer is split from the ingested buffer and
+     * passed along as a read-only view of the original bytes, for reference counted buffers this
+     * means the underlying memory is retained until the incoming delivery payload has been read
+     * or the delivery is aborted. Callers that enable this mode must not modify or reuse the
+     * memory of a buffer after it has been ingested into the engine. When disabled (the default)
+     * the engine only shares the ingested bytes when the given buffer is read-only and otherwise
+     * copies the payload of each Transfer.
+     * <p>
+     * An engine implementation may opt not to implement this feature in which case the value
+     * should be fixed at false and any attempt to enable it should throw an exception.
+     *
+     * @param zeroCopy
+     *      true to have the engine take ownership of the incoming payload bytes without copying.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    default EngineConfiguration setZeroCopyIncomingPayloads(boolean zeroCopy) {
+        throw new UnsupportedOperationException("Default configuration does not support zero copy incoming payloads");
+    }
+
+    /**
+     * {@return true if the engine takes ownership of incoming payload bytes rather than copying them}
+     */
+    default boolean isZeroCopyIncomingPayloads() {
+        return false;
+    }
+
+    /**
+     * Configures if the engine should write outgoing Transfer frames as a composite of a buffer that
+     * holds the frame header and performative and a read-only split of the payload bytes instead of
+     * copying the payload into a single output buffer.
+     * <p>
+     * When enabled the bytes of the payload that are written into a frame are split from the buffer
+     * that was given when sending the delivery bytes and are handed to the engine output handler as
+     * components of a {@link org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer}. Callers that
+     * enable this mode must not modify the memory region of a sent buffer that has already been read
+     * by the engine as the output may reference those bytes until the IO layer has written them.
+     * <p>
+     * An engine implementation may opt not to implement this feature in which case the value
+     * should be fixed at false and any attempt to enable it should throw an exception.
+     *
+     * @param zeroCopy
+     *      true to have the engine write outgoing payload bytes without copying.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    default EngineConfiguration setZeroCopyOutgoingPayloads(boolean zeroCopy) {
+        throw new UnsupportedOperationException("Default configuration does not support zero copy outgoing payloads");
+    }
+
+    /**
+     * {@return true if the engine writes outgoing payload bytes as a composite frame rather than copying them}
+     */
+    default boolean isZeroCopyOutgoingPayloads() {
+        return false;
+    }
+
+    /**
+     * Configures if the engine should decode the high frequency Transfer, Flow and Disposition
+     * performatives of incoming frames into instances that it reuses for each frame instead of
+     * creating new instances for every frame received.
+     * <p>
+     * When enabled the performative carried in an {@link IncomingAMQPEnvelope} is only valid until
+     * that envelope is released, any engine handler that needs to hold onto the performative after
+     * it has processed the envelope must take a copy of it. When disabled (the default) a new
+     * performative instance is created for each incoming frame.
+     * <p>
+     * An engine implementation may opt not to implement this feature in which case the value
+     * should be fixed at false and any attempt to enable it should throw an exception.
+     *
+     * @param reuse
+     *      true to have the engine decode incoming performatives into reused instances.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    default EngineConfiguration setReuseIncomingPerformatives(boolean reuse) {
+        throw new UnsupportedOperationException("Default configuration does not support reuse of incoming performatives");
+    }
+
+    /**
+     * {@return true if the engine decodes incoming Transfer, Flow and Disposition frames into reused instances}
+     */
+    default boolean isReuseIncomingPerformatives() {
+        return false;
+    }
 }
@@ -148,6 +148,38 @@ public interface Session extends Endpoint<Session> {
      */
     int getRemainingOutgoingCapacity();
 
+    /**
+     * Sets the maximum number of incoming deliveries whose local dispositions can be coalesced into a
+     * single ranged {@link org.apache.qpid.protonj2.types.transport.Disposition} frame.
+     * <p>
+     * When the limit is greater than one the session buffers the dispositions of contiguous delivery
+     * ids that share the same delivery state instance and settlement flag and writes them as a single
+     * ranged disposition once the limit is reached, a disposition arrives that cannot extend the range,
+     * the current engine ingest cycle completes or {@link #flushDispositions()} is called. A value of
+     * zero or one (the default) disables batching and each disposition is written as it is applied.
+     *
+     * @param dispositionBatchLimit
+     *      the maximum number of deliveries that can be covered by one batched disposition.
+     *
+     * @return this {@link Session} instance.
+     */
+    Session setDispositionBatchLimit(int dispositionBatchLimit);
+
+    /**
+     * @return the maximum number of deliveries that can be covered by one batched disposition.
+     */
+    int getDispositionBatchLimit();
+
+    /**
+     * Writes any incoming delivery dispositions that are currently being held while disposition
+     * batching is enabled. If there are no pending dispositions this method has no effect.
+     *
+     * @return this {@link Session} instance.
+     *
+     * @see #setDispositionBatchLimit(int)
+     */
+    Session flushDispositions();
+
     /**
      * Set the handle max value for this Session.
      *
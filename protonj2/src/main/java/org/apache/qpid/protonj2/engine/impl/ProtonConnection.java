@@ -652,6 +652,7 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
                     }
 
                     if (isLocallyClosed() && !localCloseSent && !engine.isShutdown()) {
+                        flushPendingDispositions();
                         Close localClose = new Close().setError(getCondition());
                         engine.fireWrite(localClose, 0);
                         localCloseSent = true;
@@ -669,6 +670,10 @@ public class ProtonConnection extends ProtonEndpoint<Connection> implements Conn
         }
     }
 
+    void flushPendingDispositions() {
+        localSessions.values().forEach(session -> session.getIncomingWindow().flushPendingDispositions());
+    }
+
     void handleEngineStarted(ProtonEngine protonEngine) {
         syncLocalStateWithRemote();
     }
@@ -183,6 +183,8 @@ public class ProtonEngine implements Engine {
             throw new IllegalStateException("Automatic ticking previously initiated.");
         }
 
+        connection.flushPendingDispositions();
+
         performReadCheck(currentTime);
         performWriteCheck(currentTime);
 
@@ -261,6 +263,12 @@ public class ProtonEngine implements Engine {
         if (input.isReadable()) {
             try {
                 pipeline.fireRead(input);
+
+                // Any dispositions batched while processing the input are written now that
+                // the current ingest cycle has completed.
+                if (isWritable()) {
+                    connection.flushPendingDispositions();
+                }
             } catch (Exception error) {
                 throw engineFailed(error);
             } finally {
@@ -565,6 +573,8 @@ public class ProtonEngine implements Engine {
                 long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
 
                 try {
+                    connection.flushPendingDispositions();
+
                     performReadCheck(now);
                     performWriteCheck(now);
 
@@ -46,6 +46,10 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
 
     private int maxTransfersPerDelivery = DEFAULT_MAX_TRANSFERS_PER_DELIVERY;
 
+    private boolean zeroCopyIncomingPayloads;
+    private boolean zeroCopyOutgoingPayloads;
+    private boolean reuseIncomingPerformatives;
+
     ProtonEngineConfiguration(ProtonEngine engine) {
         this.engine = engine;
     }
@@ -96,6 +100,39 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
         return maxTransfersPerDelivery;
     }
 
+    @Override
+    public EngineConfiguration setZeroCopyIncomingPayloads(boolean zeroCopy) {
+        this.zeroCopyIncomingPayloads = zeroCopy;
+        return this;
+    }
+
+    @Override
+    public boolean isZeroCopyIncomingPayloads() {
+        return zeroCopyIncomingPayloads;
+    }
+
+    @Override
+    public EngineConfiguration setZeroCopyOutgoingPayloads(boolean zeroCopy) {
+        this.zeroCopyOutgoingPayloads = zeroCopy;
+        return this;
+    }
+
+    @Override
+    public boolean isZeroCopyOutgoingPayloads() {
+        return zeroCopyOutgoingPayloads;
+    }
+
+    @Override
+    public EngineConfiguration setReuseIncomingPerformatives(boolean reuse) {
+        this.reuseIncomingPerformatives = reuse;
+        return this;
+    }
+
+    @Override
+    public boolean isReuseIncomingPerformatives() {
+        return reuseIncomingPerformatives;
+    }
+
     //---- proton specific APIs
 
     void recomputeEffectiveFrameSizeLimits() {
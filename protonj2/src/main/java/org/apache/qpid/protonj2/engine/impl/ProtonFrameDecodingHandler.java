@@ -22,6 +22,10 @@ import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.transport.DispositionTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.transport.FlowTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.transport.TransferTypeDecoder;
 import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.EmptyEnvelope;
 import org.apache.qpid.protonj2.engine.EngineHandler;
@@ -38,7 +42,10 @@ import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
 import org.apache.qpid.protonj2.types.security.SaslOutcome;
 import org.apache.qpid.protonj2.types.security.SaslPerformative;
 import org.apache.qpid.protonj2.types.transport.AMQPHeader;
+import org.apache.qpid.protonj2.types.transport.Disposition;
+import org.apache.qpid.protonj2.types.transport.Flow;
 import org.apache.qpid.protonj2.types.transport.Performative;
+import org.apache.qpid.protonj2.types.transport.Transfer;
 
 /**
  * Handler used to parse incoming frame data input into the engine
@@ -69,6 +76,11 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
 
     private final AMQPPerformativeEnvelopePool<IncomingAMQPEnvelope> framePool = AMQPPerformativeEnvelopePool.incomingEnvelopePool();
 
+    // Reused targets for decoding the high frequency performatives when configured to do so
+    private final Transfer cachedTransfer = new Transfer();
+    private final Flow cachedFlow = new Flow();
+    private final Disposition cachedDisposition = new Disposition();
+
     private Decoder decoder;
     private DecoderState decoderState;
     private FrameParserStage stage = new HeaderParsingStage();
@@ -384,7 +396,11 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
             final Performative performative;
 
             try {
-                performative = decoder.readObject(input, decoderState, Performative.class);
+                if (configuration.isReuseIncomingPerformatives()) {
+                    performative = readReusablePerformative(input);
+                } else {
+                    performative = decoder.readObject(input, decoderState, Performative.class);
+                }
             } catch (DecodeException de) {
                 throw de;
             } catch (Exception e) {
@@ -393,18 +409,23 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
                 decoderState.reset();
             }
 
-            // Copy the payload portion of the incoming bytes for now as the incoming may be from a
-            // wrapped pooled buffer and for now we have no way of retaining or otherwise ensuring
-            // that the buffer remains ours. Since we might want to store received data at a client
-            // level and decode later we could end up losing the data to reuse if it was pooled.
+            // Unless configured to take ownership of the incoming bytes we copy the payload portion
+            // as the incoming may be from a wrapped pooled buffer that we have no way of retaining or
+            // otherwise ensuring that the buffer remains ours. Since we might want to store received
+            // data at a client level and decode later we could end up losing the data to reuse if it
+            // was pooled. The copy is shallow when the input is read-only and the buffer supports it.
             if (input.isReadable()) {
                 final ProtonBuffer payload;
                 final int payloadSize = frameBodySize - (input.getReadOffset() - startReadIndex);
 
                 if (payloadSize > 0) {
                     // The payload buffer is now only a read-only view of the bytes from the input that comprise it.
-                    payload = input.copy(input.getReadOffset(), payloadSize, true);
-                    input.advanceReadOffset(payloadSize);
+                    if (configuration.isZeroCopyIncomingPayloads()) {
+                        payload = input.readSplit(payloadSize).convertToReadOnly();
+                    } else {
+                        payload = input.copy(input.getReadOffset(), payloadSize, true);
+                        input.advanceReadOffset(payloadSize);
+                    }
                 } else {
                     payload = null;
                 }
@@ -423,6 +444,26 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
             }
         }
 
+        private Performative readReusablePerformative(ProtonBuffer input) {
+            final TypeDecoder<?> typeDecoder = decoder.readNextTypeDecoder(input, decoderState);
+
+            // The cached instances are only ever referenced by the envelope currently being processed
+            // which is released before the next frame is parsed so they can be safely overwritten here.
+            if (typeDecoder instanceof TransferTypeDecoder transferDecoder) {
+                return transferDecoder.readValue(input, decoderState, cachedTransfer);
+            } else if (typeDecoder instanceof FlowTypeDecoder flowDecoder) {
+                return flowDecoder.readValue(input, decoderState, cachedFlow);
+            } else if (typeDecoder instanceof DispositionTypeDecoder dispositionDecoder) {
+                return dispositionDecoder.readValue(input, decoderState, cachedDisposition);
+            } else if (typeDecoder.isNull()) {
+                return null;
+            } else if (Performative.class.isAssignableFrom(typeDecoder.getTypeClass())) {
+                return (Performative) typeDecoder.readValue(input, decoderState);
+            } else {
+                throw new DecodeException("Expected an AMQP performative but found encoded type: " + typeDecoder.getTypeClass().getName());
+            }
+        }
+
         private void handleSASLPerformative(EngineHandlerContext context, ProtonBuffer input) {
             final SaslPerformative performative;
 
@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.engine.impl;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.Encoder;
@@ -104,6 +105,8 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
     public void handleWrite(EngineHandlerContext context, OutgoingAMQPEnvelope envelope) {
         if (envelope.getPayload() == null) {
             writePerformativeWithNoPayload(context, envelope);
+        } else if (configuration.isZeroCopyOutgoingPayloads()) {
+            writePerformativeWithCompositePayload(context, envelope);
         } else {
             writePerformativeWithPayload(context, envelope);
         }
@@ -159,45 +162,36 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
         context.fireWrite(output, envelope::handleOutgoingFrameWriteComplete);
     }
 
-    // TODO:
-    //-----------------------------------
-    // Eventual optimizations should allow for no copy of the incoming data into the
-    // output buffer by using a composite write similar to the below. Likely this will
-    // work best if the output buffer is written directly using a Netty 5 buffer proxy.
-    //
-    // @SuppressWarnings("resource")
-    // private void writePerformativeWithPayload(EngineHandlerContext context, OutgoingAMQPEnvelope envelope) {
-    //     final int maxFrameSize = (int) configuration.getOutboundMaxFrameSize();
-    //     final ProtonBuffer performativeBuffer = configuration.getBufferAllocator()
-    //                                                          .outputBuffer(AMQP_PERFORMATIVE_PAD)
-    //                                                          .implicitGrowthLimit(maxFrameSize);
-    //
-    //     ProtonBuffer payload = envelope.getPayload();
-    //
-    //     try (performativeBuffer) {
-    //         writePerformative(performativeBuffer, encoder, envelope.getChannel(), envelope.getBody());
-    //
-    //         if (payload.getReadableBytes() > (maxFrameSize - performativeBuffer.getWriteOffset())) {
-    //             envelope.handlePayloadToLarge();
-    //
-    //             writePerformative(performativeBuffer.setWriteOffset(0), encoder, envelope.getChannel(), envelope.getBody());
-    //
-    //             payload = payload.readSplit(maxFrameSize - performativeBuffer.getWriteOffset()).convertToReadOnly();
-    //         } else {
-    //             payload = payload.split().convertToReadOnly();
-    //         }
-    //
-    //         // Now fill in the frame header with the specified information
-    //         performativeBuffer.setInt(FRAME_START_BYTE, performativeBuffer.getReadableBytes() + payload.getReadableBytes());
-    //         performativeBuffer.setInt(FRAME_DOFF_BYTE, FRAME_HEADER_PREFIX | envelope.getChannel());
-    //         performativeBuffer.convertToReadOnly();
-    //
-    //         final ProtonCompositeBuffer output =
-    //             configuration.getBufferAllocator().composite(new ProtonBuffer[] { performativeBuffer, payload });
-    //
-    //         context.fireWrite(output, envelope::handleOutgoingFrameWriteComplete);
-    //     }
-    // }
+    @SuppressWarnings("resource")
+    private void writePerformativeWithCompositePayload(EngineHandlerContext context, OutgoingAMQPEnvelope envelope) {
+        final int maxFrameSize = (int) configuration.getOutboundMaxFrameSize();
+        final ProtonBuffer performativeBuffer = configuration.getBufferAllocator().outputBuffer(AMQP_PERFORMATIVE_PAD)
+                                                                                  .implicitGrowthLimit(maxFrameSize);
+
+        writePerformative(performativeBuffer, encoder, envelope.getChannel(), envelope.getBody());
+
+        ProtonBuffer payload = envelope.getPayload();
+
+        if (payload.getReadableBytes() > (maxFrameSize - performativeBuffer.getWriteOffset())) {
+            envelope.handlePayloadToLarge();
+
+            writePerformative(performativeBuffer, encoder, envelope.getChannel(), envelope.getBody());
+
+            payload = payload.readSplit(maxFrameSize - performativeBuffer.getWriteOffset()).convertToReadOnly();
+        } else {
+            payload = payload.readSplit(payload.getReadableBytes()).convertToReadOnly();
+        }
+
+        // Now fill in the frame header with the specified information
+        performativeBuffer.setInt(FRAME_START_BYTE, performativeBuffer.getReadableBytes() + payload.getReadableBytes());
+        performativeBuffer.setInt(FRAME_DOFF_BYTE, FRAME_HEADER_PREFIX | envelope.getChannel());
+        performativeBuffer.convertToReadOnly();
+
+        final ProtonCompositeBuffer output =
+            configuration.getBufferAllocator().composite(new ProtonBuffer[] { performativeBuffer, payload });
+
+        context.fireWrite(output, envelope::handleOutgoingFrameWriteComplete);
+    }
 
     private static void writePerformative(ProtonBuffer target, PerformativeEncoder encoder, int channel, Performative performative) {
         target.setWriteOffset(FRAME_HEADER_SIZE);
@@ -208,6 +208,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
             payload.advanceReadOffset(bytesRead);
 
             if (complete && !payload.isReadable()) {
+                payload.close();
                 payload = null;
             }
 
@@ -227,6 +228,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
             payload.readBytes(array, offset, length);
             bytesRead -= payload.getReadableBytes();
             if (complete && !payload.isReadable()) {
+                payload.close();
                 payload = null;
             }
 
@@ -772,6 +772,9 @@ public abstract class ProtonLink<L extends Link<L>> extends ProtonEndpoint<L> im
             if ((session.isLocallyOpen() && session.wasLocalBeginSent()) &&
                 (connection.isLocallyOpen() && connection.wasLocalOpenSent()) && !engine.isShutdown()) {
 
+                // Batched dispositions for this link must reach the remote before the link is detached
+                session.getIncomingWindow().flushPendingDispositions();
+
                 Detach detach = new Detach();
                 detach.setHandle(localAttach.getHandle());
                 detach.setClosed(closed);
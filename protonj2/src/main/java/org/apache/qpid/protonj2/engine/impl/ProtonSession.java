@@ -224,6 +224,23 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
         return outgoingWindow.getRemainingOutgoingCapacity();
     }
 
+    @Override
+    public Session setDispositionBatchLimit(int dispositionBatchLimit) {
+        incomingWindow.setDispositionBatchLimit(dispositionBatchLimit);
+        return this;
+    }
+
+    @Override
+    public int getDispositionBatchLimit() {
+        return incomingWindow.getDispositionBatchLimit();
+    }
+
+    @Override
+    public Session flushDispositions() {
+        incomingWindow.flushPendingDispositions();
+        return this;
+    }
+
     @Override
     public Session setHandleMax(long handleMax) throws IllegalStateException {
         checkNotOpened("Cannot set handle max on already opened Session");
@@ -749,6 +766,7 @@ public class ProtonSession extends ProtonEndpoint<Session> implements Session {
     }
 
     private void fireSessionEnd() {
+        incomingWindow.flushPendingDispositions();
         connection.getEngine().fireWrite(new End().setError(getCondition()), localChannel);
         localEndSent = true;
         connection.freeLocalChannel(localChannel);
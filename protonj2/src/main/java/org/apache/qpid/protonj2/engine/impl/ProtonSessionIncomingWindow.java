@@ -22,6 +22,7 @@ import org.apache.qpid.protonj2.engine.util.SequenceNumber;
 import org.apache.qpid.protonj2.engine.util.UnsettledMap;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Begin;
+import org.apache.qpid.protonj2.types.transport.DeliveryState;
 import org.apache.qpid.protonj2.types.transport.Disposition;
 import org.apache.qpid.protonj2.types.transport.Flow;
 import org.apache.qpid.protonj2.types.transport.Role;
@@ -58,6 +59,14 @@ public class ProtonSessionIncomingWindow {
     private int maxFrameSize;
     private int incomingBytes;
 
+    // Disposition batching limit and the state of the currently pending range of dispositions
+    private int dispositionBatchLimit;
+    private int pendingDispositions;
+    private long pendingDispositionFirst;
+    private long pendingDispositionLast;
+    private boolean pendingDispositionSettled;
+    private DeliveryState pendingDispositionState;
+
     private UnsettledMap<ProtonIncomingDelivery> unsettled =
         new UnsettledMap<>(ProtonIncomingDelivery::getDeliveryIdInt);
 
@@ -230,16 +239,80 @@ public class ProtonSessionIncomingWindow {
                 unsettled.remove((int) delivery.getDeliveryId());
             }
 
-            cachedDisposition.reset();
-            cachedDisposition.setFirst(delivery.getDeliveryId());
-            cachedDisposition.setRole(Role.RECEIVER);
-            cachedDisposition.setSettled(delivery.isSettled());
-            cachedDisposition.setState(delivery.getState());
+            if (dispositionBatchLimit > 1) {
+                batchDisposition(delivery);
+            } else {
+                writeDisposition(delivery.getDeliveryId(), delivery.getDeliveryId(), delivery.isSettled(), delivery.getState());
+            }
+        }
+    }
+
+    //----- Disposition batching for receiver links
+
+    void setDispositionBatchLimit(int dispositionBatchLimit) {
+        this.dispositionBatchLimit = Math.max(0, dispositionBatchLimit);
+
+        if (pendingDispositions >= this.dispositionBatchLimit) {
+            flushPendingDispositions();
+        }
+    }
+
+    int getDispositionBatchLimit() {
+        return dispositionBatchLimit;
+    }
 
-            engine.fireWrite(cachedDisposition, session.getLocalChannel());
+    int getPendingDispositions() {
+        return pendingDispositions;
+    }
+
+    void flushPendingDispositions() {
+        if (pendingDispositions > 0) {
+            pendingDispositions = 0;
+            try {
+                writeDisposition(pendingDispositionFirst, pendingDispositionLast, pendingDispositionSettled, pendingDispositionState);
+            } finally {
+                pendingDispositionState = null;
+            }
         }
     }
 
+    private void batchDisposition(ProtonIncomingDelivery delivery) {
+        final long deliveryId = delivery.getDeliveryId();
+
+        // A range can only be extended by the next delivery id with the exact same outcome otherwise
+        // what is pending must go out first to preserve the order in which the remote sees them.
+        if (pendingDispositions > 0 && (pendingDispositionSettled != delivery.isSettled() ||
+                                        pendingDispositionState != delivery.getState() ||
+                                        ((pendingDispositionLast + 1) & 0xFFFFFFFFL) != deliveryId)) {
+            flushPendingDispositions();
+        }
+
+        if (pendingDispositions++ == 0) {
+            pendingDispositionFirst = deliveryId;
+            pendingDispositionSettled = delivery.isSettled();
+            pendingDispositionState = delivery.getState();
+        }
+
+        pendingDispositionLast = deliveryId;
+
+        if (pendingDispositions >= dispositionBatchLimit) {
+            flushPendingDispositions();
+        }
+    }
+
+    private void writeDisposition(long first, long last, boolean settled, DeliveryState state) {
+        cachedDisposition.reset();
+        cachedDisposition.setFirst(first);
+        if (first != last) {
+            cachedDisposition.setLast(last);
+        }
+        cachedDisposition.setRole(Role.RECEIVER);
+        cachedDisposition.setSettled(settled);
+        cachedDisposition.setState(state);
+
+        engine.fireWrite(cachedDisposition, session.getLocalChannel());
+    }
+
     void deliveryRead(ProtonIncomingDelivery delivery, int bytesRead) {
         this.incomingBytes -= bytesRead;
         if (incomingWindow == 0) {
@@ -18,11 +18,14 @@ package org.apache.qpid.protonj2.types;
 
 import static java.nio.charset.StandardCharsets.US_ASCII;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBufferAllocator;
 
 /**
  * Class that represents an AMQP Symbol value.  The creation of a Symbol object
@@ -33,11 +36,11 @@ public final class Symbol implements Comparable<Symbol> {
 
     private static final Symbol EMPTY_SYMBOL = new Symbol();
 
-    private static final int SYMBOL_CACHE_INITIAL_CAPACITY = 2048;
+    private static final int SYMBOL_CACHE_SEGMENTS = 16;
     private static final int MAX_CACHED_SYMBOLS = 8192;
     private static final int MAX_CACHED_SYMBOL_SIZE = 64;
 
-    private static final int SASL_SYMBOL_CACHE_INITIAL_CAPACITY = 32;
+    private static final int SASL_SYMBOL_CACHE_SEGMENTS = 4;
     private static final int MAX_CACHED_SASL_SYMBOLS = 128;
     private static final int MAX_CACHED_SASL_SYMBOL_SIZE = 32;
 
@@ -45,30 +48,27 @@ public final class Symbol implements Comparable<Symbol> {
      * Larger cache used for normal operations after the SASL exchange has completed.
      */
     private static final SymbolCache SYMBOL_CACHE =
-        new SymbolCache(MAX_CACHED_SYMBOLS, MAX_CACHED_SYMBOL_SIZE, SYMBOL_CACHE_INITIAL_CAPACITY);
+        new SymbolCache(MAX_CACHED_SYMBOLS, MAX_CACHED_SYMBOL_SIZE, SYMBOL_CACHE_SEGMENTS);
 
     /**
      * Smaller cache meant to house the small commonly used Symbols during the SASL exchange.
      */
     private static final SymbolCache SASL_SYMBOL_CACHE =
-        new SymbolCache(MAX_CACHED_SASL_SYMBOLS, MAX_CACHED_SASL_SYMBOL_SIZE, SASL_SYMBOL_CACHE_INITIAL_CAPACITY);
+        new SymbolCache(MAX_CACHED_SASL_SYMBOLS, MAX_CACHED_SASL_SYMBOL_SIZE, SASL_SYMBOL_CACHE_SEGMENTS);
 
     private String symbolString;
     private final ProtonBuffer underlying;
     private final int hashCode;
-    private final SymbolCache symbolCache;
 
     private Symbol() {
         this.underlying = ProtonBufferAllocator.defaultAllocator().allocate(0).convertToReadOnly();
         this.hashCode = 31;
         this.symbolString = "";
-        this.symbolCache = null;
     }
 
-    private Symbol(ProtonBuffer underlying, SymbolCache cache) {
+    private Symbol(ProtonBuffer underlying) {
         this.underlying = underlying;
         this.hashCode = underlying.hashCode();
-        this.symbolCache = cache;
     }
 
     /**
@@ -93,7 +93,7 @@ public final class Symbol implements Comparable<Symbol> {
     @Override
     public String toString() {
         if (symbolString == null && underlying.getReadableBytes() > 0) {
-            symbolString = symbolCache.toString(this);
+            symbolString = underlying.toString(US_ASCII);
         }
 
         return symbolString;
@@ -173,7 +173,32 @@ public final class Symbol implements Comparable<Symbol> {
         } else if (symbolBuffer.getReadableBytes() == 0) {
             return EMPTY_SYMBOL;
         } else {
-            return SYMBOL_CACHE.getSymbol(symbolBuffer, copyOnCreate);
+            return SYMBOL_CACHE.getSymbol(symbolBuffer, symbolBuffer.getReadOffset(), symbolBuffer.getReadableBytes(), !copyOnCreate);
+        }
+    }
+
+    /**
+     * Look up a singleton {@link Symbol} instance that matches the ASCII bytes contained in
+     * the given region of the provided {@link ProtonBuffer}.  The lookup reads the bytes in
+     * place without altering the buffer offsets and a newly created {@link Symbol} always
+     * holds its own copy of the bytes.
+     *
+     * @param buffer
+     * 		The {@link ProtonBuffer} that contains the {@link Symbol} bytes.
+     * @param offset
+     * 		The absolute offset into the buffer where the {@link Symbol} bytes begin.
+     * @param length
+     * 		The number of bytes that comprise the {@link Symbol} value.
+     *
+     * @return a {@link Symbol} that matches the given bytes.
+     */
+    public static Symbol getSymbol(ProtonBuffer buffer, int offset, int length) {
+        if (buffer == null) {
+            return null;
+        } else if (length == 0) {
+            return EMPTY_SYMBOL;
+        } else {
+            return SYMBOL_CACHE.getSymbol(buffer, offset, length, false);
         }
     }
 
@@ -230,7 +255,32 @@ public final class Symbol implements Comparable<Symbol> {
         } else if (symbolBuffer.getReadableBytes() == 0) {
             return EMPTY_SYMBOL;
         } else {
-            return SASL_SYMBOL_CACHE.getSymbol(symbolBuffer, copyOnCreate);
+            return SASL_SYMBOL_CACHE.getSymbol(symbolBuffer, symbolBuffer.getReadOffset(), symbolBuffer.getReadableBytes(), !copyOnCreate);
+        }
+    }
+
+    /**
+     * Look up a singleton {@link Symbol} instance that matches the ASCII bytes contained in
+     * the given region of the provided {@link ProtonBuffer} from the smaller SASL Symbol cache.
+     * The lookup reads the bytes in place without altering the buffer offsets and a newly
+     * created {@link Symbol} always holds its own copy of the bytes.
+     *
+     * @param buffer
+     * 		The {@link ProtonBuffer} that contains the {@link Symbol} bytes.
+     * @param offset
+     * 		The absolute offset into the buffer where the {@link Symbol} bytes begin.
+     * @param length
+     * 		The number of bytes that comprise the {@link Symbol} value.
+     *
+     * @return a {@link Symbol} that matches the given bytes.
+     */
+    public static Symbol getSASLSymbol(ProtonBuffer buffer, int offset, int length) {
+        if (buffer == null) {
+            return null;
+        } else if (length == 0) {
+            return EMPTY_SYMBOL;
+        } else {
+            return SASL_SYMBOL_CACHE.getSymbol(buffer, offset, length, false);
         }
     }
 
@@ -255,114 +305,482 @@ public final class Symbol implements Comparable<Symbol> {
         }
     }
 
-    private static class SymbolCache {
+    /**
+     * @return a snapshot of the general {@link Symbol} cache statistics.
+     */
+    public static CacheMetrics getCacheMetrics() {
+        return SYMBOL_CACHE.metrics();
+    }
+
+    /**
+     * @return a snapshot of the SASL {@link Symbol} cache statistics.
+     */
+    public static CacheMetrics getSASLCacheMetrics() {
+        return SASL_SYMBOL_CACHE.metrics();
+    }
+
+    /**
+     * A point in time snapshot of the counters maintained by one of the {@link Symbol} caches.
+     */
+    public static final class CacheMetrics {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+        private final int capacity;
+
+        CacheMetrics(long hits, long misses, long evictions, int size, int capacity) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return the number of lookups that were satisfied by an already cached {@link Symbol}.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return the number of cacheable lookups that had to create a new {@link Symbol}.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return the number of cached {@link Symbol} instances evicted to make room for new entries.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * @return the number of {@link Symbol} instances currently held in the cache.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return the maximum number of {@link Symbol} instances the cache will hold.
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * @return the ratio of hits to total cacheable lookups or zero if no lookups have occurred.
+         */
+        public double getHitRate() {
+            final long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheMetrics{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions +
+                   ", size=" + size + ", capacity=" + capacity + "}";
+        }
+    }
 
-        private final Map<ProtonBuffer, Symbol> bufferToSymbols;
-        private final Map<String, Symbol> stringToSymbols;
+    /*
+     * Bounded Symbol cache split into independently locked segments. Lookups are lock free and
+     * run directly against the bytes of the provided buffer region or String so that no key
+     * object is allocated, only a miss takes the segment lock. Each segment is a segmented LRU
+     * whose two parts are each managed with the CLOCK algorithm so that a hit never needs a lock,
+     * a hit only marks the entry as referenced. New symbols enter a small probationary ring and
+     * are only promoted to the protected ring if they are referenced again before the probation
+     * clock hand comes back around to them. A burst of one time names (unique link or address
+     * names for instance) therefore only churns the probationary ring and cannot flush the hot
+     * symbols that plain CLOCK or LRU would evict.
+     *
+     * Package visible so that tests can exercise eviction and metrics on a private instance
+     * without disturbing the shared caches that every other user of Symbol relies on.
+     */
+    static final class SymbolCache {
 
-        private final int maxCachedSymbols;
         private final int maxCachedSymbolSize;
+        private final int capacity;
+        private final int segmentShift;
+        private final int segmentMask;
+        private final Segment[] segments;
 
-        public SymbolCache(int maxCachedSymbols, int maxCachedSymbolSize, int initialCapacity) {
-            this.maxCachedSymbols = maxCachedSymbols;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        SymbolCache(int maxCachedSymbols, int maxCachedSymbolSize, int segmentCount) {
             this.maxCachedSymbolSize = maxCachedSymbolSize;
+            this.segments = new Segment[segmentCount];
+            this.segmentMask = segmentCount - 1;
+            this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+
+            final int segmentCapacity = maxCachedSymbols / segmentCount;
 
-            this.bufferToSymbols = new ConcurrentHashMap<>(initialCapacity);
-            this.stringToSymbols = new ConcurrentHashMap<>(initialCapacity);
+            for (int i = 0; i < segmentCount; ++i) {
+                segments[i] = new Segment(segmentCapacity);
+            }
+
+            this.capacity = segmentCapacity * segmentCount;
         }
 
-        public String toString(Symbol symbol) {
-            if (symbol.symbolString == null && symbol.getLength() > 0) {
-                symbol.symbolString = symbol.underlying.toString(US_ASCII);
+        public CacheMetrics metrics() {
+            int size = 0;
+            for (Segment segment : segments) {
+                size += segment.size;
+            }
 
-                if (symbol.getLength() <= maxCachedSymbolSize && stringToSymbols.size() < maxCachedSymbols) {
-                    Symbol existing = null;
+            return new CacheMetrics(hits.sum(), misses.sum(), evictions.sum(), size, capacity);
+        }
 
-                    synchronized (this) {
-                        if (stringToSymbols.size() < maxCachedSymbols) {
-                            existing = stringToSymbols.putIfAbsent(symbol.symbolString, symbol);
-                        }
-                    }
+        public Symbol getSymbol(String stringValue) {
+            final int length = stringValue.length();
+
+            if (length > maxCachedSymbolSize) {
+                final Symbol symbol = new Symbol(wrap(stringValue.getBytes(US_ASCII)));
+                symbol.symbolString = stringValue;
+                return symbol;
+            }
+
+            int hash = 1;
+            for (int i = 0; i < length; ++i) {
+                final char current = stringValue.charAt(i);
+                if (current > 127) {
+                    // Defer to the encoded bytes so the non-ASCII value maps the same way it always has
+                    final byte[] encoded = stringValue.getBytes(US_ASCII);
+                    return getSymbol(wrap(encoded), 0, encoded.length, true);
+                }
+
+                hash = 31 * hash + current;
+            }
+            hash = spread(hash);
+
+            final Segment segment = segmentFor(hash);
+
+            Node node = segment.find(hash, stringValue);
+            if (node == null) {
+                misses.increment();
 
-                    if (existing != null) {
-                        symbol.symbolString = existing.symbolString;
+                synchronized (segment) {
+                    node = segment.find(hash, stringValue);
+                    if (node == null) {
+                        final byte[] bytes = stringValue.getBytes(US_ASCII);
+                        final Symbol symbol = new Symbol(wrap(bytes));
+
+                        // For a new symbol instance we can give it a string value now and avoid any future need
+                        // to create one later in Symbol::toString.
+                        symbol.symbolString = stringValue;
+
+                        return segment.insert(new Node(hash, bytes, symbol), evictions).symbol;
                     }
                 }
+            } else {
+                hits.increment();
             }
 
-            return symbol.symbolString;
+            return node.touch();
         }
 
-        public Symbol getSymbol(String stringValue) {
-            final boolean canCache = stringValue.length() <= maxCachedSymbolSize;
+        public Symbol getSymbol(ProtonBuffer buffer, int offset, int length, boolean useProvided) {
+            if (length > maxCachedSymbolSize) {
+                return new Symbol(useProvided ? buffer : wrap(copyOf(buffer, offset, length)));
+            }
+
+            // Read directly from the backing array when the region is known to be in bounds
+            if (buffer instanceof ProtonBufferComponent component && component.hasReadbleArray() &&
+                offset >= buffer.getReadOffset() && offset + length <= buffer.getWriteOffset()) {
 
-            Symbol symbol = null;
+                final byte[] array = component.getReadableArray();
+                final int arrayOffset = component.getReadableArrayOffset() + (offset - buffer.getReadOffset());
+
+                return getSymbol(buffer, array, arrayOffset, length, useProvided);
+            }
 
-            if (canCache) {
-                symbol = stringToSymbols.get(stringValue);
+            int hash = 1;
+            for (int i = 0; i < length; ++i) {
+                hash = 31 * hash + buffer.getByte(offset + i);
             }
+            hash = spread(hash);
 
-            if (symbol == null) {
-                symbol = getSymbol(ProtonBufferAllocator.defaultAllocator().copy(stringValue.getBytes(US_ASCII)), false);
+            final Segment segment = segmentFor(hash);
 
-                // For a new symbol instance we can give it a string value now and avoid any future need
-                // to look in the cache for the mappings which saves some work later for Symbol::toString.
-                if (symbol.symbolString == null) {
-                    symbol.symbolString = stringValue;
+            Node node = segment.find(hash, buffer, offset, length);
+            if (node == null) {
+                misses.increment();
+
+                synchronized (segment) {
+                    node = segment.find(hash, buffer, offset, length);
+                    if (node == null) {
+                        final byte[] bytes = copyOf(buffer, offset, length);
+                        final Symbol symbol = new Symbol(useProvided ? buffer : wrap(bytes));
+
+                        return segment.insert(new Node(hash, bytes, symbol), evictions).symbol;
+                    }
                 }
+            } else {
+                hits.increment();
+            }
 
-                // Don't cache overly large symbols to prevent holding large amount of memory in
-                // the symbol cache and limit the cache to a cap to prevent over-large cache growth.
-                if (canCache && stringToSymbols.size() < maxCachedSymbols) {
-                    synchronized (this) {
-                        if (stringToSymbols.size() < maxCachedSymbols) {
-                            stringToSymbols.putIfAbsent(stringValue, symbol);
-                        }
+            return node.touch();
+        }
+
+        private Symbol getSymbol(ProtonBuffer buffer, byte[] array, int offset, int length, boolean useProvided) {
+            int hash = 1;
+            for (int i = 0; i < length; ++i) {
+                hash = 31 * hash + array[offset + i];
+            }
+            hash = spread(hash);
+
+            final Segment segment = segmentFor(hash);
+
+            Node node = segment.find(hash, array, offset, length);
+            if (node == null) {
+                misses.increment();
+
+                synchronized (segment) {
+                    node = segment.find(hash, array, offset, length);
+                    if (node == null) {
+                        final byte[] bytes = Arrays.copyOfRange(array, offset, offset + length);
+                        final Symbol symbol = new Symbol(useProvided ? buffer : wrap(bytes));
+
+                        return segment.insert(new Node(hash, bytes, symbol), evictions).symbol;
                     }
                 }
+            } else {
+                hits.increment();
             }
 
-            return symbol;
+            return node.touch();
         }
 
-        public Symbol getSymbol(ProtonBuffer symbolBuffer, boolean copyOnCreate) {
-            final boolean canCache = symbolBuffer.getReadableBytes() <= maxCachedSymbolSize;
+        private Segment segmentFor(int hash) {
+            return segments[(hash >>> segmentShift) & segmentMask];
+        }
 
-            if (canCache) {
-                Symbol symbol = bufferToSymbols.get(symbolBuffer);
+        private static int spread(int hash) {
+            hash ^= hash >>> 16;
+            hash *= 0x85ebca6b;
+            hash ^= hash >>> 13;
+            hash *= 0xc2b2ae35;
+            hash ^= hash >>> 16;
 
-                if (symbol == null) {
-                    synchronized (this) {
-                        symbol = bufferToSymbols.get(symbolBuffer);
+            return hash;
+        }
 
-                        if (symbol != null) {
-                            return symbol;
-                        }
+        private static byte[] copyOf(ProtonBuffer buffer, int offset, int length) {
+            final byte[] bytes = new byte[length];
+            buffer.copyInto(offset, bytes, 0, length);
+            return bytes;
+        }
+
+        private static ProtonBuffer wrap(byte[] bytes) {
+            return ProtonByteArrayBufferAllocator.wrapped(bytes).convertToReadOnly();
+        }
+    }
+
+    private static final class Segment {
+
+        // Share of each segment given to the probationary ring, the rest is protected.
+        private static final int PROBATION_DIVISOR = 5;
+
+        private final AtomicReferenceArray<Node> table;
+        private final int tableMask;
+        private final Node[] probation;
+        private final Node[] protect;
+
+        private int probationHand;
+        private int probationSize;
+        private int protectHand;
+        private int protectSize;
+        private volatile int size;
+
+        public Segment(int capacity) {
+            final int tableSize = Integer.highestOneBit(Math.max(1, capacity * 2 - 1)) << 1;
+            final int probationCapacity = capacity == 0 ? 0 : Math.max(1, capacity / PROBATION_DIVISOR);
+
+            this.table = new AtomicReferenceArray<>(tableSize);
+            this.tableMask = tableSize - 1;
+            this.probation = new Node[probationCapacity];
+            this.protect = new Node[capacity - probationCapacity];
+        }
+
+        public Node find(int hash, String value) {
+            for (Node node = table.get(hash & tableMask); node != null; node = node.next) {
+                if (node.hash == hash && node.matches(value)) {
+                    return node;
+                }
+            }
+
+            return null;
+        }
 
-                        symbol = createSymbol(this, symbolBuffer, copyOnCreate);
+        public Node find(int hash, byte[] array, int offset, int length) {
+            for (Node node = table.get(hash & tableMask); node != null; node = node.next) {
+                if (node.hash == hash && Arrays.equals(node.bytes, 0, node.bytes.length, array, offset, offset + length)) {
+                    return node;
+                }
+            }
 
-                        if (bufferToSymbols.size() < maxCachedSymbols) {
-                            bufferToSymbols.put(symbol.underlying, symbol);
+            return null;
+        }
+
+        public Node find(int hash, ProtonBuffer buffer, int offset, int length) {
+            for (Node node = table.get(hash & tableMask); node != null; node = node.next) {
+                if (node.hash == hash && node.matches(buffer, offset, length)) {
+                    return node;
+                }
+            }
+
+            return null;
+        }
+
+        // Must be called with the segment lock held
+        public Node insert(Node node, LongAdder evictions) {
+            if (probation.length == 0) {
+                return node;
+            }
+
+            if (probationSize < probation.length) {
+                probation[probationSize++] = node;
+                size++;
+            } else {
+                while (true) {
+                    final Node candidate = probation[probationHand];
+
+                    // Referenced candidates move to the protected ring, while that ring is still
+                    // filling every candidate does so that the full capacity of the segment is used.
+                    if (protect.length > 0 && (candidate.referenced || protectSize < protect.length)) {
+                        candidate.referenced = false;
+
+                        final Node demoted = protect(candidate);
+                        if (demoted == null) {
+                            probation[probationHand] = node;
+                            probationHand = (probationHand + 1) % probation.length;
+                            size++;
+                            break;
                         }
+
+                        // The entry that fell out of the protected ring gets one more pass on probation
+                        probation[probationHand] = demoted;
+                    } else if (candidate.referenced) {
+                        candidate.referenced = false;
+                    } else {
+                        unlink(candidate);
+                        evictions.increment();
+
+                        probation[probationHand] = node;
+                        probationHand = (probationHand + 1) % probation.length;
+                        break;
                     }
+
+                    probationHand = (probationHand + 1) % probation.length;
+                }
+            }
+
+            final int index = node.hash & tableMask;
+
+            node.next = table.get(index);
+            table.set(index, node);
+
+            return node;
+        }
+
+        // Adds the node to the protected ring and returns the unreferenced entry it displaced if the ring was full
+        private Node protect(Node node) {
+            if (protectSize < protect.length) {
+                protect[protectSize++] = node;
+                return null;
+            }
+
+            Node demoted;
+            while ((demoted = protect[protectHand]).referenced) {
+                demoted.referenced = false;
+                protectHand = (protectHand + 1) % protect.length;
+            }
+
+            protect[protectHand] = node;
+            protectHand = (protectHand + 1) % protect.length;
+
+            return demoted;
+        }
+
+        private void unlink(Node victim) {
+            final int index = victim.hash & tableMask;
+
+            Node current = table.get(index);
+            if (current == victim) {
+                table.set(index, victim.next);
+                return;
+            }
+
+            // The victim keeps its next link so a concurrent reader positioned on it can still finish the walk
+            while (current != null) {
+                if (current.next == victim) {
+                    current.next = victim.next;
+                    return;
                 }
 
-                return symbol;
-            } else {
-                return createSymbol(this, symbolBuffer, copyOnCreate);
+                current = current.next;
             }
         }
     }
 
-    private static Symbol createSymbol(SymbolCache cache, ProtonBuffer symbolBuffer, boolean copyOnCreate) {
-        if (copyOnCreate) {
-            // Copy to a known heap based buffer to avoid issue with life-cycle of pooled buffer types.
-            int symbolSize = symbolBuffer.getReadableBytes();
-            ProtonBuffer copy = ProtonBufferAllocator.defaultAllocator().allocate(symbolSize);
-            copy.writeBytes(symbolBuffer);
-            symbolBuffer = copy.convertToReadOnly();
+    private static final class Node {
+
+        private final int hash;
+        private final byte[] bytes;
+        private final Symbol symbol;
+
+        private volatile Node next;
+        private volatile boolean referenced;
+
+        public Node(int hash, byte[] bytes, Symbol symbol) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.symbol = symbol;
         }
 
-        return new Symbol(symbolBuffer, cache);
+        public Symbol touch() {
+            if (!referenced) {
+                referenced = true;
+            }
+
+            return symbol;
+        }
+
+        public boolean matches(String value) {
+            final int length = bytes.length;
+
+            if (value.length() != length) {
+                return false;
+            }
+
+            for (int i = 0; i < length; ++i) {
+                if (bytes[i] != value.charAt(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        public boolean matches(ProtonBuffer buffer, int offset, int length) {
+            if (bytes.length != length) {
+                return false;
+            }
+
+            for (int i = 0; i < length; ++i) {
+                if (bytes[i] != buffer.getByte(offset + i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
     }
 }
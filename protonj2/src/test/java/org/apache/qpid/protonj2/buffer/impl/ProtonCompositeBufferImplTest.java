@@ -17,6 +17,7 @@
 
 package org.apache.qpid.protonj2.buffer.impl;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -26,7 +27,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
@@ -1972,4 +1976,28 @@ public class ProtonCompositeBufferImplTest extends ProtonAbstractBufferTest {
             }
         }
     }
+
+    @Test
+    public void testTransferToNonGatheringChannelHonorsLengthAcrossComponents() throws IOException {
+        try (ProtonBufferAllocator allocator = createProtonDefaultAllocator();
+             ProtonCompositeBuffer buffer = allocator.composite()) {
+
+            buffer.append(allocator.copy(new byte[] { 0, 1, 2 }));
+            buffer.append(allocator.copy(new byte[] { 3, 4, 5 }));
+            buffer.append(allocator.copy(new byte[] { 6, 7, 8 }));
+
+            buffer.readByte();
+
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final WritableByteChannel channel = Channels.newChannel(output);
+
+            assertEquals(4, buffer.transferTo(channel, 4));
+            assertEquals(5, buffer.getReadOffset());
+            assertArrayEquals(new byte[] { 1, 2, 3, 4 }, output.toByteArray());
+
+            assertEquals(4, buffer.transferTo(channel, 16));
+            assertEquals(9, buffer.getReadOffset());
+            assertArrayEquals(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }, output.toByteArray());
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
+import org.junit.jupiter.api.Test;
+
+public class EncodedSectionTest extends CodecTestSupport {
+
+    @Test
+    public void testEncodedSectionMatchesEncodingOfSection() throws Exception {
+        final Header header = new Header().setDurable(true).setPriority((byte) 6);
+        final EncodedSection<Header> encoded = EncodedSection.encode(encoder, header);
+
+        final ProtonBuffer expected = ProtonBufferAllocator.defaultAllocator().allocate();
+        final ProtonBuffer actual = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeObject(expected, encoderState, header);
+        encoded.writeTo(actual);
+
+        assertSame(header, encoded.getSection());
+        assertSame(header, encoded.getValue());
+        assertEquals(SectionType.Header, encoded.getType());
+        assertEquals(expected.getReadableBytes(), encoded.getEncodedSize());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testEncodeOfEncodedSectionReturnsSameInstance() throws Exception {
+        final EncodedSection<Header> encoded = EncodedSection.encode(encoder, new Header());
+
+        assertSame(encoded, EncodedSection.encode(encoder, encoded));
+    }
+
+    @Test
+    public void testEncodeNullSectionThrows() throws Exception {
+        assertThrows(NullPointerException.class, () -> EncodedSection.encode(encoder, null));
+    }
+
+    @Test
+    public void testEncodedSectionWrittenBySectionEncoderAndDecoded() throws Exception {
+        final Map<Symbol, Object> annotations = new LinkedHashMap<>();
+        annotations.put(Symbol.valueOf("x-opt-test"), "value");
+
+        final Properties properties = new Properties();
+        properties.setTo("queue");
+
+        final EncodedSection<?> encodedAnnotations = EncodedSection.encode(encoder, new MessageAnnotations(annotations));
+        final EncodedSection<?> encodedProperties = EncodedSection.encode(encoder, properties);
+
+        final SectionEncoder sectionEncoder = new SectionEncoder(encoder);
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate(8);
+
+        // Write the same cached encodings more than once and through both write variants
+        for (int i = 0; i < 3; ++i) {
+            sectionEncoder.write(buffer, encodedAnnotations);
+            sectionEncoder.write(buffer, (Section<?>) encodedProperties);
+            encoder.writeObject(buffer, encoderState, encodedProperties);
+        }
+
+        for (int i = 0; i < 3; ++i) {
+            final MessageAnnotations decodedAnnotations = (MessageAnnotations) decoder.readObject(buffer, decoderState);
+            final Properties decodedProperties1 = (Properties) decoder.readObject(buffer, decoderState);
+            final Properties decodedProperties2 = (Properties) decoder.readObject(buffer, decoderState);
+
+            assertEquals(annotations, decodedAnnotations.getValue());
+            assertEquals("queue", decodedProperties1.getTo());
+            assertEquals("queue", decodedProperties2.getTo());
+        }
+
+        assertEquals(0, buffer.getReadableBytes());
+    }
+}
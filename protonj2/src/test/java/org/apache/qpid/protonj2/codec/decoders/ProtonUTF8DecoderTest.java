@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.codec.CodecTestSupport;
+import org.junit.jupiter.api.Test;
+
+public class ProtonUTF8DecoderTest extends CodecTestSupport {
+
+    private static final String ASCII_VALUE = "queue://test.address.with.a.longer.name";
+    private static final String UTF8_VALUE = "café-€-😀-résumé";
+
+    @Test
+    public void testCreateWithInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ProtonUTF8Decoder(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonUTF8Decoder(ProtonUTF8Decoder.MAX_INTERN_CACHE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonUTF8Decoder(16, -1));
+    }
+
+    @Test
+    public void testInternCacheSizeRoundedToPowerOfTwo() {
+        assertEquals(0, new ProtonUTF8Decoder().getInternCacheSize());
+        assertEquals(1, new ProtonUTF8Decoder(1).getInternCacheSize());
+        assertEquals(64, new ProtonUTF8Decoder(64).getInternCacheSize());
+        assertEquals(128, new ProtonUTF8Decoder(100).getInternCacheSize());
+        assertEquals(ProtonUTF8Decoder.DEFAULT_MAX_INTERNED_LENGTH, new ProtonUTF8Decoder(8).getMaxInternedLength());
+    }
+
+    @Test
+    public void testDecodeEmptyString() {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        assertEquals("", new ProtonUTF8Decoder().decodeUTF8(buffer, 0));
+    }
+
+    @Test
+    public void testDecodeAsciiFromArrayBuffer() {
+        doTestDecodeFromArrayBuffer(ASCII_VALUE);
+    }
+
+    @Test
+    public void testDecodeMultiByteFromArrayBuffer() {
+        doTestDecodeFromArrayBuffer(UTF8_VALUE);
+    }
+
+    private void doTestDecodeFromArrayBuffer(String value) {
+        final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        buffer.writeByte((byte) 1);
+        buffer.writeBytes(encoded);
+        buffer.writeByte((byte) 2);
+        buffer.advanceReadOffset(1);
+
+        final ProtonUTF8Decoder decoder = new ProtonUTF8Decoder();
+
+        assertEquals(value, decoder.decodeUTF8(buffer, encoded.length));
+        assertEquals(1, buffer.getReadableBytes());
+        assertEquals(2, buffer.readByte());
+    }
+
+    @Test
+    public void testDecodeAsciiSpanningCompositeComponents() {
+        doTestDecodeSpanningCompositeComponents(ASCII_VALUE);
+    }
+
+    @Test
+    public void testDecodeMultiByteSpanningCompositeComponents() {
+        doTestDecodeSpanningCompositeComponents(UTF8_VALUE);
+    }
+
+    private void doTestDecodeSpanningCompositeComponents(String value) {
+        final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        final ProtonUTF8Decoder decoder = new ProtonUTF8Decoder();
+
+        // Split at every position to cover splits inside multi-byte sequences and word boundaries
+        for (int split = 1; split < encoded.length; ++split) {
+            final ProtonBuffer buffer = createCompositeBuffer(encoded, split);
+
+            assertEquals(value, decoder.decodeUTF8(buffer, encoded.length));
+            assertFalse(buffer.isReadable());
+        }
+    }
+
+    @Test
+    public void testDecodeLargeValueSpanningCompositeComponents() {
+        final StringBuilder builder = new StringBuilder();
+        while (builder.length() < 80 * 1024) {
+            builder.append(UTF8_VALUE);
+        }
+
+        final String value = builder.toString();
+        final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        final ProtonBuffer buffer = createCompositeBuffer(encoded, encoded.length / 3);
+
+        assertEquals(value, new ProtonUTF8Decoder().decodeUTF8(buffer, encoded.length));
+        assertFalse(buffer.isReadable());
+    }
+
+    @Test
+    public void testInternCacheReturnsSameInstanceForRepeatedValues() {
+        final ProtonUTF8Decoder decoder = new ProtonUTF8Decoder(16);
+        final byte[] encoded = UTF8_VALUE.getBytes(StandardCharsets.UTF_8);
+
+        final String first = decoder.decodeUTF8(ProtonBufferAllocator.defaultAllocator().copy(encoded), encoded.length);
+        final String second = decoder.decodeUTF8(ProtonBufferAllocator.defaultAllocator().copy(encoded), encoded.length);
+        final String third = decoder.decodeUTF8(createCompositeBuffer(encoded, 3), encoded.length);
+
+        assertEquals(UTF8_VALUE, first);
+        assertSame(first, second);
+        assertSame(first, third);
+    }
+
+    @Test
+    public void testInternCacheReplacesValueInOccupiedSlot() {
+        final ProtonUTF8Decoder decoder = new ProtonUTF8Decoder(1);
+        final byte[] encoded1 = "address-1".getBytes(StandardCharsets.UTF_8);
+        final byte[] encoded2 = "address-2".getBytes(StandardCharsets.UTF_8);
+
+        final String first = decoder.decodeUTF8(ProtonBufferAllocator.defaultAllocator().copy(encoded1), encoded1.length);
+        final String second = decoder.decodeUTF8(ProtonBufferAllocator.defaultAllocator().copy(encoded2), encoded2.length);
+        final String third = decoder.decodeUTF8(ProtonBufferAllocator.defaultAllocator().copy(encoded1), encoded1.length);
+
+        assertEquals("address-1", first);
+        assertEquals("address-2", second);
+        assertEquals("address-1", third);
+        assertNotSame(first, third);
+    }
+
+    @Test
+    public void testValuesLongerThanMaxInternedLengthAreNotInterned() {
+        final ProtonUTF8Decoder decoder = new ProtonUTF8Decoder(16, 8);
+        final byte[] encoded = ASCII_VALUE.getBytes(StandardCharsets.UTF_8);
+
+        final String first = decoder.decodeUTF8(ProtonBufferAllocator.defaultAllocator().copy(encoded), encoded.length);
+        final String second = decoder.decodeUTF8(ProtonBufferAllocator.defaultAllocator().copy(encoded), encoded.length);
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testReadStringFromDecoderUsingCustomDecoder() throws Exception {
+        final ProtonUTF8Decoder stringDecoder = new ProtonUTF8Decoder(16);
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        ((ProtonDecoderState) decoderState).setStringDecoder(stringDecoder);
+
+        encoder.writeString(buffer, encoderState, ASCII_VALUE);
+        encoder.writeString(buffer, encoderState, UTF8_VALUE);
+        encoder.writeString(buffer, encoderState, ASCII_VALUE);
+
+        final String first = decoder.readString(buffer, decoderState);
+
+        assertEquals(ASCII_VALUE, first);
+        assertEquals(UTF8_VALUE, decoder.readString(buffer, decoderState));
+        assertSame(first, decoder.readString(buffer, decoderState));
+        assertFalse(buffer.isReadable());
+    }
+
+    private static ProtonBuffer createCompositeBuffer(byte[] encoded, int split) {
+        final ProtonBuffer first = ProtonBufferAllocator.defaultAllocator().copy(encoded, 0, split);
+        final ProtonBuffer second = ProtonBufferAllocator.defaultAllocator().copy(encoded, split, encoded.length - split);
+
+        return ProtonBufferAllocator.defaultAllocator().composite(new ProtonBuffer[] { first, second });
+    }
+}
@@ -1294,4 +1294,42 @@ public class ApplicationPropertiesTypeCodecTest extends CodecTestSupport {
             assertNotNull(typeDecoder.readValue(buffer, decoderState));
         }
     }
+
+    @Test
+    public void testEncodeSmallApplicationPropertiesUsesMap8Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Map<String, Object> propertiesMap = new LinkedHashMap<>();
+        propertiesMap.put("string", "value");
+        propertiesMap.put("long", Long.valueOf(42));
+        propertiesMap.put("int", Integer.valueOf(65535));
+        propertiesMap.put("bool", Boolean.TRUE);
+
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(propertiesMap));
+
+        assertEquals(EncodingCodes.MAP8, buffer.getByte(3));
+        assertEquals(buffer.getReadableBytes() - 5, buffer.getUnsignedByte(4));
+
+        final ApplicationProperties result = (ApplicationProperties) decoder.readObject(buffer, decoderState);
+
+        assertEquals(propertiesMap, result.getValue());
+    }
+
+    @Test
+    public void testEncodeLargeApplicationPropertiesUsesMap32Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Map<String, Object> propertiesMap = new LinkedHashMap<>();
+        for (int i = 0; i < 32; ++i) {
+            propertiesMap.put("property-" + i, "value-" + i);
+        }
+
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(propertiesMap));
+
+        assertEquals(EncodingCodes.MAP32, buffer.getByte(3));
+
+        final ApplicationProperties result = (ApplicationProperties) decoder.readObject(buffer, decoderState);
+
+        assertEquals(propertiesMap, result.getValue());
+    }
 }
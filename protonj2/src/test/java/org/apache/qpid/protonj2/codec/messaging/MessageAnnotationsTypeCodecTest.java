@@ -1016,4 +1016,39 @@ public class MessageAnnotationsTypeCodecTest extends CodecTestSupport {
             assertNotNull(typeDecoder.readValue(buffer, decoderState));
         }
     }
+
+    @Test
+    public void testEncodeSmallMessageAnnotationsUsesMap8Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Map<Symbol, Object> annotationsMap = new LinkedHashMap<>();
+        annotationsMap.put(Symbol.valueOf("x-opt-string"), "value");
+        annotationsMap.put(Symbol.valueOf("x-opt-symbol"), Symbol.valueOf("symbol"));
+        annotationsMap.put(Symbol.valueOf("x-opt-long"), Long.valueOf(Long.MIN_VALUE));
+
+        encoder.writeObject(buffer, encoderState, new MessageAnnotations(annotationsMap));
+
+        assertEquals(EncodingCodes.MAP8, buffer.getByte(3));
+        assertEquals(buffer.getReadableBytes() - 5, buffer.getUnsignedByte(4));
+
+        final MessageAnnotations result = (MessageAnnotations) decoder.readObject(buffer, decoderState);
+
+        assertEquals(annotationsMap, result.getValue());
+    }
+
+    @Test
+    public void testEncodeMessageAnnotationsWithUnsizedValueUsesMap32Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Map<Symbol, Object> annotationsMap = new LinkedHashMap<>();
+        annotationsMap.put(Symbol.valueOf("x-opt-uuid"), UUID.randomUUID());
+
+        encoder.writeObject(buffer, encoderState, new MessageAnnotations(annotationsMap));
+
+        assertEquals(EncodingCodes.MAP32, buffer.getByte(3));
+
+        final MessageAnnotations result = (MessageAnnotations) decoder.readObject(buffer, decoderState);
+
+        assertEquals(annotationsMap, result.getValue());
+    }
 }
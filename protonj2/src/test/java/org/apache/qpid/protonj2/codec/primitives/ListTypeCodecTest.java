@@ -1011,4 +1011,51 @@ public class ListTypeCodecTest extends CodecTestSupport {
         assertEquals(List.class, typeDecoder.getTypeClass());
         assertThrows(DecodeException.class, () -> typeDecoder.skipValue(buffer, decoderState));
     }
+
+    @Test
+    public void testEncodeSmallListUsesList8Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final List<Object> list = new ArrayList<>();
+        list.add("string");
+        list.add(Symbol.valueOf("symbol"));
+        list.add(Long.valueOf(1));
+        list.add(Integer.valueOf(Integer.MIN_VALUE));
+        list.add(Boolean.FALSE);
+
+        encoder.writeObject(buffer, encoderState, list);
+
+        assertEquals(EncodingCodes.LIST8, buffer.getByte(0));
+        assertEquals(buffer.getReadableBytes() - 2, buffer.getUnsignedByte(1));
+        assertEquals(list.size(), buffer.getUnsignedByte(2));
+        assertEquals(list, decoder.readObject(buffer, decoderState));
+    }
+
+    @Test
+    public void testEncodeListTooLargeForList8UsesList32Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 64; ++i) {
+            list.add(Long.valueOf(Long.MAX_VALUE - i));
+        }
+
+        encoder.writeObject(buffer, encoderState, list);
+
+        assertEquals(EncodingCodes.LIST32, buffer.getByte(0));
+        assertEquals(list, decoder.readObject(buffer, decoderState));
+    }
+
+    @Test
+    public void testEncodeListWithUnsizedElementTypeUsesList32Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final List<Object> list = new ArrayList<>();
+        list.add(UnsignedInteger.valueOf(1));
+
+        encoder.writeObject(buffer, encoderState, list);
+
+        assertEquals(EncodingCodes.LIST32, buffer.getByte(0));
+        assertEquals(list, decoder.readObject(buffer, decoderState));
+    }
 }
@@ -51,6 +51,7 @@ import org.apache.qpid.protonj2.codec.decoders.PrimitiveTypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.ProtonScanningContext;
 import org.apache.qpid.protonj2.codec.decoders.primitives.MapTypeDecoder;
 import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.Symbol;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -1098,4 +1099,68 @@ public class MapTypeCodecTest extends CodecTestSupport {
 
         assertThrows(DecodeException.class, () -> typeDecoder.scanKeys(buffer, decoderState, context, (k, v) -> {}));
     }
+
+    @Test
+    public void testEncodeSmallMapUsesMap8Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("string", "value");
+        map.put(Symbol.valueOf("symbol"), Long.valueOf(Long.MAX_VALUE));
+        map.put("int", 1024);
+        map.put("bool", Boolean.TRUE);
+        map.put("null", null);
+
+        encoder.writeObject(buffer, encoderState, map);
+
+        assertEquals(EncodingCodes.MAP8, buffer.getByte(0));
+        assertEquals(buffer.getReadableBytes() - 2, buffer.getUnsignedByte(1));
+        assertEquals(map.size() * 2, buffer.getUnsignedByte(2));
+
+        final Object result = decoder.readObject(buffer, decoderState);
+
+        assertEquals(map, result);
+    }
+
+    @Test
+    public void testEncodeMapTooLargeForMap8UsesMap32Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < 32; ++i) {
+            map.put("key-" + i, "value-" + i);
+        }
+
+        encoder.writeObject(buffer, encoderState, map);
+
+        assertEquals(EncodingCodes.MAP32, buffer.getByte(0));
+        assertEquals(map, decoder.readObject(buffer, decoderState));
+    }
+
+    @Test
+    public void testEncodeMapWithUnsizedValueTypeUsesMap32Encoding() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("uuid", UUID.randomUUID());
+
+        encoder.writeObject(buffer, encoderState, map);
+
+        assertEquals(EncodingCodes.MAP32, buffer.getByte(0));
+        assertEquals(map, decoder.readObject(buffer, decoderState));
+    }
+
+    @Test
+    public void testEncodeMapWithMultiByteCharactersSizedToFitMap8() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("k\u00e9y", "v\u20acl\u00fc\u00e9");
+
+        encoder.writeObject(buffer, encoderState, map);
+
+        assertEquals(EncodingCodes.MAP8, buffer.getByte(0));
+        assertEquals(buffer.getReadableBytes() - 2, buffer.getUnsignedByte(1));
+        assertEquals(map, decoder.readObject(buffer, decoderState));
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.codec.transport;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -157,6 +158,45 @@ public class DispositionTypeCodecTest extends CodecTestSupport {
         assertSame(Accepted.getInstance(), result.getState());
     }
 
+    @Test
+    public void testDecodeIntoReusedDispositionResetsPreviousState() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        Disposition first = new Disposition();
+        first.setRole(Role.RECEIVER);
+        first.setFirst(1);
+        first.setLast(10);
+        first.setSettled(true);
+        first.setState(Accepted.getInstance());
+
+        Disposition second = new Disposition();
+        second.setRole(Role.SENDER);
+        second.setFirst(11);
+
+        encoder.writeObject(buffer, encoderState, first);
+        encoder.writeObject(buffer, encoderState, second);
+
+        final Disposition target = new Disposition();
+
+        DispositionTypeDecoder typeDecoder = (DispositionTypeDecoder) decoder.readNextTypeDecoder(buffer, decoderState);
+        assertSame(target, typeDecoder.readValue(buffer, decoderState, target));
+
+        assertEquals(Role.RECEIVER, target.getRole());
+        assertEquals(1, target.getFirst());
+        assertEquals(10, target.getLast());
+        assertTrue(target.getSettled());
+        assertSame(Accepted.getInstance(), target.getState());
+
+        typeDecoder = (DispositionTypeDecoder) decoder.readNextTypeDecoder(buffer, decoderState);
+        assertSame(target, typeDecoder.readValue(buffer, decoderState, target));
+
+        assertEquals(Role.SENDER, target.getRole());
+        assertEquals(11, target.getFirst());
+        assertFalse(target.hasLast());
+        assertFalse(target.getSettled());
+        assertNull(target.getState());
+    }
+
     @Test
     public void testCannotEncodeDispositionWithoutFirstAssigned() throws IOException {
         ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
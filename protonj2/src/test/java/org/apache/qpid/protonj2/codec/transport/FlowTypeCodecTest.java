@@ -17,8 +17,10 @@
 package org.apache.qpid.protonj2.codec.transport;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -131,6 +133,50 @@ public class FlowTypeCodecTest extends CodecTestSupport {
         assertNull(input.getProperties());
     }
 
+    @Test
+    public void testDecodeIntoReusedFlowResetsPreviousState() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        Flow first = new Flow();
+        first.setNextIncomingId(1);
+        first.setIncomingWindow(2);
+        first.setNextOutgoingId(3);
+        first.setOutgoingWindow(4);
+        first.setHandle(5);
+        first.setDeliveryCount(6);
+        first.setLinkCredit(7);
+        first.setDrain(true);
+
+        Flow second = new Flow();
+        second.setIncomingWindow(8);
+        second.setNextOutgoingId(9);
+        second.setOutgoingWindow(10);
+
+        encoder.writeObject(buffer, encoderState, first);
+        encoder.writeObject(buffer, encoderState, second);
+
+        final Flow target = new Flow();
+
+        FlowTypeDecoder typeDecoder = (FlowTypeDecoder) decoder.readNextTypeDecoder(buffer, decoderState);
+        assertSame(target, typeDecoder.readValue(buffer, decoderState, target));
+
+        assertEquals(5, target.getHandle());
+        assertEquals(7, target.getLinkCredit());
+        assertTrue(target.getDrain());
+
+        typeDecoder = (FlowTypeDecoder) decoder.readNextTypeDecoder(buffer, decoderState);
+        assertSame(target, typeDecoder.readValue(buffer, decoderState, target));
+
+        assertEquals(8, target.getIncomingWindow());
+        assertEquals(9, target.getNextOutgoingId());
+        assertEquals(10, target.getOutgoingWindow());
+        assertFalse(target.hasNextIncomingId());
+        assertFalse(target.hasHandle());
+        assertFalse(target.hasLinkCredit());
+        assertFalse(target.hasDeliveryCount());
+        assertFalse(target.getDrain());
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         testSkipValue(false);
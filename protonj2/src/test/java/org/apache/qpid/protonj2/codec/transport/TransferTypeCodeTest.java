@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.codec.transport;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -119,6 +120,46 @@ public class TransferTypeCodeTest extends CodecTestSupport {
         assertFalse(result.getBatchable());
     }
 
+    @Test
+    public void testDecodeIntoReusedTransferResetsPreviousState() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        Transfer first = new Transfer();
+        first.setHandle(1);
+        first.setDeliveryId(2);
+        first.setDeliveryTag(new byte[] {0, 1, 2});
+        first.setMessageFormat(3);
+        first.setSettled(true);
+        first.setMore(true);
+
+        Transfer second = new Transfer();
+        second.setHandle(4);
+
+        encoder.writeObject(buffer, encoderState, first);
+        encoder.writeObject(buffer, encoderState, second);
+
+        final Transfer target = new Transfer();
+
+        TransferTypeDecoder typeDecoder = (TransferTypeDecoder) decoder.readNextTypeDecoder(buffer, decoderState);
+        assertSame(target, typeDecoder.readValue(buffer, decoderState, target));
+
+        assertEquals(1, target.getHandle());
+        assertEquals(2, target.getDeliveryId());
+        assertEquals(3, target.getMessageFormat());
+        assertTrue(target.getSettled());
+        assertTrue(target.getMore());
+
+        typeDecoder = (TransferTypeDecoder) decoder.readNextTypeDecoder(buffer, decoderState);
+        assertSame(target, typeDecoder.readValue(buffer, decoderState, target));
+
+        assertEquals(4, target.getHandle());
+        assertFalse(target.hasDeliveryId());
+        assertFalse(target.hasDeliveryTag());
+        assertFalse(target.hasMessageFormat());
+        assertFalse(target.hasSettled());
+        assertFalse(target.getMore());
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         doTestSkipValue(false);
@@ -22,26 +22,39 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.times;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBufferAllocator;
+import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.engine.Connection;
 import org.apache.qpid.protonj2.engine.EmptyEnvelope;
 import org.apache.qpid.protonj2.engine.Engine;
+import org.apache.qpid.protonj2.engine.EngineFactory;
 import org.apache.qpid.protonj2.engine.EngineHandlerContext;
 import org.apache.qpid.protonj2.engine.HeaderEnvelope;
 import org.apache.qpid.protonj2.engine.IncomingAMQPEnvelope;
+import org.apache.qpid.protonj2.engine.IncomingDelivery;
+import org.apache.qpid.protonj2.engine.Receiver;
+import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
 import org.apache.qpid.protonj2.engine.util.FrameReadSinkTransportHandler;
 import org.apache.qpid.protonj2.engine.util.FrameRecordingTransportHandler;
 import org.apache.qpid.protonj2.engine.util.FrameWriteSinkTransportHandler;
+import org.apache.qpid.protonj2.test.driver.ProtonTestConnector;
 import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
@@ -55,6 +68,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
 public class ProtonFrameDecodingHandlerTest {
 
     private FrameRecordingTransportHandler testHandler;
@@ -490,7 +506,7 @@ public class ProtonFrameDecodingHandlerTest {
         handler.handleRead(context, ProtonBufferAllocator.defaultAllocator().copy(emptyFrames));
 
         ArgumentCaptor<IncomingAMQPEnvelope> argument = ArgumentCaptor.forClass(IncomingAMQPEnvelope.class);
-        Mockito.verify(context, Mockito.times(2)).fireRead(argument.capture());
+        Mockito.verify(context, times(2)).fireRead(argument.capture());
 
         List<IncomingAMQPEnvelope> frames = argument.getAllValues();
         assertNotNull(frames);
@@ -657,6 +673,204 @@ public class ProtonFrameDecodingHandlerTest {
         assertArrayEquals(new byte[] { 0, 1 }, decoded.getDeliveryTag().tagBytes());
     }
 
+    @Test
+    public void testDecodeTransferFrameWithAttachedPayloadCopiesWritableInputByDefault() {
+        doTestDecodeTransferFrameWithAttachedPayloadFromWritableInput(false);
+    }
+
+    @Test
+    public void testDecodeTransferFrameWithAttachedPayloadZeroCopyFromWritableInput() {
+        doTestDecodeTransferFrameWithAttachedPayloadFromWritableInput(true);
+    }
+
+    private void doTestDecodeTransferFrameWithAttachedPayloadFromWritableInput(boolean zeroCopy) {
+        // Frame data for: Transfer
+        //   Transfer{handle=2, deliveryId=1, deliveryTag=\x00\x01, messageFormat=null, settled=true, more=false, rcvSettleMode=null, state=null, resume=false, aborted=false, batchable=false}
+        //   payload of size: 4
+        final byte[] completedTransfer = new byte[] {
+            0, 0, 0, 28, 2, 0, 0, 0, 0, 83, 20, -64, 11, 5, 82, 2, 82, 1, -96, 2, 0, 1, 64, 65, 1, 2, 3, 4};
+        final int payloadOffset = completedTransfer.length - 4;
+
+        ArgumentCaptor<IncomingAMQPEnvelope> argument = ArgumentCaptor.forClass(IncomingAMQPEnvelope.class);
+
+        ProtonFrameDecodingHandler handler = createFrameDecoder(zeroCopy);
+        ProtonEngineHandlerContext context = Mockito.mock(ProtonEngineHandlerContext.class);
+
+        handler.handleRead(context, AMQPHeader.getAMQPHeader().getBuffer());
+        handler.handleRead(context, ProtonByteArrayBufferAllocator.wrapped(completedTransfer));
+
+        Mockito.verify(context).fireRead(Mockito.any(HeaderEnvelope.class));
+        Mockito.verify(context).interestMask(ProtonEngineHandlerContext.HANDLER_READS);
+        Mockito.verify(context).fireRead(argument.capture());
+        Mockito.verifyNoMoreInteractions(context);
+
+        final ProtonBuffer payload = argument.getValue().getPayload();
+
+        assertNotNull(payload);
+        assertTrue(payload.isReadOnly());
+        assertEquals(4, payload.getReadableBytes());
+
+        // Alter the original input bytes which should only be visible when zero copy is enabled
+        completedTransfer[payloadOffset] = 42;
+
+        if (zeroCopy) {
+            assertEquals(42, payload.getByte(payload.getReadOffset()));
+        } else {
+            assertEquals(1, payload.getByte(payload.getReadOffset()));
+        }
+    }
+
+    @Test
+    public void testZeroCopySplitTransferPayloadReleasedOnceDeliveryRead() {
+        doTestZeroCopySplitTransferPayloadReleased(false);
+    }
+
+    @Test
+    public void testZeroCopySplitTransferPayloadReleasedOnceDeliveryAborted() {
+        doTestZeroCopySplitTransferPayloadReleased(true);
+    }
+
+    private void doTestZeroCopySplitTransferPayloadReleased(boolean abort) {
+        final List<ByteBuf> ingested = new ArrayList<>();
+        final Netty4ProtonBufferAllocator allocator = new Netty4ProtonBufferAllocator(PooledByteBufAllocator.DEFAULT);
+        final Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+
+        engine.configuration().setZeroCopyIncomingPayloads(true);
+
+        // Each frame from the peer arrives in its own pooled Netty buffer that is closed once
+        // ingested in the same way the client transport does, only retained slices keep it alive.
+        final ProtonTestConnector peer = new ProtonTestConnector(buffer -> {
+            final ByteBuf frame = PooledByteBufAllocator.DEFAULT.directBuffer(buffer.remaining());
+            frame.writeBytes(buffer);
+            ingested.add(frame);
+
+            try (ProtonBuffer input = allocator.wrap(frame)) {
+                engine.accept(input);
+            }
+        });
+        engine.outputConsumer(buffer -> {
+            ByteBuffer byteBuffer = ByteBuffer.allocate(buffer.getReadableBytes());
+            buffer.readBytes(byteBuffer);
+            peer.accept(byteBuffer.flip());
+        });
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond();
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(1);
+        peer.remoteTransfer().withDeliveryId(0)
+                             .withDeliveryTag(new byte[] {0})
+                             .withMore(true)
+                             .withMessageFormat(0)
+                             .withPayload(new byte[] { 0, 1, 2, 3 }).queue();
+        if (abort) {
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] {0})
+                                 .withMore(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(new byte[] { 4, 5, 6, 7 }).queue();
+        } else {
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] {0})
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(new byte[] { 4, 5, 6, 7 }).queue();
+        }
+
+        final Connection connection = engine.start().open();
+        final Session session = connection.session().open();
+        final Receiver receiver = session.receiver("test");
+        final AtomicReference<IncomingDelivery> received = new AtomicReference<>();
+
+        receiver.deliveryReadHandler(received::set);
+        receiver.deliveryAbortedHandler(received::set);
+        receiver.open();
+        receiver.addCredit(1);
+
+        peer.waitForScriptToComplete();
+
+        assertNotNull(received.get());
+        assertTrue(ingested.stream().anyMatch(frame -> frame.refCnt() > 0), "Transfer payloads should be retained slices");
+
+        if (abort) {
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] {0})
+                                 .withAborted(true).now();
+
+            assertTrue(received.get().isAborted());
+        } else {
+            final byte[] payload = new byte[8];
+
+            received.get().readBytes(payload, 0, payload.length);
+
+            assertArrayEquals(new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 }, payload);
+        }
+
+        ingested.forEach(frame -> assertEquals(0, frame.refCnt()));
+    }
+
+    @Test
+    public void testDecodeTransferFramesCreatesNewPerformativeByDefault() {
+        doTestDecodeTransferFramesWithReusedPerformative(false);
+    }
+
+    @Test
+    public void testDecodeTransferFramesIntoReusedPerformative() {
+        doTestDecodeTransferFramesWithReusedPerformative(true);
+    }
+
+    private void doTestDecodeTransferFramesWithReusedPerformative(boolean reuse) {
+        // Frame data for: Transfer
+        //   Transfer{handle=2, deliveryId=1, deliveryTag=\x00\x01, messageFormat=null, settled=true}
+        //   payload of size: 4
+        final byte[] firstTransfer = new byte[] {
+            0, 0, 0, 28, 2, 0, 0, 0, 0, 83, 20, -64, 11, 5, 82, 2, 82, 1, -96, 2, 0, 1, 64, 65, 1, 2, 3, 4};
+        // Frame data for: Transfer
+        //   Transfer{handle=3, deliveryId=2, deliveryTag=\x00\x01, messageFormat=null}
+        //   payload of size: 4
+        final byte[] secondTransfer = new byte[] {
+            0, 0, 0, 27, 2, 0, 0, 0, 0, 83, 20, -64, 10, 4, 82, 3, 82, 2, -96, 2, 0, 1, 64, 1, 2, 3, 4};
+
+        ArgumentCaptor<IncomingAMQPEnvelope> argument = ArgumentCaptor.forClass(IncomingAMQPEnvelope.class);
+
+        ProtonFrameDecodingHandler handler = createFrameDecoder(false, reuse);
+        ProtonEngineHandlerContext context = Mockito.mock(ProtonEngineHandlerContext.class);
+
+        handler.handleRead(context, AMQPHeader.getAMQPHeader().getBuffer());
+        handler.handleRead(context, ProtonBufferAllocator.defaultAllocator().copy(firstTransfer));
+
+        Mockito.verify(context).fireRead(argument.capture());
+
+        final Transfer first = (Transfer) argument.getValue().getBody();
+
+        assertEquals(2, first.getHandle());
+        assertEquals(1, first.getDeliveryId());
+        assertTrue(first.hasSettled());
+        assertTrue(first.getSettled());
+
+        argument.getValue().release();
+
+        handler.handleRead(context, ProtonBufferAllocator.defaultAllocator().copy(secondTransfer));
+
+        Mockito.verify(context, times(2)).fireRead(argument.capture());
+
+        final Transfer second = (Transfer) argument.getValue().getBody();
+
+        assertEquals(3, second.getHandle());
+        assertEquals(2, second.getDeliveryId());
+        assertFalse(second.hasSettled());
+        assertFalse(second.getSettled());
+        assertArrayEquals(new byte[] { 0, 1 }, second.getDeliveryTag().tagBytes());
+
+        if (reuse) {
+            assertSame(first, second);
+        } else {
+            assertNotSame(first, second);
+            assertEquals(2, first.getHandle());
+        }
+    }
+
     @Test
     public void testDecodeTransferFrameWithAttachedPayloadSplitAcrossBuffers() {
         // Frame data for: Transfer
@@ -924,7 +1138,17 @@ public class ProtonFrameDecodingHandlerTest {
     }
 
     private ProtonFrameDecodingHandler createFrameDecoder() {
+        return createFrameDecoder(false);
+    }
+
+    private ProtonFrameDecodingHandler createFrameDecoder(boolean zeroCopy) {
+        return createFrameDecoder(zeroCopy, false);
+    }
+
+    private ProtonFrameDecodingHandler createFrameDecoder(boolean zeroCopy, boolean reusePerformatives) {
         ProtonEngineConfiguration configuration = Mockito.mock(ProtonEngineConfiguration.class);
+        Mockito.when(configuration.isZeroCopyIncomingPayloads()).thenReturn(zeroCopy);
+        Mockito.when(configuration.isReuseIncomingPerformatives()).thenReturn(reusePerformatives);
         Mockito.when(configuration.getInboundMaxFrameSize()).thenReturn(Long.valueOf(65535));
         Mockito.when(configuration.getOutboundMaxFrameSize()).thenReturn(Long.valueOf(65535));
         Mockito.when(configuration.getBufferAllocator()).thenReturn(ProtonBufferAllocator.defaultAllocator());
@@ -4657,6 +4657,234 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testReceiverBatchesContiguousDispositionsIntoSingleRange() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final byte[] payload = new byte[] { 1 };
+        final ArrayList<IncomingDelivery> deliveries = new ArrayList<>();
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond().withNextOutgoingId(0);
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(3);
+        for (int i = 0; i < 3; ++i) {
+            peer.remoteTransfer().withDeliveryId(i)
+                                 .withDeliveryTag(new byte[] {(byte) i})
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+        }
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().setDispositionBatchLimit(10).open();
+        Receiver receiver = session.receiver("receiver");
+        receiver.deliveryReadHandler((delivery) -> deliveries.add(delivery));
+        receiver.addCredit(3);
+        receiver.open();
+
+        peer.waitForScriptToComplete();
+        peer.expectDisposition().withFirst(0)
+                                .withLast(2)
+                                .withSettled(true)
+                                .withState().accepted();
+
+        assertEquals(3, deliveries.size());
+        assertEquals(10, session.getDispositionBatchLimit());
+
+        deliveries.forEach((delivery) -> delivery.disposition(Accepted.getInstance(), true));
+
+        session.flushDispositions();
+
+        peer.waitForScriptToComplete();
+        peer.expectDetach().respond();
+        peer.expectEnd().respond();
+        peer.expectClose().respond();
+
+        receiver.close();
+        session.close();
+        connection.close();
+
+        // Check post conditions and done.
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testReceiverBatchedDispositionsWrittenBeforeDetach() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final byte[] payload = new byte[] { 1 };
+        final ArrayList<IncomingDelivery> deliveries = new ArrayList<>();
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond().withNextOutgoingId(0);
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(3);
+        for (int i = 0; i < 3; ++i) {
+            peer.remoteTransfer().withDeliveryId(i)
+                                 .withDeliveryTag(new byte[] {(byte) i})
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+        }
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().setDispositionBatchLimit(10).open();
+        Receiver receiver = session.receiver("receiver");
+        receiver.deliveryReadHandler((delivery) -> deliveries.add(delivery));
+        receiver.addCredit(3);
+        receiver.open();
+
+        peer.waitForScriptToComplete();
+
+        assertEquals(3, deliveries.size());
+
+        deliveries.forEach((delivery) -> delivery.disposition(Accepted.getInstance(), true));
+
+        assertEquals(3, ((ProtonSession) session).getIncomingWindow().getPendingDispositions());
+
+        peer.expectDisposition().withFirst(0)
+                                .withLast(2)
+                                .withSettled(true)
+                                .withState().accepted();
+        peer.expectDetach().respond();
+
+        receiver.close();
+
+        peer.waitForScriptToComplete();
+        peer.expectEnd().respond();
+        peer.expectClose().respond();
+
+        session.close();
+        connection.close();
+
+        // Check post conditions and done.
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testReceiverBatchedDispositionsWrittenWhenLimitReachedOrOutcomeChanges() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final byte[] payload = new byte[] { 1 };
+        final ArrayList<IncomingDelivery> deliveries = new ArrayList<>();
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond().withNextOutgoingId(0);
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(5);
+        for (int i = 0; i < 5; ++i) {
+            peer.remoteTransfer().withDeliveryId(i)
+                                 .withDeliveryTag(new byte[] {(byte) i})
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+        }
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().setDispositionBatchLimit(2).open();
+        Receiver receiver = session.receiver("receiver");
+        receiver.deliveryReadHandler((delivery) -> deliveries.add(delivery));
+        receiver.addCredit(5);
+        receiver.open();
+
+        peer.waitForScriptToComplete();
+        peer.expectDisposition().withFirst(0)
+                                .withLast(1)
+                                .withSettled(true)
+                                .withState().accepted();
+        peer.expectDisposition().withFirst(2)
+                                .withLast(nullValue())
+                                .withSettled(true)
+                                .withState().accepted();
+
+        assertEquals(5, deliveries.size());
+
+        deliveries.get(0).disposition(Accepted.getInstance(), true);
+        deliveries.get(1).disposition(Accepted.getInstance(), true);
+        deliveries.get(2).disposition(Accepted.getInstance(), true);
+        deliveries.get(3).disposition(Released.getInstance(), true);
+
+        peer.waitForScriptToComplete();
+        peer.expectDisposition().withFirst(3)
+                                .withLast(nullValue())
+                                .withSettled(true)
+                                .withState().released();
+        peer.expectDisposition().withFirst(4)
+                                .withLast(nullValue())
+                                .withSettled(true)
+                                .withState().accepted();
+        peer.expectEnd().respond();
+
+        deliveries.get(4).disposition(Accepted.getInstance(), true);
+
+        // Pending disposition should be written before the session End
+        session.close();
+
+        peer.waitForScriptToComplete();
+        peer.expectClose().respond();
+
+        connection.close();
+
+        // Check post conditions and done.
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
+    @Test
+    public void testReceiverBatchedDispositionsWrittenAtEndOfIngest() {
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final byte[] payload = new byte[] { 1 };
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond().withNextOutgoingId(0);
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(2);
+        peer.remoteTransfer().withDeliveryId(0)
+                             .withDeliveryTag(new byte[] {1})
+                             .withMore(false)
+                             .withMessageFormat(0)
+                             .withPayload(payload).queue();
+        peer.expectDisposition().withFirst(0)
+                                .withLast(nullValue())
+                                .withSettled(true)
+                                .withState().accepted();
+
+        Connection connection = engine.start().open();
+        Session session = connection.session().setDispositionBatchLimit(10).open();
+        Receiver receiver = session.receiver("receiver");
+        receiver.deliveryReadHandler((delivery) -> {
+            delivery.disposition(Accepted.getInstance(), true);
+        });
+
+        receiver.addCredit(2);
+        receiver.open();
+
+        peer.waitForScriptToComplete();
+        peer.expectDetach().respond();
+
+        receiver.close();
+
+        // Check post conditions and done.
+        peer.waitForScriptToComplete();
+        assertNull(failure);
+    }
+
     @Test
     public void testReceiverUpdatesFlowOutgoingIdAfterOverflow() {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
@@ -31,7 +31,6 @@ import java.nio.charset.StandardCharsets;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 public class SymbolTest {
@@ -269,89 +268,162 @@ public class SymbolTest {
     }
 
     @Test
-    @Disabled("Cache is static so running has side effects.")
-    public void testGetSymbolsCachingMaxesOut() {
-        boolean notSame = false;
-        int attempts = 0;
-
-        for (attempts = 0; attempts < Short.MAX_VALUE; ++attempts) {
-            final Symbol symbol1 = Symbol.getSymbol(String.valueOf(attempts));
-            final Symbol symbol2 = Symbol.getSymbol(String.valueOf(attempts));
-
-            if (symbol1 != symbol2) {
-                notSame = true;
-                break;
-            }
+    public void testGetSymbolsCachingEvictsOnceFull() {
+        final Symbol.SymbolCache cache = new Symbol.SymbolCache(128, 64, 4);
+        final int capacity = cache.metrics().getCapacity();
+
+        for (int i = 0; i < capacity * 2; ++i) {
+            final Symbol symbol1 = cache.getSymbol("evict-string-" + i);
+            final Symbol symbol2 = cache.getSymbol("evict-string-" + i);
+
+            assertSame(symbol1, symbol2);
         }
 
-        assertTrue(notSame);
-        assertTrue(attempts > Byte.MAX_VALUE);
+        assertTrue(cache.metrics().getEvictions() > 0);
+        assertTrue(cache.metrics().getSize() <= capacity);
     }
 
     @Test
-    @Disabled("Cache is static so running has side effects.")
-    public void testGetSASLSymbolsCachingMaxesOut() {
-        boolean notSame = false;
-        int attempts = 0;
-
-        for (attempts = 0; attempts < Short.MAX_VALUE; ++attempts) {
-            final Symbol symbol1 = Symbol.getSASLSymbol(String.valueOf(attempts));
-            final Symbol symbol2 = Symbol.getSASLSymbol(String.valueOf(attempts));
-
-            if (symbol1 != symbol2) {
-                notSame = true;
-                break;
-            }
+    public void testGetSymbolFromBufferCachingEvictsOnceFull() {
+        final Symbol.SymbolCache cache = new Symbol.SymbolCache(128, 64, 4);
+        final int capacity = cache.metrics().getCapacity();
+
+        for (int i = 0; i < capacity * 2; ++i) {
+            final ProtonBuffer bytes = ProtonBufferAllocator.defaultAllocator().copy(
+                ("evict-buffer-" + i).getBytes(StandardCharsets.US_ASCII));
+
+            final Symbol symbol1 = cache.getSymbol(bytes, bytes.getReadOffset(), bytes.getReadableBytes(), false);
+            final Symbol symbol2 = cache.getSymbol(bytes, bytes.getReadOffset(), bytes.getReadableBytes(), false);
+
+            assertSame(symbol1, symbol2);
         }
 
-        assertTrue(notSame);
-        assertTrue(attempts > Byte.MAX_VALUE);
+        assertTrue(cache.metrics().getEvictions() > 0);
+        assertTrue(cache.metrics().getSize() <= capacity);
     }
 
     @Test
-    @Disabled("Cache is static so running has side effects.")
-    public void testGetSymbolFromBufferCachingMaxesOut() {
-        boolean notSame = false;
-        int attempts = 0;
-
-        for (attempts = 0; attempts < Short.MAX_VALUE; ++attempts) {
-            final ProtonBuffer bytes =
-                ProtonBufferAllocator.defaultAllocator().copy(String.valueOf(attempts).getBytes(StandardCharsets.US_ASCII));
-
-            final Symbol symbol1 = Symbol.getSymbol(bytes);
-            final Symbol symbol2 = Symbol.getSymbol(bytes);
-
-            if (symbol1 != symbol2) {
-                notSame = true;
-                break;
-            }
-        }
+    public void testFrequentlyUsedSymbolSurvivesEviction() {
+        final Symbol.SymbolCache cache = new Symbol.SymbolCache(128, 32, 4);
+        final int capacity = cache.metrics().getCapacity();
+        final Symbol hot = cache.getSymbol("hot-symbol");
 
-        assertTrue(notSame);
-        assertTrue(attempts > Byte.MAX_VALUE);
+        assertSame(hot, cache.getSymbol("hot-symbol"));
+
+        for (int i = 0; i < capacity * 4; ++i) {
+            cache.getSymbol("cold-" + i);
+            assertSame(hot, cache.getSymbol("hot-symbol"));
+        }
     }
 
     @Test
-    @Disabled("Cache is static so running has side effects.")
-    public void testGetSASLSymbolFromBufferCachingMaxesOut() {
-        boolean notSame = false;
-        int attempts = 0;
-
-        for (attempts = 0; attempts < Short.MAX_VALUE; ++attempts) {
-            final ProtonBuffer bytes =
-                ProtonBufferAllocator.defaultAllocator().copy(String.valueOf(attempts).getBytes(StandardCharsets.US_ASCII));
-
-            final Symbol symbol1 = Symbol.getSASLSymbol(bytes);
-            final Symbol symbol2 = Symbol.getSASLSymbol(bytes);
-
-            if (symbol1 != symbol2) {
-                notSame = true;
-                break;
-            }
+    public void testReusedSymbolsSurviveScanOfOneTimeSymbols() {
+        final Symbol.SymbolCache cache = new Symbol.SymbolCache(128, 32, 4);
+        final int capacity = cache.metrics().getCapacity();
+        final Symbol[] hot = new Symbol[16];
+
+        for (int i = 0; i < hot.length; ++i) {
+            hot[i] = cache.getSymbol("hot-" + i);
+            assertSame(hot[i], cache.getSymbol("hot-" + i));
         }
 
-        assertTrue(notSame);
-        assertTrue(attempts > Byte.MAX_VALUE);
+        for (int i = 0; i < capacity * 4; ++i) {
+            cache.getSymbol("scan-" + i);
+        }
+
+        for (int i = 0; i < hot.length; ++i) {
+            assertSame(hot[i], cache.getSymbol("hot-" + i));
+        }
+    }
+
+    @Test
+    public void testGetSymbolFromBufferRegion() {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().copy(
+            "prefix-region-symbol-suffix".getBytes(StandardCharsets.US_ASCII));
+
+        final Symbol symbol1 = Symbol.getSymbol(buffer, 7, 13);
+        final Symbol symbol2 = Symbol.getSymbol("region-symbol");
+
+        assertSame(symbol1, symbol2);
+        assertEquals("region-symbol", symbol1.toString());
+        assertEquals(0, buffer.getReadOffset());
+        assertEquals(27, buffer.getReadableBytes());
+
+        // New symbol created from the region must not be tied to the source buffer
+        final Symbol symbol3 = Symbol.getSymbol(buffer, 0, 6);
+        buffer.setByte(0, (byte) 'X');
+
+        assertEquals("prefix", symbol3.toString());
+        assertEquals(6, symbol3.getLength());
+        assertSame(Symbol.getSymbol(""), Symbol.getSymbol(buffer, 0, 0));
+        assertNull(Symbol.getSymbol(null, 0, 0));
+    }
+
+    @Test
+    public void testGetSASLSymbolFromBufferRegion() {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().copy(
+            "xxPLAINxx".getBytes(StandardCharsets.US_ASCII));
+
+        final Symbol symbol1 = Symbol.getSASLSymbol(buffer, 2, 5);
+        final Symbol symbol2 = Symbol.getSASLSymbol("PLAIN");
+
+        assertSame(symbol1, symbol2);
+        assertNotSame(symbol1, Symbol.getSymbol(buffer, 2, 5));
+    }
+
+    @Test
+    public void testCacheMetricsCountHitsAndMisses() {
+        final Symbol.SymbolCache cache = new Symbol.SymbolCache(128, 64, 4);
+        final ProtonBuffer bytes = ProtonBufferAllocator.defaultAllocator().copy(
+            "metrics-symbol".getBytes(StandardCharsets.US_ASCII));
+
+        cache.getSymbol("metrics-symbol");
+        cache.getSymbol("metrics-symbol");
+        cache.getSymbol(bytes, bytes.getReadOffset(), bytes.getReadableBytes(), false);
+
+        final Symbol.CacheMetrics metrics = cache.metrics();
+
+        assertEquals(1, metrics.getMisses());
+        assertEquals(2, metrics.getHits());
+        assertEquals(0, metrics.getEvictions());
+        assertEquals(1, metrics.getSize());
+        assertTrue(metrics.getHitRate() > 0.0);
+        assertNotNull(metrics.toString());
+    }
+
+    @Test
+    public void testGlobalCacheMetricsAreAvailable() {
+        Symbol.getSymbol("metrics-symbol-unique");
+
+        assertTrue(Symbol.getCacheMetrics().getSize() > 0);
+        assertTrue(Symbol.getCacheMetrics().getCapacity() > 0);
+        assertTrue(Symbol.getSASLCacheMetrics().getCapacity() > 0);
+    }
+
+    @Test
+    public void testLargeSymbolsAreNotCountedInMetrics() {
+        final Symbol.SymbolCache cache = new Symbol.SymbolCache(128, 64, 4);
+
+        cache.getSymbol(LARGE_SYMBOL_VALUE);
+
+        final Symbol.CacheMetrics metrics = cache.metrics();
+
+        assertEquals(0, metrics.getMisses());
+        assertEquals(0, metrics.getHits());
+        assertEquals(0, metrics.getSize());
+    }
+
+    @Test
+    public void testNonASCIIStringSymbolMatchesEncodedBytes() {
+        final String value = "non-ascii-\u00e9";
+
+        final Symbol symbol1 = Symbol.getSymbol(value);
+        final Symbol symbol2 = Symbol.getSymbol(value);
+        final Symbol symbol3 = Symbol.getSymbol(ProtonBufferAllocator.defaultAllocator().copy(
+            value.getBytes(StandardCharsets.US_ASCII)));
+
+        assertSame(symbol1, symbol2);
+        assertSame(symbol1, symbol3);
     }
 
     @Test